@@ -14,6 +14,9 @@ dependencies {
     // security
     implementation("org.springframework.security:spring-security-crypto")
 
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // querydsl
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
@@ -23,3 +26,26 @@ dependencies {
     testImplementation(testFixtures(project(":modules:jpa")))
     testImplementation(testFixtures(project(":modules:redis")))
 }
+
+// 스트레스 테스트(@Tag("stress"))는 기본 test 에서 빼고 따로 실행한다. 결과는 build/stress-results 에 남는다.
+// ./gradlew :apps:commerce-api:stressTest
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("stress")
+    }
+}
+
+val stressTest by tasks.registering(Test::class) {
+    description = "동시성 스트레스 테스트를 실행합니다."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("stress")
+    }
+    maxParallelForks = 1
+    systemProperty("user.timezone", "Asia/Seoul")
+    systemProperty("spring.profiles.active", "test")
+    jvmArgs("-Xshare:off")
+    shouldRunAfter(tasks.test)
+}
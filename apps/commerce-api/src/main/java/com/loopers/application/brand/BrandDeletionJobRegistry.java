@@ -0,0 +1,109 @@
+package com.loopers.application.brand;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 브랜드 상품 일괄 삭제 작업의 진행 상황 저장소. (인스턴스 로컬)
+ * 완료된 작업은 jobRetention 이 지나면 새 작업 등록 시 정리된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BrandDeletionJobRegistry {
+
+    private final BrandDeletionProperties properties;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public Job register(Long brandId, long totalProducts) {
+        evictExpired();
+        Job job = new Job(UUID.randomUUID().toString(), brandId, totalProducts);
+        jobs.put(job.jobId, job);
+        return job;
+    }
+
+    /**
+     * 시작되지 못한 작업을 지운다. (등록한 트랜잭션이 롤백된 경우)
+     */
+    public void remove(Job job) {
+        jobs.remove(job.jobId);
+    }
+
+    /**
+     * 이 인스턴스에서 대기 중이거나 실행 중인 작업이 있는지 확인한다.
+     */
+    public boolean hasActiveJob(Long brandId) {
+        return jobs.values().stream()
+            .anyMatch(job -> job.brandId.equals(brandId) && job.finishedAt == null);
+    }
+
+    public BrandDeletionJobResult get(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new CoreException(ErrorType.NOT_FOUND, "[jobId = " + jobId + "] 브랜드 삭제 작업을 찾을 수 없습니다.");
+        }
+        return job.snapshot();
+    }
+
+    private void evictExpired() {
+        ZonedDateTime threshold = ZonedDateTime.now().minus(properties.jobRetention());
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    public static final class Job {
+        private final String jobId;
+        private final Long brandId;
+        private final long totalProducts;
+        private final ZonedDateTime requestedAt = ZonedDateTime.now();
+        private final AtomicLong deletedProducts = new AtomicLong();
+        private volatile BrandDeletionJobStatus status = BrandDeletionJobStatus.PENDING;
+        private volatile ZonedDateTime finishedAt;
+        private volatile String failureMessage;
+
+        private Job(String jobId, Long brandId, long totalProducts) {
+            this.jobId = jobId;
+            this.brandId = brandId;
+            this.totalProducts = totalProducts;
+        }
+
+        public String jobId() {
+            return jobId;
+        }
+
+        public Long brandId() {
+            return brandId;
+        }
+
+        void start() {
+            status = BrandDeletionJobStatus.RUNNING;
+        }
+
+        void addDeleted(int count) {
+            deletedProducts.addAndGet(count);
+        }
+
+        void complete() {
+            finishedAt = ZonedDateTime.now();
+            status = BrandDeletionJobStatus.COMPLETED;
+        }
+
+        void fail(String message) {
+            failureMessage = message;
+            finishedAt = ZonedDateTime.now();
+            status = BrandDeletionJobStatus.FAILED;
+        }
+
+        public BrandDeletionJobResult snapshot() {
+            return new BrandDeletionJobResult(
+                jobId, brandId, status, totalProducts, deletedProducts.get(), requestedAt, finishedAt, failureMessage
+            );
+        }
+    }
+}
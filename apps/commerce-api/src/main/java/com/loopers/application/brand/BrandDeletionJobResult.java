@@ -0,0 +1,21 @@
+package com.loopers.application.brand;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 브랜드 상품 일괄 삭제 작업의 진행 상황.
+ *
+ * @param totalProducts 작업 시작 시점의 삭제 대상 상품 수 (추정치)
+ * @param deletedProducts 지금까지 삭제된 상품 수
+ */
+public record BrandDeletionJobResult(
+    String jobId,
+    Long brandId,
+    BrandDeletionJobStatus status,
+    long totalProducts,
+    long deletedProducts,
+    ZonedDateTime requestedAt,
+    ZonedDateTime finishedAt,
+    String failureMessage
+) {
+}
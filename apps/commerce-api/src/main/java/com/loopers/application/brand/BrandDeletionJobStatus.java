@@ -0,0 +1,8 @@
+package com.loopers.application.brand;
+
+public enum BrandDeletionJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
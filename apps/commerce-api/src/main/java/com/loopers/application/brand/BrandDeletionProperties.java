@@ -0,0 +1,41 @@
+package com.loopers.application.brand;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 브랜드 삭제 후 상품 일괄 삭제 작업 설정.
+ *
+ * @param chunkSize 트랜잭션 하나에서 삭제할 상품 수
+ * @param chunkPause 청크 사이 대기 시간 (복제 지연/락 경합 완화)
+ * @param jobRetention 완료된 작업 상태를 보관하는 시간
+ * @param sweepInterval 중단된 작업(브랜드는 삭제, 상품은 남음)을 찾아 다시 시작하는 주기. 기동 직후에도 한 번 실행한다
+ * @param sweepBatchSize sweep 한 번에 다시 시작할 최대 브랜드 수
+ */
+@ConfigurationProperties(value = "brand.deletion")
+public record BrandDeletionProperties(
+    Integer chunkSize,
+    Duration chunkPause,
+    Duration jobRetention,
+    Duration sweepInterval,
+    Integer sweepBatchSize
+) {
+    public BrandDeletionProperties {
+        if (chunkSize == null || chunkSize <= 0) {
+            chunkSize = 1_000;
+        }
+        if (chunkPause == null) {
+            chunkPause = Duration.ZERO;
+        }
+        if (jobRetention == null) {
+            jobRetention = Duration.ofHours(1);
+        }
+        if (sweepInterval == null || sweepInterval.isZero() || sweepInterval.isNegative()) {
+            sweepInterval = Duration.ofMinutes(10);
+        }
+        if (sweepBatchSize == null || sweepBatchSize <= 0) {
+            sweepBatchSize = 100;
+        }
+    }
+}
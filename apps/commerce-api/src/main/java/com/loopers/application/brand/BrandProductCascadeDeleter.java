@@ -0,0 +1,150 @@
+package com.loopers.application.brand;
+
+import com.loopers.application.outbox.OutboxEventAppender;
+import com.loopers.domain.outbox.OutboxAggregateType;
+import com.loopers.domain.product.ProductDomainService;
+import com.loopers.domain.product.ProductsBulkDeletedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 삭제된 브랜드의 상품을 백그라운드에서 청크 단위로 soft delete 한다.
+ *
+ * 청크마다 별도 트랜잭션(ID 조회 1회 + UPDATE 1회 + Outbox 1건)으로 처리해 트랜잭션과 락 범위를 작게 유지한다.
+ * 작업 상태는 인스턴스 메모리에만 있으므로, 중간에 실패하거나 프로세스가 내려가면 작업도 사라진다.
+ * 대신 "브랜드는 삭제되었는데 상품이 남아 있는" 상태 자체를 DB 에서 찾아(sweep) 기동 직후와 sweepInterval 마다 작업을 다시 시작한다.
+ * 이미 삭제된 청크는 유지되므로 남은 상품부터 이어서 삭제한다.
+ * 청크 조회는 SKIP LOCKED 로 잠그므로 여러 인스턴스가 같은 브랜드를 동시에 이어받아도 같은 상품을 두 번 삭제(이벤트 발행)하지 않는다.
+ * 작업은 단일 워커에서 순서대로 실행되어 동시에 여러 브랜드를 삭제해도 DB 부하가 겹치지 않는다.
+ */
+@Slf4j
+@Component
+public class BrandProductCascadeDeleter {
+
+    private final ProductDomainService productDomainService;
+    private final OutboxEventAppender outboxEventAppender;
+    private final TransactionTemplate transactionTemplate;
+    private final BrandDeletionJobRegistry jobRegistry;
+    private final BrandDeletionProperties properties;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "brand-product-cascade");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BrandProductCascadeDeleter(
+        ProductDomainService productDomainService,
+        OutboxEventAppender outboxEventAppender,
+        PlatformTransactionManager transactionManager,
+        BrandDeletionJobRegistry jobRegistry,
+        BrandDeletionProperties properties
+    ) {
+        this.productDomainService = productDomainService;
+        this.outboxEventAppender = outboxEventAppender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobRegistry = jobRegistry;
+        this.properties = properties;
+    }
+
+    public void submit(BrandDeletionJobRegistry.Job job) {
+        executor.execute(() -> run(job));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void scheduleSweep() {
+        long intervalMs = properties.sweepInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::sweepSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 상품이 남아 있는 삭제된 브랜드를 찾아 삭제 작업을 다시 시작한다.
+     * 이 인스턴스에서 이미 대기/실행 중인 브랜드는 건너뛴다.
+     *
+     * @return 새로 시작한 작업
+     */
+    public List<BrandDeletionJobRegistry.Job> sweep() {
+        List<BrandDeletionJobRegistry.Job> resumed = new ArrayList<>();
+        for (Long brandId : productDomainService.findDeletedBrandIdsWithActiveProducts(properties.sweepBatchSize())) {
+            if (jobRegistry.hasActiveJob(brandId)) {
+                continue;
+            }
+            BrandDeletionJobRegistry.Job job = jobRegistry.register(brandId, productDomainService.countByBrandId(brandId));
+            submit(job);
+            resumed.add(job);
+            log.warn("중단된 브랜드 상품 일괄 삭제 재시작 - jobId: {}, brandId: {}", job.jobId(), brandId);
+        }
+        return resumed;
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            // 예외가 전파되면 이후 주기 실행이 취소되므로 여기서 끊는다.
+            log.error("브랜드 상품 일괄 삭제 sweep 실패", e);
+        }
+    }
+
+    void run(BrandDeletionJobRegistry.Job job) {
+        job.start();
+        try {
+            int deleted;
+            do {
+                deleted = deleteChunk(job.brandId());
+                job.addDeleted(deleted);
+                pauseBetweenChunks(deleted);
+            } while (deleted > 0 && !Thread.currentThread().isInterrupted());
+
+            if (deleted > 0) {
+                job.fail("작업이 중단되었습니다.");
+                log.warn("브랜드 상품 일괄 삭제 중단 - jobId: {}, brandId: {}", job.jobId(), job.brandId());
+                return;
+            }
+            job.complete();
+            log.info("브랜드 상품 일괄 삭제 완료 - jobId: {}, brandId: {}, deleted: {}",
+                job.jobId(), job.brandId(), job.snapshot().deletedProducts());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            log.error("브랜드 상품 일괄 삭제 실패 - jobId: {}, brandId: {}", job.jobId(), job.brandId(), e);
+        }
+    }
+
+    private int deleteChunk(Long brandId) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = productDomainService.deleteChunkByBrandId(brandId, properties.chunkSize());
+            if (!ids.isEmpty()) {
+                ProductsBulkDeletedEvent event = ProductsBulkDeletedEvent.of(brandId, ids);
+                outboxEventAppender.append(OutboxAggregateType.BRAND, brandId, ProductsBulkDeletedEvent.EVENT_TYPE, event);
+            }
+            return ids.size();
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private void pauseBetweenChunks(int deleted) {
+        if (deleted == 0 || properties.chunkPause().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.chunkPause().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
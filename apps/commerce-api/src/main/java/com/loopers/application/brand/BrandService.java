@@ -7,6 +7,8 @@ import com.loopers.domain.product.ProductDomainService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -16,6 +18,8 @@ public class BrandService {
 
     private final BrandDomainService brandDomainService;
     private final ProductDomainService productDomainService;
+    private final BrandDeletionJobRegistry brandDeletionJobRegistry;
+    private final BrandProductCascadeDeleter brandProductCascadeDeleter;
 
     @Transactional(readOnly = true)
     public BrandResult findById(Long id) {
@@ -42,11 +46,34 @@ public class BrandService {
         return BrandResult.from(brand);
     }
 
+    /**
+     * 브랜드를 soft delete 하고, 소속 상품 삭제 작업을 커밋 이후 백그라운드로 시작한다.
+     * 브랜드가 먼저 삭제되므로 작업 중에는 해당 브랜드로 상품을 새로 등록할 수 없다.
+     * 응답에 jobId 를 담기 위해 작업은 트랜잭션 안에서 등록하고, 롤백되면 PENDING 으로 남지 않도록 지운다.
+     */
     @Transactional
-    public void delete(Long brandId) {
-        // 해당 브랜드의 모든 상품 soft delete (다른 BC)
-        productDomainService.deleteAllByBrandId(brandId);
+    public BrandDeletionJobResult delete(Long brandId) {
         // Brand soft delete
         brandDomainService.delete(brandId);
+        // 해당 브랜드의 모든 상품 soft delete (다른 BC) - 청크 단위 비동기 처리
+        BrandDeletionJobRegistry.Job job = brandDeletionJobRegistry.register(brandId, productDomainService.countByBrandId(brandId));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                brandProductCascadeDeleter.submit(job);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    brandDeletionJobRegistry.remove(job);
+                }
+            }
+        });
+        return job.snapshot();
+    }
+
+    public BrandDeletionJobResult getDeletionJob(String jobId) {
+        return brandDeletionJobRegistry.get(jobId);
     }
 }
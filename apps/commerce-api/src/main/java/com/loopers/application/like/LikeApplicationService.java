@@ -1,7 +1,10 @@
 package com.loopers.application.like;
 
+import com.loopers.application.outbox.OutboxEventAppender;
 import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeChangedEvent;
 import com.loopers.domain.like.LikeDomainService;
+import com.loopers.domain.outbox.OutboxAggregateType;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -19,6 +22,7 @@ public class LikeApplicationService {
 
     private final LikeDomainService likeDomainService;
     private final ProductRepository productRepository;
+    private final OutboxEventAppender outboxEventAppender;
 
     /**
      * 좋아요 등록.
@@ -32,19 +36,27 @@ public class LikeApplicationService {
     public LikeResult like(Long userId, Long productId) {
         validateProductExists(productId);
         Like like = likeDomainService.like(userId, productId);
+        appendEvent(LikeChangedEvent.liked(userId, productId));
         return LikeResult.from(like);
     }
 
     /**
      * 좋아요 취소.
      * 멱등하게 동작 - 존재하지 않아도 예외 없이 처리.
+     * 실제로 삭제된 경우에만 이벤트를 적재한다.
      *
      * @param userId 사용자 ID
      * @param productId 상품 ID
      */
     @Transactional
     public void unlike(Long userId, Long productId) {
-        likeDomainService.unlike(userId, productId);
+        if (likeDomainService.unlike(userId, productId)) {
+            appendEvent(LikeChangedEvent.unliked(userId, productId));
+        }
+    }
+
+    private void appendEvent(LikeChangedEvent event) {
+        outboxEventAppender.append(OutboxAggregateType.LIKE, event.productId(), event.eventType(), event);
     }
 
     private void validateProductExists(Long productId) {
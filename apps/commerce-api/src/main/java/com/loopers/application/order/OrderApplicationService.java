@@ -1,18 +1,28 @@
 package com.loopers.application.order;
 
+import com.loopers.application.outbox.OutboxEventAppender;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderCursor;
 import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderPlacedEvent;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.order.OrderSummaryRepository;
+import com.loopers.domain.order.UserOrderCounterRepository;
+import com.loopers.domain.outbox.OutboxAggregateType;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,14 +33,21 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class OrderApplicationService {
 
+    private static final int MAX_HISTORY_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final UserOrderCounterRepository userOrderCounterRepository;
+    private final OutboxEventAppender outboxEventAppender;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 주문 생성.
-     * 1. 상품 조회 (비관적 락)
+     * 1. 상품 조회 (비관적 락, 상품 ID 순서)
      * 2. 재고 차감
-     * 3. 주문 생성
+     * 3. 주문 생성 + 사용자 주문 수 증가
+     * 4. 주문 생성 이벤트를 Outbox 에 적재하고, 주문 목록 읽기 모델 갱신을 위해 발행 (같은 트랜잭션)
      *
      * @param userId 사용자 ID
      * @param items 주문 항목 요청 목록
@@ -42,12 +59,20 @@ public class OrderApplicationService {
             throw new CoreException(ErrorType.BAD_REQUEST, "주문 항목이 비어있습니다.");
         }
 
+        // 1) 비관적 락으로 상품 조회
+        // 여러 상품을 담은 주문끼리 서로의 락을 기다리며 교착되지 않도록, 요청 순서와 무관하게 상품 ID 순서로 잡는다.
+        Map<Long, Product> lockedProducts = new HashMap<>();
+        items.stream()
+            .map(OrderItemRequest::productId)
+            .distinct()
+            .sorted()
+            .forEach(productId -> lockedProducts.put(productId, productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."))));
+
         List<OrderItem> orderItems = new ArrayList<>();
 
         for (OrderItemRequest req : items) {
-            // 1) 비관적 락으로 상품 조회
-            Product product = productRepository.findByIdWithLock(req.productId())
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+            Product product = lockedProducts.get(req.productId());
 
             // 2) 재고 차감 (도메인 규칙)
             product.decreaseStock(req.quantity());
@@ -65,6 +90,12 @@ public class OrderApplicationService {
         // 4) Order 생성/저장
         Order order = Order.create(userId, orderItems);
         Order saved = orderRepository.save(order);
+        userOrderCounterRepository.increment(userId);
+
+        // 5) Outbox 적재 + 읽기 모델 갱신 (OrderSummaryProjector, 커밋 직전)
+        OrderPlacedEvent event = OrderPlacedEvent.from(saved);
+        outboxEventAppender.append(OutboxAggregateType.ORDER, saved.getId(), OrderPlacedEvent.EVENT_TYPE, event);
+        eventPublisher.publishEvent(event);
 
         return OrderResult.from(saved);
     }
@@ -100,13 +131,38 @@ public class OrderApplicationService {
     }
 
     /**
-     * 사용자의 주문 수 조회.
+     * 사용자의 주문 목록을 커서 기반으로 조회.
+     * 주문 목록 읽기 모델(order_summaries)의 인덱스 범위 읽기 1회로 끝난다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 조회 개수 (1 ~ 100)
+     * @param summaryOnly true 면 주문 항목을 조회하지 않는다
+     * @return 주문 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public OrderHistoryResult getOrderHistory(Long userId, String cursor, int size, boolean summaryOnly) {
+        if (size < 1 || size > MAX_HISTORY_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 개수는 1 이상 " + MAX_HISTORY_SIZE + " 이하여야 합니다.");
+        }
+
+        // 한 건 더 조회해 다음 페이지 존재 여부를 판단한다.
+        List<OrderSummary> summaries = orderSummaryRepository.findAllByUserIdAfter(userId, OrderHistoryCursor.decode(cursor), size + 1, !summaryOnly);
+        boolean hasNext = summaries.size() > size;
+        List<OrderSummary> page = hasNext ? summaries.subList(0, size) : summaries;
+
+        String nextCursor = hasNext ? OrderHistoryCursor.encode(OrderCursor.of(page.get(page.size() - 1))) : null;
+        return new OrderHistoryResult(page.stream().map(summary -> OrderResult.from(summary, !summaryOnly)).toList(), nextCursor);
+    }
+
+    /**
+     * 사용자의 주문 수 조회. 주문 이력 길이와 무관하게 카운터 PK 조회 1회로 끝난다.
      *
      * @param userId 사용자 ID
      * @return 주문 수
      */
     @Transactional(readOnly = true)
     public long countOrders(Long userId) {
-        return orderRepository.countByUserId(userId);
+        return userOrderCounterRepository.getCount(userId);
     }
 }
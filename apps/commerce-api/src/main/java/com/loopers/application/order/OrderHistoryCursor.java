@@ -0,0 +1,49 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderCursor;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 주문 목록 커서 문자열 인코딩.
+ * 클라이언트에는 "{생성시각(ISO-8601 UTC)}|{주문 ID}" 를 Base64url 로 감싼 불투명한 문자열로 내려준다.
+ */
+final class OrderHistoryCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private OrderHistoryCursor() {}
+
+    static String encode(OrderCursor cursor) {
+        String raw = cursor.createdAt().toInstant() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw invalid();
+            }
+            Instant createdAt = Instant.parse(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new OrderCursor(createdAt.atZone(ZoneOffset.UTC), id);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw invalid();
+        }
+    }
+
+    private static CoreException invalid() {
+        return new CoreException(ErrorType.BAD_REQUEST, "올바르지 않은 커서입니다.");
+    }
+}
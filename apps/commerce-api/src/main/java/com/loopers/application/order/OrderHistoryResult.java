@@ -0,0 +1,18 @@
+package com.loopers.application.order;
+
+import java.util.List;
+
+/**
+ * 주문 목록(커서 페이지) 응답 DTO.
+ *
+ * @param orders     주문 목록 (summaryOnly 면 items 가 빈 목록)
+ * @param nextCursor 다음 페이지 커서. 마지막 페이지면 null
+ */
+public record OrderHistoryResult(
+    List<OrderResult> orders,
+    String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.loopers.application.order;
 
 import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderSummary;
 
 /**
  * 주문 항목 응답 DTO.
@@ -23,4 +24,15 @@ public record OrderItemResult(
             item.getSubtotal().amount()
         );
     }
+
+    public static OrderItemResult from(OrderSummary.Item item) {
+        return new OrderItemResult(
+            null,
+            item.productId(),
+            item.productName(),
+            item.quantity(),
+            item.price(),
+            item.subtotal()
+        );
+    }
 }
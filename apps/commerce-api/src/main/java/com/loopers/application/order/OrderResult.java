@@ -2,6 +2,7 @@ package com.loopers.application.order;
 
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.order.OrderSummary;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -31,4 +32,24 @@ public record OrderResult(
             order.getCreatedAt()
         );
     }
+
+    /**
+     * 주문 목록 읽기 모델에서 변환. 항목 ID 는 읽기 모델에 없으므로 null 이다.
+     *
+     * @param withItems false 면 항목을 빈 목록으로 둔다
+     */
+    public static OrderResult from(OrderSummary summary, boolean withItems) {
+        List<OrderItemResult> itemResults = withItems
+            ? summary.items().stream().map(OrderItemResult::from).toList()
+            : List.of();
+
+        return new OrderResult(
+            summary.orderId(),
+            summary.userId(),
+            itemResults,
+            summary.totalPrice(),
+            summary.status(),
+            summary.orderedAt()
+        );
+    }
 }
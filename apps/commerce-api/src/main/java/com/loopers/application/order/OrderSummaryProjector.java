@@ -0,0 +1,34 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderPlacedEvent;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.order.OrderSummaryRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 생성 이벤트를 주문 목록 읽기 모델(order_summaries)에 반영한다.
+ *
+ * 주문 트랜잭션 커밋 직전에 같은 트랜잭션에서 저장하므로, 주문이 커밋되면 목록에도 반드시 보인다.
+ * 대표 상품은 첫 번째 주문 항목이며, 주문 중 이미 조회한 상품이라 이미지 조회는 영속성 컨텍스트에서 끝난다.
+ * 읽기 모델 도입 이전의 주문은 commerce-batch 의 orderSummaryBackfillJob 으로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryProjector {
+
+    private final ProductRepository productRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderPlacedEvent event) {
+        String thumbnailImageUrl = productRepository.findById(event.items().get(0).productId())
+            .map(Product::getImageUrl)
+            .orElse(null);
+        orderSummaryRepository.save(OrderSummary.from(event, thumbnailImageUrl));
+    }
+}
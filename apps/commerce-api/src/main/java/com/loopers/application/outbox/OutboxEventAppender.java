@@ -0,0 +1,44 @@
+package com.loopers.application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxAggregateType;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 Outbox 에 적재한다.
+ * 반드시 비즈니스 변경과 같은 트랜잭션 안에서 호출되어야 한다. (MySQL/Kafka 이중 쓰기 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventAppender {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param aggregateType Aggregate 종류
+     * @param aggregateId Aggregate ID
+     * @param eventType 이벤트 종류
+     * @param payload 이벤트 (JSON 으로 직렬화)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxAggregateType aggregateType, Long aggregateId, String eventType, Object payload) {
+        outboxRepository.save(OutboxEvent.create(aggregateType, String.valueOf(aggregateId), eventType, serialize(payload)));
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "이벤트 직렬화에 실패했습니다.");
+        }
+    }
+}
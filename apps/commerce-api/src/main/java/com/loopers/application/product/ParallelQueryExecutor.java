@@ -0,0 +1,51 @@
+package com.loopers.application.product;
+
+import com.loopers.config.jpa.statement.SqlStatementScope;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 상품 상세/목록 요청의 저장소 조회를 가상 스레드로 나눠 실행한다.
+ *
+ * 조회마다 자기 스레드에서 별도 트랜잭션(커넥션)을 잡으므로, 두 화면의 모든 요청을 합친 동시 조회 수를 maxConcurrentQueries 로 제한한다.
+ * 요청 스레드의 {@link SqlStatementScope} 는 각 조회 스레드로 이어 주어 요청 단위 SQL 집계에 포함한다.
+ */
+@Component
+public class ParallelQueryExecutor {
+
+    private final Semaphore queryPermits;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("product-query-", 0).factory()
+    );
+
+    public ParallelQueryExecutor(ParallelQueryProperties properties) {
+        this.queryPermits = new Semaphore(properties.maxConcurrentQueries());
+    }
+
+    /**
+     * 자리를 얻은 뒤 조회를 실행한다.
+     * 자리를 기다리다 호출자가 제한 시간을 넘기면 cancel(true) 로 인터럽트해 대기를 끝낸다.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        Callable<T> scoped = SqlStatementScope.propagate(task);
+        return executor.submit(() -> {
+            queryPermits.acquire();
+            try {
+                return scoped.call();
+            } finally {
+                queryPermits.release();
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
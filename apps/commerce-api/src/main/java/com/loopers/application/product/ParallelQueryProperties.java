@@ -0,0 +1,20 @@
+package com.loopers.application.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품 상세/목록 병렬 조회 설정.
+ *
+ * @param maxConcurrentQueries 모든 요청을 합쳐 동시에 실행할 수 있는 병렬 조회 수.
+ *                             조회마다 커넥션을 하나씩 잡으므로 커넥션 풀보다 작게 둔다. 자리를 기다린 시간도 각 조회의 제한 시간에 포함된다.
+ */
+@ConfigurationProperties(value = "product.parallel-query")
+public record ParallelQueryProperties(
+    Integer maxConcurrentQueries
+) {
+    public ParallelQueryProperties {
+        if (maxConcurrentQueries == null || maxConcurrentQueries <= 0) {
+            maxConcurrentQueries = 20;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.loopers.application.product;
+
+import com.loopers.application.brand.BrandResult;
+import com.loopers.domain.brand.BrandDomainService;
+import com.loopers.domain.like.LikeDomainService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 상품 상세 화면에 필요한 상품/브랜드/좋아요 수/내 좋아요 여부를 한 번에 조회한다.
+ *
+ * 저장소 조회(상품/좋아요 수/내 좋아요 여부)마다 가상 스레드를 하나씩 띄워 동시에 실행하고,
+ * 요청 스레드는 항목별 제한 시간까지만 기다린다.
+ * 상품은 필수라 실패하면 요청 전체가 실패하고, 나머지는 실패하거나 시간을 넘기면 대체값으로 응답한다.
+ * 브랜드는 메모리 카탈로그에서 읽으므로 상품 조회가 끝난 뒤 요청 스레드에서 바로 조회한다.
+ * 메서드를 빠져나갈 때 끝나지 않은 조회는 모두 취소해, 요청보다 오래 사는 작업을 남기지 않는다.
+ *
+ * 각 조회는 자기 스레드에서 별도 트랜잭션(커넥션)으로 실행되므로 이 클래스에는 트랜잭션을 걸지 않는다.
+ * 동시 조회 수 제한과 SQL 집계 전파는 {@link ParallelQueryExecutor} 가 맡는다.
+ */
+@Slf4j
+@Component
+public class ProductDetailFacade {
+
+    private final ProductService productService;
+    private final BrandDomainService brandDomainService;
+    private final LikeDomainService likeDomainService;
+    private final ParallelQueryExecutor queryExecutor;
+    private final ProductDetailProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ProductDetailFacade(
+        ProductService productService,
+        BrandDomainService brandDomainService,
+        LikeDomainService likeDomainService,
+        ParallelQueryExecutor queryExecutor,
+        ProductDetailProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.productService = productService;
+        this.brandDomainService = brandDomainService;
+        this.likeDomainService = likeDomainService;
+        this.queryExecutor = queryExecutor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 상품 상세 집계 조회.
+     *
+     * @param productId 상품 ID
+     * @param userId 로그인 사용자 ID. 비로그인이면 null
+     * @return 상품 상세 집계 결과
+     * @throws CoreException 상품이 없는 경우, 상품 조회가 제한 시간을 넘긴 경우(SERVICE_UNAVAILABLE)
+     */
+    public ProductDetailResult getDetail(Long productId, Long userId) {
+        List<Future<?>> forks = new ArrayList<>();
+        try {
+            Branch<ProductResult> product = fork(forks, () -> productService.findById(productId), properties.productTimeout());
+            Branch<Long> likeCount = fork(forks, () -> likeDomainService.countByProductId(productId), properties.likeCountTimeout());
+            Branch<Boolean> likedByMe = userId == null
+                ? null
+                : fork(forks, () -> likeDomainService.isLiked(userId, productId), properties.likedByMeTimeout());
+
+            ProductResult productResult = joinRequired(product);
+
+            List<ProductDetailResult.Section> fallbacks = new ArrayList<>();
+            BrandResult brandResult = findBrandOrFallback(productResult.brandId(), fallbacks);
+            Long likeCountResult = joinOrFallback(likeCount, ProductDetailResult.Section.LIKE_COUNT, fallbacks);
+            Boolean likedByMeResult = likedByMe == null
+                ? Boolean.FALSE
+                : joinOrFallback(likedByMe, ProductDetailResult.Section.LIKED_BY_ME, fallbacks);
+
+            return new ProductDetailResult(productResult, brandResult, likeCountResult, likedByMeResult, List.copyOf(fallbacks));
+        } finally {
+            // 실패/타임아웃으로 빠져나간 경우 남은 조회를 중단한다. 끝난 Future 에는 영향이 없다.
+            forks.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> Branch<T> fork(List<Future<?>> forks, Callable<T> task, Duration timeout) {
+        Future<T> future = queryExecutor.submit(task);
+        forks.add(future);
+        return new Branch<>(future, System.nanoTime() + timeout.toNanos());
+    }
+
+    private ProductResult joinRequired(Branch<ProductResult> product) {
+        try {
+            return product.join();
+        } catch (TimeoutException e) {
+            throw new CoreException(ErrorType.SERVICE_UNAVAILABLE, "상품 정보를 제한 시간 안에 조회하지 못했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private BrandResult findBrandOrFallback(Long brandId, List<ProductDetailResult.Section> fallbacks) {
+        try {
+            return BrandResult.from(brandDomainService.findById(brandId));
+        } catch (RuntimeException e) {
+            log.warn("상품 상세 {} 조회 실패, 대체값으로 응답합니다.", ProductDetailResult.Section.BRAND, e);
+            recordFallback(ProductDetailResult.Section.BRAND, "error");
+        }
+        fallbacks.add(ProductDetailResult.Section.BRAND);
+        return null;
+    }
+
+    private <T> T joinOrFallback(
+        Branch<T> branch,
+        ProductDetailResult.Section section,
+        List<ProductDetailResult.Section> fallbacks
+    ) {
+        try {
+            return branch.join();
+        } catch (TimeoutException e) {
+            recordFallback(section, "timeout");
+        } catch (ExecutionException e) {
+            log.warn("상품 상세 {} 조회 실패, 대체값으로 응답합니다.", section, e.getCause());
+            recordFallback(section, "error");
+        }
+        fallbacks.add(section);
+        return null;
+    }
+
+    private void recordFallback(ProductDetailResult.Section section, String reason) {
+        Counter.builder("product.detail.fallback")
+            .tag("section", section.name().toLowerCase())
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private record Branch<T>(Future<T> future, long deadlineNanos) {
+
+        T join() throws ExecutionException, TimeoutException {
+            try {
+                return future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CoreException(ErrorType.INTERNAL_ERROR);
+            }
+        }
+    }
+}
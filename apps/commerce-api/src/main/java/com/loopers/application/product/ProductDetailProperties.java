@@ -0,0 +1,31 @@
+package com.loopers.application.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 상품 상세 집계 조회 설정.
+ * 각 타임아웃은 해당 조회를 시작한 시점부터 잰다.
+ *
+ * @param productTimeout 상품 조회 제한 시간. 넘으면 요청 전체가 실패한다(503).
+ * @param likeCountTimeout 좋아요 수 조회 제한 시간. 넘으면 좋아요 수 없이 응답한다.
+ * @param likedByMeTimeout 내 좋아요 여부 조회 제한 시간. 넘으면 여부 없이 응답한다.
+ */
+@ConfigurationProperties(value = "product.detail")
+public record ProductDetailProperties(
+    Duration productTimeout,
+    Duration likeCountTimeout,
+    Duration likedByMeTimeout
+) {
+    public ProductDetailProperties {
+        if (productTimeout == null || productTimeout.isNegative()) {
+            productTimeout = Duration.ofSeconds(1);
+        }
+        if (likeCountTimeout == null || likeCountTimeout.isNegative()) {
+            likeCountTimeout = Duration.ofMillis(300);
+        }
+        if (likedByMeTimeout == null || likedByMeTimeout.isNegative()) {
+            likedByMeTimeout = Duration.ofMillis(300);
+        }    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.application.product;
+
+import com.loopers.application.brand.BrandResult;
+
+import java.util.List;
+
+/**
+ * 상품 상세 집계 결과.
+ * 부가 정보 조회가 실패하거나 시간을 넘기면 해당 값은 null 이고 fallbacks 에 이름이 담긴다.
+ *
+ * @param product 상품
+ * @param brand 브랜드 (실패 시 null)
+ * @param likeCount 좋아요 수 (실패 시 null)
+ * @param likedByMe 내 좋아요 여부. 비로그인이면 false, 실패 시 null
+ * @param fallbacks 대체값으로 응답한 항목
+ */
+public record ProductDetailResult(
+    ProductResult product,
+    BrandResult brand,
+    Long likeCount,
+    Boolean likedByMe,
+    List<Section> fallbacks
+) {
+    public enum Section {
+        BRAND,
+        LIKE_COUNT,
+        LIKED_BY_ME
+    }
+}
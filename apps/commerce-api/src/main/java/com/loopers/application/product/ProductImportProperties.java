@@ -0,0 +1,24 @@
+package com.loopers.application.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품 일괄 등록 설정.
+ *
+ * @param chunkSize 트랜잭션(= JDBC 배치) 하나에 담는 행 수
+ * @param maxErrors 결과에 담을 실패 행 최대 수. 넘는 실패는 개수만 센다.
+ */
+@ConfigurationProperties(value = "product.import")
+public record ProductImportProperties(
+    Integer chunkSize,
+    Integer maxErrors
+) {
+    public ProductImportProperties {
+        if (chunkSize == null || chunkSize <= 0) {
+            chunkSize = 1_000;
+        }
+        if (maxErrors == null || maxErrors < 0) {
+            maxErrors = 1_000;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 결과.
+ *
+ * @param errors 실패한 행 (최대 maxErrors 건)
+ * @param errorsTruncated 실패 행이 maxErrors 를 넘어 일부만 담겼는지 여부
+ */
+public record ProductImportReport(
+    long totalRows,
+    long importedRows,
+    long failedRows,
+    List<RowError> errors,
+    boolean errorsTruncated
+) {
+    /**
+     * @param line 파일 상의 줄 번호 (1부터, CSV 헤더 포함)
+     */
+    public record RowError(long line, String message) {
+    }
+}
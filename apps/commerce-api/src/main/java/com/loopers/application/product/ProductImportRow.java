@@ -0,0 +1,14 @@
+package com.loopers.application.product;
+
+/**
+ * 일괄 등록 파일의 한 행. 값 검증은 ProductInfo 에서 한다.
+ */
+public record ProductImportRow(
+    Long brandId,
+    String name,
+    String description,
+    Long price,
+    Integer stock,
+    String imageUrl
+) {
+}
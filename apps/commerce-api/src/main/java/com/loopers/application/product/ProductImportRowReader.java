@@ -0,0 +1,201 @@
+package com.loopers.application.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 등록 스트림을 한 줄씩 읽어 행으로 변환한다. 파일 전체를 메모리에 올리지 않는다.
+ */
+abstract class ProductImportRowReader {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    protected ProductImportRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static ProductImportRowReader of(ProductImportFormat format, BufferedReader reader, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new Ndjson(reader, objectMapper);
+            case CSV -> new Csv(reader);
+        };
+    }
+
+    /**
+     * @return 다음 행. 스트림 끝이면 null
+     */
+    ParsedRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                ProductImportRow row = parse(line);
+                if (row == null) {
+                    continue;
+                }
+                return ParsedRow.success(lineNumber, row);
+            } catch (IllegalArgumentException e) {
+                return ParsedRow.failure(lineNumber, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return 변환된 행. 데이터가 아닌 줄(CSV 헤더)이면 null
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    protected abstract ProductImportRow parse(String line);
+
+    record ParsedRow(long line, ProductImportRow row, String error) {
+        static ParsedRow success(long line, ProductImportRow row) {
+            return new ParsedRow(line, row, null);
+        }
+
+        static ParsedRow failure(long line, String error) {
+            return new ParsedRow(line, null, error);
+        }
+    }
+
+    private static final class Ndjson extends ProductImportRowReader {
+        private final ObjectReader rowReader;
+
+        Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.rowReader = objectMapper.readerFor(ProductImportRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        }
+
+        @Override
+        protected ProductImportRow parse(String line) {
+            try {
+                return rowReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다. (" + e.getOriginalMessage() + ")");
+            }
+        }
+    }
+
+    /**
+     * 첫 줄은 헤더(brandId,name,description,price,stock,imageUrl - 순서 무관)다.
+     * 큰따옴표로 감싼 필드와 "" 이스케이프를 지원하며, 필드 안의 줄바꿈은 지원하지 않는다.
+     */
+    private static final class Csv extends ProductImportRowReader {
+        private static final List<String> COLUMNS = List.of("brandId", "name", "description", "price", "stock", "imageUrl");
+
+        private Map<String, Integer> columnIndex;
+
+        Csv(BufferedReader reader) {
+            super(reader);
+        }
+
+        @Override
+        protected ProductImportRow parse(String line) {
+            List<String> fields = split(line);
+            if (columnIndex == null) {
+                columnIndex = readHeader(fields);
+                return null;
+            }
+            return new ProductImportRow(
+                toLong(field(fields, "brandId"), "brandId"),
+                field(fields, "name"),
+                field(fields, "description"),
+                toLong(field(fields, "price"), "price"),
+                toInteger(field(fields, "stock")),
+                field(fields, "imageUrl")
+            );
+        }
+
+        private Map<String, Integer> readHeader(List<String> fields) {
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                index.put(fields.get(i).trim(), i);
+            }
+            for (String column : List.of("brandId", "name", "price", "stock")) {
+                if (!index.containsKey(column)) {
+                    // 헤더가 잘못되면 모든 행을 해석할 수 없으므로 행 오류가 아닌 요청 오류로 처리한다.
+                    throw new CoreException(ErrorType.BAD_REQUEST,
+                        "CSV 헤더에 " + column + " 컬럼이 없습니다. (" + String.join(",", COLUMNS) + ")");
+                }
+            }
+            return index;
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columnIndex.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        private static Long toLong(String value, String column) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " 는 숫자여야 합니다. (" + value + ")");
+            }
+        }
+
+        private static Integer toInteger(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("stock 은 숫자여야 합니다. (" + value + ")");
+            }
+        }
+
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다.");
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.loopers.application.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.outbox.OutboxEventAppender;
+import com.loopers.domain.brand.BrandCatalog;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.outbox.OutboxAggregateType;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductsImportedEvent;
+import com.loopers.domain.product.Stock;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 일괄 등록.
+ *
+ * 스트림을 한 줄씩 읽어 검증하고, chunkSize 행마다 트랜잭션 하나에서 JDBC 배치 INSERT 로 저장한다.
+ * 메모리에는 현재 청크와 (최대 maxErrors 건의) 실패 행만 유지되므로 파일 크기와 무관하게 일정하다.
+ * 청크 저장이 실패하면 그 청크의 행만 실패로 기록하고 다음 청크를 계속 처리한다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private final ProductRepository productRepository;
+    private final BrandCatalog brandCatalog;
+    private final OutboxEventAppender outboxEventAppender;
+    private final ObjectMapper objectMapper;
+    private final ProductImportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductImportService(
+        ProductRepository productRepository,
+        BrandCatalog brandCatalog,
+        OutboxEventAppender outboxEventAppender,
+        ObjectMapper objectMapper,
+        ProductImportProperties properties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.productRepository = productRepository;
+        this.brandCatalog = brandCatalog;
+        this.outboxEventAppender = outboxEventAppender;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ProductImportReport importProducts(InputStream body, ProductImportFormat format) {
+        Progress progress = new Progress(properties.maxErrors());
+        BrandLookup brands = new BrandLookup();
+        List<Product> chunk = new ArrayList<>(properties.chunkSize());
+        List<Long> chunkLines = new ArrayList<>(properties.chunkSize());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            ProductImportRowReader rowReader = ProductImportRowReader.of(format, reader, objectMapper);
+            ProductImportRowReader.ParsedRow parsed;
+            while ((parsed = rowReader.next()) != null) {
+                progress.totalRows++;
+                if (parsed.error() != null) {
+                    progress.fail(parsed.line(), parsed.error());
+                    continue;
+                }
+                try {
+                    chunk.add(toProduct(parsed.row(), brands));
+                    chunkLines.add(parsed.line());
+                } catch (CoreException e) {
+                    progress.fail(parsed.line(), e.getCustomMessage() != null ? e.getCustomMessage() : e.getMessage());
+                }
+                if (chunk.size() >= properties.chunkSize()) {
+                    flush(chunk, chunkLines, progress);
+                }
+            }
+            flush(chunk, chunkLines, progress);
+        } catch (IOException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "요청 본문을 읽는 중 오류가 발생했습니다. (" + e.getMessage() + ")");
+        }
+
+        log.info("상품 일괄 등록 완료 - total: {}, imported: {}, failed: {}",
+            progress.totalRows, progress.importedRows, progress.failedRows);
+        return progress.toReport();
+    }
+
+    private Product toProduct(ProductImportRow row, BrandLookup brands) {
+        ProductInfo info = new ProductInfo(row.brandId(), row.name(), row.description(), row.price(), row.stock(), row.imageUrl());
+        if (!brands.exists(info.brandId())) {
+            throw new CoreException(ErrorType.BRAND_NOT_FOUND, "[brandId = " + info.brandId() + "] 브랜드를 찾을 수 없습니다.");
+        }
+        return Product.create(
+            info.brandId(),
+            info.name(),
+            info.description(),
+            new Money(info.price()),
+            new Stock(info.stock()),
+            info.imageUrl()
+        );
+    }
+
+    private void flush(List<Product> chunk, List<Long> chunkLines, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                productRepository.insertAll(chunk);
+                Map<Long, Long> countsByBrand = chunk.stream()
+                    .collect(Collectors.groupingBy(Product::getBrandId, Collectors.counting()));
+                countsByBrand.forEach((brandId, count) -> outboxEventAppender.append(
+                    OutboxAggregateType.BRAND, brandId, ProductsImportedEvent.EVENT_TYPE,
+                    ProductsImportedEvent.of(brandId, count.intValue())
+                ));
+            });
+            progress.importedRows += chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("상품 일괄 등록 청크 저장 실패 - lines: {}~{}", chunkLines.get(0), chunkLines.get(chunkLines.size() - 1), e);
+            for (Long line : chunkLines) {
+                progress.fail(line, "저장에 실패했습니다. (" + e.getClass().getSimpleName() + ")");
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * 요청 하나 동안 브랜드 존재 여부를 기억한다. 스냅샷에 없는 브랜드 ID 로 DB 를 반복 조회하지 않기 위함.
+     */
+    private final class BrandLookup {
+        private static final int MAX_UNKNOWN = 10_000;
+        private final Set<Long> unknown = new HashSet<>();
+
+        boolean exists(Long brandId) {
+            if (unknown.contains(brandId)) {
+                return false;
+            }
+            boolean exists = brandCatalog.findActive(brandId).isPresent();
+            if (!exists && unknown.size() < MAX_UNKNOWN) {
+                unknown.add(brandId);
+            }
+            return exists;
+        }
+    }
+
+    private static final class Progress {
+        private final int maxErrors;
+        private final List<ProductImportReport.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(long line, String message) {
+            failedRows++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ProductImportReport.RowError(line, message));
+            }
+        }
+
+        ProductImportReport toReport() {
+            return new ProductImportReport(totalRows, importedRows, failedRows, List.copyOf(errors), failedRows > errors.size());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.like.LikeDomainService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 좋아요 수와 내 좋아요 여부가 붙은 상품 목록을 조회한다.
+ *
+ * 페이지 상품을 조회한 뒤, 페이지의 상품 ID 로 좋아요 수와 내 좋아요 여부를 각각 한 번에 조회한다.
+ * 전체 개수 조회는 처음부터 가상 스레드에서 따로 실행하므로 좋아요 조회와 겹쳐 실행된다.
+ * 좋아요 정보는 제한 시간을 넘기거나 실패하면 null 로 응답하고, 상품/전체 개수 조회 실패는 그대로 전파한다.
+ *
+ * 각 조회는 자기 스레드에서 별도 트랜잭션(커넥션)으로 실행되므로 이 클래스에는 트랜잭션을 걸지 않는다.
+ * 동시 조회 수 제한과 SQL 집계 전파는 {@link ParallelQueryExecutor} 가 맡는다.
+ */
+@Slf4j
+@Component
+public class ProductListFacade {
+
+    private final ProductService productService;
+    private final LikeDomainService likeDomainService;
+    private final ParallelQueryExecutor queryExecutor;
+    private final ProductListProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ProductListFacade(
+        ProductService productService,
+        LikeDomainService likeDomainService,
+        ParallelQueryExecutor queryExecutor,
+        ProductListProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.productService = productService;
+        this.likeDomainService = likeDomainService;
+        this.queryExecutor = queryExecutor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 상품 목록 조회.
+     *
+     * @param brandId 브랜드 ID (null 이면 전체)
+     * @param pageable 페이지 정보
+     * @param userId 로그인 사용자 ID. 비로그인이면 null
+     * @return 좋아요 정보가 붙은 상품 페이지
+     */
+    public Page<ProductListItemResult> getProducts(Long brandId, Pageable pageable, Long userId) {
+        List<Future<?>> forks = new ArrayList<>();
+        try {
+            Future<Long> total = fork(forks, () -> productService.count(brandId));
+            List<ProductResult> content = productService.findContent(brandId, pageable);
+            if (content.isEmpty()) {
+                return new PageImpl<>(List.of(), pageable, join(total));
+            }
+
+            List<Long> productIds = content.stream()
+                .map(ProductResult::id)
+                .toList();
+            long deadline = System.nanoTime() + properties.enrichmentTimeout().toNanos();
+            Future<Map<Long, Long>> likeCounts = fork(forks, () -> likeDomainService.countByProductIds(productIds));
+            Future<Set<Long>> likedProductIds = userId == null
+                ? null
+                : fork(forks, () -> likeDomainService.findLikedProductIds(userId, productIds));
+
+            long totalCount = join(total);
+            Map<Long, Long> likeCountResult = joinOrNull(likeCounts, deadline, "like_count");
+            Set<Long> likedResult = likedProductIds == null
+                ? Set.of()
+                : joinOrNull(likedProductIds, deadline, "liked_by_me");
+
+            List<ProductListItemResult> items = content.stream()
+                .map(product -> new ProductListItemResult(
+                    product,
+                    likeCountResult == null ? null : likeCountResult.getOrDefault(product.id(), 0L),
+                    likedResult == null ? null : likedResult.contains(product.id())
+                ))
+                .toList();
+            return new PageImpl<>(items, pageable, totalCount);
+        } finally {
+            forks.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> Future<T> fork(List<Future<?>> forks, Callable<T> task) {
+        Future<T> future = queryExecutor.submit(task);
+        forks.add(future);
+        return future;
+    }
+
+    private <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> T joinOrNull(Future<T> future, long deadlineNanos, String section) {
+        try {
+            return future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR);
+        } catch (TimeoutException e) {
+            recordFallback(section, "timeout");
+        } catch (ExecutionException e) {
+            log.warn("상품 목록 {} 조회 실패, 값 없이 응답합니다.", section, e.getCause());
+            recordFallback(section, "error");
+        }
+        return null;
+    }
+
+    private void recordFallback(String section, String reason) {
+        Counter.builder("product.list.enrichment.fallback")
+            .tag("section", section)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+}
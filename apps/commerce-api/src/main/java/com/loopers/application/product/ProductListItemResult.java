@@ -0,0 +1,15 @@
+package com.loopers.application.product;
+
+/**
+ * 좋아요 정보가 붙은 상품 목록 항목.
+ *
+ * @param product 상품
+ * @param likeCount 좋아요 수 (조회 실패 시 null)
+ * @param likedByMe 내 좋아요 여부. 비로그인이면 false, 조회 실패 시 null
+ */
+public record ProductListItemResult(
+    ProductResult product,
+    Long likeCount,
+    Boolean likedByMe
+) {
+}
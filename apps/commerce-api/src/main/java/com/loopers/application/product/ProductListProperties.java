@@ -0,0 +1,21 @@
+package com.loopers.application.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 상품 목록 조회 설정.
+ *
+ * @param enrichmentTimeout 좋아요 수/내 좋아요 여부 일괄 조회 제한 시간. 넘으면 해당 값 없이(null) 응답한다.
+ */
+@ConfigurationProperties(value = "product.list")
+public record ProductListProperties(
+    Duration enrichmentTimeout
+) {
+    public ProductListProperties {
+        if (enrichmentTimeout == null || enrichmentTimeout.isNegative()) {
+            enrichmentTimeout = Duration.ofMillis(300);
+        }
+    }
+}
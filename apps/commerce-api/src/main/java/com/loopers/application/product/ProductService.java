@@ -1,6 +1,9 @@
 package com.loopers.application.product;
 
+import com.loopers.application.outbox.OutboxEventAppender;
+import com.loopers.domain.outbox.OutboxAggregateType;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductChangedEvent;
 import com.loopers.domain.product.ProductDomainService;
 import com.loopers.domain.product.ProductInfo;
 import com.loopers.domain.product.ProductSort;
@@ -18,6 +21,7 @@ import java.util.List;
 public class ProductService {
 
     private final ProductDomainService productDomainService;
+    private final OutboxEventAppender outboxEventAppender;
 
     @Transactional(readOnly = true)
     public ProductResult findById(Long id) {
@@ -27,44 +31,58 @@ public class ProductService {
 
     @Transactional(readOnly = true)
     public Page<ProductResult> findAll(Long brandId, Pageable pageable) {
+        return new PageImpl<>(findContent(brandId, pageable), pageable, count(brandId));
+    }
+
+    /**
+     * 목록 페이지의 상품만 조회한다. 전체 개수는 count 로 따로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductResult> findContent(Long brandId, Pageable pageable) {
         // 기본 정렬은 LATEST
         ProductSort sort = ProductSort.LATEST;
 
         int offset = (int) pageable.getOffset();
         int limit = pageable.getPageSize();
 
-        List<Product> products;
-        long total;
-
-        if (brandId != null) {
-            products = productDomainService.findAllByBrandId(brandId, sort, offset, limit);
-            total = productDomainService.countByBrandId(brandId);
-        } else {
-            products = productDomainService.findAll(sort, offset, limit);
-            total = productDomainService.countAll();
-        }
+        List<Product> products = brandId != null
+            ? productDomainService.findAllByBrandId(brandId, sort, offset, limit)
+            : productDomainService.findAll(sort, offset, limit);
 
-        List<ProductResult> results = products.stream()
+        return products.stream()
             .map(ProductResult::from)
             .toList();
+    }
 
-        return new PageImpl<>(results, pageable, total);
+    @Transactional(readOnly = true)
+    public long count(Long brandId) {
+        return brandId != null
+            ? productDomainService.countByBrandId(brandId)
+            : productDomainService.countAll();
     }
 
     @Transactional
     public ProductResult create(ProductInfo info) {
         Product product = productDomainService.create(info);
+        appendEvent(product, ProductChangedEvent.ChangeType.CREATED);
         return ProductResult.from(product);
     }
 
     @Transactional
     public ProductResult update(Long id, ProductInfo info) {
         Product product = productDomainService.update(id, info);
+        appendEvent(product, ProductChangedEvent.ChangeType.UPDATED);
         return ProductResult.from(product);
     }
 
     @Transactional
     public void delete(Long id) {
-        productDomainService.delete(id);
+        Product product = productDomainService.delete(id);
+        appendEvent(product, ProductChangedEvent.ChangeType.DELETED);
+    }
+
+    private void appendEvent(Product product, ProductChangedEvent.ChangeType changeType) {
+        ProductChangedEvent event = ProductChangedEvent.of(product, changeType);
+        outboxEventAppender.append(OutboxAggregateType.PRODUCT, product.getId(), event.eventType(), event);
     }
 }
@@ -0,0 +1,10 @@
+package com.loopers.application.user;
+
+import java.time.Instant;
+
+public record LoginInfo(
+    Long userId,
+    String accessToken,
+    Instant expiresAt
+) {
+}
@@ -2,6 +2,8 @@ package com.loopers.application.user;
 
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
+import com.loopers.domain.user.UserSnapshot;
+import com.loopers.support.auth.SessionTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -10,14 +12,29 @@ import org.springframework.stereotype.Component;
 public class UserFacade {
 
     private final UserService userService;
+    private final SessionTokenProvider sessionTokenProvider;
 
     public UserInfo register(String loginId, String password, String name, String birthDate, String email) {
         User user = userService.register(loginId, password, name, birthDate, email);
         return UserInfo.from(user);
     }
 
-    public UserInfo getMyInfo(String loginId, String password) {
-        User user = userService.authenticate(loginId, password);
+    /**
+     * 로그인. 비밀번호를 한 번 검증하고 세션 토큰을 발급한다.
+     */
+    public LoginInfo login(String loginId, String password) {
+        UserSnapshot user = userService.authenticate(loginId, password);
+        SessionTokenProvider.IssuedToken token = sessionTokenProvider.issue(user.id(), user.loginId());
+        return new LoginInfo(user.id(), token.token(), token.expiresAt());
+    }
+
+    public UserInfo authenticate(String loginId, String password) {
+        UserSnapshot user = userService.authenticate(loginId, password);
+        return UserInfo.from(user);
+    }
+
+    public UserInfo getMyInfo(String loginId) {
+        UserSnapshot user = userService.getUserByLoginId(loginId);
         return UserInfo.from(user);
     }
 
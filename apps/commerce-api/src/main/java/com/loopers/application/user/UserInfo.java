@@ -1,6 +1,7 @@
 package com.loopers.application.user;
 
 import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserSnapshot;
 
 public record UserInfo(
     Long id,
@@ -20,4 +21,15 @@ public record UserInfo(
             user.getEmail()
         );
     }
+
+    public static UserInfo from(UserSnapshot user) {
+        return new UserInfo(
+            user.id(),
+            user.loginId(),
+            user.name(),
+            user.maskedName(),
+            user.birthDate(),
+            user.email()
+        );
+    }
 }
@@ -0,0 +1,25 @@
+package com.loopers.domain.brand;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 삭제되지 않은 브랜드 전체의 읽기 전용 스냅샷.
+ * 순수 Java 인터페이스로 Spring/JPA 의존성 없음. 구현체는 Infrastructure Layer에 위치.
+ *
+ * 반환되는 Brand 는 스냅샷이 공유하는 인스턴스이므로 변경하지 않는다. 변경은 BrandRepository 에서 조회한 인스턴스로 한다.
+ */
+public interface BrandCatalog {
+
+    Optional<Brand> findActive(Long id);
+
+    /**
+     * @return id 오름차순 브랜드 목록
+     */
+    List<Brand> findAllActive();
+
+    /**
+     * 브랜드 변경 후 스냅샷을 다시 만든다. 트랜잭션 안에서 호출되면 커밋 이후에 갱신하고 다른 인스턴스에도 전파한다.
+     */
+    void refresh();
+}
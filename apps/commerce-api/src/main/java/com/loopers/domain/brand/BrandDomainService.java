@@ -13,32 +13,47 @@ public class BrandDomainService {
 
     private final BrandRepository brandRepository;
     private final BrandValidator brandValidator;
+    private final BrandCatalog brandCatalog;
 
     public Brand create(BrandInfo info) {
         brandValidator.validateNameNotDuplicated(info.name());
         Brand brand = Brand.create(info.name(), info.description(), info.logoUrl());
-        return brandRepository.save(brand);
+        Brand saved = brandRepository.save(brand);
+        brandCatalog.refresh();
+        return saved;
     }
 
     public Brand update(Long id, BrandInfo info) {
-        Brand brand = findById(id);
+        Brand brand = findByIdForUpdate(id);
         brandValidator.validateNameNotDuplicatedExcept(info.name(), id);
         brand.update(info.name(), info.description(), info.logoUrl());
-        return brandRepository.save(brand);
+        Brand saved = brandRepository.save(brand);
+        brandCatalog.refresh();
+        return saved;
     }
 
+    /**
+     * 스냅샷에서 조회한다. 반환된 Brand 는 변경하지 않는다.
+     */
     public Brand findById(Long id) {
-        return brandRepository.findByIdActive(id)
+        return brandCatalog.findActive(id)
             .orElseThrow(() -> new CoreException(ErrorType.BRAND_NOT_FOUND));
     }
 
     public List<Brand> findAll() {
-        return brandRepository.findAllActive();
+        return brandCatalog.findAllActive();
     }
 
     public void delete(Long id) {
-        Brand brand = findById(id);
+        Brand brand = findByIdForUpdate(id);
         brand.delete();
         brandRepository.save(brand);
+        brandCatalog.refresh();
+    }
+
+    // 변경할 인스턴스는 스냅샷이나 2차 캐시가 아닌 DB 에서 잠가 조회한다. 캐시에 남은 삭제 전 상태를 되살려 저장하지 않기 위해서다.
+    private Brand findByIdForUpdate(Long id) {
+        return brandRepository.findByIdWithLock(id)
+            .orElseThrow(() -> new CoreException(ErrorType.BRAND_NOT_FOUND));
     }
 }
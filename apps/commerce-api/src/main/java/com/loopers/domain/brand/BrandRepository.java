@@ -16,6 +16,8 @@ public interface BrandRepository {
 
     Optional<Brand> findByIdActive(Long id);
 
+    Optional<Brand> findByIdWithLock(Long id);
+
     List<Brand> findAllActive();
 
     boolean existsByName(String name);
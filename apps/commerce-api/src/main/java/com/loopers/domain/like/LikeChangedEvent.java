@@ -0,0 +1,28 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 좋아요 등록/취소 이벤트.
+ */
+public record LikeChangedEvent(
+    Long userId,
+    Long productId,
+    boolean liked,
+    ZonedDateTime occurredAt
+) {
+    public static final String LIKED = "PRODUCT_LIKED";
+    public static final String UNLIKED = "PRODUCT_UNLIKED";
+
+    public static LikeChangedEvent liked(Long userId, Long productId) {
+        return new LikeChangedEvent(userId, productId, true, ZonedDateTime.now());
+    }
+
+    public static LikeChangedEvent unliked(Long userId, Long productId) {
+        return new LikeChangedEvent(userId, productId, false, ZonedDateTime.now());
+    }
+
+    public String eventType() {
+        return liked ? LIKED : UNLIKED;
+    }
+}
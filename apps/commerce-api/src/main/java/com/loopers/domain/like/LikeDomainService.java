@@ -7,6 +7,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * 좋아요 도메인 서비스.
@@ -18,6 +20,7 @@ import java.util.Map;
 public class LikeDomainService {
 
     private final LikeRepository likeRepository;
+    private final LikedProductCache likedProductCache;
 
     /**
      * 좋아요 등록.
@@ -32,7 +35,9 @@ public class LikeDomainService {
         if (likeRepository.exists(userId, productId)) {
             throw new CoreException(ErrorType.CONFLICT, "이미 좋아요한 상품입니다.");
         }
-        return likeRepository.save(Like.create(userId, productId));
+        Like saved = likeRepository.save(Like.create(userId, productId));
+        likedProductCache.added(userId, productId);
+        return saved;
     }
 
     /**
@@ -41,10 +46,47 @@ public class LikeDomainService {
      *
      * @param userId 사용자 ID
      * @param productId 상품 ID
+     * @return 실제로 삭제되었는지 여부
      */
-    public void unlike(Long userId, Long productId) {
-        likeRepository.findByUserIdAndProductId(userId, productId)
-            .ifPresent(likeRepository::delete);
+    public boolean unlike(Long userId, Long productId) {
+        return likeRepository.findByUserIdAndProductId(userId, productId)
+            .map(like -> {
+                likeRepository.delete(like);
+                likedProductCache.removed(userId, productId);
+                return true;
+            })
+            .orElse(false);
+    }
+
+    /**
+     * 사용자의 상품 좋아요 여부 조회.
+     *
+     * @param userId 사용자 ID
+     * @param productId 상품 ID
+     * @return 좋아요했으면 true
+     */
+    public boolean isLiked(Long userId, Long productId) {
+        return findLikedProductIds(userId, List.of(productId)).contains(productId);
+    }
+
+    /**
+     * 여러 상품 중 사용자가 좋아요한 상품 ID 일괄 조회.
+     * 사용자별 캐시가 적재되어 있으면 캐시에서, 아니면 저장소에서 한 번에 조회하고 캐시 적재를 요청한다.
+     *
+     * @param userId 사용자 ID
+     * @param productIds 상품 ID 목록
+     * @return 좋아요한 상품 ID
+     */
+    public Set<Long> findLikedProductIds(Long userId, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        Optional<Set<Long>> cached = likedProductCache.findLikedAmong(userId, productIds);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        likedProductCache.warm(userId, limit -> likeRepository.findProductIdsByUserId(userId, limit));
+        return likeRepository.findLikedProductIds(userId, productIds);
     }
 
     /**
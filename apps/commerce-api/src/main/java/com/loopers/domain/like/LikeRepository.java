@@ -3,6 +3,7 @@ package com.loopers.domain.like;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 좋아요 Repository 인터페이스.
@@ -22,4 +23,14 @@ public interface LikeRepository {
     long countByProductId(Long productId);
 
     Map<Long, Long> countByProductIds(List<Long> productIds);
+
+    /**
+     * 주어진 상품 중 사용자가 좋아요한 상품 ID 를 한 번에 조회한다.
+     */
+    Set<Long> findLikedProductIds(Long userId, List<Long> productIds);
+
+    /**
+     * 사용자가 좋아요한 상품 ID 를 최대 limit 개 조회한다.
+     */
+    List<Long> findProductIdsByUserId(Long userId, int limit);
 }
@@ -0,0 +1,36 @@
+package com.loopers.domain.like;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * 사용자별 좋아요한 상품 ID 캐시.
+ * 순수 Java 인터페이스로 Spring/JPA 의존성 없음. 구현체는 Infrastructure Layer에 위치.
+ *
+ * 사용자의 좋아요 전체를 적재한 경우에만 조회에 응답한다. 일부만 담긴 상태로는 "좋아요 안 함"을 판단할 수 없기 때문이다.
+ */
+public interface LikedProductCache {
+
+    /**
+     * 주어진 상품 중 좋아요한 상품 ID 를 반환한다. 적재되지 않았거나 조회에 실패하면 empty.
+     */
+    Optional<Set<Long>> findLikedAmong(Long userId, List<Long> productIds);
+
+    /**
+     * 사용자의 좋아요 전체를 적재한다. loader 는 최대 개수를 받아 상품 ID 를 반환한다.
+     * 구현체는 비동기로 적재할 수 있고, 너무 많으면 적재하지 않을 수 있다.
+     */
+    void warm(Long userId, IntFunction<List<Long>> loader);
+
+    /**
+     * 적재된 사용자에 한해 좋아요를 반영한다. 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+     */
+    void added(Long userId, Long productId);
+
+    /**
+     * 적재된 사용자에 한해 좋아요 취소를 반영한다. 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+     */
+    void removed(Long userId, Long productId);
+}
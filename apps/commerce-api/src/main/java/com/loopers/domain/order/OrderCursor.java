@@ -0,0 +1,16 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 주문 목록 keyset 커서. (created_at DESC, id DESC) 순서에서 마지막으로 읽은 주문의 위치.
+ *
+ * @param createdAt 마지막 주문의 생성 시각
+ * @param id        마지막 주문 ID (같은 시각의 주문을 구분)
+ */
+public record OrderCursor(ZonedDateTime createdAt, Long id) {
+
+    public static OrderCursor of(OrderSummary summary) {
+        return new OrderCursor(summary.orderedAt(), summary.orderId());
+    }
+}
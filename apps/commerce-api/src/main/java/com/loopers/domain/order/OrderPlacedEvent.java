@@ -0,0 +1,38 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 주문 생성 이벤트.
+ */
+public record OrderPlacedEvent(
+    Long orderId,
+    Long userId,
+    long totalPrice,
+    List<Item> items,
+    ZonedDateTime orderedAt
+) {
+    public static final String EVENT_TYPE = "ORDER_PLACED";
+
+    public record Item(Long productId, String productName, int quantity, long price) {
+    }
+
+    public static OrderPlacedEvent from(Order order) {
+        List<Item> items = order.getItems().stream()
+            .map(item -> new Item(
+                item.getProductId(),
+                item.getProductName(),
+                item.getQuantity(),
+                item.getPriceSnapshot().amount()
+            ))
+            .toList();
+        return new OrderPlacedEvent(
+            order.getId(),
+            order.getUserId(),
+            order.getTotalPrice().amount(),
+            items,
+            order.getCreatedAt()
+        );
+    }
+}
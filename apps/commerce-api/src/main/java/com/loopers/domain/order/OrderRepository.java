@@ -17,6 +17,4 @@ public interface OrderRepository {
     Optional<Order> findByIdAndUserId(Long id, Long userId);
 
     List<Order> findAllByUserId(Long userId, int offset, int limit);
-
-    long countByUserId(Long userId);
 }
@@ -0,0 +1,58 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 주문 목록 조회용 읽기 모델. 주문 1건 = 1행.
+ * 주문 생성 시점에 OrderPlacedEvent 로부터 만들어지며, 목록 조회 시 Order Aggregate 를 복원하지 않는다.
+ *
+ * @param orderId               주문 ID
+ * @param userId                사용자 ID
+ * @param totalPrice            총 주문 금액
+ * @param status                주문 상태
+ * @param itemCount             주문 항목 수
+ * @param thumbnailProductId    대표 상품 ID (첫 번째 주문 항목)
+ * @param thumbnailProductName  대표 상품명
+ * @param thumbnailImageUrl     대표 상품 이미지 (주문 시점)
+ * @param items                 주문 항목 스냅샷
+ * @param orderedAt             주문 시각
+ */
+public record OrderSummary(
+    Long orderId,
+    Long userId,
+    long totalPrice,
+    OrderStatus status,
+    int itemCount,
+    Long thumbnailProductId,
+    String thumbnailProductName,
+    String thumbnailImageUrl,
+    List<Item> items,
+    ZonedDateTime orderedAt
+) {
+    public record Item(Long productId, String productName, int quantity, long price) {
+
+        public long subtotal() {
+            return price * quantity;
+        }
+    }
+
+    public static OrderSummary from(OrderPlacedEvent event, String thumbnailImageUrl) {
+        List<Item> items = event.items().stream()
+            .map(item -> new Item(item.productId(), item.productName(), item.quantity(), item.price()))
+            .toList();
+        OrderPlacedEvent.Item thumbnail = event.items().get(0);
+        return new OrderSummary(
+            event.orderId(),
+            event.userId(),
+            event.totalPrice(),
+            OrderStatus.CREATED,
+            items.size(),
+            thumbnail.productId(),
+            thumbnail.productName(),
+            thumbnailImageUrl,
+            items,
+            event.orderedAt()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.loopers.domain.order;
+
+import java.util.List;
+
+/**
+ * 주문 목록 읽기 모델 Repository 인터페이스.
+ * 순수 Java 인터페이스로 Spring/JPA 의존성 없음.
+ * 구현체는 Infrastructure Layer에 위치.
+ */
+public interface OrderSummaryRepository {
+
+    OrderSummary save(OrderSummary summary);
+
+    /**
+     * 사용자의 주문 요약을 최신순으로 커서 이후부터 limit 개 조회.
+     *
+     * @param cursor    null 이면 처음부터
+     * @param withItems false 면 항목 JSON 을 읽지 않는다 (items 가 빈 목록인 요약)
+     */
+    List<OrderSummary> findAllByUserIdAfter(Long userId, OrderCursor cursor, int limit, boolean withItems);
+}
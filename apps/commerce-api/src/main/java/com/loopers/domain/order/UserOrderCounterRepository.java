@@ -0,0 +1,20 @@
+package com.loopers.domain.order;
+
+/**
+ * 사용자별 주문 수 카운터 Repository 인터페이스.
+ * 순수 Java 인터페이스로 Spring/JPA 의존성 없음.
+ * 구현체는 Infrastructure Layer에 위치.
+ */
+public interface UserOrderCounterRepository {
+
+    /**
+     * 사용자의 주문 수를 1 증가시킨다. 카운터가 없으면 1 로 만든다.
+     * 호출한 트랜잭션과 함께 커밋/롤백된다.
+     */
+    void increment(Long userId);
+
+    /**
+     * 사용자의 주문 수. 카운터가 없으면 0.
+     */
+    long getCount(Long userId);
+}
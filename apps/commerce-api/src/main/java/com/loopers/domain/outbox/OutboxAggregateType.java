@@ -0,0 +1,15 @@
+package com.loopers.domain.outbox;
+
+/**
+ * Outbox 이벤트의 Aggregate 종류.
+ * Relay 는 이 값으로 발행할 토픽을 결정한다.
+ */
+public enum OutboxAggregateType {
+    ORDER,
+    LIKE,
+    PRODUCT,
+    /**
+     * 브랜드 단위 이벤트 (aggregateId = brandId). ex. 브랜드 상품 일괄 등록
+     */
+    BRAND
+}
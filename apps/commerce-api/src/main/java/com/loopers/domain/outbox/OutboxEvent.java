@@ -0,0 +1,85 @@
+package com.loopers.domain.outbox;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Outbox 이벤트.
+ * 비즈니스 변경과 같은 트랜잭션에서 저장되고, Relay 가 Kafka 로 발행한 뒤 SENT 로 표시한다.
+ * 순수 Java 객체로 JPA/Spring 의존성 없음.
+ */
+public class OutboxEvent {
+
+    private Long id;
+    private OutboxAggregateType aggregateType;
+    private String aggregateId;
+    private String eventType;
+    private String payload;
+    private OutboxStatus status;
+    private ZonedDateTime createdAt;
+
+    private OutboxEvent() {}
+
+    /**
+     * 새 Outbox 이벤트 생성.
+     *
+     * @param aggregateType Aggregate 종류 (토픽 결정)
+     * @param aggregateId Aggregate ID (메시지 key, 같은 Aggregate 의 순서 보장)
+     * @param eventType 이벤트 종류
+     * @param payload 직렬화된 이벤트 (JSON)
+     */
+    public static OutboxEvent create(OutboxAggregateType aggregateType, String aggregateId, String eventType, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.aggregateType = aggregateType;
+        event.aggregateId = aggregateId;
+        event.eventType = eventType;
+        event.payload = payload;
+        event.status = OutboxStatus.PENDING;
+        event.createdAt = ZonedDateTime.now();
+        return event;
+    }
+
+    /**
+     * DB에서 복원 (Infrastructure에서 사용).
+     */
+    public static OutboxEvent reconstitute(Long id, OutboxAggregateType aggregateType, String aggregateId,
+            String eventType, String payload, OutboxStatus status, ZonedDateTime createdAt) {
+        OutboxEvent event = new OutboxEvent();
+        event.id = id;
+        event.aggregateType = aggregateType;
+        event.aggregateId = aggregateId;
+        event.eventType = eventType;
+        event.payload = payload;
+        event.status = status;
+        event.createdAt = createdAt;
+        return event;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxAggregateType getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
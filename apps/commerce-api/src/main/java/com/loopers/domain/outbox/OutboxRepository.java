@@ -0,0 +1,11 @@
+package com.loopers.domain.outbox;
+
+/**
+ * Outbox Repository 인터페이스.
+ * 순수 Java 인터페이스로 Spring/JPA 의존성 없음.
+ * 구현체는 Infrastructure Layer에 위치.
+ */
+public interface OutboxRepository {
+
+    OutboxEvent save(OutboxEvent event);
+}
@@ -0,0 +1,8 @@
+package com.loopers.domain.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    // relay 가 레코드를 만들 수 없어 발행을 포기한 행 (토픽이 없는 aggregate_type 등)
+    FAILED
+}
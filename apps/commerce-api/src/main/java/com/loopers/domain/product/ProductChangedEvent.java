@@ -0,0 +1,27 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 상품 생성/수정/삭제 이벤트.
+ */
+public record ProductChangedEvent(
+    Long productId,
+    Long brandId,
+    ChangeType changeType,
+    ZonedDateTime occurredAt
+) {
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static ProductChangedEvent of(Product product, ChangeType changeType) {
+        return new ProductChangedEvent(product.getId(), product.getBrandId(), changeType, ZonedDateTime.now());
+    }
+
+    public String eventType() {
+        return "PRODUCT_" + changeType.name();
+    }
+}
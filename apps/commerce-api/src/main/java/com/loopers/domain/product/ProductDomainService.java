@@ -6,6 +6,7 @@ import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 @Component
@@ -28,8 +29,9 @@ public class ProductDomainService {
         return productRepository.save(product);
     }
 
+    // 변경할 상품은 2차 캐시가 아닌 DB 에서 잠가 조회한다. 캐시에 남은 삭제 전 상태를 되살려 저장하지 않기 위해서다.
     public Product update(Long id, ProductInfo info) {
-        Product product = findById(id);
+        Product product = findByIdWithLock(id);
         product.update(
             info.name(),
             info.description(),
@@ -71,17 +73,31 @@ public class ProductDomainService {
         productRepository.save(product);
     }
 
-    public void delete(Long id) {
-        Product product = findById(id);
+    public Product delete(Long id) {
+        Product product = findByIdWithLock(id);
         product.delete();
-        productRepository.save(product);
+        return productRepository.save(product);
+    }
+
+    /**
+     * 브랜드 상품을 최대 chunkSize 개 soft delete 한다.
+     * 엔티티를 로딩하지 않고 ID 조회(잠금) 1회 + UPDATE 1회로 처리한다. 트랜잭션 안에서 호출해야 한다.
+     *
+     * @return 이번에 삭제된 상품 ID (비어 있으면 더 삭제할 상품이 없음)
+     */
+    public List<Long> deleteChunkByBrandId(Long brandId, int chunkSize) {
+        List<Long> ids = productRepository.findActiveIdsByBrandId(brandId, chunkSize);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        productRepository.softDeleteAllByIds(ids, ZonedDateTime.now());
+        return ids;
     }
 
-    public void deleteAllByBrandId(Long brandId) {
-        List<Product> products = productRepository.findAllByBrandIdActive(brandId);
-        products.forEach(product -> {
-            product.delete();
-            productRepository.save(product);
-        });
+    /**
+     * 삭제 작업이 끝나지 않은 브랜드(브랜드는 삭제, 상품은 남음) ID 를 최대 limit 개 조회한다.
+     */
+    public List<Long> findDeletedBrandIdsWithActiveProducts(int limit) {
+        return productRepository.findDeletedBrandIdsWithActiveProducts(limit);
     }
 }
@@ -1,5 +1,6 @@
 package com.loopers.domain.product;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,13 @@ public interface ProductRepository {
 
     Product save(Product product);
 
+    /**
+     * 신규 상품을 JDBC 배치 INSERT 로 저장한다. 생성된 ID 는 반환하지 않는다.
+     *
+     * @return 저장된 상품 수
+     */
+    int insertAll(List<Product> products);
+
     Optional<Product> findById(Long id);
 
     Optional<Product> findByIdActive(Long id);
@@ -22,7 +30,23 @@ public interface ProductRepository {
 
     List<Product> findAllByBrandIdActive(Long brandId, ProductSort sort, int offset, int limit);
 
-    List<Product> findAllByBrandIdActive(Long brandId);
+    /**
+     * 브랜드의 삭제되지 않은 상품 ID 를 id 오름차순으로 최대 limit 개 조회하고 잠근다.
+     * 다른 트랜잭션이 잠근 상품은 건너뛴다.
+     */
+    List<Long> findActiveIdsByBrandId(Long brandId, int limit);
+
+    /**
+     * 브랜드는 삭제되었는데 삭제되지 않은 상품이 남아 있는 브랜드 ID 를 최대 limit 개 조회한다.
+     */
+    List<Long> findDeletedBrandIdsWithActiveProducts(int limit);
+
+    /**
+     * 단일 UPDATE 문으로 soft delete 한다. 이미 삭제된 상품은 건너뛴다.
+     *
+     * @return 삭제 처리된 상품 수
+     */
+    int softDeleteAllByIds(List<Long> ids, ZonedDateTime deletedAt);
 
     List<Product> findAllByIds(List<Long> ids);
 
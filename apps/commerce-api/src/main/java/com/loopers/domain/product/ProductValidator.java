@@ -1,6 +1,7 @@
 package com.loopers.domain.product;
 
 import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandCatalog;
 import com.loopers.domain.brand.BrandRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -11,9 +12,14 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ProductValidator {
 
+    private final BrandCatalog brandCatalog;
     private final BrandRepository brandRepository;
 
     public void validateBrandExists(Long brandId) {
+        if (brandCatalog.findActive(brandId).isPresent()) {
+            return;
+        }
+        // 실패 사유(미존재/삭제) 구분은 예외 경로에서만 DB 로 확인한다.
         Brand brand = brandRepository.findById(brandId)
             .orElseThrow(() -> new CoreException(ErrorType.BRAND_NOT_FOUND));
 
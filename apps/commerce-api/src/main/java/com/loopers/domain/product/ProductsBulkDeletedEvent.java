@@ -0,0 +1,20 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 브랜드 삭제로 상품이 일괄 삭제된 이벤트. 청크 단위로 하나씩 발행된다.
+ * 소비자는 productIds 로 캐시/집계를 한 번에 무효화한다.
+ */
+public record ProductsBulkDeletedEvent(
+    Long brandId,
+    List<Long> productIds,
+    ZonedDateTime occurredAt
+) {
+    public static final String EVENT_TYPE = "PRODUCTS_BULK_DELETED";
+
+    public static ProductsBulkDeletedEvent of(Long brandId, List<Long> productIds) {
+        return new ProductsBulkDeletedEvent(brandId, List.copyOf(productIds), ZonedDateTime.now());
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 일괄 등록으로 브랜드에 상품이 추가된 이벤트. 청크마다 브랜드별로 하나씩 발행된다.
+ * 소비자는 brandId 기준으로 목록 캐시/집계를 무효화한다.
+ */
+public record ProductsImportedEvent(
+    Long brandId,
+    int count,
+    ZonedDateTime occurredAt
+) {
+    public static final String EVENT_TYPE = "PRODUCTS_IMPORTED";
+
+    public static ProductsImportedEvent of(Long brandId, int count) {
+        return new ProductsImportedEvent(brandId, count, ZonedDateTime.now());
+    }
+}
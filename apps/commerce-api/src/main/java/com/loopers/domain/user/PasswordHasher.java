@@ -0,0 +1,12 @@
+package com.loopers.domain.user;
+
+/**
+ * 비밀번호 해시 생성/검증.
+ * 순수 Java 인터페이스로 Spring/JPA 의존성 없음. 구현체는 Infrastructure Layer에 위치.
+ */
+public interface PasswordHasher {
+
+    String encode(String rawPassword);
+
+    boolean matches(String rawPassword, String encodedPassword);
+}
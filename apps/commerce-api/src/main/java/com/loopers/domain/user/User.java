@@ -21,6 +21,17 @@ import java.util.regex.Pattern;
 public class User extends BaseEntity {
 
     private static final PasswordEncoder PASSWORD_ENCODER = new BCryptPasswordEncoder();
+    private static final PasswordHasher DEFAULT_PASSWORD_HASHER = new PasswordHasher() {
+        @Override
+        public String encode(String rawPassword) {
+            return PASSWORD_ENCODER.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            return PASSWORD_ENCODER.matches(rawPassword, encodedPassword);
+        }
+    };
     private static final Pattern LOGIN_ID_PATTERN = Pattern.compile("^[a-zA-Z0-9]+$");
     private static final Pattern NAME_PATTERN = Pattern.compile("^[가-힣a-zA-Z]+$");
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
@@ -52,6 +63,10 @@ public class User extends BaseEntity {
     protected User() {}
 
     public User(String loginId, String password, String name, String birthDate, String email) {
+        this(loginId, password, name, birthDate, email, DEFAULT_PASSWORD_HASHER);
+    }
+
+    public User(String loginId, String password, String name, String birthDate, String email, PasswordHasher passwordHasher) {
         validateLoginId(loginId);
         validateName(name);
         validateBirthDate(birthDate);
@@ -59,7 +74,7 @@ public class User extends BaseEntity {
         validatePassword(password, birthDate);
 
         this.loginId = loginId;
-        this.password = PASSWORD_ENCODER.encode(password);
+        this.password = passwordHasher.encode(password);
         this.name = name;
         this.birthDate = birthDate;
         this.email = email;
@@ -81,16 +96,32 @@ public class User extends BaseEntity {
         return email;
     }
 
+    /**
+     * 인코딩된 비밀번호. 캐시용 사본(UserSnapshot)을 만들 때만 쓴다.
+     */
+    String getPassword() {
+        return password;
+    }
+
     public boolean matchPassword(String rawPassword) {
-        return PASSWORD_ENCODER.matches(rawPassword, this.password);
+        return matchPassword(rawPassword, DEFAULT_PASSWORD_HASHER);
+    }
+
+    public boolean matchPassword(String rawPassword, PasswordHasher passwordHasher) {
+        return passwordHasher.matches(rawPassword, this.password);
     }
 
     public void changePassword(String newPassword) {
-        if (matchPassword(newPassword)) {
+        changePassword(newPassword, DEFAULT_PASSWORD_HASHER);
+    }
+
+    public void changePassword(String newPassword, PasswordHasher passwordHasher) {
+        // 형식 검증을 먼저 해 잘못된 입력에 해시 연산을 쓰지 않는다.
+        validatePassword(newPassword, this.birthDate);
+        if (matchPassword(newPassword, passwordHasher)) {
             throw new CoreException(ErrorType.BAD_REQUEST, "새 비밀번호는 현재 비밀번호와 다르게 설정해야 합니다.");
         }
-        validatePassword(newPassword, this.birthDate);
-        this.password = PASSWORD_ENCODER.encode(newPassword);
+        this.password = passwordHasher.encode(newPassword);
     }
 
     public String getMaskedName() {
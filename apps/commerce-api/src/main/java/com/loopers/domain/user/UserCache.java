@@ -0,0 +1,23 @@
+package com.loopers.domain.user;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * loginId 기준 사용자 캐시.
+ * 순수 Java 인터페이스로 Spring/JPA 의존성 없음. 구현체는 Infrastructure Layer에 위치.
+ *
+ * 엔티티 대신 불변 사본(UserSnapshot)을 보관하므로 요청 간에 공유되어도 영속성 컨텍스트나 변경 감지에 얽히지 않는다.
+ */
+public interface UserCache {
+
+    /**
+     * 캐시에 없으면 loader 로 조회해 적재한다. 존재하지 않는 사용자는 캐시하지 않는다.
+     */
+    Optional<UserSnapshot> get(String loginId, Function<String, Optional<UserSnapshot>> loader);
+
+    /**
+     * 로컬 및 다른 인스턴스의 캐시에서 제거한다. 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 제거한다.
+     */
+    void evict(String loginId);
+}
@@ -3,44 +3,72 @@ package com.loopers.domain.user;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @RequiredArgsConstructor
 @Component
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final UserCache userCache;
 
     @Transactional
     public User register(String loginId, String password, String name, String birthDate, String email) {
-        if (userRepository.existsByLoginId(loginId)) {
+        User user = new User(loginId, password, name, birthDate, email, passwordHasher);
+        // 중복 여부는 login_id 유니크 제약으로 판단한다. (사전 조회 없이 insert 1회)
+        try {
+            return userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
             throw new CoreException(ErrorType.CONFLICT, "이미 사용 중인 로그인 ID입니다.");
         }
-        User user = new User(loginId, password, name, birthDate, email);
-        return userRepository.save(user);
     }
 
-    @Transactional(readOnly = true)
-    public User getUserByLoginId(String loginId) {
-        return userRepository.findByLoginId(loginId)
+    /**
+     * 캐시된 불변 사본을 반환한다. 엔티티가 필요하면 저장소에서 조회한다.
+     */
+    public UserSnapshot getUserByLoginId(String loginId) {
+        return userCache.get(loginId, this::load)
             .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND, "[loginId = " + loginId + "] 사용자를 찾을 수 없습니다."));
     }
 
-    @Transactional(readOnly = true)
-    public User authenticate(String loginId, String password) {
-        User user = userRepository.findByLoginId(loginId)
+    /**
+     * 비밀번호 검증은 해시 워커를 기다리는 동안 커넥션을 붙잡지 않도록 트랜잭션 밖에서 수행한다.
+     */
+    public UserSnapshot authenticate(String loginId, String password) {
+        UserSnapshot user = userCache.get(loginId, this::load)
             .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND, "존재하지 않는 사용자입니다."));
-
-        if (!user.matchPassword(password)) {
-            throw new CoreException(ErrorType.PASSWORD_MISMATCH, "비밀번호가 일치하지 않습니다.");
+        if (!user.matchPassword(password, passwordHasher)) {
+            throw passwordMismatch();
         }
         return user;
     }
 
     @Transactional
     public void changePassword(String loginId, String currentPassword, String newPassword) {
-        User user = authenticate(loginId, currentPassword);
-        user.changePassword(newPassword);
+        // 변경 감지가 필요하므로 캐시가 아닌 저장소에서 조회한다.
+        User user = userRepository.findByLoginId(loginId)
+            .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND, "존재하지 않는 사용자입니다."));
+        verifyPassword(user, currentPassword);
+        user.changePassword(newPassword, passwordHasher);
+        userCache.evict(loginId);
+    }
+
+    private Optional<UserSnapshot> load(String loginId) {
+        return userRepository.findByLoginId(loginId).map(UserSnapshot::from);
+    }
+
+    private void verifyPassword(User user, String password) {
+        if (!user.matchPassword(password, passwordHasher)) {
+            throw passwordMismatch();
+        }
+    }
+
+    private CoreException passwordMismatch() {
+        return new CoreException(ErrorType.PASSWORD_MISMATCH, "비밀번호가 일치하지 않습니다.");
     }
 }
@@ -0,0 +1,38 @@
+package com.loopers.domain.user;
+
+/**
+ * 캐시에 보관하는 사용자의 불변 사본.
+ * 영속성 컨텍스트와 무관하므로 여러 요청이 공유해도 안전하다. 변경이 필요하면 저장소에서 User 를 다시 조회한다.
+ *
+ * @param passwordHash 인코딩된 비밀번호. 로그에 남지 않도록 toString 에서 제외한다.
+ */
+public record UserSnapshot(
+    Long id,
+    String loginId,
+    String passwordHash,
+    String name,
+    String maskedName,
+    String birthDate,
+    String email
+) {
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+            user.getId(),
+            user.getLoginId(),
+            user.getPassword(),
+            user.getName(),
+            user.getMaskedName(),
+            user.getBirthDate(),
+            user.getEmail()
+        );
+    }
+
+    public boolean matchPassword(String rawPassword, PasswordHasher passwordHasher) {
+        return passwordHasher.matches(rawPassword, passwordHash);
+    }
+
+    @Override
+    public String toString() {
+        return "UserSnapshot[id=" + id + ", loginId=" + loginId + "]";
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.infrastructure.brand;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 브랜드 스냅샷 설정.
+ *
+ * @param maxStaleness 변경 알림을 놓친 경우를 대비한 최대 보관 시간. 지나면 다음 조회 때 다시 적재한다.
+ * @param refreshChannel 인스턴스 간 갱신 알림 Redis 채널
+ */
+@ConfigurationProperties(value = "brand.catalog")
+public record BrandCatalogProperties(
+    Duration maxStaleness,
+    String refreshChannel
+) {
+    public BrandCatalogProperties {
+        if (maxStaleness == null) {
+            maxStaleness = Duration.ofMinutes(5);
+        }
+        if (refreshChannel == null || refreshChannel.isBlank()) {
+            refreshChannel = "brand-catalog:refresh";
+        }
+    }
+}
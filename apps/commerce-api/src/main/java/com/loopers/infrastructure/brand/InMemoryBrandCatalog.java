@@ -0,0 +1,170 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandCatalog;
+import com.loopers.domain.brand.BrandRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 불변 스냅샷(id 오름차순 배열 + id 인덱스 맵)을 AtomicReference 로 교체하는 브랜드 카탈로그.
+ *
+ * - 조회는 스냅샷만 읽으므로 DB 에 접근하지 않는다.
+ * - 스냅샷에 없는 id 는 다른 인스턴스에서 방금 생성된 브랜드일 수 있어 DB 에서 한 번 확인하고, 있으면 다시 적재한다.
+ * - 변경 알림은 Redis pub/sub 으로 전파하며, 놓친 경우에도 maxStaleness 이후 다시 적재된다.
+ * - 적재는 한 번에 하나씩만 실행한다. 잠금을 기다린 호출은 그 사이 적재된 스냅샷으로 충분하면(만료 전이거나,
+ *   갱신 요청 이후에 읽기 시작한 스냅샷) 다시 읽지 않으므로, 동시에 만료를 본 요청이나 겹친 갱신 알림의 DB 조회가 합쳐진다.
+ */
+@Slf4j
+@Component
+public class InMemoryBrandCatalog implements BrandCatalog, MessageListener {
+
+    private final BrandRepository brandRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BrandCatalogProperties properties;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public InMemoryBrandCatalog(
+        BrandRepository brandRepository,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        BrandCatalogProperties properties
+    ) {
+        this.brandRepository = brandRepository;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.refreshChannel()));
+    }
+
+    @Override
+    public Optional<Brand> findActive(Long id) {
+        Brand brand = current().byId().get(id);
+        if (brand != null) {
+            return Optional.of(brand);
+        }
+        long requestedAt = System.nanoTime();
+        Optional<Brand> fallback = brandRepository.findByIdActive(id);
+        if (fallback.isPresent()) {
+            reload(requestedAt);
+        }
+        return fallback;
+    }
+
+    @Override
+    public List<Brand> findAllActive() {
+        return List.of(current().brands());
+    }
+
+    @Override
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadAndPublish();
+                }
+            });
+            return;
+        }
+        reloadAndPublish();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reload(System.nanoTime());
+    }
+
+    /**
+     * 스냅샷을 비운다. 다음 조회 때 다시 적재된다. (테스트 격리용)
+     */
+    public void clear() {
+        snapshot.set(null);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (isFresh(current)) {
+            return current;
+        }
+        return reload(this::isFresh);
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null && !current.isOlderThan(System.currentTimeMillis() - properties.maxStaleness().toMillis());
+    }
+
+    /**
+     * @param requestedAt 다시 읽어야 한다고 판단한 시각(System.nanoTime). 이 이후에 읽기 시작한 스냅샷이면 다시 읽지 않는다.
+     */
+    private Snapshot reload(long requestedAt) {
+        return reload(current -> current != null && current.readStartedAt() > requestedAt);
+    }
+
+    /**
+     * @param upToDate 잠금을 얻은 뒤 현재 스냅샷을 그대로 써도 되는지
+     */
+    private Snapshot reload(Predicate<Snapshot> upToDate) {
+        // DB 조회 동안 잠금을 쥐므로 synchronized 대신 ReentrantLock 을 쓴다. (가상 스레드가 carrier 에 고정되지 않도록)
+        reloadLock.lock();
+        try {
+            Snapshot current = snapshot.get();
+            if (upToDate.test(current)) {
+                return current;
+            }
+            long readStartedAt = System.nanoTime();
+            Brand[] brands = brandRepository.findAllActive().stream()
+                .sorted(Comparator.comparing(Brand::getId))
+                .toArray(Brand[]::new);
+            Snapshot loaded = new Snapshot(
+                brands,
+                Arrays.stream(brands).collect(Collectors.toUnmodifiableMap(Brand::getId, Function.identity())),
+                System.currentTimeMillis(),
+                readStartedAt
+            );
+            snapshot.set(loaded);
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void reloadAndPublish() {
+        reload(System.nanoTime());
+        try {
+            redisTemplate.convertAndSend(properties.refreshChannel(), "refresh");
+        } catch (RuntimeException e) {
+            log.warn("브랜드 스냅샷 갱신 알림 전파 실패", e);
+        }
+    }
+
+    /**
+     * @param loadedAt 적재를 마친 시각(epoch millis). maxStaleness 판단에 쓴다.
+     * @param readStartedAt DB 조회를 시작한 시각(System.nanoTime). 이 시각 이전에 커밋된 변경은 모두 반영되어 있다.
+     */
+    private record Snapshot(Brand[] brands, Map<Long, Brand> byId, long loadedAt, long readStartedAt) {
+        boolean isOlderThan(long threshold) {
+            return loadedAt < threshold;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.like;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 좋아요 상품 캐시 설정.
+ *
+ * @param ttl 적재 후 만료 시간. 적재와 좋아요 변경이 겹쳐 어긋난 경우의 최대 지연이기도 하다.
+ * @param maxSize 사용자 한 명당 적재할 최대 좋아요 수. 넘으면 적재하지 않고 저장소에서 조회한다.
+ * @param tooLargeTtl maxSize 를 넘은 사용자의 적재를 다시 시도하지 않는 시간. 그동안은 적재용 전체 조회를 하지 않는다.
+ */
+@ConfigurationProperties(value = "like.liked-product-cache")
+public record LikedProductCacheProperties(
+    Duration ttl,
+    Integer maxSize,
+    Duration tooLargeTtl
+) {
+    public LikedProductCacheProperties {
+        if (ttl == null) {
+            ttl = Duration.ofMinutes(30);
+        }
+        if (maxSize == null || maxSize <= 0) {
+            maxSize = 5_000;
+        }
+        if (tooLargeTtl == null) {
+            tooLargeTtl = Duration.ofMinutes(1);
+        }
+    }
+}
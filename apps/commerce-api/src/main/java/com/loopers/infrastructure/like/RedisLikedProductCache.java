@@ -0,0 +1,228 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikedProductCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ * 사용자별 좋아요 상품 ID 를 Redis Set 으로 캐시한다.
+ *
+ * 키 like:user:{userId}:products 에 좋아요한 상품 ID 와 적재 표식 "0" 을 함께 담는다.
+ * 좋아요가 없는 사용자도 표식만 담긴 Set 으로 적재되므로, 키가 없으면 미적재로 판단한다.
+ * 조회는 SMISMEMBER 한 번으로 표식과 상품 ID 들을 함께 확인한다.
+ *
+ * 적재는 요청 스레드를 막지 않도록 가상 스레드에서 하고, 같은 사용자의 적재는 인스턴스 안에서 하나만 진행한다.
+ * 좋아요/취소는 이미 적재된 Set 에만 반영하고, 사용자별 세대 키 like:user:{userId}:products:generation 를 올린다.
+ * 적재는 조회 전에 읽은 세대가 그대로일 때만 Set 을 쓰므로, 적재 도중 커밋된 변경을 이전 스냅샷으로 덮지 않는다.
+ * (세대가 바뀌어 버린 적재는 다음 조회에서 다시 시도한다)
+ *
+ * 좋아요가 maxSize 를 넘는 사용자는 적재하지 않고, like:user:{userId}:products:too-large 표식을 tooLargeTtl 동안 남겨
+ * 그동안은 매 요청마다 전체를 다시 조회하지 않는다.
+ * 복제 지연으로 방금 누른 좋아요가 빠져 보이지 않도록 읽기/쓰기 모두 master 를 사용한다.
+ */
+@Slf4j
+@Component
+public class RedisLikedProductCache implements LikedProductCache {
+
+    private static final String KEY_PREFIX = "like:user:";
+    private static final String KEY_SUFFIX = ":products";
+    private static final String GENERATION_SUFFIX = ":generation";
+    private static final String TOO_LARGE_SUFFIX = ":too-large";
+    private static final String WARM_MARKER = "0";
+    private static final String NO_GENERATION = "";
+    // KEYS: Set, 세대 / ARGV: SADD|SREM, 상품 ID, 세대 ttl(초)
+    private static final RedisScript<Long> UPDATE_IF_WARM = RedisScript.of("""
+        redis.call('INCR', KEYS[2])
+        redis.call('EXPIRE', KEYS[2], ARGV[3])
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call(ARGV[1], KEYS[1], ARGV[2])
+        end
+        return -1
+        """, Long.class);
+    // KEYS: Set, 세대 / ARGV: 적재 전에 읽은 세대, Set ttl(초), 멤버...
+    // 다른 요청이 일부만 담긴 Set 을 보지 않도록 지우고 채우는 과정을 스크립트 하나로 한다.
+    private static final RedisScript<Long> WRITE_IF_UNCHANGED = RedisScript.of("""
+        local generation = redis.call('GET', KEYS[2]) or ''
+        if generation ~= ARGV[1] then
+            return 0
+        end
+        redis.call('DEL', KEYS[1])
+        for i = 3, #ARGV, 1000 do
+            redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+        end
+        redis.call('EXPIRE', KEYS[1], ARGV[2])
+        return 1
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LikedProductCacheProperties properties;
+    private final Set<Long> warming = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("liked-product-cache-", 0).factory()
+    );
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RedisLikedProductCache(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        LikedProductCacheProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.hitCounter = Counter.builder("like.liked-product.cache")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("like.liked-product.cache")
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Set<Long>> findLikedAmong(Long userId, List<Long> productIds) {
+        Object[] members = new Object[productIds.size() + 1];
+        members[0] = WARM_MARKER;
+        for (int i = 0; i < productIds.size(); i++) {
+            members[i + 1] = String.valueOf(productIds.get(i));
+        }
+
+        Map<Object, Boolean> memberships;
+        try {
+            memberships = redisTemplate.opsForSet().isMember(key(userId), members);
+        } catch (DataAccessException e) {
+            log.warn("좋아요 상품 캐시 조회 실패 - userId: {}", userId, e);
+            missCounter.increment();
+            return Optional.empty();
+        }
+        if (memberships == null || !Boolean.TRUE.equals(memberships.get(WARM_MARKER))) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        Set<Long> liked = new HashSet<>();
+        for (Long productId : productIds) {
+            if (Boolean.TRUE.equals(memberships.get(String.valueOf(productId)))) {
+                liked.add(productId);
+            }
+        }
+        return Optional.of(liked);
+    }
+
+    @Override
+    public void warm(Long userId, IntFunction<List<Long>> loader) {
+        if (!warming.add(userId)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                if (Boolean.TRUE.equals(redisTemplate.hasKey(tooLargeKey(userId)))) {
+                    return;
+                }
+                String generation = Objects.requireNonNullElse(
+                    redisTemplate.opsForValue().get(generationKey(userId)), NO_GENERATION
+                );
+                List<Long> productIds = loader.apply(properties.maxSize() + 1);
+                if (productIds.size() > properties.maxSize()) {
+                    redisTemplate.opsForValue().set(tooLargeKey(userId), WARM_MARKER, properties.tooLargeTtl());
+                    return;
+                }
+                write(userId, generation, productIds);
+            } catch (RuntimeException e) {
+                log.warn("좋아요 상품 캐시 적재 실패 - userId: {}", userId, e);
+            } finally {
+                warming.remove(userId);
+            }
+        });
+    }
+
+    @Override
+    public void added(Long userId, Long productId) {
+        afterCommit(() -> updateIfWarm("SADD", userId, productId));
+    }
+
+    @Override
+    public void removed(Long userId, Long productId) {
+        afterCommit(() -> updateIfWarm("SREM", userId, productId));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void write(Long userId, String generation, List<Long> productIds) {
+        List<String> args = new ArrayList<>(productIds.size() + 3);
+        args.add(generation);
+        args.add(String.valueOf(properties.ttl().toSeconds()));
+        args.add(WARM_MARKER);
+        productIds.forEach(productId -> args.add(String.valueOf(productId)));
+
+        Long written = redisTemplate.execute(
+            WRITE_IF_UNCHANGED, List.of(key(userId), generationKey(userId)), args.toArray()
+        );
+        if (!Long.valueOf(1).equals(written)) {
+            log.debug("좋아요 상품 캐시 적재 중 변경이 있어 적재하지 않음 - userId: {}", userId);
+        }
+    }
+
+    private void updateIfWarm(String command, Long userId, Long productId) {
+        try {
+            redisTemplate.execute(
+                UPDATE_IF_WARM,
+                List.of(key(userId), generationKey(userId)),
+                command, String.valueOf(productId), String.valueOf(properties.ttl().toSeconds())
+            );
+        } catch (DataAccessException e) {
+            // 반영에 실패한 Set 은 ttl 이후 만료되어 다시 적재된다.
+            log.warn("좋아요 상품 캐시 반영 실패 - userId: {}, productId: {}", userId, productId, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId + KEY_SUFFIX;
+    }
+
+    private static String generationKey(Long userId) {
+        return key(userId) + GENERATION_SUFFIX;
+    }
+
+    private static String tooLargeKey(Long userId) {
+        return key(userId) + TOO_LARGE_SUFFIX;
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.infrastructure.persistence.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 2차 캐시 인스턴스 간 무효화 설정.
+ *
+ * @param invalidationChannel 인스턴스 간 무효화 Redis 채널
+ */
+@ConfigurationProperties(value = "entity-cache")
+public record EntityCacheInvalidationProperties(
+    String invalidationChannel
+) {
+    public EntityCacheInvalidationProperties {
+        if (invalidationChannel == null || invalidationChannel.isBlank()) {
+            invalidationChannel = "entity-cache:invalidate";
+        }
+    }
+}
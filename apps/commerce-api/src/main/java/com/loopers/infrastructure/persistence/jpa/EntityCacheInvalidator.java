@@ -0,0 +1,103 @@
+package com.loopers.infrastructure.persistence.jpa;
+
+import com.loopers.config.redis.RedisConfig;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 2차 캐시 Redis pub/sub 무효화.
+ *
+ * 2차 캐시는 인스턴스마다 따로 있어서, 한 인스턴스의 변경(벌크 JPQL 포함)은 자기 region 만 비운다.
+ * 변경한 엔티티를 커밋 이후 "엔티티명:id,id,..." 로 발행하면, 각 인스턴스가 해당 항목을 제거한다.
+ * 무효화 메시지는 발행한 인스턴스에도 전달되지만, 제거는 멱등이므로 구분하지 않는다.
+ */
+@Slf4j
+@Component
+public class EntityCacheInvalidator implements MessageListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String channel;
+    private final Map<String, Class<?>> entityTypes;
+
+    public EntityCacheInvalidator(
+        EntityCacheInvalidationProperties properties,
+        EntityManagerFactory entityManagerFactory,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer listenerContainer
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+        this.channel = properties.invalidationChannel();
+        // 메시지의 엔티티명은 등록된 엔티티로만 해석한다.
+        this.entityTypes = entityManagerFactory.getMetamodel().getEntities().stream()
+            .collect(Collectors.toUnmodifiableMap(EntityType::getName, EntityType::getJavaType, (a, b) -> a));
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    /**
+     * 커밋 이후 다른 인스턴스의 2차 캐시에서 해당 엔티티를 제거하도록 전파한다.
+     * 트랜잭션이 없으면 바로 전파한다.
+     */
+    public void evict(Class<?> type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String payload = entityManagerFactory.getMetamodel().entity(type).getName() + ":"
+            + ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(payload);
+                }
+            });
+            return;
+        }
+        publish(payload);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.indexOf(':');
+        Class<?> type = separator < 0 ? null : entityTypes.get(payload.substring(0, separator));
+        if (type == null) {
+            log.warn("알 수 없는 2차 캐시 무효화 메시지 - payload: {}", payload);
+            return;
+        }
+        try {
+            for (String id : payload.substring(separator + 1).split(",")) {
+                entityManagerFactory.getCache().evict(type, Long.valueOf(id));
+            }
+        } catch (NumberFormatException e) {
+            // 해석할 수 없으면 해당 엔티티 region 전체를 비운다.
+            log.warn("2차 캐시 무효화 메시지 해석 실패 - payload: {}", payload, e);
+            entityManagerFactory.getCache().evict(type);
+        }
+    }
+
+    private void publish(String payload) {
+        try {
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 다른 인스턴스의 항목은 region ttl 이후 만료된다.
+            log.warn("2차 캐시 무효화 전파 실패 - payload: {}", payload, e);
+        }
+    }
+}
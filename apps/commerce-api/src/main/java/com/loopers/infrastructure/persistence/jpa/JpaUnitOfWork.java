@@ -0,0 +1,93 @@
+package com.loopers.infrastructure.persistence.jpa;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 트랜잭션 범위의 identity map.
+ *
+ * 도메인 객체는 JPA 엔티티와 분리되어 있어서, 저장 시점에 어떤 managed 엔티티를 갱신할지 알 수 없다.
+ * RepositoryImpl 이 조회한 엔티티를 (타입, ID) 로 등록해 두면, 같은 트랜잭션의 save 는
+ * 재조회나 merge 없이 그 엔티티에 값을 옮기고 변경 감지(dirty checking)로 UPDATE 한다.
+ *
+ * 트랜잭션이 없으면 등록하지 않는다. 트랜잭션이 끝나면 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaUnitOfWork {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 신규 엔티티를 저장하고 등록한다.
+     * BaseEntity 의 ID 가 0L 로 초기화되어 있어 JpaRepository.save 는 merge(= ID 0 SELECT 후 INSERT) 로 동작하므로 persist 를 직접 호출한다.
+     */
+    @Transactional
+    public <E extends BaseEntity> E persist(E entity) {
+        entityManager.persist(entity);
+        return register(entity);
+    }
+
+    /**
+     * 조회한 엔티티를 현재 트랜잭션에 등록한다.
+     */
+    public <E extends BaseEntity> E register(E entity) {
+        Map<Key, Object> entities = currentEntities(true);
+        if (entities != null && entity != null) {
+            entities.put(new Key(entity.getClass(), entity.getId()), entity);
+        }
+        return entity;
+    }
+
+    /**
+     * 현재 트랜잭션에서 조회/저장한 managed 엔티티를 찾는다.
+     * 벌크 연산 등으로 영속성 컨텍스트에서 분리된 엔티티는 반환하지 않는다.
+     */
+    public <E extends BaseEntity> Optional<E> find(Class<E> type, Long id) {
+        Map<Key, Object> entities = currentEntities(false);
+        if (entities == null || id == null) {
+            return Optional.empty();
+        }
+        Key key = new Key(type, id);
+        Object entity = entities.get(key);
+        if (entity == null) {
+            return Optional.empty();
+        }
+        if (!entityManager.contains(entity)) {
+            entities.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(type.cast(entity));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, Object> currentEntities(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<Key, Object> entities = (Map<Key, Object>) TransactionSynchronizationManager.getResource(this);
+        if (entities == null && create) {
+            entities = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, entities);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(JpaUnitOfWork.this);
+                }
+            });
+        }
+        return entities;
+    }
+
+    private record Key(Class<?> type, Long id) {
+    }
+}
@@ -1,15 +1,21 @@
 package com.loopers.infrastructure.persistence.jpa.brand;
 
 import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 브랜드 JPA 엔티티.
  * Infrastructure Layer에 위치하며 영속성을 담당.
+ * 2차 캐시 대상 (nonstrict-read-write). 드물게 바뀌므로 갱신 시 캐시를 잠그지 않고 무효화만 한다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "brand")
 @Table(name = "brands")
 public class BrandJpaEntity extends BaseEntity {
 
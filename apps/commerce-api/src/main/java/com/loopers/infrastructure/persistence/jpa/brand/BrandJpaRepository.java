@@ -1,7 +1,14 @@
 package com.loopers.infrastructure.persistence.jpa.brand;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,11 +18,30 @@ import java.util.Optional;
  */
 public interface BrandJpaRepository extends JpaRepository<BrandJpaEntity, Long> {
 
-    Optional<BrandJpaEntity> findByIdAndDeletedAtIsNull(Long id);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BrandJpaEntity b WHERE b.id = :id AND b.deletedAt IS NULL")
+    Optional<BrandJpaEntity> findByIdWithLock(@Param("id") Long id);
 
     boolean existsByName(String name);
 
     boolean existsByNameAndIdNot(String name, Long id);
 
     List<BrandJpaEntity> findAllByDeletedAtIsNull();
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE BrandJpaEntity b
+        SET b.name = :name, b.description = :description, b.logoUrl = :logoUrl, b.updatedAt = :updatedAt,
+            b.deletedAt = COALESCE(b.deletedAt, :deletedAt)
+        WHERE b.id = :id
+        """)
+    int updateById(
+        @Param("id") Long id,
+        @Param("name") String name,
+        @Param("description") String description,
+        @Param("logoUrl") String logoUrl,
+        @Param("updatedAt") ZonedDateTime updatedAt,
+        @Param("deletedAt") ZonedDateTime deletedAt
+    );
 }
\ No newline at end of file
@@ -2,9 +2,12 @@ package com.loopers.infrastructure.persistence.jpa.brand;
 
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandRepository;
+import com.loopers.infrastructure.persistence.jpa.EntityCacheInvalidator;
+import com.loopers.infrastructure.persistence.jpa.JpaUnitOfWork;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,40 +15,72 @@ import java.util.Optional;
  * BrandRepository 구현체.
  * JPA를 사용하여 Brand 도메인 객체를 영속화.
  * Domain ↔ JPA Entity 변환은 BrandMapper를 통해 수행.
+ * 단건 조회한 엔티티는 JpaUnitOfWork 에 등록되어, 같은 트랜잭션의 save 가 재조회 없이 갱신한다.
+ * 수정/삭제한 엔티티는 EntityCacheInvalidator 로 다른 인스턴스의 2차 캐시에서도 제거한다.
  */
 @Repository
 @RequiredArgsConstructor
 public class BrandRepositoryImpl implements BrandRepository {
 
     private final BrandJpaRepository jpaRepository;
+    private final JpaUnitOfWork unitOfWork;
+    private final EntityCacheInvalidator cacheInvalidator;
 
     @Override
     public Brand save(Brand brand) {
-        BrandJpaEntity entity;
-
         if (brand.getId() == null) {
             // 신규 생성
-            entity = BrandMapper.toJpaEntity(brand);
-        } else {
-            // 기존 엔티티 업데이트
-            entity = jpaRepository.findById(brand.getId())
-                .orElseGet(() -> BrandMapper.toJpaEntity(brand));
-            BrandMapper.updateJpaEntity(entity, brand);
+            BrandJpaEntity saved = unitOfWork.persist(BrandMapper.toJpaEntity(brand));
+            return BrandMapper.toDomain(saved);
         }
 
-        BrandJpaEntity saved = jpaRepository.save(entity);
-        return BrandMapper.toDomain(saved);
+        // 다른 인스턴스의 2차 캐시에 남은 이전 상태는 커밋 이후 무효화 메시지로 제거한다.
+        cacheInvalidator.evict(BrandJpaEntity.class, List.of(brand.getId()));
+
+        // 같은 트랜잭션에서 조회한 엔티티면 값만 옮긴다. (커밋 시 변경 감지로 UPDATE)
+        Optional<BrandJpaEntity> managed = unitOfWork.find(BrandJpaEntity.class, brand.getId());
+        if (managed.isPresent()) {
+            BrandMapper.updateJpaEntity(managed.get(), brand);
+            return BrandMapper.toDomain(managed.get());
+        }
+
+        // 트랜잭션 밖에서 조회된 도메인 객체는 재조회 없이 컬럼을 직접 UPDATE 한다.
+        int updated = jpaRepository.updateById(
+            brand.getId(),
+            brand.getName(),
+            brand.getDescription(),
+            brand.getLogoUrl(),
+            ZonedDateTime.now(),
+            brand.getDeletedAt()
+        );
+        if (updated == 0) {
+            BrandJpaEntity saved = unitOfWork.persist(BrandMapper.toJpaEntity(brand));
+            return BrandMapper.toDomain(saved);
+        }
+        return brand;
     }
 
     @Override
     public Optional<Brand> findById(Long id) {
         return jpaRepository.findById(id)
+            .map(unitOfWork::register)
             .map(BrandMapper::toDomain);
     }
 
     @Override
     public Optional<Brand> findByIdActive(Long id) {
-        return jpaRepository.findByIdAndDeletedAtIsNull(id)
+        // 쿼리 대신 PK 조회를 써야 2차 캐시를 거친다.
+        return jpaRepository.findById(id)
+            .filter(entity -> entity.getDeletedAt() == null)
+            .map(unitOfWork::register)
+            .map(BrandMapper::toDomain);
+    }
+
+    @Override
+    public Optional<Brand> findByIdWithLock(Long id) {
+        // 잠금 쿼리는 2차 캐시를 거치지 않으므로 다른 인스턴스의 변경(삭제 포함)을 놓치지 않는다.
+        return jpaRepository.findByIdWithLock(id)
+            .map(unitOfWork::register)
             .map(BrandMapper::toDomain);
     }
 
@@ -1,5 +1,6 @@
 package com.loopers.infrastructure.persistence.jpa.like;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,4 +24,14 @@ public interface LikeJpaRepository extends JpaRepository<LikeJpaEntity, Long> {
            "WHERE l.productId IN :productIds " +
            "GROUP BY l.productId")
     List<Object[]> countByProductIdIn(@Param("productIds") List<Long> productIds);
+
+    @Query("SELECT l.productId FROM LikeJpaEntity l " +
+           "WHERE l.userId = :userId AND l.productId IN :productIds")
+    List<Long> findProductIdsByUserIdAndProductIdIn(
+        @Param("userId") Long userId,
+        @Param("productIds") List<Long> productIds
+    );
+
+    @Query("SELECT l.productId FROM LikeJpaEntity l WHERE l.userId = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
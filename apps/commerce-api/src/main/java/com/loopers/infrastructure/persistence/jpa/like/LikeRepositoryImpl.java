@@ -3,12 +3,14 @@ package com.loopers.infrastructure.persistence.jpa.like;
 import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * LikeRepository 구현체.
@@ -66,4 +68,17 @@ public class LikeRepositoryImpl implements LikeRepository {
 
         return countMap;
     }
+
+    @Override
+    public Set<Long> findLikedProductIds(Long userId, List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(jpaRepository.findProductIdsByUserIdAndProductIdIn(userId, productIds));
+    }
+
+    @Override
+    public List<Long> findProductIdsByUserId(Long userId, int limit) {
+        return jpaRepository.findProductIdsByUserId(userId, PageRequest.of(0, limit));
+    }
 }
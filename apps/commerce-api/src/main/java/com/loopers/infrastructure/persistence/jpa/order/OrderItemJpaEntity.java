@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -15,7 +16,10 @@ import jakarta.persistence.Table;
  * Infrastructure Layer에 위치하며 영속성을 담당.
  */
 @Entity
-@Table(name = "order_items")
+@Table(
+    name = "order_items",
+    indexes = @Index(name = "idx_order_items_order_id", columnList = "order_id")
+)
 public class OrderItemJpaEntity {
 
     @Id
@@ -26,7 +26,8 @@ import java.util.List;
 @Table(
     name = "orders",
     indexes = {
-        @Index(name = "idx_orders_user_id", columnList = "user_id")
+        // 주문 목록 keyset 조회 (user_id = ? ORDER BY created_at DESC, id DESC). id 는 PK 라 인덱스에 포함된다.
+        @Index(name = "idx_orders_user_id_created_at", columnList = "user_id, created_at")
     }
 )
 public class OrderJpaEntity {
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,5 +24,6 @@ public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, Long>
 
     Page<OrderJpaEntity> findAllByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
-    long countByUserId(Long userId);
+    @Query("SELECT i FROM OrderItemJpaEntity i WHERE i.order.id IN :orderIds ORDER BY i.id")
+    List<OrderItemJpaEntity> findItemsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -14,7 +14,14 @@ public class OrderMapper {
     private OrderMapper() {}
 
     public static Order toDomain(OrderJpaEntity entity) {
-        List<OrderItem> items = entity.getItems().stream()
+        return toDomain(entity, entity.getItems());
+    }
+
+    /**
+     * 항목을 따로 조회한 경우 사용. (entity.getItems() 지연 로딩을 일으키지 않는다)
+     */
+    public static Order toDomain(OrderJpaEntity entity, List<OrderItemJpaEntity> itemEntities) {
+        List<OrderItem> items = itemEntities.stream()
             .map(OrderMapper::toOrderItemDomain)
             .toList();
 
@@ -6,7 +6,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * OrderRepository 구현체 (Adapter).
@@ -43,15 +45,22 @@ public class OrderRepositoryImpl implements OrderRepository {
     @Override
     public List<Order> findAllByUserId(Long userId, int offset, int limit) {
         int page = offset / limit;
-        return jpaRepository.findAllByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, limit))
-            .getContent()
-            .stream()
-            .map(OrderMapper::toDomain)
-            .toList();
+        List<OrderJpaEntity> orders = jpaRepository.findAllByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, limit))
+            .getContent();
+        return withItems(orders);
     }
 
-    @Override
-    public long countByUserId(Long userId) {
-        return jpaRepository.countByUserId(userId);
+    // 주문마다 items 를 지연 로딩하지 않고, 페이지의 주문 ID 로 항목을 한 번에 조회한다.
+    private List<Order> withItems(List<OrderJpaEntity> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        List<Long> orderIds = orders.stream().map(OrderJpaEntity::getId).toList();
+        Map<Long, List<OrderItemJpaEntity>> itemsByOrderId = jpaRepository.findItemsByOrderIdIn(orderIds).stream()
+            .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+
+        return orders.stream()
+            .map(order -> OrderMapper.toDomain(order, itemsByOrderId.getOrDefault(order.getId(), List.of())))
+            .toList();
     }
 }
@@ -0,0 +1,21 @@
+package com.loopers.infrastructure.persistence.jpa.order;
+
+import com.loopers.domain.order.OrderStatus;
+
+import java.time.ZonedDateTime;
+
+/**
+ * items(JSON) 컬럼을 뺀 주문 요약 조회 결과. 항목 없이 목록만 그릴 때 JSON 을 읽고 역직렬화하지 않는다.
+ */
+public record OrderSummaryHeader(
+    Long orderId,
+    Long userId,
+    Long totalPrice,
+    OrderStatus status,
+    int itemCount,
+    Long thumbnailProductId,
+    String thumbnailProductName,
+    String thumbnailImageUrl,
+    ZonedDateTime orderedAt
+) {
+}
@@ -0,0 +1,119 @@
+package com.loopers.infrastructure.persistence.jpa.order;
+
+import com.loopers.domain.order.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 주문 목록 읽기 모델 JPA 엔티티.
+ * 주문 1건 = 1행이며, 주문 항목은 items 컬럼에 JSON 으로 비정규화한다.
+ */
+@Entity
+@Table(
+    name = "order_summaries",
+    indexes = {
+        // 주문 목록 keyset 조회 (user_id = ? ORDER BY ordered_at DESC, order_id DESC). order_id 는 PK 라 인덱스에 포함된다.
+        @Index(name = "idx_order_summaries_user_id_ordered_at", columnList = "user_id, ordered_at")
+    }
+)
+public class OrderSummaryJpaEntity {
+
+    /**
+     * orders.id 를 그대로 사용한다. (생성 전략 없음)
+     */
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "total_price", nullable = false)
+    private Long totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Column(name = "thumbnail_product_id", nullable = false)
+    private Long thumbnailProductId;
+
+    @Column(name = "thumbnail_product_name", nullable = false)
+    private String thumbnailProductName;
+
+    @Column(name = "thumbnail_image_url", length = 500)
+    private String thumbnailImageUrl;
+
+    @Column(name = "items", nullable = false, columnDefinition = "json")
+    private String items;
+
+    @Column(name = "ordered_at", nullable = false)
+    private ZonedDateTime orderedAt;
+
+    protected OrderSummaryJpaEntity() {}
+
+    public OrderSummaryJpaEntity(Long orderId, Long userId, Long totalPrice, OrderStatus status, int itemCount,
+            Long thumbnailProductId, String thumbnailProductName, String thumbnailImageUrl,
+            String items, ZonedDateTime orderedAt) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.totalPrice = totalPrice;
+        this.status = status;
+        this.itemCount = itemCount;
+        this.thumbnailProductId = thumbnailProductId;
+        this.thumbnailProductName = thumbnailProductName;
+        this.thumbnailImageUrl = thumbnailImageUrl;
+        this.items = items;
+        this.orderedAt = orderedAt;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getTotalPrice() {
+        return totalPrice;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public Long getThumbnailProductId() {
+        return thumbnailProductId;
+    }
+
+    public String getThumbnailProductName() {
+        return thumbnailProductName;
+    }
+
+    public String getThumbnailImageUrl() {
+        return thumbnailImageUrl;
+    }
+
+    public String getItems() {
+        return items;
+    }
+
+    public ZonedDateTime getOrderedAt() {
+        return orderedAt;
+    }
+}
@@ -0,0 +1,56 @@
+package com.loopers.infrastructure.persistence.jpa.order;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * OrderSummary JPA Repository.
+ * Spring Data JPA 인터페이스.
+ */
+public interface OrderSummaryJpaRepository extends JpaRepository<OrderSummaryJpaEntity, Long> {
+
+    // items(JSON) 를 제외한 컬럼만 읽는다.
+    String HEADER_SELECT = """
+        SELECT new com.loopers.infrastructure.persistence.jpa.order.OrderSummaryHeader(
+            s.orderId, s.userId, s.totalPrice, s.status, s.itemCount,
+            s.thumbnailProductId, s.thumbnailProductName, s.thumbnailImageUrl, s.orderedAt
+        )
+        FROM OrderSummaryJpaEntity s
+        """;
+
+    @Query("SELECT s FROM OrderSummaryJpaEntity s WHERE s.userId = :userId ORDER BY s.orderedAt DESC, s.orderId DESC")
+    List<OrderSummaryJpaEntity> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+        SELECT s FROM OrderSummaryJpaEntity s
+        WHERE s.userId = :userId
+          AND (s.orderedAt < :orderedAt OR (s.orderedAt = :orderedAt AND s.orderId < :orderId))
+        ORDER BY s.orderedAt DESC, s.orderId DESC
+        """)
+    List<OrderSummaryJpaEntity> findPageByUserIdAfter(
+        @Param("userId") Long userId,
+        @Param("orderedAt") ZonedDateTime orderedAt,
+        @Param("orderId") Long orderId,
+        Limit limit
+    );
+
+    @Query(HEADER_SELECT + " WHERE s.userId = :userId ORDER BY s.orderedAt DESC, s.orderId DESC")
+    List<OrderSummaryHeader> findFirstHeaderPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query(HEADER_SELECT + """
+         WHERE s.userId = :userId
+          AND (s.orderedAt < :orderedAt OR (s.orderedAt = :orderedAt AND s.orderId < :orderId))
+        ORDER BY s.orderedAt DESC, s.orderId DESC
+        """)
+    List<OrderSummaryHeader> findHeaderPageByUserIdAfter(
+        @Param("userId") Long userId,
+        @Param("orderedAt") ZonedDateTime orderedAt,
+        @Param("orderId") Long orderId,
+        Limit limit
+    );
+}
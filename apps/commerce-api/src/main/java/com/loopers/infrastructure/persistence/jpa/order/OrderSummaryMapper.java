@@ -0,0 +1,62 @@
+package com.loopers.infrastructure.persistence.jpa.order;
+
+import com.loopers.domain.order.OrderSummary;
+
+import java.util.List;
+
+/**
+ * OrderSummary ↔ JPA Entity 변환 Mapper.
+ * 항목 JSON 직렬화는 Repository 구현체가 담당한다.
+ */
+public class OrderSummaryMapper {
+
+    private OrderSummaryMapper() {}
+
+    public static OrderSummary toDomain(OrderSummaryJpaEntity entity, List<OrderSummary.Item> items) {
+        return new OrderSummary(
+            entity.getOrderId(),
+            entity.getUserId(),
+            entity.getTotalPrice(),
+            entity.getStatus(),
+            entity.getItemCount(),
+            entity.getThumbnailProductId(),
+            entity.getThumbnailProductName(),
+            entity.getThumbnailImageUrl(),
+            items,
+            entity.getOrderedAt()
+        );
+    }
+
+    /**
+     * 항목 없이 조회한 요약. items 는 빈 목록이다.
+     */
+    public static OrderSummary toDomain(OrderSummaryHeader header) {
+        return new OrderSummary(
+            header.orderId(),
+            header.userId(),
+            header.totalPrice(),
+            header.status(),
+            header.itemCount(),
+            header.thumbnailProductId(),
+            header.thumbnailProductName(),
+            header.thumbnailImageUrl(),
+            List.of(),
+            header.orderedAt()
+        );
+    }
+
+    public static OrderSummaryJpaEntity toJpaEntity(OrderSummary summary, String itemsJson) {
+        return new OrderSummaryJpaEntity(
+            summary.orderId(),
+            summary.userId(),
+            summary.totalPrice(),
+            summary.status(),
+            summary.itemCount(),
+            summary.thumbnailProductId(),
+            summary.thumbnailProductName(),
+            summary.thumbnailImageUrl(),
+            itemsJson,
+            summary.orderedAt()
+        );
+    }
+}
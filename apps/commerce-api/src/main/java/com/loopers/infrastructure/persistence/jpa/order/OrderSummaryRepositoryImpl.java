@@ -0,0 +1,79 @@
+package com.loopers.infrastructure.persistence.jpa.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.order.OrderCursor;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.order.OrderSummaryRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * OrderSummaryRepository 구현체 (Adapter).
+ * 목록 조회는 (user_id, ordered_at) 인덱스 범위 읽기 1회로 끝난다.
+ */
+@Repository
+public class OrderSummaryRepositoryImpl implements OrderSummaryRepository {
+
+    private static final TypeReference<List<OrderSummary.Item>> ITEMS_TYPE = new TypeReference<>() {};
+
+    private final OrderSummaryJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public OrderSummaryRepositoryImpl(OrderSummaryJpaRepository jpaRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional
+    public OrderSummary save(OrderSummary summary) {
+        // order_id 를 직접 지정하므로 save() 는 merge(SELECT + INSERT) 가 된다. 주문당 한 번만 만들어지므로 바로 persist 한다.
+        entityManager.persist(OrderSummaryMapper.toJpaEntity(summary, writeItems(summary.items())));
+        return summary;
+    }
+
+    @Override
+    public List<OrderSummary> findAllByUserIdAfter(Long userId, OrderCursor cursor, int limit, boolean withItems) {
+        if (!withItems) {
+            List<OrderSummaryHeader> headers = cursor == null
+                ? jpaRepository.findFirstHeaderPageByUserId(userId, Limit.of(limit))
+                : jpaRepository.findHeaderPageByUserIdAfter(userId, cursor.createdAt(), cursor.id(), Limit.of(limit));
+            return headers.stream()
+                .map(OrderSummaryMapper::toDomain)
+                .toList();
+        }
+
+        List<OrderSummaryJpaEntity> summaries = cursor == null
+            ? jpaRepository.findFirstPageByUserId(userId, Limit.of(limit))
+            : jpaRepository.findPageByUserIdAfter(userId, cursor.createdAt(), cursor.id(), Limit.of(limit));
+        return summaries.stream()
+            .map(entity -> OrderSummaryMapper.toDomain(entity, readItems(entity.getItems())))
+            .toList();
+    }
+
+    private String writeItems(List<OrderSummary.Item> items) {
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 요약 항목 직렬화에 실패했습니다.");
+        }
+    }
+
+    private List<OrderSummary.Item> readItems(String json) {
+        try {
+            return objectMapper.readValue(json, ITEMS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 요약 항목 역직렬화에 실패했습니다.");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.loopers.infrastructure.persistence.jpa.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 사용자별 주문 수 카운터 JPA 엔티티.
+ * 스키마 정의용이며, 증가/조회는 UserOrderCounterRepositoryImpl 이 upsert SQL 로 직접 수행한다.
+ * 원본은 orders 테이블이고, 어긋난 값은 commerce-batch 의 userOrderCounterRepairJob 이 보정한다.
+ */
+@Entity
+@Table(name = "user_order_counters")
+public class UserOrderCounterJpaEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+
+    protected UserOrderCounterJpaEntity() {}
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public ZonedDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,40 @@
+package com.loopers.infrastructure.persistence.jpa.order;
+
+import com.loopers.domain.order.UserOrderCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * UserOrderCounterRepository 구현체 (Adapter).
+ *
+ * 증가는 PK upsert 1회로, 처음 주문한 사용자의 행 생성과 동시 증가를 모두 원자적으로 처리한다.
+ * 행 잠금은 해당 사용자의 카운터 행에만 걸리므로 다른 사용자의 주문과 경합하지 않는다.
+ * JdbcTemplate 은 JPA 트랜잭션의 커넥션을 그대로 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserOrderCounterRepositoryImpl implements UserOrderCounterRepository {
+
+    private static final String INCREMENT_SQL = """
+        INSERT INTO user_order_counters (user_id, order_count, updated_at)
+        VALUES (?, 1, UTC_TIMESTAMP(6))
+        ON DUPLICATE KEY UPDATE order_count = order_count + 1, updated_at = UTC_TIMESTAMP(6)
+        """;
+    private static final String SELECT_COUNT_SQL = "SELECT order_count FROM user_order_counters WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void increment(Long userId) {
+        jdbcTemplate.update(INCREMENT_SQL, userId);
+    }
+
+    @Override
+    public long getCount(Long userId) {
+        List<Long> counts = jdbcTemplate.queryForList(SELECT_COUNT_SQL, Long.class, userId);
+        return counts.isEmpty() ? 0L : counts.get(0);
+    }
+}
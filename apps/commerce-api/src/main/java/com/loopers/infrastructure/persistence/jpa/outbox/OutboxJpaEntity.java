@@ -0,0 +1,100 @@
+package com.loopers.infrastructure.persistence.jpa.outbox;
+
+import com.loopers.domain.outbox.OutboxAggregateType;
+import com.loopers.domain.outbox.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Outbox JPA 엔티티.
+ * Relay(commerce-streamer)는 JDBC 로 (status, id) 인덱스를 따라 PENDING 행을 읽는다.
+ */
+@Entity
+@Table(
+    name = "outbox",
+    indexes = {
+        @Index(name = "idx_outbox_status_id", columnList = "status, id")
+    }
+)
+public class OutboxJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 30)
+    private OutboxAggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 100)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private ZonedDateTime sentAt;
+
+    protected OutboxJpaEntity() {}
+
+    public OutboxJpaEntity(OutboxAggregateType aggregateType, String aggregateId, String eventType,
+            String payload, OutboxStatus status, ZonedDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxAggregateType getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public ZonedDateTime getSentAt() {
+        return sentAt;
+    }
+}
@@ -0,0 +1,6 @@
+package com.loopers.infrastructure.persistence.jpa.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxJpaRepository extends JpaRepository<OutboxJpaEntity, Long> {
+}
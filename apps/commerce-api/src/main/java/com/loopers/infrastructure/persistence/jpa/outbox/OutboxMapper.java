@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.persistence.jpa.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+
+/**
+ * OutboxEvent 도메인 객체와 JPA 엔티티 간 변환을 담당.
+ */
+public class OutboxMapper {
+
+    private OutboxMapper() {}
+
+    /**
+     * JPA 엔티티를 도메인 객체로 변환.
+     */
+    public static OutboxEvent toDomain(OutboxJpaEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return OutboxEvent.reconstitute(
+            entity.getId(),
+            entity.getAggregateType(),
+            entity.getAggregateId(),
+            entity.getEventType(),
+            entity.getPayload(),
+            entity.getStatus(),
+            entity.getCreatedAt()
+        );
+    }
+
+    /**
+     * 도메인 객체를 JPA 엔티티로 변환 (신규 저장용).
+     */
+    public static OutboxJpaEntity toJpaEntity(OutboxEvent domain) {
+        if (domain == null) {
+            return null;
+        }
+        return new OutboxJpaEntity(
+            domain.getAggregateType(),
+            domain.getAggregateId(),
+            domain.getEventType(),
+            domain.getPayload(),
+            domain.getStatus(),
+            domain.getCreatedAt()
+        );
+    }
+}
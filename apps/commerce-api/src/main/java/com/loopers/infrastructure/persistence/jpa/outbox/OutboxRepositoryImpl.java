@@ -0,0 +1,23 @@
+package com.loopers.infrastructure.persistence.jpa.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * OutboxRepository 구현체.
+ * Domain ↔ JPA Entity 변환은 OutboxMapper를 통해 수행.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+    private final OutboxJpaRepository jpaRepository;
+
+    @Override
+    public OutboxEvent save(OutboxEvent event) {
+        OutboxJpaEntity saved = jpaRepository.save(OutboxMapper.toJpaEntity(event));
+        return OutboxMapper.toDomain(saved);
+    }
+}
@@ -1,16 +1,26 @@
 package com.loopers.infrastructure.persistence.jpa.product;
 
 import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 상품 JPA 엔티티.
  * Infrastructure Layer에 위치하며 영속성을 담당.
+ * 2차 캐시 대상 (read-write). 재고 차감은 잠금 조회로 DB 를 직접 읽는다.
  */
 @Entity
-@Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
+@Table(
+    name = "products",
+    indexes = @Index(name = "idx_products_brand_id_deleted_at", columnList = "brand_id, deleted_at")
+)
 public class ProductJpaEntity extends BaseEntity {
 
     @Column(name = "brand_id", nullable = false)
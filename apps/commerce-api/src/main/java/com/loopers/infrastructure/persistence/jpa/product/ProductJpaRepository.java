@@ -5,9 +5,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,8 +20,6 @@ import java.util.Optional;
  */
 public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Long> {
 
-    Optional<ProductJpaEntity> findByIdAndDeletedAtIsNull(Long id);
-
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM ProductJpaEntity p WHERE p.id = :id AND p.deletedAt IS NULL")
     Optional<ProductJpaEntity> findByIdWithLock(@Param("id") Long id);
@@ -27,7 +28,46 @@ public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Lo
 
     Page<ProductJpaEntity> findAllByBrandIdAndDeletedAtIsNull(Long brandId, Pageable pageable);
 
-    List<ProductJpaEntity> findAllByBrandIdAndDeletedAtIsNull(Long brandId);
+    /**
+     * 다른 트랜잭션이 잠근 행은 건너뛰므로, 여러 인스턴스가 같은 브랜드를 동시에 삭제해도 청크가 겹치지 않는다.
+     */
+    @Query(
+        value = "SELECT id FROM products WHERE brand_id = :brandId AND deleted_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<Long> findActiveIdsByBrandIdForUpdate(@Param("brandId") Long brandId, @Param("limit") int limit);
+
+    @Query("""
+        SELECT DISTINCT p.brandId FROM ProductJpaEntity p
+        WHERE p.deletedAt IS NULL
+          AND EXISTS (SELECT b.id FROM BrandJpaEntity b WHERE b.id = p.brandId AND b.deletedAt IS NOT NULL)
+        """)
+    List<Long> findDeletedBrandIdsWithActiveProducts(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductJpaEntity p SET p.deletedAt = :deletedAt, p.updatedAt = :deletedAt WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    int softDeleteAllByIds(@Param("ids") List<Long> ids, @Param("deletedAt") ZonedDateTime deletedAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE ProductJpaEntity p
+        SET p.brandId = :brandId, p.name = :name, p.description = :description, p.price = :price,
+            p.stock = :stock, p.imageUrl = :imageUrl, p.updatedAt = :updatedAt,
+            p.deletedAt = COALESCE(p.deletedAt, :deletedAt)
+        WHERE p.id = :id
+        """)
+    int updateById(
+        @Param("id") Long id,
+        @Param("brandId") Long brandId,
+        @Param("name") String name,
+        @Param("description") String description,
+        @Param("price") Long price,
+        @Param("stock") Integer stock,
+        @Param("imageUrl") String imageUrl,
+        @Param("updatedAt") ZonedDateTime updatedAt,
+        @Param("deletedAt") ZonedDateTime deletedAt
+    );
 
     List<ProductJpaEntity> findAllByIdIn(List<Long> ids);
 
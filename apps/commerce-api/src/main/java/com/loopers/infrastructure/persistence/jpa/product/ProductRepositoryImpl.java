@@ -3,12 +3,17 @@ package com.loopers.infrastructure.persistence.jpa.product;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSort;
+import com.loopers.infrastructure.persistence.jpa.EntityCacheInvalidator;
+import com.loopers.infrastructure.persistence.jpa.JpaUnitOfWork;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,46 +21,97 @@ import java.util.Optional;
  * ProductRepository 구현체.
  * JPA를 사용하여 Product 도메인 객체를 영속화.
  * Domain ↔ JPA Entity 변환은 ProductMapper를 통해 수행.
+ * 단건 조회한 엔티티는 JpaUnitOfWork 에 등록되어, 같은 트랜잭션의 save 가 재조회 없이 갱신한다.
+ * 수정/삭제한 엔티티는 EntityCacheInvalidator 로 다른 인스턴스의 2차 캐시에서도 제거한다.
  */
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
 
+    private static final String INSERT_SQL = """
+        INSERT INTO products (brand_id, name, description, price, stock, image_url, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
     private final ProductJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JpaUnitOfWork unitOfWork;
+    private final EntityCacheInvalidator cacheInvalidator;
 
     @Override
     public Product save(Product product) {
-        ProductJpaEntity entity;
-
         if (product.getId() == null) {
             // 신규 생성
-            entity = ProductMapper.toJpaEntity(product);
-        } else {
-            // 기존 엔티티 업데이트
-            entity = jpaRepository.findById(product.getId())
-                .orElseGet(() -> ProductMapper.toJpaEntity(product));
-            ProductMapper.updateJpaEntity(entity, product);
+            ProductJpaEntity saved = unitOfWork.persist(ProductMapper.toJpaEntity(product));
+            return ProductMapper.toDomain(saved);
+        }
+
+        // 다른 인스턴스의 2차 캐시에 남은 이전 상태는 커밋 이후 무효화 메시지로 제거한다.
+        cacheInvalidator.evict(ProductJpaEntity.class, List.of(product.getId()));
+
+        // 같은 트랜잭션에서 조회한 엔티티면 값만 옮긴다. (커밋 시 변경 감지로 UPDATE)
+        Optional<ProductJpaEntity> managed = unitOfWork.find(ProductJpaEntity.class, product.getId());
+        if (managed.isPresent()) {
+            ProductMapper.updateJpaEntity(managed.get(), product);
+            return ProductMapper.toDomain(managed.get());
         }
 
-        ProductJpaEntity saved = jpaRepository.save(entity);
-        return ProductMapper.toDomain(saved);
+        // 트랜잭션 밖에서 조회된 도메인 객체는 재조회 없이 컬럼을 직접 UPDATE 한다.
+        int updated = jpaRepository.updateById(
+            product.getId(),
+            product.getBrandId(),
+            product.getName(),
+            product.getDescription(),
+            product.getPrice().amount(),
+            product.getStock().quantity(),
+            product.getImageUrl(),
+            ZonedDateTime.now(),
+            product.getDeletedAt()
+        );
+        if (updated == 0) {
+            ProductJpaEntity saved = unitOfWork.persist(ProductMapper.toJpaEntity(product));
+            return ProductMapper.toDomain(saved);
+        }
+        return product;
+    }
+
+    @Override
+    public int insertAll(List<Product> products) {
+        // rewriteBatchedStatements=true 로 multi-row INSERT 로 합쳐진다.
+        // 시각은 JPA 와 같이 UTC 로 저장한다. (hibernate.jdbc.time_zone: UTC)
+        jdbcTemplate.batchUpdate(INSERT_SQL, products, products.size(), (ps, product) -> {
+            ps.setLong(1, product.getBrandId());
+            ps.setString(2, product.getName());
+            ps.setString(3, product.getDescription());
+            ps.setLong(4, product.getPrice().amount());
+            ps.setInt(5, product.getStock().quantity());
+            ps.setString(6, product.getImageUrl());
+            ps.setObject(7, product.getCreatedAt().withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime());
+            ps.setObject(8, product.getUpdatedAt().withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime());
+        });
+        return products.size();
     }
 
     @Override
     public Optional<Product> findById(Long id) {
         return jpaRepository.findById(id)
+            .map(unitOfWork::register)
             .map(ProductMapper::toDomain);
     }
 
     @Override
     public Optional<Product> findByIdActive(Long id) {
-        return jpaRepository.findByIdAndDeletedAtIsNull(id)
+        // 쿼리 대신 PK 조회를 써야 2차 캐시를 거친다.
+        return jpaRepository.findById(id)
+            .filter(entity -> entity.getDeletedAt() == null)
+            .map(unitOfWork::register)
             .map(ProductMapper::toDomain);
     }
 
     @Override
     public Optional<Product> findByIdWithLock(Long id) {
         return jpaRepository.findByIdWithLock(id)
+            .map(unitOfWork::register)
             .map(ProductMapper::toDomain);
     }
 
@@ -76,10 +132,20 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public List<Product> findAllByBrandIdActive(Long brandId) {
-        return jpaRepository.findAllByBrandIdAndDeletedAtIsNull(brandId).stream()
-            .map(ProductMapper::toDomain)
-            .toList();
+    public List<Long> findActiveIdsByBrandId(Long brandId, int limit) {
+        return jpaRepository.findActiveIdsByBrandIdForUpdate(brandId, limit);
+    }
+
+    @Override
+    public List<Long> findDeletedBrandIdsWithActiveProducts(int limit) {
+        return jpaRepository.findDeletedBrandIdsWithActiveProducts(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int softDeleteAllByIds(List<Long> ids, ZonedDateTime deletedAt) {
+        int deleted = jpaRepository.softDeleteAllByIds(ids, deletedAt);
+        cacheInvalidator.evict(ProductJpaEntity.class, ids);
+        return deleted;
     }
 
     @Override
@@ -0,0 +1,96 @@
+package com.loopers.infrastructure.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.user.UserCache;
+import com.loopers.domain.user.UserSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Caffeine 로컬 캐시 + Redis pub/sub 무효화.
+ * 무효화 메시지는 발행한 인스턴스에도 전달되지만, 제거는 멱등이므로 구분하지 않는다.
+ */
+@Slf4j
+@Component
+public class CaffeineUserCache implements UserCache, MessageListener {
+
+    private final Cache<String, UserSnapshot> cache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String channel;
+
+    public CaffeineUserCache(
+        UserCacheProperties properties,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+        this.redisTemplate = redisTemplate;
+        this.channel = properties.invalidationChannel();
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user");
+    }
+
+    @Override
+    public Optional<UserSnapshot> get(String loginId, Function<String, Optional<UserSnapshot>> loader) {
+        return Optional.ofNullable(cache.get(loginId, key -> loader.apply(key).orElse(null)));
+    }
+
+    @Override
+    public void evict(String loginId) {
+        cache.invalidate(loginId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 이후에 한 번 더 제거하고 전파한다.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(loginId);
+                    publish(loginId);
+                }
+            });
+            return;
+        }
+        publish(loginId);
+    }
+
+    /**
+     * 로컬 캐시만 비운다. (테스트 격리용)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void publish(String loginId) {
+        try {
+            redisTemplate.convertAndSend(channel, loginId);
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 다른 인스턴스의 항목은 ttl 이후 만료된다.
+            log.warn("사용자 캐시 무효화 전파 실패 - loginId: {}", loginId, e);
+        }
+    }
+}
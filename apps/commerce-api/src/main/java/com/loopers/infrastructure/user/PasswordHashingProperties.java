@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.user;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 전용 워커 풀 설정.
+ *
+ * @param threads 워커 수 (기본: CPU 코어 수)
+ * @param queueCapacity 대기열 길이. 넘치면 429 로 즉시 거절한다. (기본: 워커 수 * 8)
+ * @param timeout 요청 스레드가 해시 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(value = "auth.password-hashing")
+public record PasswordHashingProperties(
+    Integer threads,
+    Integer queueCapacity,
+    Duration timeout
+) {
+    public PasswordHashingProperties {
+        if (threads == null || threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (queueCapacity == null || queueCapacity <= 0) {
+            queueCapacity = threads * 8;
+        }
+        if (timeout == null) {
+            timeout = Duration.ofSeconds(3);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.user;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 사용자 캐시 설정.
+ *
+ * @param maximumSize 최대 항목 수
+ * @param ttl 적재 후 만료 시간. 무효화 메시지를 놓친 경우의 최대 지연이기도 하다.
+ * @param invalidationChannel 인스턴스 간 무효화 Redis 채널
+ */
+@ConfigurationProperties(value = "user.cache")
+public record UserCacheProperties(
+    Long maximumSize,
+    Duration ttl,
+    String invalidationChannel
+) {
+    public UserCacheProperties {
+        if (maximumSize == null || maximumSize <= 0) {
+            maximumSize = 10_000L;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofMinutes(10);
+        }
+        if (invalidationChannel == null || invalidationChannel.isBlank()) {
+            invalidationChannel = "user-cache:invalidate";
+        }
+    }
+}
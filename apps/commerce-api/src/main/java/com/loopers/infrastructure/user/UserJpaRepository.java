@@ -7,5 +7,4 @@ import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<User, Long> {
     Optional<User> findByLoginId(String loginId);
-    boolean existsByLoginId(String loginId);
 }
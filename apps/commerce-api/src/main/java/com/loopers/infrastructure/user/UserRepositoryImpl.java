@@ -22,9 +22,4 @@ public class UserRepositoryImpl implements UserRepository {
     public Optional<User> findByLoginId(String loginId) {
         return userJpaRepository.findByLoginId(loginId);
     }
-
-    @Override
-    public boolean existsByLoginId(String loginId) {
-        return userJpaRepository.existsByLoginId(loginId);
-    }
 }
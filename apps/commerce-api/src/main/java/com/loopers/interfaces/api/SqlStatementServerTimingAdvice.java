@@ -0,0 +1,40 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.config.jpa.statement.SqlStatementReporter;
+import com.loopers.config.jpa.statement.SqlStatementScope;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전까지의 SQL 통계를 Server-Timing 헤더로 노출한다.
+ * ex) Server-Timing: db;dur=12.3;desc="5 statements, 42 rows"
+ */
+@RestControllerAdvice
+public class SqlStatementServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        SqlStatementScope scope = SqlStatementScope.current();
+        if (scope != null) {
+            response.getHeaders().add("Server-Timing", SqlStatementReporter.serverTiming(scope));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,50 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.config.jpa.statement.SqlStatementReporter;
+import com.loopers.config.jpa.statement.SqlStatementScope;
+import com.loopers.config.jpa.statement.SqlStatementStatsProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위로 SQL 실행 수 / 행 수 / DB 시간을 집계해 메트릭과 경고 로그로 내보낸다.
+ * Server-Timing 헤더는 응답 본문이 쓰이기 전에 {@link SqlStatementServerTimingAdvice} 가 붙인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+
+    private final SqlStatementReporter sqlStatementReporter;
+    private final SqlStatementStatsProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        if (!properties.enabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SqlStatementScope scope = SqlStatementScope.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            sqlStatementReporter.report("http", requestName(request), scope);
+        }
+    }
+
+    // 메트릭 태그로 쓰이므로 실제 경로가 아닌 URI 패턴을 사용한다.
+    private String requestName(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+    }
+}
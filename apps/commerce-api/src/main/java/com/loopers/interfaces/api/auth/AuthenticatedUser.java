@@ -1,4 +1,4 @@
 package com.loopers.interfaces.api.auth;
 
-public record AuthenticatedUser(String loginId, String password) {
+public record AuthenticatedUser(Long userId, String loginId) {
 }
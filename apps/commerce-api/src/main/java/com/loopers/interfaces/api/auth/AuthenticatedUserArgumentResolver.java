@@ -1,23 +1,44 @@
 package com.loopers.interfaces.api.auth;
 
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.support.auth.SessionToken;
+import com.loopers.support.auth.SessionTokenProvider;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import java.util.Optional;
+
+/**
+ * 인증 사용자 주입.
+ * 1. Authorization: Bearer {세션 토큰} - 서명/만료만 검증 (DB 조회, BCrypt 없음)
+ * 2. X-Loopers-LoginId / X-Loopers-LoginPw - 기존 클라이언트 호환용, 매 요청 BCrypt 검증
+ *
+ * 파라미터가 {@code Optional<AuthenticatedUser>} 이면 인증 헤더가 없을 때 Optional.empty() 를 주입한다.
+ * 헤더가 있는데 검증에 실패하면 필수 인증과 같이 예외가 발생한다.
+ */
+@RequiredArgsConstructor
 @Component
 public class AuthenticatedUserArgumentResolver implements HandlerMethodArgumentResolver {
 
     private static final String HEADER_LOGIN_ID = "X-Loopers-LoginId";
     private static final String HEADER_LOGIN_PW = "X-Loopers-LoginPw";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final SessionTokenProvider sessionTokenProvider;
+    private final UserFacade userFacade;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        return parameter.getParameterType().equals(AuthenticatedUser.class);
+        return parameter.nestedIfOptional().getNestedParameterType().equals(AuthenticatedUser.class);
     }
 
     @Override
@@ -27,6 +48,26 @@ public class AuthenticatedUserArgumentResolver implements HandlerMethodArgumentR
         NativeWebRequest webRequest,
         WebDataBinderFactory binderFactory
     ) {
+        if (parameter.getParameterType() == Optional.class) {
+            return hasCredentials(webRequest) ? Optional.of(authenticate(webRequest)) : Optional.empty();
+        }
+        return authenticate(webRequest);
+    }
+
+    private boolean hasCredentials(NativeWebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.AUTHORIZATION) != null
+            || webRequest.getHeader(HEADER_LOGIN_ID) != null
+            || webRequest.getHeader(HEADER_LOGIN_PW) != null;
+    }
+
+    private AuthenticatedUser authenticate(NativeWebRequest webRequest) {
+        String authorization = webRequest.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            SessionToken token = sessionTokenProvider.verify(authorization.substring(BEARER_PREFIX.length()).trim())
+                .orElseThrow(() -> new CoreException(ErrorType.UNAUTHORIZED, "유효하지 않거나 만료된 토큰입니다."));
+            return new AuthenticatedUser(token.userId(), token.loginId());
+        }
+
         String loginId = webRequest.getHeader(HEADER_LOGIN_ID);
         String password = webRequest.getHeader(HEADER_LOGIN_PW);
 
@@ -37,6 +78,7 @@ public class AuthenticatedUserArgumentResolver implements HandlerMethodArgumentR
             throw new CoreException(ErrorType.BAD_REQUEST, "X-Loopers-LoginPw 헤더가 필요합니다.");
         }
 
-        return new AuthenticatedUser(loginId, password);
+        UserInfo user = userFacade.authenticate(loginId, password);
+        return new AuthenticatedUser(user.id(), user.loginId());
     }
 }
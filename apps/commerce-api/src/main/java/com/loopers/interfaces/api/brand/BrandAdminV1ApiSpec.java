@@ -35,7 +35,13 @@ public interface BrandAdminV1ApiSpec {
 
     @Operation(
         summary = "브랜드 삭제",
-        description = "브랜드를 삭제합니다. (Soft Delete)"
+        description = "브랜드를 삭제합니다. (Soft Delete) 소속 상품은 백그라운드 작업으로 삭제되며, 응답의 jobId 로 진행 상황을 조회할 수 있습니다."
     )
-    ApiResponse<Object> deleteBrand(Long brandId);
+    ApiResponse<BrandV1Dto.BrandDeletionJobResponse> deleteBrand(Long brandId);
+
+    @Operation(
+        summary = "브랜드 상품 삭제 작업 조회",
+        description = "브랜드 삭제 후 진행 중인 상품 일괄 삭제 작업의 상태를 조회합니다."
+    )
+    ApiResponse<BrandV1Dto.BrandDeletionJobResponse> getDeletionJob(String jobId);
 }
@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.brand;
 
+import com.loopers.application.brand.BrandDeletionJobResult;
 import com.loopers.application.brand.BrandResult;
 import com.loopers.application.brand.BrandService;
 import com.loopers.interfaces.api.ApiResponse;
@@ -61,9 +62,17 @@ public class BrandAdminV1Controller implements BrandAdminV1ApiSpec {
     }
 
     @DeleteMapping("/{brandId}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
     @Override
-    public ApiResponse<Object> deleteBrand(@PathVariable Long brandId) {
-        brandService.delete(brandId);
-        return ApiResponse.success();
+    public ApiResponse<BrandV1Dto.BrandDeletionJobResponse> deleteBrand(@PathVariable Long brandId) {
+        BrandDeletionJobResult result = brandService.delete(brandId);
+        return ApiResponse.success(BrandV1Dto.BrandDeletionJobResponse.from(result));
+    }
+
+    @GetMapping("/deletions/{jobId}")
+    @Override
+    public ApiResponse<BrandV1Dto.BrandDeletionJobResponse> getDeletionJob(@PathVariable String jobId) {
+        BrandDeletionJobResult result = brandService.getDeletionJob(jobId);
+        return ApiResponse.success(BrandV1Dto.BrandDeletionJobResponse.from(result));
     }
 }
@@ -1,5 +1,7 @@
 package com.loopers.interfaces.api.brand;
 
+import com.loopers.application.brand.BrandDeletionJobResult;
+import com.loopers.application.brand.BrandDeletionJobStatus;
 import com.loopers.application.brand.BrandResult;
 import com.loopers.domain.brand.BrandInfo;
 import jakarta.validation.constraints.NotBlank;
@@ -60,4 +62,28 @@ public class BrandV1Dto {
             return new BrandInfo(name, description, logoUrl);
         }
     }
+
+    public record BrandDeletionJobResponse(
+        String jobId,
+        Long brandId,
+        BrandDeletionJobStatus status,
+        long totalProducts,
+        long deletedProducts,
+        ZonedDateTime requestedAt,
+        ZonedDateTime finishedAt,
+        String failureMessage
+    ) {
+        public static BrandDeletionJobResponse from(BrandDeletionJobResult result) {
+            return new BrandDeletionJobResponse(
+                result.jobId(),
+                result.brandId(),
+                result.status(),
+                result.totalProducts(),
+                result.deletedProducts(),
+                result.requestedAt(),
+                result.finishedAt(),
+                result.failureMessage()
+            );
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.loopers.interfaces.api.order;
+
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.auth.AuthenticatedUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Order V1 API", description = "주문 관련 API입니다.")
+public interface OrderV1ApiSpec {
+
+    @Operation(
+        summary = "주문 목록 조회",
+        description = "내 주문을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다. summary=true 면 주문 항목(items)을 제외합니다."
+    )
+    ApiResponse<OrderV1Dto.OrderHistoryResponse> getOrders(
+        @Parameter(hidden = true) AuthenticatedUser authenticatedUser,
+        @Parameter(description = "이전 응답의 nextCursor. 첫 페이지는 생략") String cursor,
+        @Parameter(description = "조회 개수 (1 ~ 100)") int size,
+        @Parameter(description = "주문 항목 제외 여부") boolean summary
+    );
+}
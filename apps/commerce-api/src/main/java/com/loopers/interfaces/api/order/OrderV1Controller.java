@@ -0,0 +1,31 @@
+package com.loopers.interfaces.api.order;
+
+import com.loopers.application.order.OrderApplicationService;
+import com.loopers.application.order.OrderHistoryResult;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.auth.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/orders")
+public class OrderV1Controller implements OrderV1ApiSpec {
+
+    private final OrderApplicationService orderApplicationService;
+
+    @GetMapping
+    @Override
+    public ApiResponse<OrderV1Dto.OrderHistoryResponse> getOrders(
+        AuthenticatedUser authenticatedUser,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "false") boolean summary
+    ) {
+        OrderHistoryResult result = orderApplicationService.getOrderHistory(authenticatedUser.userId(), cursor, size, summary);
+        return ApiResponse.success(OrderV1Dto.OrderHistoryResponse.from(result, summary));
+    }
+}
@@ -0,0 +1,67 @@
+package com.loopers.interfaces.api.order;
+
+import com.loopers.application.order.OrderHistoryResult;
+import com.loopers.application.order.OrderItemResult;
+import com.loopers.application.order.OrderResult;
+import com.loopers.domain.order.OrderStatus;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public class OrderV1Dto {
+
+    public record OrderHistoryResponse(
+        List<OrderResponse> orders,
+        String nextCursor,
+        boolean hasNext
+    ) {
+        public static OrderHistoryResponse from(OrderHistoryResult result, boolean summary) {
+            return new OrderHistoryResponse(
+                result.orders().stream()
+                    .map(order -> OrderResponse.from(order, summary))
+                    .toList(),
+                result.nextCursor(),
+                result.hasNext()
+            );
+        }
+    }
+
+    /**
+     * summary 조회면 items 는 null.
+     */
+    public record OrderResponse(
+        Long id,
+        Long totalPrice,
+        OrderStatus status,
+        ZonedDateTime createdAt,
+        List<OrderItemResponse> items
+    ) {
+        public static OrderResponse from(OrderResult result, boolean summary) {
+            return new OrderResponse(
+                result.id(),
+                result.totalPrice(),
+                result.status(),
+                result.createdAt(),
+                summary ? null : result.items().stream().map(OrderItemResponse::from).toList()
+            );
+        }
+    }
+
+    public record OrderItemResponse(
+        Long productId,
+        String productName,
+        int quantity,
+        Long priceSnapshot,
+        Long subtotal
+    ) {
+        public static OrderItemResponse from(OrderItemResult result) {
+            return new OrderItemResponse(
+                result.productId(),
+                result.productName(),
+                result.quantity(),
+                result.priceSnapshot(),
+                result.subtotal()
+            );
+        }
+    }
+}
@@ -6,6 +6,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.InputStream;
+
 @Tag(name = "Product Admin V1 API", description = "상품 관리 API입니다.")
 public interface ProductAdminV1ApiSpec {
 
@@ -27,6 +29,14 @@ public interface ProductAdminV1ApiSpec {
     )
     ApiResponse<ProductV1Dto.ProductResponse> createProduct(ProductV1Dto.ProductCreateRequest request);
 
+    @Operation(
+        summary = "상품 일괄 등록",
+        description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv) 본문으로 상품을 일괄 등록합니다. "
+            + "CSV 는 첫 줄에 brandId,name,description,price,stock,imageUrl 헤더가 필요합니다. "
+            + "행 단위 실패는 중단하지 않고 결과의 errors 에 줄 번호와 함께 담깁니다."
+    )
+    ApiResponse<ProductV1Dto.ProductImportResponse> importProducts(String contentType, InputStream body);
+
     @Operation(
         summary = "상품 수정",
         description = "상품 정보를 수정합니다."
@@ -1,5 +1,8 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductImportFormat;
+import com.loopers.application.product.ProductImportReport;
+import com.loopers.application.product.ProductImportService;
 import com.loopers.application.product.ProductResult;
 import com.loopers.application.product.ProductService;
 import com.loopers.interfaces.api.ApiResponse;
@@ -7,6 +10,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,17 +18,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api-admin/v1/products")
 public class ProductAdminV1Controller implements ProductAdminV1ApiSpec {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     @GetMapping
     @Override
@@ -54,6 +62,19 @@ public class ProductAdminV1Controller implements ProductAdminV1ApiSpec {
         return ApiResponse.success(ProductV1Dto.ProductResponse.from(result));
     }
 
+    /**
+     * 요청 본문을 버퍼링하지 않고 스트림으로 읽는다.
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @Override
+    public ApiResponse<ProductV1Dto.ProductImportResponse> importProducts(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body
+    ) {
+        ProductImportReport report = productImportService.importProducts(body, ProductImportFormat.fromContentType(contentType));
+        return ApiResponse.success(ProductV1Dto.ProductImportResponse.from(report));
+    }
+
     @PutMapping("/{productId}")
     @Override
     public ApiResponse<ProductV1Dto.ProductResponse> updateProduct(
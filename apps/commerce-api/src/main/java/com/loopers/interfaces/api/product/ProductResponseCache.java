@@ -0,0 +1,89 @@
+package com.loopers.interfaces.api.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.application.product.ProductResult;
+import com.loopers.config.jackson.JsonWriters;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 상품 상세 응답(ApiResponse) 을 직렬화한 UTF-8 바이트를 상품 버전별로 캐시한다.
+ *
+ * 버전은 상품의 updatedAt 이다. 상품이 바뀌면 키가 달라지므로 무효화 없이 새 버전이 적재되고,
+ * 이전 버전은 조회가 끊긴 뒤 expireAfterAccess 로 빠진다. 같은 이유로 인스턴스 간 전파도 필요 없다.
+ * ETag 도 같은 버전에서 만들어, 캐시된 바이트와 ETag 가 항상 같은 상품 상태를 가리킨다.
+ *
+ * 직렬화는 MVC 메시지 컨버터와 같은 ObjectMapper 의 writer 로 하므로 캐시를 거치지 않은 응답과 본문이 같다.
+ */
+@Component
+public class ProductResponseCache {
+
+    // 응답 DTO 모양이 바뀌면 올린다. 배포 전 ETag 로 304 를 받아 이전 모양을 계속 쓰는 일을 막는다.
+    private static final String REPRESENTATION_VERSION = "v1";
+
+    private final Cache<Key, byte[]> cache;
+    private final ObjectWriter writer;
+
+    public ProductResponseCache(
+        ProductResponseCacheProperties properties,
+        JsonWriters jsonWriters,
+        MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterAccess(properties.expireAfterAccess())
+            .recordStats()
+            .build();
+        this.writer = jsonWriters.writerFor(new TypeReference<ApiResponse<ProductV1Dto.ProductResponse>>() {});
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-response");
+    }
+
+    /**
+     * 상품 버전의 강한 ETag. (예: "v1-42-18c2f0e3a1b4d000")
+     */
+    public String etag(ProductResult product) {
+        return "\"" + REPRESENTATION_VERSION + "-" + product.id() + "-" + Long.toHexString(version(product)) + "\"";
+    }
+
+    /**
+     * 상품 버전의 응답 바이트. 없으면 DTO 로 변환해 직렬화한 뒤 적재한다.
+     */
+    public byte[] get(ProductResult product) {
+        return cache.get(new Key(product.id(), version(product)), key -> serialize(product));
+    }
+
+    /**
+     * 로컬 캐시를 비운다. (테스트 격리용)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private byte[] serialize(ProductResult product) {
+        try {
+            return writer.writeValueAsBytes(ApiResponse.success(ProductV1Dto.ProductResponse.from(product)));
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "상품 응답을 직렬화하지 못했습니다.");
+        }
+    }
+
+    private static long version(ProductResult product) {
+        // 방금 저장한 엔티티(2차 캐시 포함)는 나노초까지, DB 에서 읽은 값은 마이크로초까지 담고 있어 DB 정밀도로 맞춘다.
+        Instant updatedAt = product.updatedAt().toInstant().truncatedTo(ChronoUnit.MICROS);
+        return updatedAt.getEpochSecond() * 1_000_000L + updatedAt.getNano() / 1_000;
+    }
+
+    private record Key(Long productId, long version) {
+    }
+}
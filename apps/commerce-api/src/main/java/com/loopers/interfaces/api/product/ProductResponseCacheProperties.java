@@ -0,0 +1,26 @@
+package com.loopers.interfaces.api.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 상품 상세 응답 바이트 캐시 설정.
+ *
+ * @param maximumSize 최대 항목 수 (상품 x 버전)
+ * @param expireAfterAccess 마지막 조회 후 만료 시간. 갱신되어 더는 조회되지 않는 이전 버전이 이 시간 뒤에 빠진다.
+ */
+@ConfigurationProperties(value = "product.response-cache")
+public record ProductResponseCacheProperties(
+    Long maximumSize,
+    Duration expireAfterAccess
+) {
+    public ProductResponseCacheProperties {
+        if (maximumSize == null || maximumSize <= 0) {
+            maximumSize = 10_000L;
+        }
+        if (expireAfterAccess == null) {
+            expireAfterAccess = Duration.ofMinutes(10);
+        }
+    }
+}
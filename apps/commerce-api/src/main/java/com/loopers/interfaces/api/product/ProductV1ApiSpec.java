@@ -1,23 +1,42 @@
 package com.loopers.interfaces.api.product;
 
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.auth.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
 
 @Tag(name = "Product V1 API", description = "상품 관련 API입니다.")
 public interface ProductV1ApiSpec {
 
     @Operation(
         summary = "상품 목록 조회",
-        description = "상품 목록을 조회합니다. brandId로 필터링할 수 있습니다."
+        description = "상품 목록을 조회합니다. brandId로 필터링할 수 있습니다. 좋아요 수와 내 좋아요 여부(비로그인이면 false)를 함께 반환하며, 제때 조회하지 못하면 null 로 응답합니다. 인증 헤더는 선택입니다."
     )
-    ApiResponse<Page<ProductV1Dto.ProductResponse>> getProducts(Long brandId, Pageable pageable);
+    ApiResponse<Page<ProductV1Dto.ProductListItemResponse>> getProducts(
+        Long brandId,
+        Pageable pageable,
+        @Parameter(hidden = true) Optional<AuthenticatedUser> authenticatedUser
+    );
 
     @Operation(
         summary = "상품 상세 조회",
-        description = "상품 ID로 상품 정보를 조회합니다."
+        description = "상품 ID로 상품 정보를 조회합니다. 응답 본문은 ApiResponse<ProductResponse> 이며, ETag 를 If-None-Match 로 보내면 변경이 없을 때 본문 없이 304 를 반환합니다."
+    )
+    ResponseEntity<byte[]> getProduct(Long productId, @Parameter(hidden = true) WebRequest webRequest);
+
+    @Operation(
+        summary = "상품 상세 집계 조회",
+        description = "상품, 브랜드, 좋아요 수, 내 좋아요 여부를 한 번에 조회합니다. 부가 정보를 제때 조회하지 못하면 null 로 응답하고 fallbacks 에 항목을 담습니다. 인증 헤더는 선택입니다."
     )
-    ApiResponse<ProductV1Dto.ProductResponse> getProduct(Long productId);
+    ApiResponse<ProductV1Dto.ProductDetailResponse> getProductDetail(
+        Long productId,
+        @Parameter(hidden = true) Optional<AuthenticatedUser> authenticatedUser
+    );
 }
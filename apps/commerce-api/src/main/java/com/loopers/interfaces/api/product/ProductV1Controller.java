@@ -1,16 +1,26 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductDetailFacade;
+import com.loopers.application.product.ProductListFacade;
+import com.loopers.application.product.ProductListItemResult;
 import com.loopers.application.product.ProductResult;
 import com.loopers.application.product.ProductService;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.auth.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @RestController
@@ -18,22 +28,48 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductV1Controller implements ProductV1ApiSpec {
 
     private final ProductService productService;
+    private final ProductDetailFacade productDetailFacade;
+    private final ProductListFacade productListFacade;
+    private final ProductResponseCache productResponseCache;
 
     @GetMapping
     @Override
-    public ApiResponse<Page<ProductV1Dto.ProductResponse>> getProducts(
+    public ApiResponse<Page<ProductV1Dto.ProductListItemResponse>> getProducts(
         @RequestParam(required = false) Long brandId,
-        Pageable pageable
+        Pageable pageable,
+        Optional<AuthenticatedUser> authenticatedUser
     ) {
-        Page<ProductResult> results = productService.findAll(brandId, pageable);
-        Page<ProductV1Dto.ProductResponse> responses = results.map(ProductV1Dto.ProductResponse::from);
+        Long userId = authenticatedUser.map(AuthenticatedUser::userId).orElse(null);
+        Page<ProductListItemResult> results = productListFacade.getProducts(brandId, pageable, userId);
+        Page<ProductV1Dto.ProductListItemResponse> responses = results.map(ProductV1Dto.ProductListItemResponse::from);
         return ApiResponse.success(responses);
     }
 
+    /**
+     * 직렬화된 응답 바이트를 그대로 쓴다. If-None-Match 가 현재 버전과 같으면 본문 없이 304 로 응답한다.
+     */
     @GetMapping("/{productId}")
     @Override
-    public ApiResponse<ProductV1Dto.ProductResponse> getProduct(@PathVariable Long productId) {
+    public ResponseEntity<byte[]> getProduct(@PathVariable Long productId, WebRequest webRequest) {
         ProductResult result = productService.findById(productId);
-        return ApiResponse.success(ProductV1Dto.ProductResponse.from(result));
+        String etag = productResponseCache.etag(result);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(productResponseCache.get(result));
+    }
+
+    @GetMapping("/{productId}/detail")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductDetailResponse> getProductDetail(
+        @PathVariable Long productId,
+        Optional<AuthenticatedUser> authenticatedUser
+    ) {
+        Long userId = authenticatedUser.map(AuthenticatedUser::userId).orElse(null);
+        return ApiResponse.success(ProductV1Dto.ProductDetailResponse.from(productDetailFacade.getDetail(productId, userId)));
     }
 }
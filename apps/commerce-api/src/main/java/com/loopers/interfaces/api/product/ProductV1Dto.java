@@ -1,13 +1,18 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductDetailResult;
+import com.loopers.application.product.ProductImportReport;
+import com.loopers.application.product.ProductListItemResult;
 import com.loopers.application.product.ProductResult;
 import com.loopers.domain.product.ProductInfo;
+import com.loopers.interfaces.api.brand.BrandV1Dto;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 public class ProductV1Dto {
 
@@ -37,6 +42,55 @@ public class ProductV1Dto {
         }
     }
 
+    public record ProductListItemResponse(
+        Long id,
+        Long brandId,
+        String name,
+        String description,
+        Long price,
+        Integer stock,
+        String imageUrl,
+        Long likeCount,
+        Boolean likedByMe,
+        ZonedDateTime createdAt,
+        ZonedDateTime updatedAt
+    ) {
+        public static ProductListItemResponse from(ProductListItemResult result) {
+            ProductResult product = result.product();
+            return new ProductListItemResponse(
+                product.id(),
+                product.brandId(),
+                product.name(),
+                product.description(),
+                product.price(),
+                product.stock(),
+                product.imageUrl(),
+                result.likeCount(),
+                result.likedByMe(),
+                product.createdAt(),
+                product.updatedAt()
+            );
+        }
+    }
+
+    public record ProductDetailResponse(
+        ProductResponse product,
+        BrandV1Dto.BrandResponse brand,
+        Long likeCount,
+        Boolean likedByMe,
+        List<ProductDetailResult.Section> fallbacks
+    ) {
+        public static ProductDetailResponse from(ProductDetailResult result) {
+            return new ProductDetailResponse(
+                ProductResponse.from(result.product()),
+                result.brand() == null ? null : BrandV1Dto.BrandResponse.from(result.brand()),
+                result.likeCount(),
+                result.likedByMe(),
+                result.fallbacks()
+            );
+        }
+    }
+
     public record ProductCreateRequest(
         @NotNull(message = "브랜드 ID는 필수입니다.")
         Long brandId,
@@ -90,4 +144,22 @@ public class ProductV1Dto {
             return new ProductInfo(brandId, name, description, price, stock, imageUrl);
         }
     }
+
+    public record ProductImportResponse(
+        long totalRows,
+        long importedRows,
+        long failedRows,
+        List<ProductImportReport.RowError> errors,
+        boolean errorsTruncated
+    ) {
+        public static ProductImportResponse from(ProductImportReport report) {
+            return new ProductImportResponse(
+                report.totalRows(),
+                report.importedRows(),
+                report.failedRows(),
+                report.errors(),
+                report.errorsTruncated()
+            );
+        }
+    }
 }
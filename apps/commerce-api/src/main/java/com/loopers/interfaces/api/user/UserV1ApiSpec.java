@@ -15,6 +15,12 @@ public interface UserV1ApiSpec {
     )
     ApiResponse<UserV1Dto.RegisterResponse> register(UserV1Dto.RegisterRequest request);
 
+    @Operation(
+        summary = "로그인",
+        description = "비밀번호를 확인하고 세션 토큰을 발급합니다. 이후 요청은 Authorization: Bearer {accessToken} 헤더로 인증합니다."
+    )
+    ApiResponse<UserV1Dto.LoginResponse> login(UserV1Dto.LoginRequest request);
+
     @Operation(
         summary = "내 정보 조회",
         description = "현재 로그인한 사용자의 정보를 조회합니다."
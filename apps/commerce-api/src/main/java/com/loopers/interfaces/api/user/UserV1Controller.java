@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.user;
 
+import com.loopers.application.user.LoginInfo;
 import com.loopers.application.user.UserFacade;
 import com.loopers.application.user.UserInfo;
 import com.loopers.interfaces.api.ApiResponse;
@@ -35,13 +36,17 @@ public class UserV1Controller implements UserV1ApiSpec {
         return ApiResponse.success(UserV1Dto.RegisterResponse.from(info));
     }
 
+    @PostMapping("/login")
+    @Override
+    public ApiResponse<UserV1Dto.LoginResponse> login(@RequestBody UserV1Dto.LoginRequest request) {
+        LoginInfo info = userFacade.login(request.loginId(), request.password());
+        return ApiResponse.success(UserV1Dto.LoginResponse.from(info));
+    }
+
     @GetMapping("/me")
     @Override
     public ApiResponse<UserV1Dto.MeResponse> getMe(AuthenticatedUser authenticatedUser) {
-        UserInfo info = userFacade.getMyInfo(
-            authenticatedUser.loginId(),
-            authenticatedUser.password()
-        );
+        UserInfo info = userFacade.getMyInfo(authenticatedUser.loginId());
         return ApiResponse.success(UserV1Dto.MeResponse.from(info));
     }
 
@@ -1,7 +1,10 @@
 package com.loopers.interfaces.api.user;
 
+import com.loopers.application.user.LoginInfo;
 import com.loopers.application.user.UserInfo;
 
+import java.time.Instant;
+
 public class UserV1Dto {
 
     public record RegisterRequest(
@@ -18,6 +21,22 @@ public class UserV1Dto {
         }
     }
 
+    public record LoginRequest(
+        String loginId,
+        String password
+    ) {}
+
+    public record LoginResponse(
+        Long userId,
+        String accessToken,
+        String tokenType,
+        Instant expiresAt
+    ) {
+        public static LoginResponse from(LoginInfo info) {
+            return new LoginResponse(info.userId(), info.accessToken(), "Bearer", info.expiresAt());
+        }
+    }
+
     public record MeResponse(
         String loginId,
         String name,
@@ -0,0 +1,13 @@
+package com.loopers.support.auth;
+
+import java.time.Instant;
+
+/**
+ * 검증된 세션 토큰의 내용.
+ */
+public record SessionToken(
+    Long userId,
+    String loginId,
+    Instant expiresAt
+) {
+}
@@ -0,0 +1,29 @@
+package com.loopers.support.auth;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 세션 토큰 설정.
+ *
+ * @param secret HMAC-SHA256 서명 키 (32바이트 이상)
+ * @param ttl 토큰 유효 시간
+ */
+@ConfigurationProperties(value = "auth.session-token")
+public record SessionTokenProperties(
+    String secret,
+    Duration ttl
+) {
+    private static final int MIN_SECRET_BYTES = 32;
+
+    public SessionTokenProperties {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("auth.session-token.secret 은 32바이트 이상이어야 합니다.");
+        }
+        if (ttl == null) {
+            ttl = Duration.ofMinutes(30);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.loopers.support.auth;
+
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * HMAC-SHA256 으로 서명한 세션 토큰 발급/검증.
+ * 형식: {userId}.{loginId}.{expiresAtEpochSecond}.{signature(base64url)}
+ *
+ * 로그인 시 한 번만 BCrypt 를 검증하고, 이후 요청은 서명/만료만 확인하므로 DB 조회 없이 수 μs 안에 끝난다.
+ * loginId 는 영문/숫자만 허용되므로 구분자('.')와 겹치지 않는다.
+ */
+@Component
+public class SessionTokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final SessionTokenProperties properties;
+    private final Clock clock;
+
+    public SessionTokenProvider(SessionTokenProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    SessionTokenProvider(SessionTokenProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(properties.secret().getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("세션 토큰 서명 키를 초기화할 수 없습니다.", e);
+        }
+    }
+
+    public IssuedToken issue(Long userId, String loginId) {
+        Instant expiresAt = Instant.ofEpochSecond(clock.instant().plus(properties.ttl()).getEpochSecond());
+        String payload = userId + "." + loginId + "." + expiresAt.getEpochSecond();
+        return new IssuedToken(payload + "." + ENCODER.encodeToString(sign(payload)), expiresAt);
+    }
+
+    /**
+     * @return 서명이 올바르고 만료되지 않은 경우 토큰 내용
+     */
+    public Optional<SessionToken> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int signatureIndex = token.lastIndexOf('.');
+        if (signatureIndex < 0) {
+            return Optional.empty();
+        }
+        String payload = token.substring(0, signatureIndex);
+        String[] parts = payload.split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+
+        byte[] signature;
+        try {
+            signature = DECODER.decode(token.substring(signatureIndex + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            return Optional.empty();
+        }
+
+        try {
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(parts[2]));
+            if (!clock.instant().isBefore(expiresAt)) {
+                return Optional.empty();
+            }
+            return Optional.of(new SessionToken(Long.parseLong(parts[0]), parts[1], expiresAt));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public record IssuedToken(String token, Instant expiresAt) {
+    }
+
+    private byte[] sign(String payload) {
+        return newMac().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Mac 은 thread-safe 하지 않으므로 초기화된 인스턴스를 복제해서 쓴다.
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(new SecretKeySpec(properties.secret().getBytes(StandardCharsets.UTF_8), ALGORITHM));
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("세션 토큰 서명에 실패했습니다.", ex);
+            }
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.loopers.application.brand;
 
+import com.loopers.application.product.ProductService;
+import com.loopers.domain.brand.BrandDomainService;
 import com.loopers.domain.brand.BrandInfo;
+import com.loopers.domain.product.ProductDomainService;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.infrastructure.brand.InMemoryBrandCatalog;
 import com.loopers.infrastructure.persistence.jpa.brand.BrandJpaRepository;
+import com.loopers.infrastructure.persistence.jpa.product.ProductJpaRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
@@ -11,6 +17,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -27,12 +35,37 @@ class BrandServiceIntegrationTest {
     @Autowired
     private BrandJpaRepository brandJpaRepository;
 
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private InMemoryBrandCatalog brandCatalog;
+
+    @Autowired
+    private BrandDomainService brandDomainService;
+
+    @Autowired
+    private ProductDomainService productDomainService;
+
+    @Autowired
+    private BrandProductCascadeDeleter brandProductCascadeDeleter;
+
+    @Autowired
+    private BrandDeletionJobRegistry brandDeletionJobRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        brandCatalog.clear();
     }
 
     @DisplayName("브랜드를 생성할 때,")
@@ -196,6 +229,23 @@ class BrandServiceIntegrationTest {
             );
         }
 
+        @DisplayName("수정한 뒤 조회하면, 변경된 정보를 반환한다.")
+        @Test
+        void returnsUpdatedBrand_whenFindingAfterUpdate() {
+            // arrange
+            BrandResult created = brandService.create(new BrandInfo("Nike", "Original", null));
+            brandService.findAll();
+
+            // act
+            brandService.update(created.id(), new BrandInfo("Nike Updated", "Updated description", null));
+
+            // assert
+            assertAll(
+                () -> assertThat(brandService.findById(created.id()).name()).isEqualTo("Nike Updated"),
+                () -> assertThat(brandService.findAll()).extracting(BrandResult::name).containsExactly("Nike Updated")
+            );
+        }
+
         @DisplayName("이미 존재하는 다른 브랜드명으로 수정하면, BRAND_ALREADY_EXISTS 예외가 발생한다.")
         @Test
         void throwsBrandAlreadyExistsException_whenUpdatingToExistingName() {
@@ -273,6 +323,89 @@ class BrandServiceIntegrationTest {
                 .hasValueSatisfying(brand -> assertThat(brand.getDeletedAt()).isNotNull());
         }
 
+        @DisplayName("상품이 있는 브랜드를 삭제하면, 소속 상품이 백그라운드 작업으로 모두 soft delete 된다.")
+        @Test
+        void softDeletesAllProductsInBackground_whenBrandHasProducts() throws InterruptedException {
+            // arrange
+            BrandResult brand = brandService.create(new BrandInfo("Nike", null, null));
+            BrandResult other = brandService.create(new BrandInfo("Adidas", null, null));
+            for (int i = 0; i < 3; i++) {
+                productService.create(new ProductInfo(brand.id(), "상품" + i, null, 10000L, 10, null));
+            }
+            productService.create(new ProductInfo(other.id(), "다른 브랜드 상품", null, 10000L, 10, null));
+
+            // act
+            BrandDeletionJobResult job = brandService.delete(brand.id());
+            BrandDeletionJobResult finished = awaitFinished(job.jobId());
+
+            // assert
+            assertAll(
+                () -> assertThat(job.totalProducts()).isEqualTo(3),
+                () -> assertThat(finished.status()).isEqualTo(BrandDeletionJobStatus.COMPLETED),
+                () -> assertThat(finished.deletedProducts()).isEqualTo(3),
+                () -> assertThat(productJpaRepository.countByBrandIdAndDeletedAtIsNull(brand.id())).isZero(),
+                () -> assertThat(productJpaRepository.countByBrandIdAndDeletedAtIsNull(other.id())).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("상품 삭제 작업이 중간에 중단되어도, sweep 이 남은 상품부터 이어서 삭제한다.")
+        @Test
+        void resumesInterruptedJob_whenSwept() throws InterruptedException {
+            // arrange
+            BrandResult brand = brandService.create(new BrandInfo("Nike", null, null));
+            BrandResult other = brandService.create(new BrandInfo("Adidas", null, null));
+            for (int i = 0; i < 5; i++) {
+                productService.create(new ProductInfo(brand.id(), "상품" + i, null, 10000L, 10, null));
+            }
+            productService.create(new ProductInfo(other.id(), "다른 브랜드 상품", null, 10000L, 10, null));
+
+            // 브랜드 삭제와 첫 청크까지만 커밋되고 작업(인스턴스 메모리)은 프로세스와 함께 사라진 상황
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                brandDomainService.delete(brand.id());
+                productDomainService.deleteChunkByBrandId(brand.id(), 2);
+            });
+            assertThrows(CoreException.class, () -> brandService.delete(brand.id()));
+
+            // act
+            List<BrandDeletionJobRegistry.Job> resumed = brandProductCascadeDeleter.sweep();
+            BrandDeletionJobResult finished = awaitFinished(resumed.get(0).jobId());
+
+            // assert
+            assertAll(
+                () -> assertThat(resumed).hasSize(1),
+                () -> assertThat(finished.brandId()).isEqualTo(brand.id()),
+                () -> assertThat(finished.status()).isEqualTo(BrandDeletionJobStatus.COMPLETED),
+                () -> assertThat(finished.totalProducts()).isEqualTo(3),
+                () -> assertThat(finished.deletedProducts()).isEqualTo(3),
+                () -> assertThat(productJpaRepository.countByBrandIdAndDeletedAtIsNull(brand.id())).isZero(),
+                () -> assertThat(productJpaRepository.countByBrandIdAndDeletedAtIsNull(other.id())).isEqualTo(1),
+                () -> assertThat(brandProductCascadeDeleter.sweep()).isEmpty()
+            );
+        }
+
+        @DisplayName("브랜드 삭제 트랜잭션이 롤백되면, 등록된 상품 삭제 작업도 남지 않는다.")
+        @Test
+        void removesJob_whenTransactionRollsBack() {
+            // arrange
+            BrandResult brand = brandService.create(new BrandInfo("Nike", null, null));
+            productService.create(new ProductInfo(brand.id(), "상품", null, 10000L, 10, null));
+
+            // act
+            BrandDeletionJobResult job = new TransactionTemplate(transactionManager).execute(status -> {
+                BrandDeletionJobResult registered = brandService.delete(brand.id());
+                status.setRollbackOnly();
+                return registered;
+            });
+
+            // assert
+            CoreException result = assertThrows(CoreException.class, () -> brandService.getDeletionJob(job.jobId()));
+            assertAll(
+                () -> assertThat(result.getErrorType()).isEqualTo(ErrorType.NOT_FOUND),
+                () -> assertThat(brandDeletionJobRegistry.hasActiveJob(brand.id())).isFalse(),
+                () -> assertThat(productJpaRepository.countByBrandIdAndDeletedAtIsNull(brand.id())).isEqualTo(1)
+            );
+        }
+
         @DisplayName("존재하지 않는 브랜드를 삭제하면, BRAND_NOT_FOUND 예외가 발생한다.")
         @Test
         void throwsBrandNotFoundException_whenBrandDoesNotExist() {
@@ -288,4 +421,15 @@ class BrandServiceIntegrationTest {
             assertThat(result.getErrorType()).isEqualTo(ErrorType.BRAND_NOT_FOUND);
         }
     }
+
+    private BrandDeletionJobResult awaitFinished(String jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            BrandDeletionJobResult result = brandService.getDeletionJob(jobId);
+            if (result.finishedAt() != null) {
+                return result;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("브랜드 삭제 작업이 끝나지 않았습니다. (jobId = " + jobId + ")");
+    }
 }
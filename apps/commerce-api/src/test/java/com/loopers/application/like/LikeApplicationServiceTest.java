@@ -1,10 +1,16 @@
 package com.loopers.application.like;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.outbox.OutboxEventAppender;
 import com.loopers.domain.common.Money;
+import com.loopers.domain.like.LikeChangedEvent;
 import com.loopers.domain.like.LikeDomainService;
+import com.loopers.domain.outbox.OutboxAggregateType;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.Stock;
 import com.loopers.fake.FakeLikeRepository;
+import com.loopers.fake.FakeLikedProductCache;
+import com.loopers.fake.FakeOutboxRepository;
 import com.loopers.fake.FakeProductRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -22,6 +28,7 @@ class LikeApplicationServiceTest {
 
     private FakeLikeRepository fakeLikeRepository;
     private FakeProductRepository fakeProductRepository;
+    private FakeOutboxRepository fakeOutboxRepository;
     private LikeDomainService likeDomainService;
     private LikeApplicationService likeApplicationService;
 
@@ -29,8 +36,10 @@ class LikeApplicationServiceTest {
     void setUp() {
         fakeLikeRepository = new FakeLikeRepository();
         fakeProductRepository = new FakeProductRepository();
-        likeDomainService = new LikeDomainService(fakeLikeRepository);
-        likeApplicationService = new LikeApplicationService(likeDomainService, fakeProductRepository);
+        fakeOutboxRepository = new FakeOutboxRepository();
+        likeDomainService = new LikeDomainService(fakeLikeRepository, new FakeLikedProductCache());
+        OutboxEventAppender outboxEventAppender = new OutboxEventAppender(fakeOutboxRepository, new ObjectMapper().findAndRegisterModules());
+        likeApplicationService = new LikeApplicationService(likeDomainService, fakeProductRepository, outboxEventAppender);
     }
 
     private Product createAndSaveProduct() {
@@ -57,6 +66,12 @@ class LikeApplicationServiceTest {
             assertThat(result.userId()).isEqualTo(userId);
             assertThat(result.productId()).isEqualTo(product.getId());
             assertThat(result.createdAt()).isNotNull();
+            assertThat(fakeOutboxRepository.findAll())
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getAggregateType()).isEqualTo(OutboxAggregateType.LIKE);
+                    assertThat(event.getEventType()).isEqualTo(LikeChangedEvent.LIKED);
+                });
         }
 
         @Test
@@ -104,6 +119,9 @@ class LikeApplicationServiceTest {
 
             // Assert
             assertThat(fakeLikeRepository.exists(userId, product.getId())).isFalse();
+            assertThat(fakeOutboxRepository.findAll())
+                .extracting(event -> event.getEventType())
+                .containsExactly(LikeChangedEvent.LIKED, LikeChangedEvent.UNLIKED);
         }
 
         @Test
@@ -113,8 +131,9 @@ class LikeApplicationServiceTest {
             Long userId = 1L;
             Long productId = 999L;
 
-            // Act & Assert - 예외 없이 성공
+            // Act & Assert - 예외 없이 성공, 이벤트는 적재되지 않음
             assertDoesNotThrow(() -> likeApplicationService.unlike(userId, productId));
+            assertThat(fakeOutboxRepository.size()).isZero();
         }
     }
 }
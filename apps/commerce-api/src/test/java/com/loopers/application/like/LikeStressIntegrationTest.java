@@ -0,0 +1,129 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.common.Money;
+import com.loopers.domain.like.LikeDomainService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.Stock;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import com.loopers.utils.StressRunner;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 좋아요 동시성 스트레스 테스트. (./gradlew :apps:commerce-api:stressTest)
+ *
+ * 한 상품에 좋아요/취소가 몰려도 최종 좋아요 수가 정확하고, 교착 상태와 락 대기 초과가 없어야 한다.
+ * 처리량과 InnoDB 행 락 대기 지표는 build/stress-results 에 남는다.
+ */
+@Tag("stress")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "datasource.mysql-jpa.main.maximum-pool-size=50",
+    "datasource.mysql-jpa.main.connection-timeout=30000"
+})
+class LikeStressIntegrationTest {
+
+    private static final int CALLERS = 200;
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+
+    @Autowired
+    private LikeApplicationService likeApplicationService;
+
+    @Autowired
+    private LikeDomainService likeDomainService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Product createProduct() {
+        return productRepository.save(
+            Product.create(1L, "인기 상품", "설명", new Money(10_000L), new Stock(100), "http://image.url"));
+    }
+
+    @DisplayName("서로 다른 사용자의 좋아요가 한 상품에 몰려도, 좋아요 수가 사용자 수와 같다.")
+    @Test
+    void countsEveryLike_whenDistinctUsersLikeConcurrently() throws InterruptedException {
+        // arrange
+        int users = 3_000;
+        Long productId = createProduct().getId();
+
+        // act
+        StressRunner.Result result = StressRunner.run("like-distinct-users", CALLERS, users, TIMEOUT, entityManager,
+            i -> () -> likeApplicationService.like((long) (i + 1), productId));
+
+        // assert
+        assertAll(
+            () -> assertThat(result.timedOut()).isZero(),
+            () -> assertThat(result.lockFailures()).isZero(),
+            () -> assertThat(result.successes()).isEqualTo(users),
+            () -> assertThat(likeDomainService.countByProductId(productId)).isEqualTo(users)
+        );
+    }
+
+    @DisplayName("좋아요/취소/중복 좋아요가 한 상품에 섞여 몰려도, 최종 좋아요 수가 정확하다.")
+    @Test
+    void keepsExactCount_whenLikeAndUnlikeInterleave() throws InterruptedException {
+        // arrange
+        // 1 ~ 1000 은 미리 좋아요. 1 ~ 500 은 취소, 501 ~ 1000 은 중복 좋아요,
+        // 1001 ~ 1500 은 새로 좋아요, 1501 ~ 1600 은 같은 사용자가 두 번 동시에 좋아요한다.
+        Long productId = createProduct().getId();
+        for (long userId = 1; userId <= 1_000; userId++) {
+            likeApplicationService.like(userId, productId);
+        }
+        int tasks = 500 + 500 + 500 + 200;
+
+        // act
+        StressRunner.Result result = StressRunner.run("like-interleaved", CALLERS, tasks, TIMEOUT, entityManager, i -> {
+            if (i < 500) {
+                long userId = i + 1;
+                return () -> {
+                    likeApplicationService.unlike(userId, productId);
+                    return null;
+                };
+            }
+            if (i < 1_500) {
+                return () -> likeApplicationService.like((long) (i + 1), productId);
+            }
+            long userId = 1_501 + (i - 1_500) / 2;
+            return () -> likeApplicationService.like(userId, productId);
+        });
+
+        // assert
+        // 중복 좋아요는 먼저 확인하면 CONFLICT, 확인을 함께 통과하면 유니크 제약 위반으로 거절된다.
+        assertAll(
+            () -> assertThat(result.timedOut()).isZero(),
+            () -> assertThat(result.lockFailures()).isZero(),
+            () -> assertThat(result.failures().keySet()).isSubsetOf(Set.of("CONFLICT", "DataIntegrityViolationException")),
+            () -> assertThat(result.failureCount()).isEqualTo(500 + 100),
+            () -> assertThat(likeDomainService.countByProductId(productId)).isEqualTo(500 + 500 + 100)
+        );
+    }
+}
@@ -1,11 +1,21 @@
 package com.loopers.application.order;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.outbox.OutboxEventAppender;
 import com.loopers.domain.common.Money;
+import com.loopers.domain.order.OrderPlacedEvent;
 import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.outbox.OutboxAggregateType;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxStatus;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.Stock;
 import com.loopers.fake.FakeOrderRepository;
+import com.loopers.fake.FakeOrderSummaryRepository;
+import com.loopers.fake.FakeOutboxRepository;
 import com.loopers.fake.FakeProductRepository;
+import com.loopers.fake.FakeUserOrderCounterRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +23,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,13 +34,29 @@ class OrderApplicationServiceTest {
 
     private FakeProductRepository fakeProductRepository;
     private FakeOrderRepository fakeOrderRepository;
+    private FakeOrderSummaryRepository fakeOrderSummaryRepository;
+    private FakeUserOrderCounterRepository fakeUserOrderCounterRepository;
+    private FakeOutboxRepository fakeOutboxRepository;
     private OrderApplicationService orderApplicationService;
 
     @BeforeEach
     void setUp() {
         fakeProductRepository = new FakeProductRepository();
         fakeOrderRepository = new FakeOrderRepository();
-        orderApplicationService = new OrderApplicationService(fakeProductRepository, fakeOrderRepository);
+        fakeOrderSummaryRepository = new FakeOrderSummaryRepository();
+        fakeUserOrderCounterRepository = new FakeUserOrderCounterRepository();
+        fakeOutboxRepository = new FakeOutboxRepository();
+        OutboxEventAppender outboxEventAppender = new OutboxEventAppender(fakeOutboxRepository, new ObjectMapper().findAndRegisterModules());
+        // 트랜잭션이 없으므로 커밋 직전 리스너 대신 발행 즉시 읽기 모델에 반영한다.
+        OrderSummaryProjector projector = new OrderSummaryProjector(fakeProductRepository, fakeOrderSummaryRepository);
+        orderApplicationService = new OrderApplicationService(
+            fakeProductRepository,
+            fakeOrderRepository,
+            fakeOrderSummaryRepository,
+            fakeUserOrderCounterRepository,
+            outboxEventAppender,
+            event -> projector.on((OrderPlacedEvent) event)
+        );
     }
 
     private Product createAndSaveProduct(String name, long price, int stock) {
@@ -89,6 +116,68 @@ class OrderApplicationServiceTest {
             assertThat(result.totalPrice()).isEqualTo(40000); // 10000*2 + 20000*1
         }
 
+        @Test
+        @DisplayName("성공 - 주문 생성 이벤트가 Outbox 에 적재된다")
+        void 주문_생성_이벤트_적재() {
+            // Arrange
+            Product product = createAndSaveProduct("테스트 상품", 10000, 100);
+            Long userId = 1L;
+
+            // Act
+            OrderResult result = orderApplicationService.placeOrder(userId, List.of(new OrderItemRequest(product.getId(), 2)));
+
+            // Assert
+            assertThat(fakeOutboxRepository.size()).isEqualTo(1);
+            OutboxEvent event = fakeOutboxRepository.findAll().get(0);
+            assertThat(event.getAggregateType()).isEqualTo(OutboxAggregateType.ORDER);
+            assertThat(event.getAggregateId()).isEqualTo(String.valueOf(result.id()));
+            assertThat(event.getEventType()).isEqualTo(OrderPlacedEvent.EVENT_TYPE);
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(event.getPayload()).contains("\"totalPrice\":20000");
+        }
+
+        @Test
+        @DisplayName("성공 - 주문 목록 읽기 모델에 주문 요약이 저장된다")
+        void 주문_요약_저장() {
+            // Arrange
+            Product first = createAndSaveProduct("대표 상품", 10000, 100);
+            Product second = createAndSaveProduct("두번째 상품", 20000, 100);
+            Long userId = 1L;
+
+            // Act
+            OrderResult result = orderApplicationService.placeOrder(userId, List.of(
+                new OrderItemRequest(first.getId(), 2),
+                new OrderItemRequest(second.getId(), 1)
+            ));
+
+            // Assert
+            OrderSummary summary = fakeOrderSummaryRepository.findByOrderId(result.id()).orElseThrow();
+            assertThat(summary.userId()).isEqualTo(userId);
+            assertThat(summary.totalPrice()).isEqualTo(40000);
+            assertThat(summary.status()).isEqualTo(OrderStatus.CREATED);
+            assertThat(summary.itemCount()).isEqualTo(2);
+            assertThat(summary.thumbnailProductId()).isEqualTo(first.getId());
+            assertThat(summary.thumbnailProductName()).isEqualTo("대표 상품");
+            assertThat(summary.thumbnailImageUrl()).isEqualTo("http://image.url");
+            assertThat(summary.items()).extracting(OrderSummary.Item::productId)
+                .containsExactly(first.getId(), second.getId());
+            assertThat(summary.orderedAt()).isEqualTo(result.createdAt());
+        }
+
+        @Test
+        @DisplayName("실패 - 재고 부족 시 Outbox 에 적재되지 않는다")
+        void 재고_부족_이벤트_미적재() {
+            // Arrange
+            Product product = createAndSaveProduct("재고 적은 상품", 10000, 1);
+
+            // Act
+            assertThrows(CoreException.class,
+                () -> orderApplicationService.placeOrder(1L, List.of(new OrderItemRequest(product.getId(), 2))));
+
+            // Assert
+            assertThat(fakeOutboxRepository.size()).isZero();
+        }
+
         @Test
         @DisplayName("실패 - 주문 항목이 비어있는 경우")
         void 주문항목_비어있음_예외() {
@@ -230,6 +319,71 @@ class OrderApplicationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 목록 커서 조회")
+    class GetOrderHistory {
+
+        @Test
+        @DisplayName("성공 - nextCursor 로 이어서 조회하면 중복/누락 없이 최신순으로 끝까지 조회된다")
+        void 커서_페이지_순회() {
+            // Arrange
+            Product product = createAndSaveProduct("테스트 상품", 10000, 100);
+            Long userId = 1L;
+            for (int i = 0; i < 5; i++) {
+                orderApplicationService.placeOrder(userId, List.of(new OrderItemRequest(product.getId(), 1)));
+            }
+
+            // Act
+            OrderHistoryResult first = orderApplicationService.getOrderHistory(userId, null, 2, false);
+            OrderHistoryResult second = orderApplicationService.getOrderHistory(userId, first.nextCursor(), 2, false);
+            OrderHistoryResult last = orderApplicationService.getOrderHistory(userId, second.nextCursor(), 2, false);
+
+            // Assert
+            List<Long> ids = new ArrayList<>();
+            List.of(first, second, last).forEach(page -> page.orders().forEach(order -> ids.add(order.id())));
+            assertThat(ids).containsExactly(5L, 4L, 3L, 2L, 1L);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.hasNext()).isTrue();
+            assertThat(last.hasNext()).isFalse();
+            assertThat(last.orders()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 요약 조회는 주문 항목을 포함하지 않는다")
+        void 요약_조회() {
+            // Arrange
+            Product product = createAndSaveProduct("테스트 상품", 10000, 100);
+            Long userId = 1L;
+            orderApplicationService.placeOrder(userId, List.of(new OrderItemRequest(product.getId(), 2)));
+
+            // Act
+            OrderHistoryResult result = orderApplicationService.getOrderHistory(userId, null, 10, true);
+
+            // Assert
+            assertThat(result.orders()).hasSize(1);
+            assertThat(result.orders().get(0).items()).isEmpty();
+            assertThat(result.orders().get(0).totalPrice()).isEqualTo(20000);
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 커서")
+        void 잘못된_커서_예외() {
+            // Act & Assert
+            CoreException ex = assertThrows(CoreException.class,
+                () -> orderApplicationService.getOrderHistory(1L, "not-a-cursor", 10, false));
+            assertThat(ex.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @Test
+        @DisplayName("실패 - 조회 개수가 범위를 벗어난 경우")
+        void 조회개수_범위_예외() {
+            // Act & Assert
+            CoreException ex = assertThrows(CoreException.class,
+                () -> orderApplicationService.getOrderHistory(1L, null, 101, false));
+            assertThat(ex.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+
     @Nested
     @DisplayName("주문 수 조회")
     class CountOrders {
@@ -249,5 +403,32 @@ class OrderApplicationServiceTest {
             // Assert
             assertThat(count).isEqualTo(2);
         }
+
+        @Test
+        @DisplayName("성공 - 재고 부족으로 실패한 주문은 주문 수에 포함되지 않는다")
+        void 실패한_주문_미집계() {
+            // Arrange
+            Product product = createAndSaveProduct("재고 적은 상품", 10000, 1);
+            Long userId = 1L;
+            orderApplicationService.placeOrder(userId, List.of(new OrderItemRequest(product.getId(), 1)));
+            assertThrows(CoreException.class,
+                () -> orderApplicationService.placeOrder(userId, List.of(new OrderItemRequest(product.getId(), 1))));
+
+            // Act
+            long count = orderApplicationService.countOrders(userId);
+
+            // Assert
+            assertThat(count).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 주문이 없으면 0")
+        void 주문_없음_0() {
+            // Act
+            long count = orderApplicationService.countOrders(1L);
+
+            // Assert
+            assertThat(count).isZero();
+        }
     }
 }
@@ -0,0 +1,95 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.Stock;
+import com.loopers.infrastructure.persistence.jpa.product.ProductJpaEntity;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderPlacementQueryCountIntegrationTest {
+
+    @Autowired
+    private OrderApplicationService orderApplicationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("주문 항목 하나는 상품 잠금 조회 1회와 재고 UPDATE 1회만 발생시킨다.")
+    @Test
+    void costsOneLockReadAndOneUpdatePerOrderLine() {
+        // arrange
+        Product product = productRepository.save(
+            Product.create(1L, "상품", "설명", new Money(10000L), new Stock(10), "http://image.url"));
+        statistics.clear();
+
+        // act
+        orderApplicationService.placeOrder(1L, List.of(new OrderItemRequest(product.getId(), 2)));
+
+        // assert
+        EntityStatistics productStatistics = statistics.getEntityStatistics(ProductJpaEntity.class.getName());
+        assertAll(
+            () -> assertThat(statistics.getQueryExecutionCount()).isEqualTo(1),
+            () -> assertThat(productStatistics.getLoadCount()).isEqualTo(1),
+            () -> assertThat(productStatistics.getFetchCount()).isZero(),
+            () -> assertThat(productStatistics.getUpdateCount()).isEqualTo(1),
+            () -> assertThat(productStatistics.getInsertCount()).isZero()
+        );
+    }
+
+    @DisplayName("트랜잭션 밖에서 조회한 상품을 저장하면, 재조회 없이 UPDATE 한다.")
+    @Test
+    void updatesDetachedProductWithoutReload() {
+        // arrange
+        Product product = productRepository.save(
+            Product.create(1L, "상품", "설명", new Money(10000L), new Stock(10), "http://image.url"));
+        Product loaded = productRepository.findById(product.getId()).orElseThrow();
+        loaded.decreaseStock(3);
+        statistics.clear();
+
+        // act
+        productRepository.save(loaded);
+
+        // assert
+        EntityStatistics productStatistics = statistics.getEntityStatistics(ProductJpaEntity.class.getName());
+        assertAll(
+            () -> assertThat(productStatistics.getLoadCount()).isZero(),
+            () -> assertThat(productStatistics.getFetchCount()).isZero(),
+            () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getStock().quantity()).isEqualTo(7)
+        );
+    }
+}
@@ -0,0 +1,116 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.Stock;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.QueryBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderQueryBudgetIntegrationTest {
+
+    @Autowired
+    private OrderApplicationService orderApplicationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private void placeOrders(int count) {
+        Product first = productRepository.save(
+            Product.create(1L, "상품1", "설명", new Money(10000L), new Stock(100), "http://image.url"));
+        Product second = productRepository.save(
+            Product.create(1L, "상품2", "설명", new Money(20000L), new Stock(100), "http://image.url"));
+        for (int i = 0; i < count; i++) {
+            orderApplicationService.placeOrder(1L, List.of(
+                new OrderItemRequest(first.getId(), 1),
+                new OrderItemRequest(second.getId(), 1)
+            ));
+        }
+    }
+
+    @DisplayName("주문 목록 조회는 주문 수와 관계없이 주문 조회 1회, 주문 항목 조회 1회로 끝난다.")
+    @Test
+    void loadsOrderItemsWithoutNPlusOne() {
+        // arrange
+        placeOrders(5);
+
+        // act
+        QueryBudget budget = QueryBudget.measure(() -> {
+            List<OrderResult> orders = orderApplicationService.getOrders(1L, 0, 10);
+            assertThat(orders).hasSize(5).allSatisfy(order -> assertThat(order.items()).hasSize(2));
+        });
+
+        // assert
+        budget.assertStatementsAtMost(2)
+            .assertNoRepeatedStatements(2);
+    }
+
+    @DisplayName("커서 기반 주문 목록 조회는 항목을 포함해도 읽기 모델 범위 조회 1회로 끝난다.")
+    @Test
+    void loadsOrderHistoryPageWithSingleStatement() {
+        // arrange
+        placeOrders(5);
+        OrderHistoryResult first = orderApplicationService.getOrderHistory(1L, null, 2, false);
+
+        // act
+        QueryBudget budget = QueryBudget.measure(() -> {
+            OrderHistoryResult next = orderApplicationService.getOrderHistory(1L, first.nextCursor(), 2, false);
+            assertThat(next.orders()).hasSize(2).allSatisfy(order -> assertThat(order.items()).hasSize(2));
+        });
+
+        // assert
+        budget.assertStatements(1);
+    }
+
+    @DisplayName("요약 모드 주문 목록 조회는 주문 항목(items JSON)을 조회하지 않는다.")
+    @Test
+    void skipsItemsInSummaryMode() {
+        // arrange
+        placeOrders(3);
+        OrderHistoryResult first = orderApplicationService.getOrderHistory(1L, null, 1, true);
+
+        // act
+        QueryBudget budget = QueryBudget.measure(() -> {
+            OrderHistoryResult result = orderApplicationService.getOrderHistory(1L, null, 10, true);
+            OrderHistoryResult next = orderApplicationService.getOrderHistory(1L, first.nextCursor(), 10, true);
+            assertThat(result.orders()).hasSize(3).allSatisfy(order -> assertThat(order.items()).isEmpty());
+            assertThat(next.orders()).hasSize(2);
+        });
+
+        // assert
+        budget.assertStatements(2)
+            .assertNoStatementContaining("items");
+    }
+
+    @DisplayName("주문 수 조회는 카운터 PK 조회 1회로 끝난다.")
+    @Test
+    void countsOrdersWithSingleStatement() {
+        // arrange
+        placeOrders(3);
+
+        // act
+        QueryBudget budget = QueryBudget.measure(() ->
+            assertThat(orderApplicationService.countOrders(1L)).isEqualTo(3));
+
+        // assert
+        budget.assertStatements(1);
+    }
+}
@@ -0,0 +1,151 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.Stock;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import com.loopers.utils.StressRunner;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 주문 동시성 스트레스 테스트. (./gradlew :apps:commerce-api:stressTest)
+ *
+ * 200 개 호출 스레드가 재고보다 많은 주문을 한꺼번에 넣어도 초과 판매, 교착 상태, 락 대기 초과가 없어야 한다.
+ * 처리량과 InnoDB 행 락 대기 지표는 build/stress-results 에 남는다.
+ */
+@Tag("stress")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "datasource.mysql-jpa.main.maximum-pool-size=50",
+    "datasource.mysql-jpa.main.connection-timeout=30000"
+})
+class OrderStressIntegrationTest {
+
+    private static final int CALLERS = 200;
+    private static final int USERS = 200;
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+
+    @Autowired
+    private OrderApplicationService orderApplicationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Product createProduct(String name, int stock) {
+        return productRepository.save(
+            Product.create(1L, name, "설명", new Money(10_000L), new Stock(stock), "http://image.url"));
+    }
+
+    private int stockOf(Product product) {
+        return productRepository.findById(product.getId()).orElseThrow().getStock().quantity();
+    }
+
+    private long totalOrders() {
+        return IntStream.rangeClosed(1, USERS)
+            .mapToLong(userId -> orderApplicationService.countOrders((long) userId))
+            .sum();
+    }
+
+    @DisplayName("한 상품에 재고의 3배 주문이 몰려도, 재고만큼만 주문되고 나머지는 재고 부족으로 거절된다.")
+    @Test
+    void sellsExactlyStock_whenOrdersExceedStockOnSingleProduct() throws InterruptedException {
+        // arrange
+        int stock = 1_000;
+        int orders = stock * 3;
+        Product product = createProduct("한정 상품", stock);
+
+        // act
+        StressRunner.Result result = StressRunner.run("order-single-product", CALLERS, orders, TIMEOUT, entityManager,
+            i -> () -> orderApplicationService.placeOrder((long) (i % USERS + 1), List.of(new OrderItemRequest(product.getId(), 1))));
+
+        // assert
+        assertAll(
+            () -> assertThat(result.timedOut()).isZero(),
+            () -> assertThat(result.lockFailures()).isZero(),
+            () -> assertThat(result.successes()).isEqualTo(stock),
+            () -> assertThat(result.failureCount()).isEqualTo(orders - stock),
+            () -> assertThat(stockOf(product)).isZero(),
+            () -> assertThat(totalOrders()).isEqualTo(stock)
+        );
+    }
+
+    @DisplayName("여러 상품을 섞어 담은 주문이 몰려도, 상품별 판매 수량과 재고 감소량이 같고 교착 상태가 없다.")
+    @Test
+    void keepsStockConsistentWithoutDeadlock_whenMixedCartsOrderConcurrently() throws InterruptedException {
+        // arrange
+        int productCount = 10;
+        int stock = 500;
+        int itemsPerOrder = 3;
+        int orders = 2_000;
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            products.add(createProduct("상품" + i, stock));
+        }
+        AtomicIntegerArray sold = new AtomicIntegerArray(productCount);
+
+        // act
+        // 주문마다 상품 구성과 담는 순서를 섞어, 락 순서가 요청 순서를 따르면 교착되는 상황을 만든다.
+        StressRunner.Result result = StressRunner.run("order-mixed-carts", CALLERS, orders, TIMEOUT, entityManager, i -> {
+            List<Integer> indexes = new ArrayList<>(IntStream.range(0, productCount).boxed().toList());
+            Collections.shuffle(indexes, new Random(i));
+            List<Integer> cart = indexes.subList(0, itemsPerOrder);
+            List<OrderItemRequest> items = cart.stream()
+                .map(index -> new OrderItemRequest(products.get(index).getId(), 1))
+                .toList();
+            return () -> {
+                orderApplicationService.placeOrder((long) (i % USERS + 1), items);
+                cart.forEach(sold::incrementAndGet);
+                return null;
+            };
+        });
+
+        // assert
+        assertAll(
+            () -> assertThat(result.timedOut()).isZero(),
+            () -> assertThat(result.lockFailures()).isZero(),
+            () -> assertThat(result.successes() + result.failureCount()).isEqualTo(orders),
+            () -> assertThat(totalOrders()).isEqualTo(result.successes()),
+            () -> {
+                for (int i = 0; i < productCount; i++) {
+                    assertThat(stockOf(products.get(i)))
+                        .as("상품%d 재고", i)
+                        .isEqualTo(stock - sold.get(i));
+                }
+            }
+        );
+    }
+}
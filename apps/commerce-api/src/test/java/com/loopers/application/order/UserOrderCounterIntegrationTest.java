@@ -0,0 +1,96 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.common.Money;
+import com.loopers.domain.order.UserOrderCounterRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.Stock;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class UserOrderCounterIntegrationTest {
+
+    @Autowired
+    private OrderApplicationService orderApplicationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserOrderCounterRepository userOrderCounterRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("같은 사용자가 동시에 주문해도 주문 수가 누락 없이 증가한다.")
+    @Test
+    void countsConcurrentOrdersOfSameUser() throws Exception {
+        // arrange
+        int orders = 20;
+        Product product = productRepository.save(
+            Product.create(1L, "상품", "설명", new Money(10000L), new Stock(orders), "http://image.url"));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callerPool = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<OrderResult>> results = new ArrayList<>();
+
+        // act
+        for (int i = 0; i < orders; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                awaitQuietly(start);
+                return orderApplicationService.placeOrder(1L, List.of(new OrderItemRequest(product.getId(), 1)));
+            }, callerPool));
+        }
+        start.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+        callerPool.shutdown();
+
+        // assert
+        assertThat(orderApplicationService.countOrders(1L)).isEqualTo(orders);
+    }
+
+    @DisplayName("재고 부족으로 실패한 주문은 주문 수를 바꾸지 않는다.")
+    @Test
+    void doesNotCountFailedOrder() {
+        // arrange
+        Product product = productRepository.save(
+            Product.create(1L, "상품", "설명", new Money(10000L), new Stock(1), "http://image.url"));
+        orderApplicationService.placeOrder(1L, List.of(new OrderItemRequest(product.getId(), 1)));
+
+        // act
+        assertThrows(CoreException.class,
+            () -> orderApplicationService.placeOrder(1L, List.of(new OrderItemRequest(product.getId(), 1))));
+
+        // assert
+        assertThat(userOrderCounterRepository.getCount(1L)).isEqualTo(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.loopers.application.product;
+
+import com.loopers.application.brand.BrandResult;
+import com.loopers.application.brand.BrandService;
+import com.loopers.application.like.LikeApplicationService;
+import com.loopers.config.jpa.statement.SqlStatementScope;
+import com.loopers.domain.brand.BrandDomainService;
+import com.loopers.domain.brand.BrandInfo;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.like.LikeDomainService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.Stock;
+import com.loopers.infrastructure.brand.InMemoryBrandCatalog;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 첫 조회의 워밍업 지연으로 대체값이 섞이지 않도록 제한 시간을 넉넉히 둔다.
+@SpringBootTest(properties = {
+    "product.detail.like-count-timeout=5s",
+    "product.detail.liked-by-me-timeout=5s"
+})
+class ProductDetailFacadeIntegrationTest {
+
+    @Autowired
+    private ProductDetailFacade productDetailFacade;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private LikeApplicationService likeApplicationService;
+
+    @Autowired
+    private BrandDomainService brandDomainService;
+
+    @Autowired
+    private LikeDomainService likeDomainService;
+
+    @Autowired
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    @Autowired
+    private InMemoryBrandCatalog brandCatalog;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        brandCatalog.clear();
+    }
+
+    private ProductResult createProduct() {
+        BrandResult brand = brandService.create(new BrandInfo("Nike", "Just Do It", "https://example.com/nike.png"));
+        return productService.create(new ProductInfo(brand.id(), "Air Max", "러닝화", 150_000L, 10, "https://example.com/air-max.png"));
+    }
+
+    @DisplayName("로그인 사용자가 조회하면, 상품/브랜드/좋아요 수/내 좋아요 여부를 함께 반환한다.")
+    @Test
+    void returnsAggregate_whenUserIsAuthenticated() {
+        // arrange
+        ProductResult product = createProduct();
+        likeApplicationService.like(1L, product.id());
+        likeApplicationService.like(2L, product.id());
+
+        // act
+        ProductDetailResult result = productDetailFacade.getDetail(product.id(), 1L);
+
+        // assert
+        assertAll(
+            () -> assertThat(result.product().id()).isEqualTo(product.id()),
+            () -> assertThat(result.brand().id()).isEqualTo(product.brandId()),
+            () -> assertThat(result.likeCount()).isEqualTo(2L),
+            () -> assertThat(result.likedByMe()).isTrue(),
+            () -> assertThat(result.fallbacks()).isEmpty()
+        );
+    }
+
+    @DisplayName("비로그인으로 조회하면, 내 좋아요 여부는 false 이다.")
+    @Test
+    void returnsNotLiked_whenUserIsAnonymous() {
+        // arrange
+        ProductResult product = createProduct();
+        likeApplicationService.like(1L, product.id());
+
+        // act
+        ProductDetailResult result = productDetailFacade.getDetail(product.id(), null);
+
+        // assert
+        assertAll(
+            () -> assertThat(result.likeCount()).isEqualTo(1L),
+            () -> assertThat(result.likedByMe()).isFalse(),
+            () -> assertThat(result.fallbacks()).isEmpty()
+        );
+    }
+
+    @DisplayName("브랜드 조회에 실패하면, 브랜드 없이 나머지 정보로 응답한다.")
+    @Test
+    void fallsBackWithoutBrand_whenBrandLookupFails() {
+        // arrange
+        Product product = productRepository.save(Product.create(999L, "Air Max", "러닝화",
+            new Money(150_000L), new Stock(10), "https://example.com/air-max.png"));
+
+        // act
+        ProductDetailResult result = productDetailFacade.getDetail(product.getId(), 1L);
+
+        // assert
+        assertAll(
+            () -> assertThat(result.product().id()).isEqualTo(product.getId()),
+            () -> assertThat(result.brand()).isNull(),
+            () -> assertThat(result.likeCount()).isZero(),
+            () -> assertThat(result.likedByMe()).isFalse(),
+            () -> assertThat(result.fallbacks()).containsExactly(ProductDetailResult.Section.BRAND)
+        );
+    }
+
+    @DisplayName("존재하지 않는 상품이면, PRODUCT_NOT_FOUND 예외가 발생한다.")
+    @Test
+    void throwsProductNotFound_whenProductDoesNotExist() {
+        // act
+        CoreException result = assertThrows(CoreException.class, () -> productDetailFacade.getDetail(999L, 1L));
+
+        // assert
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.PRODUCT_NOT_FOUND);
+    }
+
+    @DisplayName("상품 조회가 제한 시간을 넘기면, SERVICE_UNAVAILABLE 예외가 발생한다.")
+    @Test
+    void throwsServiceUnavailable_whenProductLookupTimesOut() {
+        // arrange
+        ProductResult product = createProduct();
+        ProductDetailFacade facade = new ProductDetailFacade(
+            productService,
+            brandDomainService,
+            likeDomainService,
+            parallelQueryExecutor,
+            new ProductDetailProperties(Duration.ZERO, null, null),
+            new SimpleMeterRegistry()
+        );
+
+        // act
+        CoreException result = assertThrows(CoreException.class, () -> facade.getDetail(product.id(), 1L));
+
+        // assert
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.SERVICE_UNAVAILABLE);
+    }
+
+    @DisplayName("병렬 조회의 SQL 도 요청 스레드의 SQL 집계에 포함된다.")
+    @Test
+    void recordsForkedStatements_inCallerScope() {
+        // arrange
+        ProductResult product = createProduct();
+
+        // act
+        SqlStatementScope scope;
+        try (SqlStatementScope opened = SqlStatementScope.open()) {
+            productDetailFacade.getDetail(product.id(), 1L);
+            scope = opened;
+        }
+
+        // assert
+        assertThat(scope.statements()).isPositive();
+    }
+}
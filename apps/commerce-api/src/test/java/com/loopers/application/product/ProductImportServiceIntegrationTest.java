@@ -0,0 +1,164 @@
+package com.loopers.application.product;
+
+import com.loopers.application.brand.BrandResult;
+import com.loopers.application.brand.BrandService;
+import com.loopers.domain.brand.BrandInfo;
+import com.loopers.domain.outbox.OutboxAggregateType;
+import com.loopers.domain.product.ProductsImportedEvent;
+import com.loopers.infrastructure.brand.InMemoryBrandCatalog;
+import com.loopers.infrastructure.persistence.jpa.outbox.OutboxJpaEntity;
+import com.loopers.infrastructure.persistence.jpa.outbox.OutboxJpaRepository;
+import com.loopers.infrastructure.persistence.jpa.product.ProductJpaEntity;
+import com.loopers.infrastructure.persistence.jpa.product.ProductJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ProductImportServiceIntegrationTest {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private InMemoryBrandCatalog brandCatalog;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        brandCatalog.clear();
+    }
+
+    private InputStream streamOf(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("NDJSON 으로 일괄 등록할 때,")
+    @Nested
+    class Ndjson {
+
+        @DisplayName("유효한 행은 저장되고, 잘못된 행은 줄 번호와 함께 결과에 담긴다.")
+        @Test
+        void importsValidRowsAndReportsInvalidRows() {
+            // arrange
+            BrandResult brand = brandService.create(new BrandInfo("Nike", null, null));
+            String body = String.join("\n",
+                "{\"brandId\":" + brand.id() + ",\"name\":\"상품1\",\"price\":10000,\"stock\":10}",
+                "{\"brandId\":" + brand.id() + ",\"name\":\"상품2\",\"price\":20000,\"stock\":5,\"imageUrl\":\"https://example.com/2.png\"}",
+                "{\"brandId\":999,\"name\":\"상품3\",\"price\":10000,\"stock\":10}",
+                "{\"brandId\":" + brand.id() + ",\"name\":\"\",\"price\":10000,\"stock\":10}",
+                "{not json"
+            );
+
+            // act
+            ProductImportReport report = productImportService.importProducts(streamOf(body), ProductImportFormat.NDJSON);
+
+            // assert
+            List<ProductJpaEntity> saved = productJpaRepository.findAll();
+            assertAll(
+                () -> assertThat(report.totalRows()).isEqualTo(5),
+                () -> assertThat(report.importedRows()).isEqualTo(2),
+                () -> assertThat(report.failedRows()).isEqualTo(3),
+                () -> assertThat(report.errors()).extracting(ProductImportReport.RowError::line).containsExactly(3L, 4L, 5L),
+                () -> assertThat(saved).extracting(ProductJpaEntity::getName).containsExactlyInAnyOrder("상품1", "상품2"),
+                () -> assertThat(saved).allSatisfy(product -> assertThat(product.getCreatedAt()).isNotNull())
+            );
+        }
+
+        @DisplayName("등록된 브랜드마다 BRAND aggregate(aggregateId = brandId) 로 PRODUCTS_IMPORTED 이벤트가 기록된다.")
+        @Test
+        void appendsImportedEventAsBrandAggregate() {
+            // arrange
+            BrandResult brand = brandService.create(new BrandInfo("Nike", null, null));
+            String body = String.join("\n",
+                "{\"brandId\":" + brand.id() + ",\"name\":\"상품1\",\"price\":10000,\"stock\":10}",
+                "{\"brandId\":" + brand.id() + ",\"name\":\"상품2\",\"price\":20000,\"stock\":5}"
+            );
+
+            // act
+            productImportService.importProducts(streamOf(body), ProductImportFormat.NDJSON);
+
+            // assert
+            List<OutboxJpaEntity> events = outboxJpaRepository.findAll().stream()
+                .filter(event -> ProductsImportedEvent.EVENT_TYPE.equals(event.getEventType()))
+                .toList();
+            assertThat(events).singleElement().satisfies(event -> assertAll(
+                () -> assertThat(event.getAggregateType()).isEqualTo(OutboxAggregateType.BRAND),
+                () -> assertThat(event.getAggregateId()).isEqualTo(String.valueOf(brand.id()))
+            ));
+        }
+    }
+
+    @DisplayName("CSV 로 일괄 등록할 때,")
+    @Nested
+    class Csv {
+
+        @DisplayName("헤더 순서와 무관하게 등록되고, 큰따옴표로 감싼 필드를 읽는다.")
+        @Test
+        void importsRows_whenHeaderIsPresent() {
+            // arrange
+            BrandResult brand = brandService.create(new BrandInfo("Nike", null, null));
+            String body = String.join("\n",
+                "name,brandId,price,stock,description",
+                "\"에어, 맥스\"," + brand.id() + ",150000,3,\"\"\"한정판\"\"\"",
+                "조던," + brand.id() + ",abc,3,"
+            );
+
+            // act
+            ProductImportReport report = productImportService.importProducts(streamOf(body), ProductImportFormat.CSV);
+
+            // assert
+            List<ProductJpaEntity> saved = productJpaRepository.findAll();
+            assertAll(
+                () -> assertThat(report.importedRows()).isEqualTo(1),
+                () -> assertThat(report.failedRows()).isEqualTo(1),
+                () -> assertThat(report.errors().get(0).line()).isEqualTo(3L),
+                () -> assertThat(saved).hasSize(1),
+                () -> assertThat(saved.get(0).getName()).isEqualTo("에어, 맥스"),
+                () -> assertThat(saved.get(0).getDescription()).isEqualTo("\"한정판\"")
+            );
+        }
+
+        @DisplayName("필수 컬럼이 헤더에 없으면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenHeaderIsMissingColumn() {
+            // arrange
+            String body = "name,price,stock\n상품,1000,1";
+
+            // act
+            CoreException result = assertThrows(CoreException.class, () -> {
+                productImportService.importProducts(streamOf(body), ProductImportFormat.CSV);
+            });
+
+            // assert
+            assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+}
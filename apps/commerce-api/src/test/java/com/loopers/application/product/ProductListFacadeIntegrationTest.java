@@ -0,0 +1,181 @@
+package com.loopers.application.product;
+
+import com.loopers.application.brand.BrandResult;
+import com.loopers.application.brand.BrandService;
+import com.loopers.application.like.LikeApplicationService;
+import com.loopers.config.jpa.statement.SqlStatementScope;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.brand.BrandInfo;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.infrastructure.brand.InMemoryBrandCatalog;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+// 첫 조회의 워밍업 지연으로 null 이 섞이지 않도록 제한 시간을 넉넉히 둔다.
+@SpringBootTest(properties = "product.list.enrichment-timeout=5s")
+class ProductListFacadeIntegrationTest {
+
+    // 캐시 적재는 비동기라 이전 테스트의 적재가 정리 이후에 끝날 수 있다. 테스트마다 다른 사용자를 쓴다.
+    private static final Long USER_ID = 10L;
+    private static final Long OTHER_USER_ID = 20L;
+    private static final Long WARMED_USER_ID = 30L;
+    private static final String LIKED_PRODUCTS_KEY = "like:user:" + WARMED_USER_ID + ":products";
+
+    @Autowired
+    private ProductListFacade productListFacade;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private LikeApplicationService likeApplicationService;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private InMemoryBrandCatalog brandCatalog;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+        brandCatalog.clear();
+    }
+
+    private ProductResult createProduct(Long brandId, String name) {
+        return productService.create(new ProductInfo(brandId, name, "설명", 10_000L, 10, "https://example.com/" + name + ".png"));
+    }
+
+    private Map<Long, ProductListItemResult> byProductId(Page<ProductListItemResult> page) {
+        return page.getContent().stream()
+            .collect(Collectors.toMap(item -> item.product().id(), Function.identity()));
+    }
+
+    private void awaitWarm() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!Boolean.TRUE.equals(redisTemplate.hasKey(LIKED_PRODUCTS_KEY))) {
+            assertThat(System.currentTimeMillis()).as("좋아요 상품 캐시 적재 대기").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    @DisplayName("로그인 사용자가 조회하면, 상품별 좋아요 수와 내 좋아요 여부가 붙는다.")
+    @Test
+    void enrichesLikeCountAndLikedByMe_whenUserIsAuthenticated() {
+        // arrange
+        BrandResult brand = brandService.create(new BrandInfo("Nike", "Just Do It", "https://example.com/nike.png"));
+        ProductResult first = createProduct(brand.id(), "first");
+        ProductResult second = createProduct(brand.id(), "second");
+        ProductResult third = createProduct(brand.id(), "third");
+        likeApplicationService.like(USER_ID, first.id());
+        likeApplicationService.like(OTHER_USER_ID, first.id());
+        likeApplicationService.like(OTHER_USER_ID, second.id());
+
+        // act
+        Page<ProductListItemResult> page = productListFacade.getProducts(null, PageRequest.of(0, 10), USER_ID);
+
+        // assert
+        Map<Long, ProductListItemResult> items = byProductId(page);
+        assertAll(
+            () -> assertThat(page.getTotalElements()).isEqualTo(3),
+            () -> assertThat(items.get(first.id()).likeCount()).isEqualTo(2L),
+            () -> assertThat(items.get(first.id()).likedByMe()).isTrue(),
+            () -> assertThat(items.get(second.id()).likeCount()).isEqualTo(1L),
+            () -> assertThat(items.get(second.id()).likedByMe()).isFalse(),
+            () -> assertThat(items.get(third.id()).likeCount()).isZero(),
+            () -> assertThat(items.get(third.id()).likedByMe()).isFalse()
+        );
+    }
+
+    @DisplayName("비로그인으로 조회하면, 내 좋아요 여부는 모두 false 이다.")
+    @Test
+    void returnsNotLiked_whenUserIsAnonymous() {
+        // arrange
+        BrandResult brand = brandService.create(new BrandInfo("Nike", "Just Do It", "https://example.com/nike.png"));
+        ProductResult product = createProduct(brand.id(), "first");
+        likeApplicationService.like(USER_ID, product.id());
+
+        // act
+        Page<ProductListItemResult> page = productListFacade.getProducts(null, PageRequest.of(0, 10), null);
+
+        // assert
+        assertThat(page.getContent())
+            .singleElement()
+            .satisfies(item -> {
+                assertThat(item.likeCount()).isEqualTo(1L);
+                assertThat(item.likedByMe()).isFalse();
+            });
+    }
+
+    @DisplayName("좋아요 상품 캐시가 적재된 뒤의 좋아요/취소도 목록에 반영된다.")
+    @Test
+    void reflectsLaterLikes_afterCacheIsWarmed() throws InterruptedException {
+        // arrange
+        BrandResult brand = brandService.create(new BrandInfo("Nike", "Just Do It", "https://example.com/nike.png"));
+        ProductResult first = createProduct(brand.id(), "first");
+        ProductResult second = createProduct(brand.id(), "second");
+        likeApplicationService.like(WARMED_USER_ID, first.id());
+        productListFacade.getProducts(null, PageRequest.of(0, 10), WARMED_USER_ID);
+        awaitWarm();
+
+        // act
+        likeApplicationService.like(WARMED_USER_ID, second.id());
+        likeApplicationService.unlike(WARMED_USER_ID, first.id());
+        Page<ProductListItemResult> page = productListFacade.getProducts(null, PageRequest.of(0, 10), WARMED_USER_ID);
+
+        // assert
+        Map<Long, ProductListItemResult> items = byProductId(page);
+        assertAll(
+            () -> assertThat(redisTemplate.opsForSet().members(LIKED_PRODUCTS_KEY))
+                .containsExactlyInAnyOrder("0", String.valueOf(second.id())),
+            () -> assertThat(items.get(first.id()).likedByMe()).isFalse(),
+            () -> assertThat(items.get(second.id()).likedByMe()).isTrue()
+        );
+    }
+
+    @DisplayName("전체 개수/좋아요 수 병렬 조회의 SQL 도 요청 스레드의 SQL 집계에 포함된다.")
+    @Test
+    void recordsForkedStatements_inCallerScope() {
+        // arrange
+        BrandResult brand = brandService.create(new BrandInfo("Nike", "Just Do It", "https://example.com/nike.png"));
+        createProduct(brand.id(), "first");
+
+        // act
+        SqlStatementScope scope;
+        try (SqlStatementScope opened = SqlStatementScope.open()) {
+            productListFacade.getProducts(null, PageRequest.of(0, 10), null);
+            scope = opened;
+        }
+
+        // assert
+        // 상품 페이지(요청 스레드) + 전체 개수 + 좋아요 수
+        assertThat(scope.statements()).isGreaterThanOrEqualTo(3);
+    }
+}
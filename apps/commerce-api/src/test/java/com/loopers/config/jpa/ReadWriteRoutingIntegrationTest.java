@@ -0,0 +1,55 @@
+package com.loopers.config.jpa;
+
+import com.loopers.testcontainers.MySqlReplicaTestContainers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "datasource.mysql-jpa.routing.enabled=true")
+class ReadWriteRoutingIntegrationTest {
+
+    @DynamicPropertySource
+    static void replica(DynamicPropertyRegistry registry) {
+        MySqlReplicaTestContainers.registerProperties(registry);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int serverIdIn(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT @@server_id", Integer.class));
+    }
+
+    @DisplayName("readOnly 트랜잭션은 replica 로 라우팅된다.")
+    @Test
+    void routesReadOnlyTransactionToReplica() {
+        // act
+        int serverId = serverIdIn(true);
+
+        // assert
+        assertThat(serverId).isEqualTo(MySqlReplicaTestContainers.REPLICA_SERVER_ID);
+    }
+
+    @DisplayName("쓰기 트랜잭션은 main 으로 라우팅된다.")
+    @Test
+    void routesReadWriteTransactionToMain() {
+        // act
+        int serverId = serverIdIn(false);
+
+        // assert
+        assertThat(serverId).isEqualTo(MySqlReplicaTestContainers.MAIN_SERVER_ID);
+    }
+}
@@ -0,0 +1,241 @@
+package com.loopers.config.jpa;
+
+import com.loopers.application.brand.BrandService;
+import com.loopers.application.product.ProductService;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandInfo;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.Stock;
+import com.loopers.infrastructure.brand.InMemoryBrandCatalog;
+import com.loopers.infrastructure.persistence.jpa.EntityCacheInvalidationProperties;
+import com.loopers.infrastructure.persistence.jpa.product.ProductJpaEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheIntegrationTest {
+
+    private static final int LOOKUPS = 200;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private EntityCacheInvalidationProperties invalidationProperties;
+
+    @Autowired
+    private InMemoryBrandCatalog brandCatalog;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        brandCatalog.clear();
+    }
+
+    private Product saveProduct() {
+        return productRepository.save(
+            Product.create(1L, "상품", "설명", new Money(10000L), new Stock(10), "http://image.url"));
+    }
+
+    /**
+     * 2차 캐시를 거치지 않고 DB 만 바꾼다. (다른 인스턴스의 삭제)
+     */
+    private void softDeleteOnAnotherInstance(String table, Long id) {
+        jdbcTemplate.update("UPDATE " + table + " SET deleted_at = NOW(6) WHERE id = ?", id);
+    }
+
+    private boolean isDeleted(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT deleted_at IS NOT NULL FROM " + table + " WHERE id = ?", Boolean.class, id);
+    }
+
+    /**
+     * 트랜잭션마다 상품을 한 번씩 조회하고, JDBC 결과에서 엔티티를 만든(hydration) 횟수를 센다.
+     */
+    private long hydrationsFor(Long productId, boolean evictEachTime) {
+        statistics.clear();
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (evictEachTime) {
+                entityManagerFactory.getCache().evict(ProductJpaEntity.class);
+            }
+            productRepository.findByIdActive(productId).orElseThrow();
+        }
+        return statistics.getEntityStatistics(ProductJpaEntity.class.getName()).getLoadCount();
+    }
+
+    @DisplayName("트랜잭션이 달라도 같은 상품은 한 번만 JDBC 결과에서 만들어진다.")
+    @Test
+    void hydratesProductOncePerRegionEntry() {
+        // arrange
+        Product product = saveProduct();
+        long withoutCache = hydrationsFor(product.getId(), true);
+
+        // act
+        long withCache = hydrationsFor(product.getId(), false);
+
+        // assert
+        log.info("상품 {}회 조회 - hydration 캐시 미사용: {}, 캐시 사용: {}", LOOKUPS, withoutCache, withCache);
+        assertAll(
+            () -> assertThat(withoutCache).isEqualTo(LOOKUPS),
+            () -> assertThat(withCache).isLessThanOrEqualTo(1),
+            () -> assertThat(statistics.getDomainDataRegionStatistics("product").getHitCount()).isGreaterThanOrEqualTo(LOOKUPS - 1)
+        );
+    }
+
+    @DisplayName("트랜잭션 밖에서 조회한 상품을 수정해 저장하면(벌크 UPDATE) 캐시된 값이 무효화된다.")
+    @Test
+    void evictsOnBulkUpdate() {
+        // arrange
+        Product product = saveProduct();
+        Product cached = productRepository.findByIdActive(product.getId()).orElseThrow();
+        cached.decreaseStock(3);
+
+        // act
+        productRepository.save(cached);
+
+        // assert
+        assertThat(productRepository.findByIdActive(product.getId()).orElseThrow().getStock().quantity()).isEqualTo(7);
+    }
+
+    @DisplayName("벌크 soft delete 후에는 캐시에 남은 상품이 조회되지 않는다.")
+    @Test
+    void evictsOnBulkSoftDelete() {
+        // arrange
+        Product product = saveProduct();
+        productRepository.findByIdActive(product.getId()).orElseThrow();
+
+        // act
+        productRepository.softDeleteAllByIds(List.of(product.getId()), ZonedDateTime.now());
+
+        // assert
+        assertThat(productRepository.findByIdActive(product.getId())).isEmpty();
+    }
+
+    @DisplayName("region 별 캐시 메트릭이 등록된다.")
+    @Test
+    void registersRegionMetrics() {
+        // assert
+        assertAll(
+            () -> assertThat(meterRegistry.find("cache.gets").tag("cache", "product").meters()).isNotEmpty(),
+            () -> assertThat(meterRegistry.find("cache.gets").tag("cache", "brand").meters()).isNotEmpty()
+        );
+    }
+
+    @DisplayName("다른 인스턴스가 삭제한 상품이 캐시에 남아 있어도, 수정하면 찾을 수 없고 삭제 상태가 유지된다.")
+    @Test
+    void doesNotResurrectProduct_deletedOnAnotherInstance() {
+        // arrange
+        Product product = saveProduct();
+        productRepository.findByIdActive(product.getId()).orElseThrow();
+        softDeleteOnAnotherInstance("products", product.getId());
+        ProductInfo info = new ProductInfo(1L, "수정된 상품", "설명", 20000L, 5, "http://image.url");
+
+        // act
+        CoreException result = assertThrows(CoreException.class, () -> productService.update(product.getId(), info));
+
+        // assert
+        assertAll(
+            () -> assertThat(result.getErrorType()).isEqualTo(ErrorType.PRODUCT_NOT_FOUND),
+            () -> assertThat(isDeleted("products", product.getId())).isTrue()
+        );
+    }
+
+    @DisplayName("다른 인스턴스가 삭제한 브랜드가 캐시에 남아 있어도, 수정하면 찾을 수 없고 삭제 상태가 유지된다.")
+    @Test
+    void doesNotResurrectBrand_deletedOnAnotherInstance() {
+        // arrange
+        Brand brand = brandRepository.save(Brand.create("Nike", "스포츠 브랜드", "https://example.com/nike.png"));
+        brandRepository.findByIdActive(brand.getId()).orElseThrow();
+        softDeleteOnAnotherInstance("brands", brand.getId());
+        BrandInfo info = new BrandInfo("Adidas", "독일 스포츠 브랜드", "https://example.com/adidas.png");
+
+        // act
+        CoreException result = assertThrows(CoreException.class, () -> brandService.update(brand.getId(), info));
+
+        // assert
+        assertAll(
+            () -> assertThat(result.getErrorType()).isEqualTo(ErrorType.BRAND_NOT_FOUND),
+            () -> assertThat(isDeleted("brands", brand.getId())).isTrue()
+        );
+    }
+
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면, 캐시에 남은 상품을 제거한다.")
+    @Test
+    void evictsProduct_whenInvalidationMessageArrives() throws InterruptedException {
+        // arrange
+        Product product = saveProduct();
+        productRepository.findByIdActive(product.getId()).orElseThrow();
+        softDeleteOnAnotherInstance("products", product.getId());
+        boolean cachedBeforeMessage = productRepository.findByIdActive(product.getId()).isPresent();
+
+        // act
+        redisTemplate.convertAndSend(invalidationProperties.invalidationChannel(), "ProductJpaEntity:" + product.getId());
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (productRepository.findByIdActive(product.getId()).isPresent()) {
+            assertThat(System.currentTimeMillis()).as("무효화 메시지 처리 대기").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+
+        // assert
+        assertThat(cachedBeforeMessage).isTrue();
+    }
+}
@@ -1,6 +1,7 @@
 package com.loopers.domain.like;
 
 import com.loopers.fake.FakeLikeRepository;
+import com.loopers.fake.FakeLikedProductCache;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -18,12 +20,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class LikeDomainServiceTest {
 
     private FakeLikeRepository fakeRepository;
+    private FakeLikedProductCache fakeCache;
     private LikeDomainService service;
 
     @BeforeEach
     void setUp() {
         fakeRepository = new FakeLikeRepository();
-        service = new LikeDomainService(fakeRepository);
+        fakeCache = new FakeLikedProductCache();
+        service = new LikeDomainService(fakeRepository, fakeCache);
     }
 
     @DisplayName("좋아요를 등록할 때,")
@@ -140,6 +144,87 @@ class LikeDomainServiceTest {
         }
     }
 
+    @DisplayName("좋아요 여부를 조회할 때,")
+    @Nested
+    class IsLiked {
+
+        @DisplayName("좋아요한 상품이면, true 를 반환한다.")
+        @Test
+        void returnsTrue_whenUserLikedProduct() {
+            // arrange
+            service.like(1L, 100L);
+
+            // act
+            boolean liked = service.isLiked(1L, 100L);
+
+            // assert
+            assertThat(liked).isTrue();
+        }
+
+        @DisplayName("다른 사용자만 좋아요한 상품이면, false 를 반환한다.")
+        @Test
+        void returnsFalse_whenOnlyOtherUserLikedProduct() {
+            // arrange
+            service.like(2L, 100L);
+
+            // act
+            boolean liked = service.isLiked(1L, 100L);
+
+            // assert
+            assertThat(liked).isFalse();
+        }
+    }
+
+    @DisplayName("여러 상품 중 좋아요한 상품을 조회할 때,")
+    @Nested
+    class FindLikedProductIds {
+
+        @DisplayName("캐시가 적재되지 않았으면, 저장소에서 조회하고 캐시를 적재한다.")
+        @Test
+        void loadsFromRepositoryAndWarmsCache_whenCacheIsCold() {
+            // arrange
+            service.like(1L, 100L);
+            service.like(1L, 300L);
+            service.like(2L, 200L);
+
+            // act
+            Set<Long> liked = service.findLikedProductIds(1L, List.of(100L, 200L));
+
+            // assert
+            assertThat(liked).containsExactly(100L);
+            assertThat(fakeCache.hitCount()).isZero();
+            assertThat(fakeCache.isWarm(1L)).isTrue();
+        }
+
+        @DisplayName("캐시가 적재되어 있으면, 캐시에서 응답하고 이후 좋아요/취소가 반영된다.")
+        @Test
+        void servesFromCacheWithLaterChanges_whenCacheIsWarm() {
+            // arrange
+            service.like(1L, 100L);
+            service.findLikedProductIds(1L, List.of(100L));
+            service.like(1L, 200L);
+            service.unlike(1L, 100L);
+
+            // act
+            Set<Long> liked = service.findLikedProductIds(1L, List.of(100L, 200L));
+
+            // assert
+            assertThat(liked).containsExactly(200L);
+            assertThat(fakeCache.hitCount()).isEqualTo(1);
+        }
+
+        @DisplayName("상품 목록이 비어 있으면, 빈 Set 을 반환한다.")
+        @Test
+        void returnsEmpty_whenProductIdsAreEmpty() {
+            // act
+            Set<Long> liked = service.findLikedProductIds(1L, List.of());
+
+            // assert
+            assertThat(liked).isEmpty();
+            assertThat(fakeCache.isWarm(1L)).isFalse();
+        }
+    }
+
     @DisplayName("좋아요 수를 조회할 때,")
     @Nested
     class CountByProductId {
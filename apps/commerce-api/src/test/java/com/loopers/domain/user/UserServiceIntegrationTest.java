@@ -1,5 +1,6 @@
 package com.loopers.domain.user;
 
+import com.loopers.infrastructure.user.CaffeineUserCache;
 import com.loopers.infrastructure.user.UserJpaRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -24,12 +25,16 @@ class UserServiceIntegrationTest {
     @Autowired
     private UserJpaRepository userJpaRepository;
 
+    @Autowired
+    private CaffeineUserCache userCache;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        userCache.invalidateAll();
     }
 
     @DisplayName("회원가입할 때,")
@@ -89,12 +94,32 @@ class UserServiceIntegrationTest {
             userService.register(loginId, "Test1234!", "홍길동", "19900101", "test@example.com");
 
             // act
-            User result = userService.getUserByLoginId(loginId);
+            UserSnapshot result = userService.getUserByLoginId(loginId);
 
             // assert
             assertAll(
                 () -> assertThat(result).isNotNull(),
-                () -> assertThat(result.getLoginId()).isEqualTo(loginId)
+                () -> assertThat(result.loginId()).isEqualTo(loginId)
+            );
+        }
+
+        @DisplayName("캐시된 사용자를 다시 조회하면, 엔티티가 아닌 같은 불변 사본을 반환하고 비밀번호 해시는 문자열에 드러나지 않는다.")
+        @Test
+        void returnsSameImmutableSnapshot_whenCached() {
+            // arrange
+            String loginId = "testuser";
+            User registered = userService.register(loginId, "Test1234!", "홍길동", "19900101", "test@example.com");
+            UserSnapshot first = userService.getUserByLoginId(loginId);
+
+            // act
+            UserSnapshot result = userService.getUserByLoginId(loginId);
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isSameAs(first),
+                () -> assertThat(result.id()).isEqualTo(registered.getId()),
+                () -> assertThat(result.maskedName()).isEqualTo("홍*동"),
+                () -> assertThat(result.toString()).doesNotContain(result.passwordHash())
             );
         }
 
@@ -127,12 +152,12 @@ class UserServiceIntegrationTest {
             userService.register(loginId, password, "홍길동", "19900101", "test@example.com");
 
             // act
-            User result = userService.authenticate(loginId, password);
+            UserSnapshot result = userService.authenticate(loginId, password);
 
             // assert
             assertAll(
                 () -> assertThat(result).isNotNull(),
-                () -> assertThat(result.getLoginId()).isEqualTo(loginId)
+                () -> assertThat(result.loginId()).isEqualTo(loginId)
             );
         }
 
@@ -186,10 +211,28 @@ class UserServiceIntegrationTest {
             userService.changePassword(loginId, currentPassword, newPassword);
 
             // assert
-            User updatedUser = userService.authenticate(loginId, newPassword);
+            UserSnapshot updatedUser = userService.authenticate(loginId, newPassword);
             assertThat(updatedUser).isNotNull();
         }
 
+        @DisplayName("캐시된 사용자의 비밀번호를 변경하면, 이전 비밀번호로는 인증되지 않는다.")
+        @Test
+        void evictsCachedUser_whenPasswordIsChanged() {
+            // arrange
+            String loginId = "testuser";
+            userService.register(loginId, "Test1234!", "홍길동", "19900101", "test@example.com");
+            userService.authenticate(loginId, "Test1234!");
+
+            // act
+            userService.changePassword(loginId, "Test1234!", "NewPass12!");
+
+            // assert
+            CoreException result = assertThrows(CoreException.class, () -> {
+                userService.authenticate(loginId, "Test1234!");
+            });
+            assertThat(result.getErrorType()).isEqualTo(ErrorType.PASSWORD_MISMATCH);
+        }
+
         @DisplayName("잘못된 현재 비밀번호로 변경하면, PASSWORD_MISMATCH 예외가 발생한다.")
         @Test
         void throwsPasswordMismatchException_whenCurrentPasswordIsWrong() {
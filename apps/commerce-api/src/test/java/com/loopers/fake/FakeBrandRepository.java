@@ -48,6 +48,12 @@ public class FakeBrandRepository implements BrandRepository {
         return findById(id).filter(brand -> !brand.isDeleted());
     }
 
+    @Override
+    public Optional<Brand> findByIdWithLock(Long id) {
+        // Fake에서는 락 없이 동일하게 동작
+        return findByIdActive(id);
+    }
+
     @Override
     public List<Brand> findAllActive() {
         return store.values().stream()
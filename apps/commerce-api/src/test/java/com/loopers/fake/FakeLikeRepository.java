@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -67,6 +68,23 @@ public class FakeLikeRepository implements LikeRepository {
             ));
     }
 
+    @Override
+    public Set<Long> findLikedProductIds(Long userId, List<Long> productIds) {
+        return store.values().stream()
+            .filter(l -> l.getUserId().equals(userId) && productIds.contains(l.getProductId()))
+            .map(Like::getProductId)
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<Long> findProductIdsByUserId(Long userId, int limit) {
+        return store.values().stream()
+            .filter(l -> l.getUserId().equals(userId))
+            .map(Like::getProductId)
+            .limit(limit)
+            .toList();
+    }
+
     /**
      * 테스트용: 저장소 초기화
      */
@@ -0,0 +1,69 @@
+package com.loopers.fake;
+
+import com.loopers.domain.like.LikedProductCache;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 테스트용 Fake LikedProductCache.
+ * Map 기반 in-memory 구현. 적재는 동기로 수행한다.
+ */
+public class FakeLikedProductCache implements LikedProductCache {
+
+    private final Map<Long, Set<Long>> store = new HashMap<>();
+    private int hitCount;
+
+    @Override
+    public Optional<Set<Long>> findLikedAmong(Long userId, List<Long> productIds) {
+        Set<Long> liked = store.get(userId);
+        if (liked == null) {
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(productIds.stream()
+            .filter(liked::contains)
+            .collect(Collectors.toSet()));
+    }
+
+    @Override
+    public void warm(Long userId, IntFunction<List<Long>> loader) {
+        store.put(userId, new HashSet<>(loader.apply(Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public void added(Long userId, Long productId) {
+        Set<Long> liked = store.get(userId);
+        if (liked != null) {
+            liked.add(productId);
+        }
+    }
+
+    @Override
+    public void removed(Long userId, Long productId) {
+        Set<Long> liked = store.get(userId);
+        if (liked != null) {
+            liked.remove(productId);
+        }
+    }
+
+    /**
+     * 테스트용: 캐시에서 응답한 횟수
+     */
+    public int hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * 테스트용: 적재 여부
+     */
+    public boolean isWarm(Long userId) {
+        return store.containsKey(userId);
+    }
+}
@@ -71,13 +71,6 @@ public class FakeOrderRepository implements OrderRepository {
             .toList();
     }
 
-    @Override
-    public long countByUserId(Long userId) {
-        return store.values().stream()
-            .filter(order -> order.getUserId().equals(userId))
-            .count();
-    }
-
     /**
      * 테스트용: 저장소 초기화
      */
@@ -0,0 +1,63 @@
+package com.loopers.fake;
+
+import com.loopers.domain.order.OrderCursor;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.order.OrderSummaryRepository;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 테스트용 Fake OrderSummaryRepository.
+ * Map 기반 in-memory 구현.
+ */
+public class FakeOrderSummaryRepository implements OrderSummaryRepository {
+
+    private final Map<Long, OrderSummary> store = new HashMap<>();
+
+    @Override
+    public OrderSummary save(OrderSummary summary) {
+        store.put(summary.orderId(), summary);
+        return summary;
+    }
+
+    @Override
+    public List<OrderSummary> findAllByUserIdAfter(Long userId, OrderCursor cursor, int limit, boolean withItems) {
+        Comparator<OrderSummary> latestFirst = Comparator.comparing(OrderSummary::orderedAt)
+            .thenComparing(OrderSummary::orderId)
+            .reversed();
+        return store.values().stream()
+            .filter(summary -> summary.userId().equals(userId))
+            .filter(summary -> cursor == null || isAfter(summary, cursor))
+            .sorted(latestFirst)
+            .limit(limit)
+            .map(summary -> withItems ? summary : new OrderSummary(
+                summary.orderId(),
+                summary.userId(),
+                summary.totalPrice(),
+                summary.status(),
+                summary.itemCount(),
+                summary.thumbnailProductId(),
+                summary.thumbnailProductName(),
+                summary.thumbnailImageUrl(),
+                List.of(),
+                summary.orderedAt()
+            ))
+            .toList();
+    }
+
+    private boolean isAfter(OrderSummary summary, OrderCursor cursor) {
+        int compared = summary.orderedAt().compareTo(cursor.createdAt());
+        return compared < 0 || (compared == 0 && summary.orderId() < cursor.id());
+    }
+
+    /**
+     * 테스트용: 주문 ID 로 조회
+     */
+    public Optional<OrderSummary> findByOrderId(Long orderId) {
+        return Optional.ofNullable(store.get(orderId));
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.fake;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 Fake OutboxRepository.
+ * List 기반 in-memory 구현.
+ */
+public class FakeOutboxRepository implements OutboxRepository {
+
+    private final List<OutboxEvent> store = new ArrayList<>();
+    private final AtomicLong idGenerator = new AtomicLong(1);
+
+    @Override
+    public OutboxEvent save(OutboxEvent event) {
+        OutboxEvent saved = OutboxEvent.reconstitute(
+            idGenerator.getAndIncrement(),
+            event.getAggregateType(),
+            event.getAggregateId(),
+            event.getEventType(),
+            event.getPayload(),
+            event.getStatus(),
+            event.getCreatedAt()
+        );
+        store.add(saved);
+        return saved;
+    }
+
+    /**
+     * 테스트용: 저장된 이벤트 전체 조회 (저장 순서)
+     */
+    public List<OutboxEvent> findAll() {
+        return List.copyOf(store);
+    }
+
+    /**
+     * 테스트용: 저장소 초기화
+     */
+    public void clear() {
+        store.clear();
+        idGenerator.set(1);
+    }
+
+    /**
+     * 테스트용: 저장된 이벤트 수 조회
+     */
+    public int size() {
+        return store.size();
+    }
+}
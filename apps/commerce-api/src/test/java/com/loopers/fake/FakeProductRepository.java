@@ -4,6 +4,7 @@ import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSort;
 
+import java.time.ZonedDateTime;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -42,6 +43,12 @@ public class FakeProductRepository implements ProductRepository {
         return product;
     }
 
+    @Override
+    public int insertAll(List<Product> products) {
+        products.forEach(this::save);
+        return products.size();
+    }
+
     @Override
     public Optional<Product> findById(Long id) {
         return Optional.ofNullable(store.get(id));
@@ -80,13 +87,35 @@ public class FakeProductRepository implements ProductRepository {
     }
 
     @Override
-    public List<Product> findAllByBrandIdActive(Long brandId) {
+    public List<Long> findActiveIdsByBrandId(Long brandId, int limit) {
         return store.values().stream()
             .filter(product -> !product.isDeleted())
             .filter(product -> product.getBrandId().equals(brandId))
+            .map(Product::getId)
+            .sorted()
+            .limit(limit)
             .toList();
     }
 
+    @Override
+    public List<Long> findDeletedBrandIdsWithActiveProducts(int limit) {
+        // 브랜드 저장소를 모르므로 항상 비어 있다.
+        return List.of();
+    }
+
+    @Override
+    public int softDeleteAllByIds(List<Long> ids, ZonedDateTime deletedAt) {
+        int deleted = 0;
+        for (Long id : ids) {
+            Product product = store.get(id);
+            if (product != null && !product.isDeleted()) {
+                product.delete();
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
     @Override
     public List<Product> findAllByIds(List<Long> ids) {
         return store.values().stream()
@@ -0,0 +1,25 @@
+package com.loopers.fake;
+
+import com.loopers.domain.order.UserOrderCounterRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테스트용 Fake UserOrderCounterRepository.
+ * Map 기반 in-memory 구현.
+ */
+public class FakeUserOrderCounterRepository implements UserOrderCounterRepository {
+
+    private final Map<Long, Long> store = new HashMap<>();
+
+    @Override
+    public void increment(Long userId) {
+        store.merge(userId, 1L, Long::sum);
+    }
+
+    @Override
+    public long getCount(Long userId) {
+        return store.getOrDefault(userId, 0L);
+    }
+}
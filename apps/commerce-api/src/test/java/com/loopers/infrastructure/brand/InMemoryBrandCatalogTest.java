@@ -0,0 +1,120 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.fake.FakeBrandRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryBrandCatalogTest {
+
+    private static final int CALLERS = 10;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private CountingBrandRepository brandRepository;
+
+    /**
+     * 적재 횟수를 세고, 적재가 겹치도록 조회를 늦춘다.
+     */
+    private class CountingBrandRepository extends FakeBrandRepository {
+        @Override
+        public List<Brand> findAllActive() {
+            loads.incrementAndGet();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.findAllActive();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        brandRepository = new CountingBrandRepository();
+        brandRepository.save(Brand.create("Nike", "스포츠 브랜드", "https://example.com/nike.png"));
+    }
+
+    // 갱신 알림 전파는 쓰지 않으므로 RedisTemplate 은 없다. 시작하지 않은 컨테이너는 구독만 기록한다.
+    private InMemoryBrandCatalog catalog(Duration maxStaleness) {
+        return new InMemoryBrandCatalog(
+            brandRepository,
+            null,
+            new RedisMessageListenerContainer(),
+            new BrandCatalogProperties(maxStaleness, null)
+        );
+    }
+
+    private void runConcurrently(Runnable action) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                action.run();
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @DisplayName("스냅샷이 없거나 만료된 상태에서 동시에 조회해도, 한 번만 적재한다.")
+    @Test
+    void loadsOnce_whenConcurrentCallersSeeStaleSnapshot() throws InterruptedException {
+        // arrange
+        InMemoryBrandCatalog catalog = catalog(Duration.ofMinutes(5));
+
+        // act
+        runConcurrently(catalog::findAllActive);
+
+        // assert
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @DisplayName("갱신 알림이 동시에 여러 번 와도, 먼저 시작한 적재 이후 최대 한 번만 더 적재한다.")
+    @Test
+    void coalescesOverlappingRefreshMessages() throws InterruptedException {
+        // arrange
+        InMemoryBrandCatalog catalog = catalog(Duration.ofMinutes(5));
+        catalog.findAllActive();
+        loads.set(0);
+
+        // act
+        runConcurrently(() -> catalog.onMessage(null, null));
+
+        // assert
+        // 진행 중인 적재는 알림 이전의 변경만 볼 수 있으므로, 알림을 반영하는 적재가 한 번 더 필요할 수 있다.
+        assertThat(loads.get()).isBetween(1, 2);
+    }
+
+    @DisplayName("잠금을 기다리는 동안 다른 호출이 새로 적재했다면, 그 스냅샷에 갱신 이후 생성된 브랜드가 보인다.")
+    @Test
+    void seesBrandCreatedBeforeRefresh() throws InterruptedException {
+        // arrange
+        InMemoryBrandCatalog catalog = catalog(Duration.ofMinutes(5));
+        catalog.findAllActive();
+        Brand created = brandRepository.save(Brand.create("Adidas", "스포츠 브랜드", "https://example.com/adidas.png"));
+
+        // act
+        runConcurrently(() -> catalog.onMessage(null, null));
+
+        // assert
+        assertThat(catalog.findAllActive()).extracting(Brand::getId).contains(created.getId());
+    }
+}
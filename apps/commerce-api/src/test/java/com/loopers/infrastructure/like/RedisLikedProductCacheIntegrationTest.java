@@ -0,0 +1,125 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(properties = "like.liked-product-cache.max-size=3")
+class RedisLikedProductCacheIntegrationTest {
+
+    // 적재는 비동기라 이전 테스트의 적재가 정리 이후에 끝날 수 있다. 테스트마다 다른 사용자를 쓴다.
+    private static final Long CONCURRENT_LIKE_USER_ID = 100L;
+    private static final Long TOO_LARGE_USER_ID = 200L;
+
+    @Autowired
+    private RedisLikedProductCache likedProductCache;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    /**
+     * 같은 사용자의 적재는 하나씩만 진행하므로, probe 가 실행됐다면 앞선 적재는 끝난 것이다.
+     * probe 는 적재하지 않도록 예외를 던진다.
+     */
+    private void awaitPreviousWarm(Long userId) throws InterruptedException {
+        CountDownLatch probed = new CountDownLatch(1);
+        IntFunction<List<Long>> probe = limit -> {
+            probed.countDown();
+            throw new IllegalStateException("probe");
+        };
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!probed.await(20, TimeUnit.MILLISECONDS)) {
+            assertThat(System.currentTimeMillis()).as("이전 적재 완료 대기").isLessThan(deadline);
+            likedProductCache.warm(userId, probe);
+        }
+    }
+
+    @DisplayName("적재 도중 좋아요가 반영되면, 이전 스냅샷으로 덮어쓰지 않고 다음 적재에서 새로 읽는다.")
+    @Test
+    void doesNotOverwriteConcurrentLike_withStaleSnapshot() throws InterruptedException {
+        // arrange
+        Long userId = CONCURRENT_LIKE_USER_ID;
+        IntFunction<List<Long>> staleLoader = limit -> {
+            // 저장소를 읽은 뒤 좋아요가 커밋된 상황
+            likedProductCache.added(userId, 2L);
+            return List.of(1L);
+        };
+
+        // act
+        likedProductCache.warm(userId, staleLoader);
+        awaitPreviousWarm(userId);
+        Optional<Set<Long>> afterStaleWarm = likedProductCache.findLikedAmong(userId, List.of(1L, 2L));
+        likedProductCache.warm(userId, limit -> List.of(1L, 2L));
+        awaitPreviousWarm(userId);
+        Optional<Set<Long>> afterFreshWarm = likedProductCache.findLikedAmong(userId, List.of(1L, 2L));
+
+        // assert
+        assertAll(
+            () -> assertThat(afterStaleWarm).isEmpty(),
+            () -> assertThat(afterFreshWarm).contains(Set.of(1L, 2L))
+        );
+    }
+
+    @DisplayName("좋아요가 최대 개수를 넘으면, 표식을 남기고 표식이 있는 동안 다시 조회하지 않는다.")
+    @Test
+    void skipsReload_whileTooLargeMarkerExists() throws InterruptedException {
+        // arrange
+        Long userId = TOO_LARGE_USER_ID;
+        String tooLargeKey = "like:user:" + userId + ":products:too-large";
+        AtomicInteger loads = new AtomicInteger();
+        IntFunction<List<Long>> loader = limit -> {
+            loads.incrementAndGet();
+            return LongStream.rangeClosed(1, limit).boxed().toList();
+        };
+        likedProductCache.warm(userId, loader);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!Boolean.TRUE.equals(redisTemplate.hasKey(tooLargeKey))) {
+            assertThat(System.currentTimeMillis()).as("표식 기록 대기").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        Long markerTtl = redisTemplate.getExpire(tooLargeKey, TimeUnit.SECONDS);
+
+        // act
+        for (int i = 0; i < 5; i++) {
+            likedProductCache.warm(userId, loader);
+            Thread.sleep(20);
+        }
+        // 표식을 지워야 probe 가 실행되므로, 위 적재 시도가 모두 끝난 것을 확인한 뒤 센다.
+        redisTemplate.delete(tooLargeKey);
+        awaitPreviousWarm(userId);
+
+        // assert
+        assertAll(
+            () -> assertThat(loads.get()).isEqualTo(1),
+            () -> assertThat(markerTtl).isPositive(),
+            () -> assertThat(likedProductCache.findLikedAmong(userId, List.of(1L))).isEmpty()
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.loopers.infrastructure.user;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedPasswordHasher 테스트")
+class BoundedPasswordHasherTest {
+
+    @Nested
+    @DisplayName("해시 생성/검증")
+    class EncodeAndMatches {
+
+        @Test
+        @DisplayName("성공 - 생성한 해시로 원문을 검증할 수 있다")
+        void 해시_생성_후_검증() {
+            // Arrange
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            BoundedPasswordHasher hasher = new BoundedPasswordHasher(
+                new PasswordHashingProperties(1, 1, Duration.ofSeconds(5)), meterRegistry);
+
+            // Act
+            String encoded = hasher.encode("Test1234!");
+
+            // Assert
+            assertThat(hasher.matches("Test1234!", encoded)).isTrue();
+            assertThat(hasher.matches("Wrong1234!", encoded)).isFalse();
+            assertThat(meterRegistry.get("auth.password.hash.duration").tag("operation", "encode").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("auth.password.hash.duration").tag("operation", "matches").timer().count()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열 초과")
+    class Overflow {
+
+        @Test
+        @DisplayName("실패 - 워커와 대기열이 모두 차면 TOO_MANY_REQUESTS 예외")
+        void 대기열_초과_시_즉시_거절() throws Exception {
+            // Arrange
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            BoundedPasswordHasher hasher = new BoundedPasswordHasher(
+                new PasswordHashingProperties(1, 1, Duration.ofSeconds(10)), meterRegistry);
+            int callers = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+            List<CompletableFuture<ErrorType>> results = new ArrayList<>();
+
+            // Act
+            for (int i = 0; i < callers; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                        hasher.encode("Test1234!");
+                        return null;
+                    } catch (CoreException e) {
+                        return e.getErrorType();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return ErrorType.INTERNAL_ERROR;
+                    }
+                }, callerPool));
+            }
+            start.countDown();
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+            callerPool.shutdown();
+
+            // Assert
+            long rejected = results.stream().map(CompletableFuture::join).filter(ErrorType.TOO_MANY_REQUESTS::equals).count();
+            assertThat(rejected).isPositive();
+            assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(rejected);
+        }
+    }
+}
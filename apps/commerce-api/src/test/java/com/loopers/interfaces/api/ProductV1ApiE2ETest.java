@@ -0,0 +1,142 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.application.brand.BrandResult;
+import com.loopers.application.brand.BrandService;
+import com.loopers.application.product.ProductResult;
+import com.loopers.application.product.ProductService;
+import com.loopers.domain.brand.BrandInfo;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.infrastructure.brand.InMemoryBrandCatalog;
+import com.loopers.interfaces.api.product.ProductResponseCache;
+import com.loopers.interfaces.api.product.ProductV1Dto;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductV1ApiE2ETest {
+
+    private static final String ENDPOINT_PRODUCT = "/api/v1/products/";
+
+    private final TestRestTemplate testRestTemplate;
+    private final BrandService brandService;
+    private final ProductService productService;
+    private final ProductResponseCache productResponseCache;
+    private final InMemoryBrandCatalog brandCatalog;
+    private final DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    public ProductV1ApiE2ETest(
+        TestRestTemplate testRestTemplate,
+        BrandService brandService,
+        ProductService productService,
+        ProductResponseCache productResponseCache,
+        InMemoryBrandCatalog brandCatalog,
+        DatabaseCleanUp databaseCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.brandService = brandService;
+        this.productService = productService;
+        this.productResponseCache = productResponseCache;
+        this.brandCatalog = brandCatalog;
+        this.databaseCleanUp = databaseCleanUp;
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        productResponseCache.invalidateAll();
+        brandCatalog.clear();
+    }
+
+    private ProductResult createProduct() {
+        BrandResult brand = brandService.create(new BrandInfo("Nike", "Just Do It", "https://example.com/nike.png"));
+        return productService.create(new ProductInfo(brand.id(), "Air Max", "러닝화", 150_000L, 10, "https://example.com/air-max.png"));
+    }
+
+    private ResponseEntity<ApiResponse<ProductV1Dto.ProductResponse>> getProduct(Long productId, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        ParameterizedTypeReference<ApiResponse<ProductV1Dto.ProductResponse>> responseType = new ParameterizedTypeReference<>() {};
+        return testRestTemplate.exchange(ENDPOINT_PRODUCT + productId, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+    }
+
+    @DisplayName("GET /api/v1/products/{productId}")
+    @Nested
+    class GetProduct {
+
+        @DisplayName("조회하면, 200 OK와 상품 정보, ETag 를 반환한다.")
+        @Test
+        void returns200WithEtag_whenProductExists() {
+            // arrange
+            ProductResult product = createProduct();
+
+            // act
+            ResponseEntity<ApiResponse<ProductV1Dto.ProductResponse>> response = getProduct(product.id(), null);
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getHeaders().getETag()).isNotBlank(),
+                () -> assertThat(response.getBody().meta().result()).isEqualTo(ApiResponse.Metadata.Result.SUCCESS),
+                () -> assertThat(response.getBody().data().id()).isEqualTo(product.id()),
+                () -> assertThat(response.getBody().data().name()).isEqualTo("Air Max"),
+                () -> assertThat(response.getBody().data().price()).isEqualTo(150_000L)
+            );
+        }
+
+        @DisplayName("If-None-Match 가 현재 ETag 와 같으면, 본문 없이 304 NOT_MODIFIED를 반환한다.")
+        @Test
+        void returns304WithoutBody_whenEtagMatches() {
+            // arrange
+            ProductResult product = createProduct();
+            String etag = getProduct(product.id(), null).getHeaders().getETag();
+
+            // act
+            ResponseEntity<ApiResponse<ProductV1Dto.ProductResponse>> response = getProduct(product.id(), etag);
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                () -> assertThat(response.getHeaders().getETag()).isEqualTo(etag),
+                () -> assertThat(response.getBody()).isNull()
+            );
+        }
+
+        @DisplayName("상품이 수정되면, 이전 ETag 로 조회해도 200 OK와 새 정보를 반환한다.")
+        @Test
+        void returns200WithNewEtag_whenProductIsUpdated() {
+            // arrange
+            ProductResult product = createProduct();
+            String etag = getProduct(product.id(), null).getHeaders().getETag();
+            productService.update(product.id(), new ProductInfo(product.brandId(), "Air Max 90", "러닝화", 160_000L, 10, "https://example.com/air-max.png"));
+
+            // act
+            ResponseEntity<ApiResponse<ProductV1Dto.ProductResponse>> response = getProduct(product.id(), etag);
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getHeaders().getETag()).isNotEqualTo(etag),
+                () -> assertThat(response.getBody().data().name()).isEqualTo("Air Max 90"),
+                () -> assertThat(response.getBody().data().price()).isEqualTo(160_000L)
+            );
+        }
+    }
+}
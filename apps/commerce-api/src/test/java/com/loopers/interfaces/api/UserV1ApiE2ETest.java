@@ -1,6 +1,7 @@
 package com.loopers.interfaces.api;
 
 import com.loopers.domain.user.User;
+import com.loopers.infrastructure.user.CaffeineUserCache;
 import com.loopers.infrastructure.user.UserJpaRepository;
 import com.loopers.interfaces.api.user.UserV1Dto;
 import com.loopers.utils.DatabaseCleanUp;
@@ -25,27 +26,32 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 class UserV1ApiE2ETest {
 
     private static final String ENDPOINT_REGISTER = "/api/v1/users";
+    private static final String ENDPOINT_LOGIN = "/api/v1/users/login";
     private static final String ENDPOINT_ME = "/api/v1/users/me";
     private static final String ENDPOINT_CHANGE_PASSWORD = "/api/v1/users/me/password";
 
     private final TestRestTemplate testRestTemplate;
     private final UserJpaRepository userJpaRepository;
+    private final CaffeineUserCache userCache;
     private final DatabaseCleanUp databaseCleanUp;
 
     @Autowired
     public UserV1ApiE2ETest(
         TestRestTemplate testRestTemplate,
         UserJpaRepository userJpaRepository,
+        CaffeineUserCache userCache,
         DatabaseCleanUp databaseCleanUp
     ) {
         this.testRestTemplate = testRestTemplate;
         this.userJpaRepository = userJpaRepository;
+        this.userCache = userCache;
         this.databaseCleanUp = databaseCleanUp;
     }
 
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        userCache.invalidateAll();
     }
 
     @DisplayName("POST /api/v1/users")
@@ -202,6 +208,88 @@ class UserV1ApiE2ETest {
         }
     }
 
+    @DisplayName("POST /api/v1/users/login")
+    @Nested
+    class Login {
+
+        @DisplayName("유효한 인증 정보로 로그인하면, 200 OK와 세션 토큰을 반환한다.")
+        @Test
+        void returns200AndAccessToken_whenCredentialsAreValid() {
+            // arrange
+            userJpaRepository.save(new User("testuser", "Test1234!", "홍길동", "19900101", "test@example.com"));
+            UserV1Dto.LoginRequest request = new UserV1Dto.LoginRequest("testuser", "Test1234!");
+
+            // act
+            ParameterizedTypeReference<ApiResponse<UserV1Dto.LoginResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<UserV1Dto.LoginResponse>> response =
+                testRestTemplate.exchange(ENDPOINT_LOGIN, HttpMethod.POST, new HttpEntity<>(request), responseType);
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getBody()).isNotNull(),
+                () -> assertThat(response.getBody().data().accessToken()).isNotBlank(),
+                () -> assertThat(response.getBody().data().tokenType()).isEqualTo("Bearer"),
+                () -> assertThat(response.getBody().data().expiresAt()).isNotNull()
+            );
+        }
+
+        @DisplayName("비밀번호가 틀리면, 401 UNAUTHORIZED를 반환한다.")
+        @Test
+        void returns401Unauthorized_whenPasswordIsWrong() {
+            // arrange
+            userJpaRepository.save(new User("testuser", "Test1234!", "홍길동", "19900101", "test@example.com"));
+            UserV1Dto.LoginRequest request = new UserV1Dto.LoginRequest("testuser", "Wrong1234!");
+
+            // act
+            ParameterizedTypeReference<ApiResponse<UserV1Dto.LoginResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<UserV1Dto.LoginResponse>> response =
+                testRestTemplate.exchange(ENDPOINT_LOGIN, HttpMethod.POST, new HttpEntity<>(request), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+
+        @DisplayName("발급받은 토큰으로 내 정보를 조회하면, 200 OK를 반환한다.")
+        @Test
+        void returns200_whenMeIsRequestedWithIssuedToken() {
+            // arrange
+            userJpaRepository.save(new User("testuser", "Test1234!", "홍길동", "19900101", "test@example.com"));
+            ParameterizedTypeReference<ApiResponse<UserV1Dto.LoginResponse>> loginType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<UserV1Dto.LoginResponse>> login = testRestTemplate.exchange(
+                ENDPOINT_LOGIN, HttpMethod.POST, new HttpEntity<>(new UserV1Dto.LoginRequest("testuser", "Test1234!")), loginType);
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(login.getBody().data().accessToken());
+
+            // act
+            ParameterizedTypeReference<ApiResponse<UserV1Dto.MeResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<UserV1Dto.MeResponse>> response =
+                testRestTemplate.exchange(ENDPOINT_ME, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getBody().data().loginId()).isEqualTo("testuser")
+            );
+        }
+
+        @DisplayName("유효하지 않은 토큰으로 내 정보를 조회하면, 401 UNAUTHORIZED를 반환한다.")
+        @Test
+        void returns401Unauthorized_whenTokenIsInvalid() {
+            // arrange
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth("1.testuser.9999999999.invalid-signature");
+
+            // act
+            ParameterizedTypeReference<ApiResponse<UserV1Dto.MeResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<UserV1Dto.MeResponse>> response =
+                testRestTemplate.exchange(ENDPOINT_ME, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+    }
+
     @DisplayName("PATCH /api/v1/users/me/password")
     @Nested
     class ChangePassword {
@@ -0,0 +1,123 @@
+package com.loopers.support.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("SessionTokenProvider 테스트")
+class SessionTokenProviderTest {
+
+    private static final String SECRET = "test-session-token-secret-0123456789";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private SessionTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = providerAt(NOW);
+    }
+
+    private SessionTokenProvider providerAt(Instant now) {
+        return new SessionTokenProvider(
+            new SessionTokenProperties(SECRET, Duration.ofMinutes(30)),
+            Clock.fixed(now, ZoneOffset.UTC)
+        );
+    }
+
+    @Nested
+    @DisplayName("토큰 발급")
+    class Issue {
+
+        @Test
+        @DisplayName("성공 - 발급한 토큰을 검증하면 사용자 정보와 만료 시각을 얻는다")
+        void 발급_후_검증_성공() {
+            // Act
+            SessionTokenProvider.IssuedToken issued = provider.issue(1L, "testuser");
+            Optional<SessionToken> verified = provider.verify(issued.token());
+
+            // Assert
+            assertThat(issued.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(30)));
+            assertThat(verified).isPresent();
+            assertThat(verified.get().userId()).isEqualTo(1L);
+            assertThat(verified.get().loginId()).isEqualTo("testuser");
+            assertThat(verified.get().expiresAt()).isEqualTo(issued.expiresAt());
+        }
+
+        @Test
+        @DisplayName("실패 - 서명 키가 32바이트 미만이면 예외")
+        void 짧은_서명키_예외() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> new SessionTokenProperties("short-secret", Duration.ofMinutes(30)));
+        }
+    }
+
+    @Nested
+    @DisplayName("토큰 검증")
+    class Verify {
+
+        @Test
+        @DisplayName("실패 - 만료된 토큰")
+        void 만료된_토큰() {
+            // Arrange
+            String token = provider.issue(1L, "testuser").token();
+
+            // Act
+            Optional<SessionToken> verified = providerAt(NOW.plus(Duration.ofMinutes(30))).verify(token);
+
+            // Assert
+            assertThat(verified).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실패 - payload 가 변조된 토큰")
+        void 변조된_토큰() {
+            // Arrange
+            String token = provider.issue(1L, "testuser").token();
+            String tampered = "2" + token.substring(1);
+
+            // Act
+            Optional<SessionToken> verified = provider.verify(tampered);
+
+            // Assert
+            assertThat(verified).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 키로 서명된 토큰")
+        void 다른_키_서명_토큰() {
+            // Arrange
+            SessionTokenProvider other = new SessionTokenProvider(
+                new SessionTokenProperties("another-session-token-secret-0123456789", Duration.ofMinutes(30)),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+            );
+            String token = other.issue(1L, "testuser").token();
+
+            // Act
+            Optional<SessionToken> verified = provider.verify(token);
+
+            // Assert
+            assertThat(verified).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실패 - 형식이 올바르지 않은 토큰")
+        void 잘못된_형식_토큰() {
+            // Act & Assert
+            assertThat(provider.verify(null)).isEmpty();
+            assertThat(provider.verify("")).isEmpty();
+            assertThat(provider.verify("not-a-token")).isEmpty();
+            assertThat(provider.verify("1.testuser.abc.!!!")).isEmpty();
+        }
+    }
+}
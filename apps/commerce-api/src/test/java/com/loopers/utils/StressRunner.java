@@ -0,0 +1,215 @@
+package com.loopers.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.loopers.support.error.CoreException;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * 동시 호출 스트레스 실행기.
+ *
+ * callers 개의 스레드가 시작 신호에 맞춰 tasks 개의 작업을 나눠 실행한다.
+ * 작업 결과는 성공, CoreException(ErrorType 별), 그 밖의 예외(클래스 별) 로 나눠 세고,
+ * 락 획득 실패(교착 상태 포함)와 제한 시간 초과는 따로 센다.
+ * MySQL 의 행 락 대기(Innodb_row_lock_waits/time) 는 실행 전후 전역 상태 값의 차이로 구한다.
+ *
+ * 결과는 build/stress-results/{name}.json 에 남겨 재고/좋아요 처리 전략 간 비교에 쓴다.
+ */
+@Slf4j
+public final class StressRunner {
+
+    private static final Path RESULT_DIR = Path.of("build", "stress-results");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private StressRunner() {}
+
+    /**
+     * @param name 결과 파일 이름
+     * @param callers 동시 호출 스레드 수
+     * @param tasks 전체 작업 수
+     * @param timeout 전체 제한 시간. 넘기면 남은 작업을 중단하고 timedOut 으로 센다
+     * @param entityManager 행 락 대기 지표 조회용
+     * @param task 작업 번호를 받아 실행할 작업을 만든다
+     */
+    public static Result run(
+        String name,
+        int callers,
+        int tasks,
+        Duration timeout,
+        EntityManager entityManager,
+        IntFunction<Callable<?>> task
+    ) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLongArray latencies = new AtomicLongArray(tasks);
+        AtomicInteger completed = new AtomicInteger();
+        LongAdder successes = new LongAdder();
+        LongAdder lockFailures = new LongAdder();
+        Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            Callable<?> call = task.apply(i);
+            futures.add(callerPool.submit(() -> {
+                start.await();
+                long begin = System.nanoTime();
+                try {
+                    call.call();
+                    successes.increment();
+                } catch (CoreException e) {
+                    count(failures, e.getErrorType().name());
+                } catch (PessimisticLockingFailureException e) {
+                    lockFailures.increment();
+                    count(failures, e.getClass().getSimpleName());
+                } catch (Exception e) {
+                    count(failures, e.getClass().getSimpleName());
+                } finally {
+                    latencies.set(completed.getAndIncrement(), System.nanoTime() - begin);
+                }
+                return null;
+            }));
+        }
+
+        RowLockStatus before = RowLockStatus.read(entityManager);
+        long begin = System.nanoTime();
+        start.countDown();
+        int timedOut = 0;
+        long deadline = begin + timeout.toNanos();
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                timedOut++;
+            } catch (Exception e) {
+                // 작업 예외는 작업 안에서 세었다.
+            }
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        callerPool.shutdownNow();
+        callerPool.awaitTermination(10, TimeUnit.SECONDS);
+        RowLockStatus after = RowLockStatus.read(entityManager);
+
+        long[] sorted = new long[Math.min(completed.get(), tasks)];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+
+        Map<String, Long> failureCounts = new TreeMap<>();
+        failures.forEach((type, count) -> failureCounts.put(type, count.sum()));
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        Result result = new Result(
+            name,
+            callers,
+            tasks,
+            seconds,
+            sorted.length / seconds,
+            successes.sum(),
+            failureCounts,
+            lockFailures.sum(),
+            timedOut,
+            percentileMillis(sorted, 50),
+            percentileMillis(sorted, 99),
+            sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0,
+            after.waits() - before.waits(),
+            after.timeMillis() - before.timeMillis()
+        );
+        result.write();
+        return result;
+    }
+
+    private static void count(Map<String, LongAdder> failures, String type) {
+        failures.computeIfAbsent(type, key -> new LongAdder()).increment();
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * @param throughput 초당 완료 작업 수
+     * @param failures 실패 유형별 건수 (ErrorType 이름 또는 예외 클래스 이름)
+     * @param lockFailures 락 획득 실패(교착 상태, 락 대기 시간 초과) 건수
+     * @param timedOut 전체 제한 시간 안에 끝나지 않은 작업 수
+     * @param rowLockWaits 실행 중 InnoDB 행 락 대기 횟수
+     * @param rowLockTimeMillis 실행 중 InnoDB 행 락 대기 시간 합계
+     */
+    public record Result(
+        String name,
+        int callers,
+        int tasks,
+        double elapsedSeconds,
+        double throughput,
+        long successes,
+        Map<String, Long> failures,
+        long lockFailures,
+        int timedOut,
+        double p50Millis,
+        double p99Millis,
+        double maxMillis,
+        long rowLockWaits,
+        long rowLockTimeMillis
+    ) {
+        public long failureCount() {
+            return failures.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        private void write() {
+            try {
+                Files.createDirectories(RESULT_DIR);
+                OBJECT_MAPPER.writeValue(RESULT_DIR.resolve(name + ".json").toFile(), this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            log.info("스트레스 결과 - {} ({})", this, RESULT_DIR.resolve(name + ".json"));
+        }
+    }
+
+    private record RowLockStatus(long waits, long timeMillis) {
+
+        @SuppressWarnings("unchecked")
+        static RowLockStatus read(EntityManager entityManager) {
+            Map<String, Long> values = new TreeMap<>();
+            List<Object[]> rows = entityManager
+                .createNativeQuery("SHOW GLOBAL STATUS WHERE Variable_name IN ('Innodb_row_lock_waits', 'Innodb_row_lock_time')")
+                .getResultList();
+            for (Object[] row : rows) {
+                values.put(String.valueOf(row[0]), Long.parseLong(String.valueOf(row[1])));
+            }
+            return new RowLockStatus(
+                values.getOrDefault("Innodb_row_lock_waits", 0L),
+                values.getOrDefault("Innodb_row_lock_time", 0L)
+            );
+        }
+    }
+}
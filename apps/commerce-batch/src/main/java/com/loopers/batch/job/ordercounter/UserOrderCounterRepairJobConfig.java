@@ -0,0 +1,53 @@
+package com.loopers.batch.job.ordercounter;
+
+import com.loopers.batch.job.ordercounter.step.UserOrderCounterRepairTasklet;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자별 주문 수 카운터(user_order_counters)를 orders 기준으로 보정한다.
+ * 보정 문장은 사용자 단위로 원자적이라 commerce-api 가 주문을 받는 중에도 실행할 수 있다.
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = UserOrderCounterRepairJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class UserOrderCounterRepairJobConfig {
+    public static final String JOB_NAME = "userOrderCounterRepairJob";
+    private static final String STEP_REPAIR_NAME = "userOrderCounterRepair";
+
+    private final JobRepository jobRepository;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final UserOrderCounterRepairTasklet userOrderCounterRepairTasklet;
+
+    @Bean(JOB_NAME)
+    public Job userOrderCounterRepairJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(userOrderCounterRepairStep())
+                .listener(jobListener)
+                .build();
+    }
+
+    @JobScope
+    @Bean(STEP_REPAIR_NAME)
+    public Step userOrderCounterRepairStep() {
+        // 각 보정 문장이 autocommit 으로 실행되므로 Step 트랜잭션은 필요 없다.
+        return new StepBuilder(STEP_REPAIR_NAME, jobRepository)
+                .tasklet(userOrderCounterRepairTasklet, new ResourcelessTransactionManager())
+                .listener(stepMonitorListener)
+                .build();
+    }
+}
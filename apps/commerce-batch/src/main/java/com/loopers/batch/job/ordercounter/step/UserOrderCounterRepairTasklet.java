@@ -0,0 +1,128 @@
+package com.loopers.batch.job.ordercounter.step;
+
+import com.loopers.batch.job.ordercounter.UserOrderCounterRepairJobConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * user_id 범위 단위로 orders 의 실제 주문 수와 카운터를 비교해, 어긋난 사용자만 다시 센다.
+ *
+ * - execute() 한 번에 한 범위를 처리하고 CONTINUABLE 을 반환한다. 범위마다 읽기/쓰기 건수가 StepExecution 에 누적된다.
+ * - 보정은 사용자마다 한 트랜잭션에서 카운터 행을 먼저 잠그고(FOR UPDATE) 주문 수를 센다.
+ *   주문 트랜잭션도 같은 카운터 행을 증가시키므로, 잠금을 얻은 뒤의 스냅샷에는 이미 카운터에 반영된 주문이 모두 보이고
+ *   아직 증가 전인 주문은 보정 이후에 +1 된다. 따라서 서비스 중에 실행해도 값이 어긋나지 않는다.
+ * - 마지막으로 주문이 하나도 없는데 0 이 아닌 카운터를 0 으로 만든다.
+ */
+@Slf4j
+@StepScope
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = UserOrderCounterRepairJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Component
+public class UserOrderCounterRepairTasklet implements Tasklet {
+    private static final String SELECT_USER_ID_RANGE = "SELECT MIN(user_id) AS min_id, MAX(user_id) AS max_id FROM orders";
+    private static final String SELECT_MISMATCHED = """
+            SELECT o.user_id
+            FROM orders o
+            LEFT JOIN user_order_counters c ON c.user_id = o.user_id
+            WHERE o.user_id >= ? AND o.user_id < ?
+            GROUP BY o.user_id, c.order_count
+            HAVING c.order_count IS NULL OR c.order_count <> COUNT(*)
+            """;
+    private static final String LOCK_COUNTER = "SELECT order_count FROM user_order_counters WHERE user_id = ? FOR UPDATE";
+    private static final String COUNT_ORDERS = "SELECT COUNT(*) FROM orders WHERE user_id = ?";
+    private static final String UPSERT_COUNTER = """
+            INSERT INTO user_order_counters (user_id, order_count, updated_at)
+            VALUES (?, ?, UTC_TIMESTAMP(6))
+            ON DUPLICATE KEY UPDATE order_count = ?, updated_at = UTC_TIMESTAMP(6)
+            """;
+    private static final String RESET_ORPHAN_COUNTERS = """
+            UPDATE user_order_counters c
+            SET c.order_count = 0, c.updated_at = UTC_TIMESTAMP(6)
+            WHERE c.order_count <> 0
+              AND NOT EXISTS (SELECT 1 FROM orders o WHERE o.user_id = c.user_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("#{jobParameters['rangeSize'] ?: 1000}")
+    private long rangeSize;
+
+    private Long nextUserId;
+    private Long maxUserId;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        if (nextUserId == null && !initRange()) {
+            resetOrphans(contribution);
+            return RepeatStatus.FINISHED;
+        }
+
+        long from = nextUserId;
+        long to = from + rangeSize;
+        List<Long> mismatched = jdbcTemplate.queryForList(SELECT_MISMATCHED, Long.class, from, to);
+        int repaired = 0;
+        for (Long userId : mismatched) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> repair(userId)))) {
+                repaired++;
+            }
+        }
+        contribution.incrementReadCount();
+        contribution.incrementWriteCount(repaired);
+        if (repaired > 0) {
+            log.warn("주문 수 카운터 보정 - user_id: [{}, {}), 보정 사용자 수: {}", from, to, repaired);
+        }
+
+        nextUserId = to;
+        if (nextUserId > maxUserId) {
+            resetOrphans(contribution);
+            return RepeatStatus.FINISHED;
+        }
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    /**
+     * @return 값을 바꿨으면 true (스캔 이후 다른 트랜잭션이 이미 맞춰 놓았으면 false)
+     */
+    private boolean repair(Long userId) {
+        // 잠금 읽기가 먼저여야 이후 COUNT 의 스냅샷이 잠금 획득 시점 이후로 잡힌다.
+        List<Long> counted = jdbcTemplate.queryForList(LOCK_COUNTER, Long.class, userId);
+        Long actual = jdbcTemplate.queryForObject(COUNT_ORDERS, Long.class, userId);
+        if (!counted.isEmpty() && counted.get(0).equals(actual)) {
+            return false;
+        }
+        jdbcTemplate.update(UPSERT_COUNTER, userId, actual, actual);
+        return true;
+    }
+
+    private boolean initRange() {
+        Map<String, Object> range = jdbcTemplate.queryForMap(SELECT_USER_ID_RANGE);
+        if (range.get("min_id") == null) {
+            return false;
+        }
+        nextUserId = ((Number) range.get("min_id")).longValue();
+        maxUserId = ((Number) range.get("max_id")).longValue();
+        return true;
+    }
+
+    private void resetOrphans(StepContribution contribution) {
+        int reset = jdbcTemplate.update(RESET_ORPHAN_COUNTERS);
+        contribution.incrementWriteCount(reset);
+        if (reset > 0) {
+            log.warn("주문 수 카운터 보정 - 주문 없는 사용자 카운터 0 으로 초기화: {}", reset);
+        }
+    }
+}
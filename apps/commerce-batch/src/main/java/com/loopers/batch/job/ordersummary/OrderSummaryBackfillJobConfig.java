@@ -0,0 +1,54 @@
+package com.loopers.batch.job.ordersummary;
+
+import com.loopers.batch.job.ordersummary.step.OrderSummaryBackfillTasklet;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 주문 목록 읽기 모델(order_summaries)이 없는 주문을 orders / order_items 로부터 채운다.
+ * 읽기 모델 도입 이전의 주문은 projector 를 거치지 않았으므로, 배포 직후 한 번 실행한다.
+ * 요약이 이미 있는 주문은 건너뛰므로 commerce-api 가 주문을 받는 중에도, 여러 번 실행해도 된다.
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = OrderSummaryBackfillJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class OrderSummaryBackfillJobConfig {
+    public static final String JOB_NAME = "orderSummaryBackfillJob";
+    private static final String STEP_BACKFILL_NAME = "orderSummaryBackfill";
+
+    private final JobRepository jobRepository;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final OrderSummaryBackfillTasklet orderSummaryBackfillTasklet;
+
+    @Bean(JOB_NAME)
+    public Job orderSummaryBackfillJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(orderSummaryBackfillStep())
+                .listener(jobListener)
+                .build();
+    }
+
+    @JobScope
+    @Bean(STEP_BACKFILL_NAME)
+    public Step orderSummaryBackfillStep() {
+        // 범위마다 INSERT 한 문장을 autocommit 으로 실행하므로 Step 트랜잭션은 필요 없다.
+        return new StepBuilder(STEP_BACKFILL_NAME, jobRepository)
+                .tasklet(orderSummaryBackfillTasklet, new ResourcelessTransactionManager())
+                .listener(stepMonitorListener)
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.loopers.batch.job.ordersummary.step;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.batch.job.ordersummary.OrderSummaryBackfillJobConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * orders.id 범위 단위로 요약이 없는 주문을 찾아 order_summaries 에 넣는다.
+ *
+ * - execute() 한 번에 한 범위를 처리하고 CONTINUABLE 을 반환한다. 범위마다 읽기/쓰기 건수가 StepExecution 에 누적된다.
+ * - 항목 JSON 과 대표 상품은 commerce-api 의 OrderSummary.from 과 같게 만든다. (첫 번째 주문 항목, 상품의 현재 이미지)
+ * - 새 주문은 주문 트랜잭션 안에서 요약이 함께 커밋되므로, 스캔에서 요약 없이 보이는 주문은 이전 주문뿐이다.
+ *   그래도 다른 실행과 겹칠 수 있으므로 INSERT IGNORE 로 넣는다.
+ */
+@Slf4j
+@StepScope
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = OrderSummaryBackfillJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Component
+public class OrderSummaryBackfillTasklet implements Tasklet {
+    private static final String SELECT_ORDER_ID_RANGE = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM orders";
+    private static final String SELECT_MISSING_ORDERS = """
+            SELECT o.id, o.user_id, o.total_price, o.status, o.created_at
+            FROM orders o
+            LEFT JOIN order_summaries s ON s.order_id = o.id
+            WHERE o.id >= ? AND o.id < ? AND s.order_id IS NULL
+            ORDER BY o.id
+            """;
+    private static final String SELECT_ITEMS = """
+            SELECT i.order_id, i.product_id, i.product_name, i.quantity, i.price_snapshot, p.image_url
+            FROM order_items i
+            LEFT JOIN order_summaries s ON s.order_id = i.order_id
+            LEFT JOIN products p ON p.id = i.product_id
+            WHERE i.order_id >= ? AND i.order_id < ? AND s.order_id IS NULL
+            ORDER BY i.id
+            """;
+    private static final String INSERT_SUMMARY = """
+            INSERT IGNORE INTO order_summaries
+                (order_id, user_id, total_price, status, item_count, thumbnail_product_id, thumbnail_product_name,
+                 thumbnail_image_url, items, ordered_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("#{jobParameters['rangeSize'] ?: 1000}")
+    private long rangeSize;
+
+    private Long nextOrderId;
+    private Long maxOrderId;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        if (nextOrderId == null && !initRange()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        long from = nextOrderId;
+        long to = from + rangeSize;
+        List<MissingOrder> orders = jdbcTemplate.query(
+                SELECT_MISSING_ORDERS,
+                (rs, rowNum) -> new MissingOrder(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getLong("total_price"),
+                        rs.getString("status"),
+                        rs.getObject("created_at", LocalDateTime.class)
+                ),
+                from, to
+        );
+        int inserted = orders.isEmpty() ? 0 : insert(orders, from, to);
+        contribution.incrementReadCount();
+        contribution.incrementWriteCount(inserted);
+        if (inserted > 0) {
+            log.info("주문 요약 백필 - orders.id: [{}, {}), 추가: {}", from, to, inserted);
+        }
+
+        nextOrderId = to;
+        return nextOrderId > maxOrderId ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    private int insert(List<MissingOrder> orders, long from, long to) {
+        Map<Long, List<Item>> itemsByOrderId = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                SELECT_ITEMS,
+                rs -> {
+                    itemsByOrderId.computeIfAbsent(rs.getLong("order_id"), id -> new ArrayList<>()).add(new Item(
+                            rs.getLong("product_id"),
+                            rs.getString("product_name"),
+                            rs.getInt("quantity"),
+                            rs.getLong("price_snapshot"),
+                            rs.getString("image_url")
+                    ));
+                },
+                from, to
+        );
+
+        List<Object[]> rows = new ArrayList<>(orders.size());
+        for (MissingOrder order : orders) {
+            List<Item> items = itemsByOrderId.get(order.id());
+            if (items == null) {
+                // 항목 없는 주문은 대표 상품을 정할 수 없다. (주문 생성 시 항목은 필수)
+                log.warn("주문 요약 백필 - 항목 없는 주문 건너뜀, orderId: {}", order.id());
+                continue;
+            }
+            Item thumbnail = items.get(0);
+            rows.add(new Object[]{
+                    order.id(), order.userId(), order.totalPrice(), order.status(), items.size(),
+                    thumbnail.productId(), thumbnail.productName(), thumbnail.imageUrl(),
+                    writeItems(items), order.createdAt()
+            });
+        }
+        int inserted = 0;
+        for (int count : jdbcTemplate.batchUpdate(INSERT_SUMMARY, rows)) {
+            inserted += Math.max(count, 0);
+        }
+        return inserted;
+    }
+
+    // commerce-api 의 OrderSummary.Item 과 같은 필드 이름으로 직렬화한다.
+    private String writeItems(List<Item> items) {
+        List<Map<String, Object>> json = items.stream()
+                .map(item -> {
+                    Map<String, Object> fields = new LinkedHashMap<>();
+                    fields.put("productId", item.productId());
+                    fields.put("productName", item.productName());
+                    fields.put("quantity", item.quantity());
+                    fields.put("price", item.price());
+                    return fields;
+                })
+                .toList();
+        try {
+            return objectMapper.writeValueAsString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 요약 항목 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private boolean initRange() {
+        Map<String, Object> range = jdbcTemplate.queryForMap(SELECT_ORDER_ID_RANGE);
+        if (range.get("min_id") == null) {
+            return false;
+        }
+        nextOrderId = ((Number) range.get("min_id")).longValue();
+        maxOrderId = ((Number) range.get("max_id")).longValue();
+        return true;
+    }
+
+    private record MissingOrder(long id, long userId, long totalPrice, String status, LocalDateTime createdAt) {
+    }
+
+    private record Item(long productId, String productName, int quantity, long price, String imageUrl) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.loopers.job.ordercounter;
+
+import com.loopers.batch.job.ordercounter.UserOrderCounterRepairJobConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = "spring.batch.job.name=" + UserOrderCounterRepairJobConfig.JOB_NAME)
+class UserOrderCounterRepairJobE2ETest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(UserOrderCounterRepairJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 두 테이블은 commerce-api 의 엔티티가 소유하므로, 잡이 읽고 쓰는 컬럼만 가진 스키마를 직접 만든다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+            CREATE TABLE orders (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                INDEX idx_orders_user_id (user_id)
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE user_order_counters (
+                user_id BIGINT PRIMARY KEY,
+                order_count BIGINT NOT NULL,
+                updated_at DATETIME(6) NOT NULL
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user_order_counters");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS orders");
+    }
+
+    private void insertOrders(long userId, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO orders (user_id) VALUES (?)", userId);
+        }
+    }
+
+    private void insertCounter(long userId, long orderCount) {
+        jdbcTemplate.update("INSERT INTO user_order_counters (user_id, order_count, updated_at) VALUES (?, ?, UTC_TIMESTAMP(6))", userId, orderCount);
+    }
+
+    private long counterOf(long userId) {
+        List<Long> counts = jdbcTemplate.queryForList("SELECT order_count FROM user_order_counters WHERE user_id = ?", Long.class, userId);
+        return counts.isEmpty() ? -1L : counts.get(0);
+    }
+
+    @DisplayName("어긋난 카운터, 누락된 카운터, 주문 없는 카운터를 orders 기준으로 보정한다.")
+    @Test
+    void repairsCountersFromOrders() throws Exception {
+        // arrange
+        insertOrders(1L, 3);
+        insertCounter(1L, 3);     // 정상
+        insertOrders(2L, 2);
+        insertCounter(2L, 5);     // 과다 집계
+        insertOrders(3L, 4);      // 카운터 없음
+        insertCounter(4L, 1);     // 주문 없음
+        insertOrders(2_500L, 1);  // 다른 범위
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobParameters = new JobParametersBuilder()
+            .addLong("rangeSize", 1000L)
+            .toJobParameters();
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // assert
+        var stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(counterOf(1L)).isEqualTo(3),
+            () -> assertThat(counterOf(2L)).isEqualTo(2),
+            () -> assertThat(counterOf(3L)).isEqualTo(4),
+            () -> assertThat(counterOf(4L)).isZero(),
+            () -> assertThat(counterOf(2_500L)).isEqualTo(1),
+            () -> assertThat(stepExecution.getWriteCount()).isEqualTo(4)
+        );
+    }
+
+    @DisplayName("주문이 없으면 아무것도 바꾸지 않고 정상 종료한다.")
+    @Test
+    void completesWithoutOrders() throws Exception {
+        // arrange
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob();
+
+        // assert
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+    }
+}
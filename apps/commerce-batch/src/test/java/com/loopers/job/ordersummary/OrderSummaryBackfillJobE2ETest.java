@@ -0,0 +1,158 @@
+package com.loopers.job.ordersummary;
+
+import com.loopers.batch.job.ordersummary.OrderSummaryBackfillJobConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = "spring.batch.job.name=" + OrderSummaryBackfillJobConfig.JOB_NAME)
+class OrderSummaryBackfillJobE2ETest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(OrderSummaryBackfillJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 테이블은 commerce-api 의 엔티티가 소유하므로, 잡이 읽고 쓰는 컬럼만 가진 스키마를 직접 만든다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+            CREATE TABLE orders (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                total_price BIGINT NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                created_at DATETIME(6) NOT NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE order_items (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                order_id BIGINT NOT NULL,
+                product_id BIGINT NOT NULL,
+                product_name VARCHAR(200) NOT NULL,
+                quantity INT NOT NULL,
+                price_snapshot BIGINT NOT NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE products (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                image_url VARCHAR(500)
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE order_summaries (
+                order_id BIGINT PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                total_price BIGINT NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                item_count INT NOT NULL,
+                thumbnail_product_id BIGINT NOT NULL,
+                thumbnail_product_name VARCHAR(255) NOT NULL,
+                thumbnail_image_url VARCHAR(500),
+                items JSON NOT NULL,
+                ordered_at DATETIME(6) NOT NULL
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS order_summaries");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS products");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS order_items");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS orders");
+    }
+
+    private void insertOrder(long id, long userId, long totalPrice) {
+        jdbcTemplate.update(
+            "INSERT INTO orders (id, user_id, total_price, status, created_at) VALUES (?, ?, ?, 'CREATED', '2024-01-01 10:00:00.123456')",
+            id, userId, totalPrice);
+    }
+
+    private void insertItem(long orderId, long productId, String productName, int quantity, long price) {
+        jdbcTemplate.update(
+            "INSERT INTO order_items (order_id, product_id, product_name, quantity, price_snapshot) VALUES (?, ?, ?, ?, ?)",
+            orderId, productId, productName, quantity, price);
+    }
+
+    private Map<String, Object> summaryOf(long orderId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM order_summaries WHERE order_id = ?", orderId);
+    }
+
+    @DisplayName("요약이 없는 주문만 첫 번째 항목을 대표 상품으로 채우고, 이미 있는 요약은 그대로 둔다.")
+    @Test
+    void backfillsMissingSummaries() throws Exception {
+        // arrange
+        jdbcTemplate.update("INSERT INTO products (id, image_url) VALUES (10, 'https://example.com/10.png')");
+        insertOrder(1L, 100L, 5000L);
+        insertItem(1L, 10L, "상품A", 2, 1000L);
+        insertItem(1L, 20L, "상품B", 1, 3000L);
+        insertOrder(2L, 100L, 1000L);
+        insertItem(2L, 20L, "상품B", 1, 1000L);
+        jdbcTemplate.update("""
+            INSERT INTO order_summaries VALUES (2, 100, 1000, 'CREATED', 1, 20, '기존', NULL, '[]', '2024-01-01 10:00:00')
+            """);
+        insertOrder(2_500L, 200L, 1000L);  // 다른 범위
+        insertItem(2_500L, 20L, "상품B", 1, 1000L);
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobParameters = new JobParametersBuilder()
+            .addLong("rangeSize", 1000L)
+            .toJobParameters();
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // assert
+        var stepExecution = jobExecution.getStepExecutions().iterator().next();
+        Map<String, Object> backfilled = summaryOf(1L);
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(backfilled.get("item_count")).isEqualTo(2),
+            () -> assertThat(backfilled.get("thumbnail_product_id")).isEqualTo(10L),
+            () -> assertThat(backfilled.get("thumbnail_image_url")).isEqualTo("https://example.com/10.png"),
+            () -> assertThat(backfilled.get("ordered_at").toString()).startsWith("2024-01-01"),
+            () -> assertThat(String.valueOf(backfilled.get("items"))).contains("\"productName\": \"상품A\"", "\"price\": 1000"),
+            () -> assertThat(summaryOf(2L).get("thumbnail_product_name")).isEqualTo("기존"),
+            () -> assertThat(summaryOf(2_500L).get("user_id")).isEqualTo(200L),
+            () -> assertThat(stepExecution.getWriteCount()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("주문이 없으면 아무것도 바꾸지 않고 정상 종료한다.")
+    @Test
+    void completesWithoutOrders() throws Exception {
+        // arrange
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob();
+
+        // assert
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+    }
+}
@@ -0,0 +1,22 @@
+package com.loopers.config;
+
+import com.loopers.confg.kafka.KafkaRetryTopics;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaAdmin;
+
+/**
+ * auto.create.topics.enable=false 이므로 재시도 / DLT 토픽을 기동 시점에 생성한다.
+ */
+@Configuration
+public class DemoKafkaTopicConfig {
+    @Bean
+    public KafkaAdmin.NewTopics demoRetryTopics(
+            KafkaRetryTopics kafkaRetryTopics,
+            @Value("${demo-kafka.test.topic-name}") String topicName
+    ) {
+        return new KafkaAdmin.NewTopics(kafkaRetryTopics.newTopics(topicName, 3, 1).toArray(NewTopic[]::new));
+    }
+}
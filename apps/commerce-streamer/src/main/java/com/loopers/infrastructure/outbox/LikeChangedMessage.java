@@ -0,0 +1,16 @@
+package com.loopers.infrastructure.outbox;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 좋아요 등록/취소 이벤트 (commerce-api LikeChangedEvent 의 outbox payload 형태).
+ */
+public record LikeChangedMessage(
+        Long userId,
+        Long productId,
+        boolean liked,
+        ZonedDateTime occurredAt
+) {
+    public static final String LIKED = "PRODUCT_LIKED";
+    public static final String UNLIKED = "PRODUCT_UNLIKED";
+}
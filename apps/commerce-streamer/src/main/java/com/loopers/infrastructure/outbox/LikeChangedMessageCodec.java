@@ -0,0 +1,51 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.confg.kafka.codec.BinaryEventReader;
+import com.loopers.confg.kafka.codec.BinaryEventWriter;
+import com.loopers.confg.kafka.codec.EventCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+
+/**
+ * 좋아요 이벤트 바이너리 코덱.
+ * v1: [userId uvarlong][productId uvarlong][liked 1B][occurredAt epoch millis varlong]
+ * 시각은 epoch millis 로만 기록하므로 decode 시 시스템 기본 타임존으로 복원한다.
+ */
+@Component
+public class LikeChangedMessageCodec implements EventCodec<LikeChangedMessage> {
+    public static final int TYPE_ID = 1;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public Class<LikeChangedMessage> type() {
+        return LikeChangedMessage.class;
+    }
+
+    @Override
+    public void encode(LikeChangedMessage event, BinaryEventWriter out) {
+        out.writeUnsignedVarLong(event.userId())
+                .writeUnsignedVarLong(event.productId())
+                .writeBoolean(event.liked())
+                .writeZonedDateTime(event.occurredAt());
+    }
+
+    @Override
+    public LikeChangedMessage decode(BinaryEventReader in, int schemaVersion) {
+        return new LikeChangedMessage(
+                in.readUnsignedVarLong(),
+                in.readUnsignedVarLong(),
+                in.readBoolean(),
+                in.readZonedDateTime(ZoneId.systemDefault())
+        );
+    }
+}
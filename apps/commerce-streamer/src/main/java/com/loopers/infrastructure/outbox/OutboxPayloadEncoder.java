@@ -0,0 +1,60 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.codec.EventCodecRegistry;
+import com.loopers.confg.kafka.codec.KafkaCodecProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * outbox payload(JSON)를 발행할 바이트로 바꾼다.
+ * kafka.codec.binary-topics 에 해당하는 토픽이고 코덱이 등록된 이벤트면 바이너리 코덱으로, 그 외는 JSON 그대로 보낸다.
+ * 컨슈머는 BinaryAwareJsonMessageConverter 가 magic 바이트로 포맷을 구분하므로 두 형식이 섞여도 된다.
+ */
+@Slf4j
+@Component
+public class OutboxPayloadEncoder {
+    private static final Map<String, Class<?>> MESSAGE_TYPES = Map.of(
+            LikeChangedMessage.LIKED, LikeChangedMessage.class,
+            LikeChangedMessage.UNLIKED, LikeChangedMessage.class
+    );
+
+    private final ObjectMapper objectMapper;
+    private final EventCodecRegistry eventCodecRegistry;
+    private final List<Pattern> binaryTopics;
+
+    public OutboxPayloadEncoder(ObjectMapper objectMapper, EventCodecRegistry eventCodecRegistry, KafkaCodecProperties kafkaCodecProperties) {
+        this.objectMapper = objectMapper;
+        this.eventCodecRegistry = eventCodecRegistry;
+        this.binaryTopics = kafkaCodecProperties.binaryTopics().stream().map(Pattern::compile).toList();
+    }
+
+    public byte[] encode(String topic, String eventType, String payload) {
+        Class<?> messageType = MESSAGE_TYPES.get(eventType);
+        if (messageType == null || !eventCodecRegistry.supports(messageType) || !isBinaryTopic(topic)) {
+            return payload.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return eventCodecRegistry.encode(objectMapper.readValue(payload, messageType));
+        } catch (IOException | RuntimeException e) {
+            // 코덱으로 못 바꾸는 payload 는 JSON 으로라도 발행해 relay 를 멈추지 않는다.
+            log.warn("outbox payload 바이너리 인코딩 실패, JSON 으로 발행 - topic: {}, eventType: {}", topic, eventType, e);
+            return payload.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private boolean isBinaryTopic(String topic) {
+        for (Pattern pattern : binaryTopics) {
+            if (pattern.matcher(topic).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
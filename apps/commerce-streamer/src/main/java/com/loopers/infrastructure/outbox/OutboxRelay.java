@@ -0,0 +1,258 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.confg.kafka.KafkaConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox 테이블의 PENDING 행을 Kafka 로 발행하고 SENT 로 표시한다.
+ *
+ * - FOR UPDATE SKIP LOCKED 로 행을 잠그므로 relay 인스턴스를 여러 개 띄워도 같은 행을 중복 발행하지 않는다.
+ * - 배치 전체를 비동기로 send 한 뒤 하나의 마감 시각까지 한 번에 기다려 producer 의 batching(linger.ms) / 압축을 활용한다.
+ * - 발행이 확인된 행만 SENT 로 바꾸므로 전달 보장은 at-least-once 이다. (컨슈머는 outbox-id 헤더로 중복 제거)
+ * - 레코드를 만들 수 없는 행(토픽이 없는 aggregate_type 등)은 재시도해도 같으므로 FAILED 로 바꿔 배치에서 뺀다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    public static final String HEADER_OUTBOX_ID = "outbox-id";
+    public static final String HEADER_EVENT_TYPE = "event-type";
+
+    private static final String SELECT_PENDING = """
+            SELECT id, aggregate_type, aggregate_id, event_type, payload
+            FROM outbox
+            WHERE status = 'PENDING'
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String SELECT_OLDEST_PENDING_AGE = """
+            SELECT TIMESTAMPDIFF(MICROSECOND, created_at, UTC_TIMESTAMP(6))
+            FROM outbox
+            WHERE status = 'PENDING'
+            ORDER BY id
+            LIMIT 1
+            """;
+    private static final String MARK_SENT = "UPDATE outbox SET status = 'SENT', sent_at = UTC_TIMESTAMP(6) WHERE id = ?";
+    private static final String MARK_FAILED = "UPDATE outbox SET status = 'FAILED' WHERE id = ?";
+    private static final String DELETE_SENT = """
+            DELETE FROM outbox
+            WHERE status = 'SENT' AND sent_at < UTC_TIMESTAMP(6) - INTERVAL ? SECOND
+            LIMIT 1000
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final OutboxRelayProperties properties;
+    private final OutboxPayloadEncoder payloadEncoder;
+
+    private final AtomicLong lagMicros = new AtomicLong();
+    private final Timer batchTimer;
+    private final Counter failedCounter;
+    private final Map<String, Counter> publishedCounters;
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Qualifier(KafkaConfig.BYTE_ARRAY_TEMPLATE) KafkaTemplate<Object, Object> kafkaTemplate,
+            OutboxRelayProperties properties,
+            OutboxPayloadEncoder payloadEncoder,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.payloadEncoder = payloadEncoder;
+
+        Gauge.builder("outbox.relay.lag", lagMicros, micros -> micros.get() / 1_000_000d)
+                .description("가장 오래된 PENDING 행의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch.duration").register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed").register(meterRegistry);
+        // 토픽이 없는 aggregate_type 은 발행 전에 실패하므로, 설정된 aggregate_type 만 미리 등록해 둔다.
+        this.publishedCounters = properties.topics().keySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        aggregateType -> aggregateType,
+                        aggregateType -> Counter.builder("outbox.relay.published")
+                                .tag("aggregate_type", aggregateType)
+                                .register(meterRegistry)
+                ));
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:200}")
+    public void relay() {
+        if (!properties.enabled()) {
+            return;
+        }
+        for (int i = 0; i < properties.maxBatchesPerRun(); i++) {
+            Integer relayed = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+            if (relayed == null || relayed < properties.batchSize()) {
+                break;
+            }
+        }
+        updateLag();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        if (!properties.enabled()) {
+            return;
+        }
+        long retentionSeconds = properties.sentRetention().toSeconds();
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_SENT, retentionSeconds);
+        } while (deleted == 1000);
+    }
+
+    private int relayBatch() {
+        List<OutboxRow> rows = jdbcTemplate.query(
+                SELECT_PENDING,
+                (rs, rowNum) -> new OutboxRow(
+                        rs.getLong("id"),
+                        rs.getString("aggregate_type"),
+                        rs.getString("aggregate_id"),
+                        rs.getString("event_type"),
+                        rs.getString("payload")
+                ),
+                properties.batchSize()
+        );
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        PublishResult result = publish(rows);
+        markAll(MARK_SENT, result.sentIds());
+        markAll(MARK_FAILED, result.failedIds());
+        return rows.size();
+    }
+
+    private void markAll(String sql, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, ids.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    /**
+     * 배치 전체를 send 한 뒤 하나의 마감 시각(sendTimeout)까지만 기다리고, ack 가 확인된 행의 id 를 반환한다.
+     * 행마다 기다리면 느린 파티션 하나가 잠금 유지 시간을 행 수 × sendTimeout 까지 늘린다.
+     * 실패했거나 마감까지 응답이 없는 행은 PENDING 으로 남아 다음 주기에 다시 발행된다.
+     * 레코드를 만들지 못한 행은 FAILED 대상으로 반환한다. 한 행 때문에 배치가 롤백되어 앞선 행이 매 주기 재발행되지 않게 한다.
+     */
+    PublishResult publish(List<OutboxRow> rows) {
+        List<CompletableFuture<SendResult<Object, Object>>> sends = new ArrayList<>(rows.size());
+        List<Long> failedIds = new ArrayList<>();
+        for (OutboxRow row : rows) {
+            ProducerRecord<Object, Object> record;
+            try {
+                record = toRecord(row);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("outbox 레코드 생성 실패, FAILED 로 표시 - id: {}, aggregateType: {}", row.id(), row.aggregateType(), e);
+                failedIds.add(row.id());
+                sends.add(null);
+                continue;
+            }
+            sends.add(send(record));
+        }
+
+        CompletableFuture<?>[] pending = sends.stream().filter(Objects::nonNull).toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(pending)
+                    .get(properties.sendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 실패 / 미응답 행은 아래에서 행 단위로 집계한다.
+        }
+
+        List<Long> sentIds = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            OutboxRow row = rows.get(i);
+            CompletableFuture<SendResult<Object, Object>> send = sends.get(i);
+            if (send == null) {
+                continue;
+            }
+            switch (send.state()) {
+                case SUCCESS -> {
+                    sentIds.add(row.id());
+                    publishedCounters.get(row.aggregateType()).increment();
+                }
+                case FAILED -> {
+                    failedCounter.increment();
+                    log.warn("outbox 발행 실패 - id: {}, aggregateType: {}", row.id(), row.aggregateType(), send.exceptionNow());
+                }
+                default -> {
+                    failedCounter.increment();
+                    log.warn("outbox 발행 응답 없음 - id: {}, aggregateType: {}, timeout: {}", row.id(), row.aggregateType(), properties.sendTimeout());
+                }
+            }
+        }
+        return new PublishResult(sentIds, failedIds);
+    }
+
+    /**
+     * send 가 바로 예외를 던져도(직렬화, 버퍼 대기 초과 등) 실패한 발행으로 집계해 PENDING 으로 남긴다.
+     */
+    private CompletableFuture<SendResult<Object, Object>> send(ProducerRecord<Object, Object> record) {
+        try {
+            return kafkaTemplate.send(record);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private ProducerRecord<Object, Object> toRecord(OutboxRow row) {
+        String topic = properties.topics().get(row.aggregateType());
+        if (topic == null) {
+            throw new IllegalStateException("outbox.relay.topics 에 토픽이 없습니다. (" + row.aggregateType() + ")");
+        }
+        ProducerRecord<Object, Object> record = new ProducerRecord<>(topic, row.aggregateId(), payloadEncoder.encode(topic, row.eventType(), row.payload()));
+        record.headers().add(HEADER_OUTBOX_ID, String.valueOf(row.id()).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(HEADER_EVENT_TYPE, row.eventType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private void updateLag() {
+        List<Long> ages = jdbcTemplate.queryForList(SELECT_OLDEST_PENDING_AGE, Long.class);
+        lagMicros.set(ages.isEmpty() || ages.get(0) == null ? 0L : ages.get(0));
+    }
+
+    record OutboxRow(long id, String aggregateType, String aggregateId, String eventType, String payload) {
+    }
+
+    /**
+     * @param sentIds ack 가 확인되어 SENT 로 바꿀 행
+     * @param failedIds 레코드를 만들 수 없어 FAILED 로 바꿀 행
+     */
+    record PublishResult(List<Long> sentIds, List<Long> failedIds) {
+    }
+}
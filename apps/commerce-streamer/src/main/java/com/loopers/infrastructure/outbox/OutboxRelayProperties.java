@@ -0,0 +1,34 @@
+package com.loopers.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outbox Relay 설정.
+ *
+ * @param enabled          relay 활성화 여부
+ * @param batchSize        한 번에 잠그고 발행할 행 수
+ * @param maxBatchesPerRun 한 주기에 연속으로 처리할 최대 배치 수 (적체 시 빠르게 비우기 위함)
+ * @param sendTimeout      배치 발행 완료 대기 시간
+ * @param sentRetention    SENT 행 보관 기간
+ * @param topics           aggregate_type → 토픽
+ */
+@ConfigurationProperties(value = "outbox.relay")
+public record OutboxRelayProperties(
+        boolean enabled,
+        int batchSize,
+        int maxBatchesPerRun,
+        Duration sendTimeout,
+        Duration sentRetention,
+        Map<String, String> topics
+) {
+    public OutboxRelayProperties {
+        if (batchSize <= 0) batchSize = 500;
+        if (maxBatchesPerRun <= 0) maxBatchesPerRun = 20;
+        if (sendTimeout == null) sendTimeout = Duration.ofSeconds(10);
+        if (sentRetention == null) sentRetention = Duration.ofDays(3);
+        topics = topics == null ? Map.of() : Map.copyOf(topics);
+    }
+}
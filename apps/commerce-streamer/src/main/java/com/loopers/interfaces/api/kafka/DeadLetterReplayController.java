@@ -0,0 +1,66 @@
+package com.loopers.interfaces.api.kafka;
+
+import com.loopers.confg.kafka.KafkaDeadLetterReplayer;
+import com.loopers.confg.kafka.KafkaRetryTopics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * DLT 재발행 내부 API.
+ * 내부 토큰이 일치하고, kafka.dead-letter-replay.topics 에 등록된 토픽의 DLT 일 때만 재발행한다.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/internal/kafka/dead-letters")
+public class DeadLetterReplayController {
+    public static final String HEADER_INTERNAL_TOKEN = "X-Loopers-Internal-Token";
+
+    private final KafkaDeadLetterReplayer kafkaDeadLetterReplayer;
+    private final KafkaRetryTopics kafkaRetryTopics;
+    private final DeadLetterReplayProperties properties;
+
+    @PostMapping("/{dltTopic}/replay")
+    public KafkaDeadLetterReplayer.ReplayResult replay(
+            @RequestHeader(value = HEADER_INTERNAL_TOKEN, required = false) String token,
+            @PathVariable String dltTopic,
+            @RequestParam(defaultValue = "1000") int maxRecords
+    ) {
+        if (!isAuthorized(token)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "내부 토큰이 올바르지 않습니다.");
+        }
+        if (!isReplayable(dltTopic)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "재발행이 허용되지 않은 토픽입니다. (" + dltTopic + ")");
+        }
+        if (maxRecords <= 0 || maxRecords > properties.maxRecords()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "maxRecords 는 1 이상 " + properties.maxRecords() + " 이하여야 합니다.");
+        }
+        return kafkaDeadLetterReplayer.replay(dltTopic, maxRecords);
+    }
+
+    private boolean isAuthorized(String token) {
+        if (properties.token().isBlank() || token == null) {
+            return false;
+        }
+        // 응답 시간으로 토큰을 추측하지 못하도록 상수 시간 비교를 사용한다.
+        return MessageDigest.isEqual(
+                properties.token().getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private boolean isReplayable(String dltTopic) {
+        return properties.topics().stream()
+                .map(kafkaRetryTopics::dltTopic)
+                .anyMatch(dltTopic::equals);
+    }
+}
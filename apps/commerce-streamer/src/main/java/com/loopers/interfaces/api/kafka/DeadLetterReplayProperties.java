@@ -0,0 +1,26 @@
+package com.loopers.interfaces.api.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * DLT 재발행 API 설정.
+ * token 이 비어 있으면 API 는 모든 요청을 거부한다.
+ *
+ * @param token      X-Loopers-Internal-Token 헤더로 전달해야 하는 내부 토큰
+ * @param topics     재발행을 허용할 원본 토픽 목록 (DLT 이름은 kafka.retry 규칙으로 계산)
+ * @param maxRecords 한 번의 요청으로 재발행할 수 있는 최대 레코드 수
+ */
+@ConfigurationProperties(value = "kafka.dead-letter-replay")
+public record DeadLetterReplayProperties(
+        String token,
+        List<String> topics,
+        int maxRecords
+) {
+    public DeadLetterReplayProperties {
+        if (token == null) token = "";
+        topics = topics == null ? List.of() : List.copyOf(topics);
+        if (maxRecords <= 0) maxRecords = 10_000;
+    }
+}
@@ -1,13 +1,16 @@
 package com.loopers.interfaces.consumer;
 
 import com.loopers.confg.kafka.KafkaConfig;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+@Slf4j
 @Component
 public class DemoKafkaConsumer {
     @KafkaListener(
@@ -18,7 +21,31 @@ public class DemoKafkaConsumer {
         List<ConsumerRecord<Object,Object>> messages,
         Acknowledgment acknowledgment
     ){
-        System.out.println(messages);
+        handle(messages);
         acknowledgment.acknowledge();
     }
+
+    @KafkaListener(
+        topics = "#{@kafkaRetryTopics.retryTopics('${demo-kafka.test.topic-name}')}",
+        containerFactory = KafkaConfig.RETRY_BATCH_LISTENER
+    )
+    public void demoRetryListener(
+        List<ConsumerRecord<Object,Object>> messages,
+        Acknowledgment acknowledgment
+    ){
+        handle(messages);
+        acknowledgment.acknowledge();
+    }
+
+    private void handle(List<ConsumerRecord<Object,Object>> messages) {
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                ConsumerRecord<Object, Object> message = messages.get(i);
+                log.info("demo 메시지 수신 - topic: {}, partition: {}, offset: {}", message.topic(), message.partition(), message.offset());
+            } catch (RuntimeException e) {
+                // 실패 위치를 알려주면 앞선 레코드는 커밋되고, 실패한 레코드만 재시도 토픽으로 이동한다.
+                throw new BatchListenerFailedException("demo 메시지 처리 실패", e, i);
+            }
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.config.jpa.statement.SqlStatementReporter;
+import com.loopers.config.jpa.statement.SqlStatementScope;
+import com.loopers.config.jpa.statement.SqlStatementStatsProperties;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Kafka 배치 단위로 SQL 실행 수 / 행 수 / DB 시간을 집계한다.
+ * 인터셉터는 컨슈머 스레드에서 리스너 호출 직전/직후에 불리므로, scope 를 그 사이에만 열어 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementBatchInterceptor implements BatchInterceptor<Object, Object> {
+
+    private final SqlStatementReporter sqlStatementReporter;
+    private final SqlStatementStatsProperties properties;
+
+    private final ThreadLocal<OpenScope> openScope = new ThreadLocal<>();
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        if (properties.enabled()) {
+            // 이전 배치가 success/failure 없이 끝났다면 버린다.
+            closeQuietly();
+            openScope.set(new OpenScope(SqlStatementScope.open(), topicOf(records)));
+        }
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        report();
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        report();
+    }
+
+    private void report() {
+        OpenScope current = openScope.get();
+        if (current == null) {
+            return;
+        }
+        openScope.remove();
+        current.scope().close();
+        sqlStatementReporter.report("kafka", current.topic(), current.scope());
+    }
+
+    private void closeQuietly() {
+        OpenScope stale = openScope.get();
+        if (stale != null) {
+            openScope.remove();
+            stale.scope().close();
+        }
+    }
+
+    private String topicOf(ConsumerRecords<Object, Object> records) {
+        Iterator<TopicPartition> partitions = records.partitions().iterator();
+        return partitions.hasNext() ? partitions.next().topic() : "UNKNOWN";
+    }
+
+    private record OpenScope(SqlStatementScope scope, String topic) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.codec.EventCodecRegistry;
+import com.loopers.confg.kafka.codec.KafkaCodecProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxPayloadEncoderTest {
+
+    private static final String LIKE_PAYLOAD =
+            "{\"userId\":3,\"productId\":42,\"liked\":true,\"occurredAt\":\"2026-10-19T10:15:30.123+09:00\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final EventCodecRegistry registry = new EventCodecRegistry(List.of(new LikeChangedMessageCodec()));
+    private final OutboxPayloadEncoder encoder = new OutboxPayloadEncoder(
+            objectMapper,
+            registry,
+            new KafkaCodecProperties(List.of("like-events-v1"))
+    );
+
+    @DisplayName("outbox payload 를 인코딩할 때,")
+    @Nested
+    class Encode {
+
+        @DisplayName("바이너리 토픽의 좋아요 이벤트면, LikeChangedMessageCodec 으로 인코딩한다.")
+        @Test
+        void encodesWithCodec_whenTopicIsBinaryAndEventIsLike() {
+            // act
+            byte[] bytes = encoder.encode("like-events-v1", LikeChangedMessage.LIKED, LIKE_PAYLOAD);
+
+            // assert
+            assertThat(EventCodecRegistry.isBinary(bytes)).isTrue();
+            assertThat(bytes.length).isLessThan(LIKE_PAYLOAD.getBytes(StandardCharsets.UTF_8).length);
+
+            LikeChangedMessage decoded = (LikeChangedMessage) registry.decode(bytes);
+            assertThat(decoded.userId()).isEqualTo(3L);
+            assertThat(decoded.productId()).isEqualTo(42L);
+            assertThat(decoded.liked()).isTrue();
+            assertThat(decoded.occurredAt().toInstant())
+                    .isEqualTo(ZonedDateTime.of(2026, 10, 19, 10, 15, 30, 123_000_000, ZoneId.of("Asia/Seoul")).toInstant());
+        }
+
+        @DisplayName("바이너리 토픽이 아니면, JSON 그대로 보낸다.")
+        @Test
+        void keepsJson_whenTopicIsNotBinary() {
+            // act
+            byte[] bytes = encoder.encode("like-events-v2", LikeChangedMessage.LIKED, LIKE_PAYLOAD);
+
+            // assert
+            assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(LIKE_PAYLOAD);
+        }
+
+        @DisplayName("코덱이 없는 이벤트 타입이면, JSON 그대로 보낸다.")
+        @Test
+        void keepsJson_whenEventTypeHasNoCodec() {
+            // arrange
+            String payload = "{\"orderId\":1}";
+
+            // act
+            byte[] bytes = encoder.encode("like-events-v1", "ORDER_PLACED", payload);
+
+            // assert
+            assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(payload);
+        }
+
+        @DisplayName("payload 를 읽을 수 없으면, JSON 그대로 보낸다.")
+        @Test
+        void keepsJson_whenPayloadIsMalformed() {
+            // arrange
+            String payload = "{\"userId\":";
+
+            // act
+            byte[] bytes = encoder.encode("like-events-v1", LikeChangedMessage.UNLIKED, payload);
+
+            // assert
+            assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(payload);
+        }
+    }
+}
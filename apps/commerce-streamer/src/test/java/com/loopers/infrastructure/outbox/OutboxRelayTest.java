@@ -0,0 +1,130 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.codec.EventCodecRegistry;
+import com.loopers.confg.kafka.codec.KafkaCodecProperties;
+import com.loopers.fake.FakeKafkaTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRelayTest {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(300);
+
+    private FakeKafkaTemplate kafkaTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        kafkaTemplate = new FakeKafkaTemplate();
+        meterRegistry = new SimpleMeterRegistry();
+        OutboxRelayProperties properties = new OutboxRelayProperties(
+                true, 100, 1, SEND_TIMEOUT, null,
+                Map.of("ORDER", "order-events-v1", "LIKE", "like-events-v1")
+        );
+        OutboxPayloadEncoder payloadEncoder = new OutboxPayloadEncoder(
+                new ObjectMapper(), new EventCodecRegistry(List.of()), new KafkaCodecProperties(null)
+        );
+        // 발행 / ack 집계만 검증하므로 DB 접근 객체는 쓰지 않는다.
+        outboxRelay = new OutboxRelay(null, null, kafkaTemplate, properties, payloadEncoder, meterRegistry);
+    }
+
+    private OutboxRelay.OutboxRow row(long id, String aggregateType) {
+        return new OutboxRelay.OutboxRow(id, aggregateType, String.valueOf(id), "EVENT", "{\"id\":" + id + "}");
+    }
+
+    @DisplayName("배치를 발행할 때,")
+    @Nested
+    class Publish {
+
+        @DisplayName("모두 ack 되면, 모든 행을 SENT 대상으로 반환하고 aggregate_type 별로 집계한다.")
+        @Test
+        void returnsAllIds_whenEverySendSucceeds() {
+            // act
+            List<Long> sentIds = outboxRelay.publish(List.of(row(1, "ORDER"), row(2, "LIKE"), row(3, "ORDER"))).sentIds();
+
+            // assert
+            assertThat(sentIds).containsExactly(1L, 2L, 3L);
+            assertThat(kafkaTemplate.sent()).extracting(ProducerRecord::topic)
+                    .containsExactly("order-events-v1", "like-events-v1", "order-events-v1");
+            assertThat(meterRegistry.get("outbox.relay.published").tag("aggregate_type", "ORDER").counter().count()).isEqualTo(2d);
+            assertThat(meterRegistry.get("outbox.relay.published").tag("aggregate_type", "LIKE").counter().count()).isEqualTo(1d);
+        }
+
+        @DisplayName("일부 발행이 실패하면, 성공한 행만 반환하고 실패한 행은 PENDING 으로 남긴다.")
+        @Test
+        void returnsOnlySucceededIds_whenSomeSendsFail() {
+            // arrange
+            kafkaTemplate.failWhen(record -> "like-events-v1".equals(record.topic()));
+
+            // act
+            List<Long> sentIds = outboxRelay.publish(List.of(row(1, "ORDER"), row(2, "LIKE"), row(3, "ORDER"), row(4, "LIKE"))).sentIds();
+
+            // assert
+            assertThat(sentIds).containsExactly(1L, 3L);
+            assertThat(meterRegistry.get("outbox.relay.failed").counter().count()).isEqualTo(2d);
+        }
+
+        @DisplayName("응답 없는 발행이 여러 건이어도, 배치 전체에서 sendTimeout 한 번만 기다리고 응답한 행만 반환한다.")
+        @Test
+        void waitsSingleDeadline_whenSendsHang() {
+            // arrange
+            kafkaTemplate.hangWhen(record -> "like-events-v1".equals(record.topic()));
+            List<OutboxRelay.OutboxRow> rows = List.of(
+                    row(1, "LIKE"), row(2, "LIKE"), row(3, "ORDER"), row(4, "LIKE"), row(5, "LIKE"), row(6, "ORDER")
+            );
+
+            // act
+            long startedAt = System.nanoTime();
+            List<Long> sentIds = outboxRelay.publish(rows).sentIds();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+            // assert
+            assertThat(sentIds).containsExactly(3L, 6L);
+            assertThat(elapsed).isGreaterThanOrEqualTo(SEND_TIMEOUT);
+            // 행마다 기다리면 4 × sendTimeout(1.2s) 이 걸린다.
+            assertThat(elapsed).isLessThan(SEND_TIMEOUT.multipliedBy(3));
+            assertThat(meterRegistry.get("outbox.relay.failed").counter().count()).isEqualTo(4d);
+        }
+    
+        @DisplayName("토픽이 없는 aggregate_type 행이 섞여 있으면, 그 행만 FAILED 대상으로 반환하고 나머지는 발행한다.")
+        @Test
+        void marksOnlyUnmappedRowAsFailed_whenAggregateTypeHasNoTopic() {
+            // act
+            OutboxRelay.PublishResult result = outboxRelay.publish(List.of(row(1, "ORDER"), row(2, "UNKNOWN"), row(3, "LIKE")));
+
+            // assert
+            assertThat(result.sentIds()).containsExactly(1L, 3L);
+            assertThat(result.failedIds()).containsExactly(2L);
+            assertThat(kafkaTemplate.sent()).extracting(ProducerRecord::topic)
+                    .containsExactly("order-events-v1", "like-events-v1");
+            assertThat(meterRegistry.get("outbox.relay.failed").counter().count()).isEqualTo(1d);
+        }
+
+        @DisplayName("send 가 바로 예외를 던지면, 그 행은 PENDING 으로 남기고 나머지는 발행한다.")
+        @Test
+        void keepsRowPending_whenSendThrows() {
+            // arrange
+            kafkaTemplate.throwWhen(record -> "like-events-v1".equals(record.topic()));
+
+            // act
+            OutboxRelay.PublishResult result = outboxRelay.publish(List.of(row(1, "LIKE"), row(2, "ORDER")));
+
+            // assert
+            assertThat(result.sentIds()).containsExactly(2L);
+            assertThat(result.failedIds()).isEmpty();
+            assertThat(meterRegistry.get("outbox.relay.failed").counter().count()).isEqualTo(1d);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.loopers.interfaces.api.kafka;
+
+import com.loopers.confg.kafka.KafkaDeadLetterReplayer;
+import com.loopers.confg.kafka.KafkaRetryProperties;
+import com.loopers.confg.kafka.KafkaRetryTopics;
+import com.loopers.fake.FakeKafkaTemplate;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.mock.MockConsumerFactory;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadLetterReplayControllerTest {
+
+    private static final String TOKEN = "internal-token";
+    private static final String DLT = "demo.internal.topic-v1.dlt";
+
+    private KafkaRetryTopics retryTopics;
+    private KafkaDeadLetterReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        MockConsumer<Object, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        Node node = new Node(0, "localhost", 9092);
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, node, new Node[]{node}, new Node[]{node})));
+        consumer.updateBeginningOffsets(Map.of(new TopicPartition(DLT, 0), 0L));
+        consumer.updateEndOffsets(Map.of(new TopicPartition(DLT, 0), 0L));
+
+        retryTopics = new KafkaRetryTopics(new KafkaRetryProperties(null, null, null));
+        replayer = new KafkaDeadLetterReplayer(new MockConsumerFactory<>(() -> consumer), new FakeKafkaTemplate(), retryTopics);
+    }
+
+    private DeadLetterReplayController controller(String token) {
+        return new DeadLetterReplayController(
+                replayer,
+                retryTopics,
+                new DeadLetterReplayProperties(token, List.of("demo.internal.topic-v1"), 100)
+        );
+    }
+
+    @DisplayName("DLT 재발행을 요청할 때,")
+    @Nested
+    class Replay {
+
+        @DisplayName("토큰이 일치하고 허용된 토픽의 DLT 면, 재발행한다.")
+        @Test
+        void replays_whenTokenMatchesAndTopicIsAllowed() {
+            // act
+            KafkaDeadLetterReplayer.ReplayResult result = controller(TOKEN).replay(TOKEN, DLT, 100);
+
+            // assert
+            assertThat(result.targetTopic()).isEqualTo("demo.internal.topic-v1");
+            assertThat(result.replayed()).isZero();
+        }
+
+        @DisplayName("토큰이 없거나 다르면, 401 UNAUTHORIZED 를 반환한다.")
+        @Test
+        void returnsUnauthorized_whenTokenIsMissingOrWrong() {
+            // act
+            ResponseStatusException missing = assertThrows(ResponseStatusException.class,
+                    () -> controller(TOKEN).replay(null, DLT, 100));
+            ResponseStatusException wrong = assertThrows(ResponseStatusException.class,
+                    () -> controller(TOKEN).replay("other-token", DLT, 100));
+
+            // assert
+            assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+            assertThat(wrong.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+
+        @DisplayName("서버에 토큰이 설정되지 않았으면, 빈 토큰으로도 재발행할 수 없다.")
+        @Test
+        void returnsUnauthorized_whenServerTokenIsNotConfigured() {
+            // act
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> controller("").replay("", DLT, 100));
+
+            // assert
+            assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+
+        @DisplayName("허용 목록에 없는 토픽이면, 403 FORBIDDEN 을 반환한다.")
+        @Test
+        void returnsForbidden_whenTopicIsNotAllowed() {
+            // act
+            ResponseStatusException notAllowed = assertThrows(ResponseStatusException.class,
+                    () -> controller(TOKEN).replay(TOKEN, "order-events-v1.dlt", 100));
+            ResponseStatusException notDlt = assertThrows(ResponseStatusException.class,
+                    () -> controller(TOKEN).replay(TOKEN, "demo.internal.topic-v1", 100));
+
+            // assert
+            assertThat(notAllowed.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+            assertThat(notDlt.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        }
+
+        @DisplayName("maxRecords 가 허용 범위를 벗어나면, 400 BAD_REQUEST 를 반환한다.")
+        @Test
+        void returnsBadRequest_whenMaxRecordsIsOutOfRange() {
+            // act
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> controller(TOKEN).replay(TOKEN, DLT, 101));
+
+            // assert
+            assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -109,3 +109,4 @@ subprojects {
 project("apps") { tasks.configureEach { enabled = false } }
 project("modules") { tasks.configureEach { enabled = false } }
 project("supports") { tasks.configureEach { enabled = false } }
+project("tools") { tasks.configureEach { enabled = false } }
@@ -13,9 +13,16 @@ dependencies {
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
     // jdbc-mysql
     runtimeOnly("com.mysql:mysql-connector-j")
+    // hikaricp / 라우팅 메트릭
+    implementation("io.micrometer:micrometer-core")
+    // 2차 캐시 (JCache + Ehcache)
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("javax.cache:cache-api")
+    runtimeOnly("org.ehcache:ehcache::jakarta")
 
     testImplementation("org.testcontainers:mysql")
 
     testFixturesImplementation("org.springframework.boot:spring-boot-starter-data-jpa")
     testFixturesImplementation("org.testcontainers:mysql")
+    testFixturesImplementation("org.springframework:spring-test")
 }
@@ -1,14 +1,28 @@
 package com.loopers.config.jpa;
 
+import com.loopers.config.jpa.statement.SqlStatementReporter;
+import com.loopers.config.jpa.statement.SqlStatementStatsProperties;
+import com.loopers.config.jpa.statement.StatementCountingDataSource;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties({ReplicaRoutingProperties.class, SqlStatementStatsProperties.class})
 class DataSourceConfig {
     @Bean
     @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
@@ -16,9 +30,77 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
-    @Primary
     @Bean
     HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    /**
+     * JPA / JdbcTemplate 이 사용하는 DataSource.
+     * 라우팅이 켜져 있으면 라우팅 DataSource, 아니면 main 풀을 SQL 통계 프록시로 감싼다.
+     */
+    @Primary
+    @Bean
+    DataSource mySqlDataSource(
+        @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+        @Qualifier("mySqlRoutingDataSource") ObjectProvider<DataSource> routingDataSource,
+        SqlStatementStatsProperties statementStatsProperties
+    ) {
+        DataSource target = routingDataSource.getIfAvailable(() -> mainDataSource);
+        return statementStatsProperties.enabled() ? new StatementCountingDataSource(target) : target;
+    }
+
+    @Bean
+    SqlStatementReporter sqlStatementReporter(
+        ObjectProvider<MeterRegistry> meterRegistry,
+        SqlStatementStatsProperties statementStatsProperties
+    ) {
+        return new SqlStatementReporter(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), statementStatsProperties);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "datasource.mysql-jpa.routing", name = "enabled", havingValue = "true")
+    static class ReadWriteRoutingConfig {
+        @Bean(destroyMethod = "close")
+        ReplicaDataSources mySqlReplicaDataSources(
+            @Qualifier("mySqlMainHikariConfig") HikariConfig mainConfig,
+            ReplicaRoutingProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+        ) {
+            return new ReplicaDataSources(mainConfig, properties.replicas(), meterRegistry.getIfAvailable());
+        }
+
+        @Bean(destroyMethod = "close")
+        ReplicaLagMonitor replicaLagMonitor(
+            ReplicaDataSources replicaDataSources,
+            ReplicaRoutingProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+        ) {
+            return new ReplicaLagMonitor(
+                replicaDataSources.asMap(),
+                properties.maxLag(),
+                properties.lagCheckInterval(),
+                meterRegistry.getIfAvailable()
+            );
+        }
+
+        @Bean
+        DataSource mySqlRoutingDataSource(
+            @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+            ReplicaDataSources replicaDataSources,
+            ReplicaLagMonitor replicaLagMonitor,
+            ObjectProvider<MeterRegistry> meterRegistry
+        ) {
+            Map<Object, Object> targets = new HashMap<>(replicaDataSources.asMap());
+            targets.put(ReadWriteRoutingDataSource.MAIN, mainDataSource);
+
+            ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicaLagMonitor, meterRegistry.getIfAvailable());
+            routing.setTargetDataSources(targets);
+            routing.setDefaultTargetDataSource(mainDataSource);
+            routing.afterPropertiesSet();
+
+            // readOnly 여부는 트랜잭션 시작 후에 결정되므로, 실제 커넥션 획득을 첫 쿼리 시점으로 미룬다.
+            return new LazyConnectionDataSourceProxy(routing);
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package com.loopers.config.jpa;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션은 복제 지연이 허용 범위인 replica 로, 나머지는 main 으로 보낸다.
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로,
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 커넥션을 얻게 해야 한다.
+ * 사용 가능한 replica 가 없으면 main 으로 fallback 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    static final String MAIN = "main";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private final Counter writeRouted;
+    private final Counter readRouted;
+    private final Counter readFallback;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.writeRouted = counter(meterRegistry, "main", "write");
+        this.readRouted = counter(meterRegistry, "replica", "read");
+        this.readFallback = counter(meterRegistry, "main", "replica-unavailable");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String target, String reason) {
+        if (meterRegistry == null) {
+            return null;
+        }
+        return Counter.builder("datasource.routing")
+            .description("읽기/쓰기 라우팅 결정 수")
+            .tag("target", target)
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            increment(writeRouted);
+            return MAIN;
+        }
+
+        List<String> healthy = lagMonitor.healthyReplicas();
+        if (healthy.isEmpty()) {
+            increment(readFallback);
+            return MAIN;
+        }
+
+        increment(readRouted);
+        int index = Math.floorMod(cursor.getAndIncrement(), healthy.size());
+        return healthy.get(index);
+    }
+
+    private void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
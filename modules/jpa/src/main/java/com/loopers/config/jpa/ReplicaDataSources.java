@@ -0,0 +1,60 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * replica 커넥션 풀 묶음.
+ *
+ * 풀 설정은 main 을 복사한 뒤 접속 정보와 풀 크기만 덮어쓴다.
+ * 빈으로 등록되지 않는 풀이므로 hikaricp 메트릭(pool 태그 = 풀 이름)을 직접 연결한다.
+ */
+public class ReplicaDataSources implements AutoCloseable {
+    private final Map<String, HikariDataSource> dataSources;
+
+    public ReplicaDataSources(HikariConfig mainConfig, List<ReplicaRoutingProperties.Replica> replicas, MeterRegistry meterRegistry) {
+        Map<String, HikariDataSource> created = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaRoutingProperties.Replica replica = replicas.get(i);
+            String poolName = "mysql-replica-" + (i + 1) + "-pool";
+
+            HikariConfig config = new HikariConfig();
+            mainConfig.copyStateTo(config);
+            config.setPoolName(poolName);
+            config.setJdbcUrl(replica.jdbcUrl());
+            if (replica.username() != null && !replica.username().isBlank()) {
+                config.setUsername(replica.username());
+            }
+            if (replica.password() != null && !replica.password().isBlank()) {
+                config.setPassword(replica.password());
+            }
+            if (replica.maximumPoolSize() > 0) {
+                config.setMaximumPoolSize(replica.maximumPoolSize());
+                config.setMinimumIdle(Math.min(config.getMinimumIdle(), replica.maximumPoolSize()));
+            }
+            config.setReadOnly(true);
+            if (meterRegistry != null) {
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            }
+            created.put(poolName, new HikariDataSource(config));
+        }
+        this.dataSources = Collections.unmodifiableMap(created);
+    }
+
+    public Map<String, DataSource> asMap() {
+        return Collections.unmodifiableMap(dataSources);
+    }
+
+    @Override
+    public void close() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,150 @@
+package com.loopers.config.jpa;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * replica 의 복제 지연을 주기적으로 확인해 라우팅 가능한 replica 목록을 유지한다.
+ *
+ * - SHOW REPLICA STATUS 의 Seconds_Behind_Source 를 사용한다. (8.0.22 미만은 SHOW SLAVE STATUS 로 대체)
+ * - 복제 스레드가 멈춰 지연값이 NULL 이거나, 조회 자체가 실패하거나, maxLag 를 넘으면 unhealthy 로 본다.
+ * - 복제 설정이 없는 서버(결과 행 없음)도 unhealthy 로 본다. RESET REPLICA 된 서버나 잘못 지정된 서버는
+ *   지연을 알 수 없으므로 읽기를 보내지 않고 main 으로 fallback 한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+    static final double UNKNOWN_LAG = -1;
+
+    private final List<String> replicas;
+    private final LagProbe lagProbe;
+    private final Duration maxLag;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+
+    private volatile List<String> healthyReplicas = List.of();
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this(List.copyOf(replicas.keySet()), jdbcProbe(Map.copyOf(replicas)), maxLag, checkInterval, meterRegistry);
+    }
+
+    ReplicaLagMonitor(List<String> replicas, LagProbe lagProbe, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.lagProbe = lagProbe;
+        this.maxLag = maxLag;
+
+        for (String name : this.replicas) {
+            lagSeconds.put(name, UNKNOWN_LAG);
+            if (meterRegistry != null) {
+                Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(name, UNKNOWN_LAG))
+                    .description("replica 복제 지연(초). 확인 불가면 -1")
+                    .baseUnit("seconds")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+                Gauge.builder("datasource.replica.healthy", this, monitor -> monitor.isHealthy(name) ? 1 : 0)
+                    .tag("pool", name)
+                    .register(meterRegistry);
+            }
+        }
+
+        // 첫 라우팅 전에 상태를 채워 둔다.
+        checkSafely();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public List<String> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    public boolean isHealthy(String name) {
+        return healthyReplicas.contains(name);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.warn("replica 복제 지연 확인 실패", e);
+        }
+    }
+
+    void check() {
+        List<String> healthy = new ArrayList<>();
+        for (String name : replicas) {
+            double lag = lagProbe.measure(name);
+            lagSeconds.put(name, lag);
+
+            boolean wasHealthy = isHealthy(name);
+            boolean nowHealthy = lag != UNKNOWN_LAG && lag <= maxLag.toSeconds();
+            if (nowHealthy) {
+                healthy.add(name);
+            }
+            if (wasHealthy != nowHealthy) {
+                log.warn("replica 라우팅 상태 변경 - pool: {}, lag(s): {}, healthy: {}", name, lag, nowHealthy);
+            }
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    private static LagProbe jdbcProbe(Map<String, DataSource> dataSources) {
+        return name -> measureLag(name, dataSources.get(name));
+    }
+
+    private static double measureLag(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                return readLag(rs, "Seconds_Behind_Source");
+            } catch (SQLException e) {
+                try (ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+                    return readLag(rs, "Seconds_Behind_Master");
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("replica 복제 지연 조회 실패 - pool: {}", name, e);
+            return UNKNOWN_LAG;
+        }
+    }
+
+    private static double readLag(ResultSet rs, String column) throws SQLException {
+        if (!rs.next()) {
+            return UNKNOWN_LAG;
+        }
+        long lag = rs.getLong(column);
+        return rs.wasNull() ? UNKNOWN_LAG : lag;
+    }
+
+    /**
+     * replica 이름으로 복제 지연(초)을 잰다. 확인할 수 없으면 {@link #UNKNOWN_LAG} 를 반환한다.
+     */
+    @FunctionalInterface
+    interface LagProbe {
+        double measure(String name);
+    }
+}
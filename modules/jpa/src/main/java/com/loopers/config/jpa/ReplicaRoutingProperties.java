@@ -0,0 +1,51 @@
+package com.loopers.config.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 라우팅 설정.
+ *
+ * @param enabled          라우팅 활성화 여부. 비활성화면 main 풀 하나만 사용한다
+ * @param maxLag           복제 지연이 이 값을 넘은 replica 는 라우팅 대상에서 제외한다
+ * @param lagCheckInterval replica 복제 지연 확인 주기
+ * @param replicas         replica 접속 정보. 나머지 풀 설정은 main 을 그대로 따른다
+ */
+@ConfigurationProperties(value = "datasource.mysql-jpa.routing")
+public record ReplicaRoutingProperties(
+    boolean enabled,
+    Duration maxLag,
+    Duration lagCheckInterval,
+    List<Replica> replicas
+) {
+    public ReplicaRoutingProperties {
+        if (maxLag == null) maxLag = Duration.ofSeconds(5);
+        if (lagCheckInterval == null) lagCheckInterval = Duration.ofSeconds(2);
+        if (replicas == null) replicas = List.of();
+
+        if (enabled && replicas.isEmpty()) {
+            throw new IllegalArgumentException("datasource.mysql-jpa.routing.replicas 가 비어 있습니다.");
+        }
+    }
+
+    /**
+     * @param jdbcUrl         replica JDBC URL
+     * @param username        replica 계정. 비어 있으면 main 계정을 사용한다 (REPLICATION CLIENT 권한 필요)
+     * @param password        replica 비밀번호. 비어 있으면 main 비밀번호를 사용한다
+     * @param maximumPoolSize replica 풀 크기. 0 이하면 main 풀 크기를 사용한다
+     */
+    public record Replica(
+        String jdbcUrl,
+        String username,
+        String password,
+        int maximumPoolSize
+    ) {
+        public Replica {
+            if (jdbcUrl == null || jdbcUrl.isBlank()) {
+                throw new IllegalArgumentException("datasource.mysql-jpa.routing.replicas[].jdbc-url 은 필수입니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.loopers.config.jpa.cache;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Ehcache, 프로세스 로컬).
+ *
+ * - region 은 설정 파일에 크기(엔트리 수)와 TTL 을 정해 둔 것만 허용한다. (missing_cache_strategy = fail)
+ * - 인스턴스 간 무효화는 하지 않으므로, 다른 인스턴스의 변경은 TTL 안에서만 늦게 보일 수 있다.
+ *   재고 차감처럼 정합성이 필요한 경로는 잠금 조회(쿼리)를 쓰므로 2차 캐시를 거치지 않는다.
+ * - JPQL 벌크 UPDATE/DELETE 는 Hibernate 가 대상 엔티티 region 을 통째로 비운다.
+ *   JdbcTemplate 으로 직접 쓰는 경로는 Hibernate 가 알 수 없으므로 캐시 대상 엔티티를 갱신하면 안 된다. (INSERT 는 무관)
+ * - region 별 hit/miss/put/eviction 을 cache.* 메트릭(cache=region 이름)으로 노출한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.mysql-jpa.second-level-cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+class SecondLevelCacheConfig {
+    private static final String EHCACHE_PROVIDER = "org.ehcache.jsr107.EhcacheCachingProvider";
+
+    @Bean(destroyMethod = "close")
+    CacheManager jpaSecondLevelCacheManager(SecondLevelCacheProperties properties, ResourceLoader resourceLoader) throws IOException {
+        return Caching.getCachingProvider(EHCACHE_PROVIDER)
+            .getCacheManager(resourceLoader.getResource(properties.config()).getURI(), resourceLoader.getClassLoader());
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(CacheManager jpaSecondLevelCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            // Hibernate 가 같은 URI 로 CacheManager 를 따로 만들지 않도록 인스턴스를 넘긴다. (메트릭과 같은 캐시를 봐야 한다)
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, jpaSecondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    MeterBinder jpaSecondLevelCacheMetrics(CacheManager jpaSecondLevelCacheManager) {
+        return registry -> {
+            for (String region : jpaSecondLevelCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, jpaSecondLevelCacheManager.getCache(region), Tags.of("cache.type", "hibernate-l2"));
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.config.jpa.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Hibernate 2차 캐시 설정.
+ *
+ * @param enabled 2차 캐시 활성화 여부. 비활성화면 엔티티의 @Cache 는 무시된다
+ * @param config  Ehcache(JCache) 설정 파일 위치. 엔티티의 region 이 모두 정의되어 있어야 한다 (없으면 기동 실패)
+ */
+@ConfigurationProperties(value = "datasource.mysql-jpa.second-level-cache")
+public record SecondLevelCacheProperties(
+    boolean enabled,
+    String config
+) {
+    public SecondLevelCacheProperties {
+        if (config == null || config.isBlank()) config = "classpath:jpa-second-level-cache.xml";
+    }
+}
@@ -0,0 +1,93 @@
+package com.loopers.config.jpa.statement;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 닫힌 {@link SqlStatementScope} 를 메트릭/로그로 내보낸다.
+ * - sql.scope.statements  : 작업 단위당 SQL 실행 수
+ * - sql.scope.rows        : 작업 단위당 조회/변경 행 수
+ * - sql.scope.db.time     : 작업 단위당 DB 시간 합계
+ * - sql.scope.warnings    : 임계치 초과 횟수 (reason=statements|db-time|repeated)
+ * 태그 type 은 http|kafka, name 은 URI 패턴 또는 토픽이다.
+ */
+@Slf4j
+public class SqlStatementReporter {
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementStatsProperties properties;
+
+    public SqlStatementReporter(MeterRegistry meterRegistry, SqlStatementStatsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    /**
+     * @param type  작업 단위 종류 (http, kafka)
+     * @param name  작업 단위 이름. 메트릭 태그로 쓰이므로 카디널리티가 제한된 값이어야 한다 (URI 패턴, 토픽)
+     * @param scope 닫힌 scope
+     */
+    public void report(String type, String name, SqlStatementScope scope) {
+        DistributionSummary.builder("sql.scope.statements")
+            .tag("type", type).tag("name", name)
+            .register(meterRegistry)
+            .record(scope.statements());
+        DistributionSummary.builder("sql.scope.rows")
+            .tag("type", type).tag("name", name)
+            .register(meterRegistry)
+            .record(scope.rows());
+        Timer.builder("sql.scope.db.time")
+            .tag("type", type).tag("name", name)
+            .register(meterRegistry)
+            .record(scope.dbTimeNanos(), TimeUnit.NANOSECONDS);
+
+        if (scope.statements() > properties.warnStatements()) {
+            warn(type, name, "statements");
+            log.warn("SQL 실행 수 초과 - {} {}, statements: {} (> {}), rows: {}, db: {}ms",
+                type, name, scope.statements(), properties.warnStatements(), scope.rows(), toMillis(scope.dbTimeNanos()));
+        }
+        if (scope.dbTimeNanos() > properties.warnDbTime().toNanos()) {
+            warn(type, name, "db-time");
+            log.warn("DB 시간 초과 - {} {}, db: {}ms (> {}ms), statements: {}",
+                type, name, toMillis(scope.dbTimeNanos()), properties.warnDbTime().toMillis(), scope.statements());
+        }
+        Map<String, Integer> repeated = scope.repeatedStatements(properties.nPlusOneThreshold());
+        if (!repeated.isEmpty()) {
+            warn(type, name, "repeated");
+            repeated.forEach((sql, count) ->
+                log.warn("N+1 의심 - {} {}, {}회 반복: {}", type, name, count, abbreviate(sql)));
+        }
+    }
+
+    /**
+     * Server-Timing 헤더 값. ex) db;dur=12.3;desc="5 statements, 42 rows"
+     */
+    public static String serverTiming(SqlStatementScope scope) {
+        return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements, %d rows\"",
+            scope.dbTimeNanos() / 1_000_000d, scope.statements(), scope.rows());
+    }
+
+    private void warn(String type, String name, String reason) {
+        Counter.builder("sql.scope.warnings")
+            .tag("type", type).tag("name", name).tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000d);
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_LOGGED_SQL_LENGTH ? singleLine : singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,146 @@
+package com.loopers.config.jpa.statement;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 하나의 작업 단위(HTTP 요청, Kafka 배치, 테스트 구간)에서 실행된 SQL 통계.
+ *
+ * 현재 스레드에 바인딩되며, 열려 있는 동안 {@link StatementCountingDataSource} 를 거친 모든 실행이 집계된다.
+ * 중첩해서 열면 안쪽 scope 의 실행은 바깥 scope 에도 함께 집계된다.
+ * 작업 단위 안에서 다른 스레드로 나눠 실행하는 조회는 {@link #propagate(Callable)} 로 감싸 같은 scope 에 집계한다.
+ * <pre>
+ * try (SqlStatementScope scope = SqlStatementScope.open()) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class SqlStatementScope implements AutoCloseable {
+    private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+
+    // 같은 SQL 반복(N+1) 탐지용. 서로 다른 SQL 이 이보다 많으면 새 SQL 은 세지 않는다.
+    private static final int MAX_DISTINCT_SQL = 256;
+
+    private final SqlStatementScope parent;
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    private int statements;
+    private long rows;
+    private long dbTimeNanos;
+    private long elapsedNanos = -1;
+
+    private SqlStatementScope(SqlStatementScope parent) {
+        this.parent = parent;
+    }
+
+    public static SqlStatementScope open() {
+        SqlStatementScope scope = new SqlStatementScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 현재 스레드에 열린 scope. 없으면 null.
+     */
+    public static SqlStatementScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 scope 를 task 를 실행하는 스레드에도 바인딩한다. 열린 scope 가 없으면 task 를 그대로 반환한다.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        SqlStatementScope scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            SqlStatementScope previous = CURRENT.get();
+            CURRENT.set(scope);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    // propagate 로 여러 스레드가 같은 scope 에 기록할 수 있어 scope 단위로 잠근다.
+    void recordExecution(String sql, long nanos, long affectedRows) {
+        for (SqlStatementScope scope = this; scope != null; scope = scope.parent) {
+            synchronized (scope) {
+                scope.statements++;
+                scope.dbTimeNanos += nanos;
+                scope.rows += affectedRows;
+                if (sql != null && (scope.executionsBySql.size() < MAX_DISTINCT_SQL || scope.executionsBySql.containsKey(sql))) {
+                    scope.executionsBySql.merge(sql, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    void recordRow() {
+        for (SqlStatementScope scope = this; scope != null; scope = scope.parent) {
+            synchronized (scope) {
+                scope.rows++;
+            }
+        }
+    }
+
+    /**
+     * threshold 번 이상 반복 실행된 SQL 과 실행 횟수. 많이 실행된 순.
+     */
+    public synchronized Map<String, Integer> repeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executionsBySql.entrySet().stream()
+            .filter(entry -> entry.getValue() >= threshold)
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    public synchronized int statements() {
+        return statements;
+    }
+
+    public synchronized long rows() {
+        return rows;
+    }
+
+    public synchronized long dbTimeNanos() {
+        return dbTimeNanos;
+    }
+
+    /**
+     * scope 가 열려 있던 시간. 닫히기 전에는 현재까지의 시간.
+     */
+    public long elapsedNanos() {
+        return elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startedAt;
+    }
+
+    public boolean isClosed() {
+        return elapsedNanos >= 0;
+    }
+
+    @Override
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+        elapsedNanos = System.nanoTime() - startedAt;
+        if (CURRENT.get() == this) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.config.jpa.statement;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 작업 단위(HTTP 요청, Kafka 배치)별 SQL 통계 설정.
+ *
+ * @param enabled             JDBC 프록시 활성화 여부
+ * @param warnStatements      한 작업 단위의 SQL 실행 수가 이 값을 넘으면 경고 로그
+ * @param warnDbTime          한 작업 단위의 DB 시간 합계가 이 값을 넘으면 경고 로그
+ * @param nPlusOneThreshold   같은 SQL 이 이 횟수 이상 반복되면 N+1 의심 경고 로그
+ */
+@ConfigurationProperties(value = "datasource.mysql-jpa.statement-stats")
+public record SqlStatementStatsProperties(
+    boolean enabled,
+    int warnStatements,
+    Duration warnDbTime,
+    int nPlusOneThreshold
+) {
+    public SqlStatementStatsProperties {
+        if (warnStatements <= 0) warnStatements = 30;
+        if (warnDbTime == null) warnDbTime = Duration.ofMillis(500);
+        if (nPlusOneThreshold <= 0) nPlusOneThreshold = 10;
+    }
+}
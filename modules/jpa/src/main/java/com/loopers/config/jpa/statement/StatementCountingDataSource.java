@@ -0,0 +1,156 @@
+package com.loopers.config.jpa.statement;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Connection / Statement / ResultSet 을 JDK 동적 프록시로 감싸 현재 {@link SqlStatementScope} 에 실행 통계를 기록한다.
+ *
+ * - 실행 1회 = execute* 호출 1회. JDBC 배치(executeBatch)는 DB 왕복 기준으로 1회로 센다.
+ * - rows 는 조회 시 ResultSet.next() 가 true 를 반환한 횟수, 변경 시 update count 합계다.
+ * - scope 가 열려 있지 않으면 측정 없이 원본 객체를 그대로 호출한다.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+    );
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection proxyConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            new ConnectionHandler(connection)
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // 커넥션 동일성 비교(트랜잭션 동기화 등)는 프록시 기준으로 한다.
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            return switch (method.getName()) {
+                case "prepareCall" -> proxyStatement(result, CallableStatement.class, sql);
+                case "prepareStatement" -> proxyStatement(result, PreparedStatement.class, sql);
+                case "createStatement" -> proxyStatement(result, Statement.class, null);
+                default -> result;
+            };
+        }
+
+        private Object proxyStatement(Object statement, Class<?> type, String sql) {
+            return Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                new StatementHandler((Statement) statement, sql)
+            );
+        }
+    }
+
+    private record StatementHandler(Statement target, String preparedSql) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            SqlStatementScope scope = SqlStatementScope.current();
+            String name = method.getName();
+            if (scope == null) {
+                return StatementCountingDataSource.invoke(target, method, args);
+            }
+            if (name.equals("getResultSet")) {
+                return proxyResultSet(StatementCountingDataSource.invoke(target, method, args));
+            }
+            if (!EXECUTE_METHODS.contains(name)) {
+                return StatementCountingDataSource.invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long start = System.nanoTime();
+            Object result = null;
+            try {
+                result = StatementCountingDataSource.invoke(target, method, args);
+                return result instanceof ResultSet resultSet ? proxyResultSet(resultSet) : result;
+            } finally {
+                scope.recordExecution(sql, System.nanoTime() - start, affectedRows(result));
+            }
+        }
+
+        private long affectedRows(Object result) {
+            if (result instanceof Integer count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof Long count) {
+                return Math.max(count, 0);
+            }
+            long sum = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) sum += Math.max(count, 0);
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+
+        private Object proxyResultSet(Object resultSet) {
+            if (resultSet == null) {
+                return null;
+            }
+            return Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                new ResultSetHandler((ResultSet) resultSet)
+            );
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                SqlStatementScope scope = SqlStatementScope.current();
+                if (scope != null) {
+                    scope.recordRow();
+                }
+            }
+            return result;
+        }
+    }
+}
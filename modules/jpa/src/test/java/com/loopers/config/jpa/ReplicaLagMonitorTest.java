@@ -0,0 +1,126 @@
+package com.loopers.config.jpa;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaLagMonitorTest {
+    private static final String REPLICA_1 = "mysql-replica-1-pool";
+    private static final String REPLICA_2 = "mysql-replica-2-pool";
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private final Map<String, Double> lags = new HashMap<>();
+    private ReplicaLagMonitor monitor;
+
+    private ReplicaLagMonitor monitor() {
+        monitor = new ReplicaLagMonitor(
+            List.of(REPLICA_1, REPLICA_2),
+            name -> lags.getOrDefault(name, ReplicaLagMonitor.UNKNOWN_LAG),
+            MAX_LAG,
+            Duration.ofHours(1),
+            null
+        );
+        return monitor;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (monitor != null) {
+            monitor.close();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @DisplayName("replica 상태를 확인할 때,")
+    @Nested
+    class Check {
+
+        @DisplayName("지연이 maxLag 이하인 replica 만 healthy 로 본다.")
+        @Test
+        void keepsOnlyReplicasWithinMaxLag() {
+            // arrange
+            lags.put(REPLICA_1, 1.0);
+            lags.put(REPLICA_2, 30.0);
+
+            // act
+            ReplicaLagMonitor result = monitor();
+
+            // assert
+            assertThat(result.healthyReplicas()).containsExactly(REPLICA_1);
+        }
+
+        @DisplayName("지연을 확인할 수 없으면(복제 상태 행 없음, NULL, 조회 실패) unhealthy 로 본다.")
+        @Test
+        void treatsUnknownLagAsUnhealthy() {
+            // arrange
+            lags.put(REPLICA_1, ReplicaLagMonitor.UNKNOWN_LAG);
+            lags.put(REPLICA_2, 0.0);
+
+            // act
+            ReplicaLagMonitor result = monitor();
+
+            // assert
+            assertThat(result.healthyReplicas()).containsExactly(REPLICA_2);
+        }
+
+        @DisplayName("지연이 회복되면 다음 확인에서 다시 healthy 로 돌아온다.")
+        @Test
+        void restoresReplica_whenLagRecovers() {
+            // arrange
+            lags.put(REPLICA_1, 30.0);
+            ReplicaLagMonitor result = monitor();
+            lags.put(REPLICA_1, 2.0);
+
+            // act
+            result.check();
+
+            // assert
+            assertThat(result.isHealthy(REPLICA_1)).isTrue();
+        }
+    }
+
+    @DisplayName("readOnly 트랜잭션을 라우팅할 때,")
+    @Nested
+    class Route {
+
+        @DisplayName("healthy replica 가 없으면 main 으로 fallback 한다.")
+        @Test
+        void fallsBackToMain_whenNoReplicaIsHealthy() {
+            // arrange
+            lags.put(REPLICA_1, ReplicaLagMonitor.UNKNOWN_LAG);
+            lags.put(REPLICA_2, 30.0);
+            ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(monitor(), null);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            // act
+            Object key = routing.determineCurrentLookupKey();
+
+            // assert
+            assertThat(key).isEqualTo(ReadWriteRoutingDataSource.MAIN);
+        }
+
+        @DisplayName("healthy replica 가 있으면 그 replica 로 보낸다.")
+        @Test
+        void routesToHealthyReplica() {
+            // arrange
+            lags.put(REPLICA_1, 0.0);
+            ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(monitor(), null);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            // act
+            Object key = routing.determineCurrentLookupKey();
+
+            // assert
+            assertThat(key).isEqualTo(REPLICA_1);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.loopers.testcontainers;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+
+/**
+ * {@link MySqlTestContainersConfig} 의 main 컨테이너를 GTID 기반으로 복제하는 replica 컨테이너.
+ *
+ * 기본 테스트에는 영향을 주지 않도록 설정 클래스로 두지 않는다. 라우팅을 검증할 테스트에서만 아래처럼 사용한다.
+ * <pre>
+ * &#64;SpringBootTest(properties = "datasource.mysql-jpa.routing.enabled=true")
+ * class SomeTest {
+ *     &#64;DynamicPropertySource
+ *     static void replica(DynamicPropertyRegistry registry) {
+ *         MySqlReplicaTestContainers.registerProperties(registry);
+ *     }
+ * }
+ * </pre>
+ */
+public final class MySqlReplicaTestContainers {
+    public static final int MAIN_SERVER_ID = 1;
+    public static final int REPLICA_SERVER_ID = 2;
+
+    private static MySQLContainer<?> replicaContainer;
+
+    private MySqlReplicaTestContainers() {
+    }
+
+    public static void registerProperties(DynamicPropertyRegistry registry) {
+        MySQLContainer<?> replica = start();
+        String jdbcUrl = String.format(
+            "jdbc:mysql://%s:%d/%s",
+            replica.getHost(),
+            replica.getFirstMappedPort(),
+            replica.getDatabaseName()
+        );
+        registry.add("datasource.mysql-jpa.routing.replicas[0].jdbc-url", () -> jdbcUrl);
+        registry.add("datasource.mysql-jpa.routing.replicas[0].username", replica::getUsername);
+        registry.add("datasource.mysql-jpa.routing.replicas[0].password", replica::getPassword);
+    }
+
+    private static synchronized MySQLContainer<?> start() {
+        if (replicaContainer != null) {
+            return replicaContainer;
+        }
+        MySQLContainer<?> replica = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("loopers")
+            .withUsername("test")
+            .withPassword("test")
+            .withEnv("MYSQL_ROOT_PASSWORD", "test")
+            .withExposedPorts(3306)
+            .withNetwork(MySqlTestContainersConfig.NETWORK)
+            .withCommand(
+                "--character-set-server=utf8mb4",
+                "--collation-server=utf8mb4_general_ci",
+                "--skip-character-set-client-handshake",
+                "--server-id=" + REPLICA_SERVER_ID,
+                "--gtid-mode=ON",
+                "--enforce-gtid-consistency=ON",
+                "--read-only=ON"
+            );
+        replica.start();
+
+        // 두 컨테이너 모두 초기화 스크립트(DB/계정 생성)는 binlog 없이 실행되므로, 이후 변경분만 복제된다.
+        execAsRoot(replica,
+            "GRANT REPLICATION CLIENT ON *.* TO 'test'@'%';"
+                + "CHANGE REPLICATION SOURCE TO"
+                + " SOURCE_HOST='" + MySqlTestContainersConfig.NETWORK_ALIAS + "', SOURCE_PORT=3306,"
+                + " SOURCE_USER='root', SOURCE_PASSWORD='test',"
+                + " SOURCE_AUTO_POSITION=1, GET_SOURCE_PUBLIC_KEY=1;"
+                + "START REPLICA;");
+        replicaContainer = replica;
+        return replica;
+    }
+
+    private static void execAsRoot(MySQLContainer<?> container, String sql) {
+        Container.ExecResult result;
+        try {
+            result = container.execInContainer("mysql", "-uroot", "-ptest", "-e", sql);
+        } catch (IOException | InterruptedException e) {
+            throw new IllegalStateException("replica 설정 실패", e);
+        }
+        if (result.getExitCode() != 0) {
+            throw new IllegalStateException("replica 설정 실패: " + result.getStderr());
+        }
+    }
+}
@@ -2,11 +2,18 @@ package com.loopers.testcontainers;
 
 import org.springframework.context.annotation.Configuration;
 import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
 import org.testcontainers.utility.DockerImageName;
 
 @Configuration
 public class MySqlTestContainersConfig {
 
+    /**
+     * replica 컨테이너({@link MySqlReplicaTestContainers})가 이 이름으로 main 에 접속한다.
+     */
+    static final String NETWORK_ALIAS = "mysql-main";
+    static final Network NETWORK = Network.newNetwork();
+
     private static final MySQLContainer<?> mySqlContainer;
 
     static {
@@ -16,10 +23,15 @@ public class MySqlTestContainersConfig {
             .withPassword("test")
             .withEnv("MYSQL_ROOT_PASSWORD", "test")
             .withExposedPorts(3306)
+            .withNetwork(NETWORK)
+            .withNetworkAliases(NETWORK_ALIAS)
             .withCommand(
                 "--character-set-server=utf8mb4",
                 "--collation-server=utf8mb4_general_ci",
-                "--skip-character-set-client-handshake"
+                "--skip-character-set-client-handshake",
+                "--server-id=1",
+                "--gtid-mode=ON",
+                "--enforce-gtid-consistency=ON"
             );
         mySqlContainer.start();
 
@@ -37,5 +37,8 @@ public class DatabaseCleanUp implements InitializingBean {
         }
 
         entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = 1").executeUpdate();
+
+        // TRUNCATE 로 ID 가 다시 1 부터 시작하므로, 2차 캐시에 남은 이전 테스트의 엔티티를 비운다.
+        entityManager.getEntityManagerFactory().getCache().evictAll();
     }
 }
@@ -0,0 +1,84 @@
+package com.loopers.utils;
+
+import com.loopers.config.jpa.statement.SqlStatementScope;
+
+import java.util.Map;
+
+/**
+ * 테스트에서 구간별 SQL 실행 수를 검증한다. (datasource.mysql-jpa.statement-stats.enabled=true 필요)
+ * <pre>
+ * QueryBudget budget = QueryBudget.measure(() -> orderFacade.getOrders(userId, 0, 20));
+ * budget.assertStatementsAtMost(2);
+ * budget.assertNoRepeatedStatements(3);
+ * </pre>
+ * 측정은 호출한 스레드에서 실행된 SQL 만 포함한다.
+ */
+public final class QueryBudget {
+    private final SqlStatementScope scope;
+
+    private QueryBudget(SqlStatementScope scope) {
+        this.scope = scope;
+    }
+
+    public static QueryBudget measure(Runnable action) {
+        try (SqlStatementScope scope = SqlStatementScope.open()) {
+            action.run();
+            return new QueryBudget(scope);
+        }
+    }
+
+    public int statements() {
+        return scope.statements();
+    }
+
+    public long rows() {
+        return scope.rows();
+    }
+
+    public QueryBudget assertStatements(int expected) {
+        if (scope.statements() != expected) {
+            throw new AssertionError(describe("SQL 실행 수가 " + expected + " 이어야 하지만 " + scope.statements() + " 입니다."));
+        }
+        return this;
+    }
+
+    public QueryBudget assertStatementsAtMost(int max) {
+        if (scope.statements() > max) {
+            throw new AssertionError(describe("SQL 실행 수가 " + max + " 이하여야 하지만 " + scope.statements() + " 입니다."));
+        }
+        return this;
+    }
+
+    /**
+     * 같은 SQL 이 threshold 번 이상 실행되지 않았는지 검증한다. (N+1 탐지)
+     */
+    public QueryBudget assertNoRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = scope.repeatedStatements(threshold);
+        if (!repeated.isEmpty()) {
+            throw new AssertionError(describe("같은 SQL 이 " + threshold + " 번 이상 반복되었습니다."));
+        }
+        return this;
+    }
+
+    /**
+     * 실행된 SQL 중 fragment 를 포함한 것이 없는지 검증한다. (읽지 않아도 될 컬럼/테이블 조회 탐지)
+     */
+    public QueryBudget assertNoStatementContaining(String fragment) {
+        scope.repeatedStatements(1).keySet().stream()
+            .filter(sql -> sql.contains(fragment))
+            .findFirst()
+            .ifPresent(sql -> {
+                throw new AssertionError(describe("'" + fragment + "' 를 포함한 SQL 이 실행되었습니다: " + sql));
+            });
+        return this;
+    }
+
+    private String describe(String message) {
+        StringBuilder sb = new StringBuilder(message)
+            .append(" (rows: ").append(scope.rows())
+            .append(", db: ").append(scope.dbTimeNanos() / 1_000_000).append("ms)");
+        scope.repeatedStatements(2).forEach((sql, count) ->
+            sb.append(System.lineSeparator()).append("  ").append(count).append("회: ").append(sql));
+        return sb.toString();
+    }
+}
@@ -1,13 +1,21 @@
 plugins {
     `java-library`
     `java-test-fixtures`
+    id("me.champeau.jmh")
 }
 
 dependencies {
     api("org.springframework.kafka:spring-kafka")
+    implementation("io.micrometer:micrometer-core")
 
     testImplementation("org.springframework.kafka:spring-kafka-test")
     testImplementation("org.testcontainers:kafka")
 
     testFixturesImplementation("org.testcontainers:kafka")
 }
+
+// ./gradlew :modules:kafka:jmh
+jmh {
+    jmhVersion = project.properties["jmhVersion"] as String
+    resultFormat = "JSON"
+}
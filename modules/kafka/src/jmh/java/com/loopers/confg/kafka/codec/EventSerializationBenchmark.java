@@ -0,0 +1,163 @@
+package com.loopers.confg.kafka.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 JSON 경로(JsonSerializer / ObjectMapper.readValue)와 바이너리 코덱의 직렬화/역직렬화 처리량 비교.
+ * 직렬화 벤치마크는 만든 바이트 수를 보조 카운터(serializedBytes, bytes/ms)로 함께 보고한다. 이벤트당 바이트 수는 serializedBytes / score 이다.
+ *
+ * ./gradlew :modules:kafka:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+    private static final String TOPIC = "order.placed-v1";
+
+    private SampleOrderPlacedEvent event;
+
+    private JsonSerializer<Object> jsonSerializer;
+    private ObjectMapper objectMapper;
+    private JavaType eventType;
+    private byte[] jsonBytes;
+
+    private BinaryEventSerializer binarySerializer;
+    private BinaryEventDeserializer binaryDeserializer;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<SampleOrderPlacedEvent.Item> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            items.add(new SampleOrderPlacedEvent.Item(1_000L + i, "상품-" + i, 2, 15_900L));
+        }
+        event = new SampleOrderPlacedEvent(123_456L, 9_876L, 95_400L, 1_760_000_000_000L, items);
+
+        objectMapper = new ObjectMapper();
+        jsonSerializer = new JsonSerializer<>(objectMapper);
+        jsonSerializer.configure(Map.of(JsonSerializer.ADD_TYPE_INFO_HEADERS, false), false);
+        eventType = objectMapper.constructType(SampleOrderPlacedEvent.class);
+        jsonBytes = jsonSerializer.serialize(TOPIC, event);
+
+        EventCodecRegistry registry = new EventCodecRegistry(List.of(new SampleOrderPlacedEventCodec()));
+        binarySerializer = new BinaryEventSerializer(registry);
+        binaryDeserializer = new BinaryEventDeserializer(registry);
+        binaryBytes = binarySerializer.serialize(TOPIC, event);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class SerializedBytes {
+        public long serializedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            serializedBytes = 0;
+        }
+
+        byte[] count(byte[] bytes) {
+            serializedBytes += bytes.length;
+            return bytes;
+        }
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize(SerializedBytes counter) {
+        return counter.count(jsonSerializer.serialize(TOPIC, event));
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() throws IOException {
+        return objectMapper.readValue(jsonBytes, eventType);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize(SerializedBytes counter) {
+        return counter.count(binarySerializer.serialize(TOPIC, event));
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() {
+        return binaryDeserializer.deserialize(TOPIC, binaryBytes);
+    }
+
+    public record SampleOrderPlacedEvent(
+            long orderId,
+            long userId,
+            long totalAmount,
+            long orderedAtEpochMillis,
+            List<Item> items
+    ) {
+        public record Item(long productId, String productName, int quantity, long price) {
+        }
+    }
+
+    static class SampleOrderPlacedEventCodec implements EventCodec<SampleOrderPlacedEvent> {
+        @Override
+        public int typeId() {
+            return 1;
+        }
+
+        @Override
+        public int schemaVersion() {
+            return 1;
+        }
+
+        @Override
+        public Class<SampleOrderPlacedEvent> type() {
+            return SampleOrderPlacedEvent.class;
+        }
+
+        @Override
+        public void encode(SampleOrderPlacedEvent event, BinaryEventWriter out) {
+            out.writeUnsignedVarLong(event.orderId())
+                    .writeUnsignedVarLong(event.userId())
+                    .writeVarLong(event.totalAmount())
+                    .writeVarLong(event.orderedAtEpochMillis())
+                    .writeUnsignedVarInt(event.items().size());
+            for (SampleOrderPlacedEvent.Item item : event.items()) {
+                out.writeUnsignedVarLong(item.productId())
+                        .writeString(item.productName())
+                        .writeVarInt(item.quantity())
+                        .writeVarLong(item.price());
+            }
+        }
+
+        @Override
+        public SampleOrderPlacedEvent decode(BinaryEventReader in, int schemaVersion) {
+            long orderId = in.readUnsignedVarLong();
+            long userId = in.readUnsignedVarLong();
+            long totalAmount = in.readVarLong();
+            long orderedAt = in.readVarLong();
+            int size = in.readUnsignedVarInt();
+            List<SampleOrderPlacedEvent.Item> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(new SampleOrderPlacedEvent.Item(in.readUnsignedVarLong(), in.readString(), in.readVarInt(), in.readVarLong()));
+            }
+            return new SampleOrderPlacedEvent(orderId, userId, totalAmount, orderedAt, items);
+        }
+    }
+}
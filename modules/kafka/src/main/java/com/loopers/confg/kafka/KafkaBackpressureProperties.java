@@ -0,0 +1,55 @@
+package com.loopers.confg.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 리스너 컨테이너 백프레셔 설정.
+ *
+ * @param enabled                 pause/resume, 동시성 조정 활성화 여부 (기본 false, 메트릭은 항상 수집)
+ * @param evaluationInterval      상태 평가 주기
+ * @param pauseLatency            레코드당 처리시간(EWMA)이 이 값을 넘으면 컨테이너를 pause
+ * @param resumeLatency           resume 시 처리시간 추정치를 이 값으로 되돌린다 (pauseLatency 보다 작아야 한다)
+ * @param pauseDuration           pause 유지 시간. 이후 resume 해서 다시 측정한다
+ * @param minConcurrency          최소 동시성
+ * @param maxConcurrency          최대 동시성 (파티션 수를 넘지 않는다)
+ * @param scaleUpLagPerConsumer   컨슈머당 lag 이 이 값을 넘으면 동시성 +1
+ * @param scaleDownLagPerConsumer 컨슈머당 lag 이 이 값보다 작으면 동시성 -1
+ * @param scaleCooldown           동시성 변경 후 다음 변경까지의 최소 간격 (변경 시 리밸런스가 발생한다)
+ */
+@ConfigurationProperties(value = "kafka.backpressure")
+public record KafkaBackpressureProperties(
+        boolean enabled,
+        Duration evaluationInterval,
+        Duration pauseLatency,
+        Duration resumeLatency,
+        Duration pauseDuration,
+        int minConcurrency,
+        int maxConcurrency,
+        long scaleUpLagPerConsumer,
+        long scaleDownLagPerConsumer,
+        Duration scaleCooldown
+) {
+    public KafkaBackpressureProperties {
+        if (evaluationInterval == null) evaluationInterval = Duration.ofSeconds(10);
+        if (pauseLatency == null) pauseLatency = Duration.ofMillis(200);
+        if (resumeLatency == null) resumeLatency = Duration.ofMillis(50);
+        if (pauseDuration == null) pauseDuration = Duration.ofSeconds(30);
+        if (minConcurrency <= 0) minConcurrency = 1;
+        if (maxConcurrency <= 0) maxConcurrency = 6;
+        if (scaleUpLagPerConsumer <= 0) scaleUpLagPerConsumer = 10_000;
+        if (scaleDownLagPerConsumer <= 0) scaleDownLagPerConsumer = 1_000;
+        if (scaleCooldown == null) scaleCooldown = Duration.ofMinutes(2);
+
+        if (minConcurrency > maxConcurrency) {
+            throw new IllegalArgumentException("kafka.backpressure.min-concurrency 는 max-concurrency 보다 클 수 없습니다.");
+        }
+        if (resumeLatency.compareTo(pauseLatency) >= 0) {
+            throw new IllegalArgumentException("kafka.backpressure.resume-latency 는 pause-latency 보다 작아야 합니다.");
+        }
+        if (scaleDownLagPerConsumer >= scaleUpLagPerConsumer) {
+            throw new IllegalArgumentException("kafka.backpressure.scale-down-lag-per-consumer 는 scale-up-lag-per-consumer 보다 작아야 합니다.");
+        }
+    }
+}
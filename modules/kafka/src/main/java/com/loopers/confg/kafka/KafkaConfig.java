@@ -1,26 +1,55 @@
 package com.loopers.confg.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.codec.BinaryAwareJsonMessageConverter;
+import com.loopers.confg.kafka.codec.BinaryEventSerializer;
+import com.loopers.confg.kafka.codec.EventCodec;
+import com.loopers.confg.kafka.codec.EventCodecRegistry;
+import com.loopers.confg.kafka.codec.KafkaCodecProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.CompositeBatchInterceptor;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
 import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
+import org.springframework.kafka.support.serializer.DelegatingByTopicSerializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 @EnableKafka
 @Configuration
-@EnableConfigurationProperties(KafkaProperties.class)
+@EnableConfigurationProperties({KafkaProperties.class, KafkaRetryProperties.class, KafkaBackpressureProperties.class, KafkaCodecProperties.class})
 public class KafkaConfig {
     public static final String BATCH_LISTENER = "BATCH_LISTENER_DEFAULT";
+    public static final String RETRY_BATCH_LISTENER = "BATCH_LISTENER_RETRY";
+    public static final String BYTE_ARRAY_TEMPLATE = "BYTE_ARRAY_KAFKA_TEMPLATE";
 
     public static final int MAX_POLLING_SIZE = 3000; // read 3000 msg
     public static final int FETCH_MIN_BYTES = (1024 * 1024); // 1mb
@@ -30,9 +59,32 @@ public class KafkaConfig {
     public static final int MAX_POLL_INTERVAL_MS = 2 * 60 * 1000; // max poll interval = 2m
 
     @Bean
-    public ProducerFactory<Object, Object> producerFactory(KafkaProperties kafkaProperties) {
+    public EventCodecRegistry eventCodecRegistry(ObjectProvider<EventCodec<?>> eventCodecs) {
+        return new EventCodecRegistry(eventCodecs.orderedStream().toList());
+    }
+
+    /**
+     * kafka.codec.binary-topics 에 해당하는 토픽은 바이너리 코덱으로, 나머지는 JSON 으로 발행한다.
+     */
+    @Primary
+    @Bean
+    public ProducerFactory<Object, Object> producerFactory(
+            KafkaProperties kafkaProperties,
+            KafkaCodecProperties kafkaCodecProperties,
+            EventCodecRegistry eventCodecRegistry
+    ) {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
-        return new DefaultKafkaProducerFactory<>(props);
+        if (kafkaCodecProperties.binaryTopics().isEmpty()) {
+            return new DefaultKafkaProducerFactory<>(props);
+        }
+
+        Map<Pattern, Serializer<?>> delegates = new LinkedHashMap<>();
+        for (String topicPattern : kafkaCodecProperties.binaryTopics()) {
+            delegates.put(Pattern.compile(topicPattern), new BinaryEventSerializer(eventCodecRegistry));
+        }
+        Serializer<Object> valueSerializer = new DelegatingByTopicSerializer(delegates, new JsonSerializer<>());
+        // key serializer 는 설정값을 그대로 쓰고, value serializer 는 팩토리가 producer 설정으로 configure 한다.
+        return new DefaultKafkaProducerFactory<>(props, null, valueSerializer);
     }
 
     @Bean
@@ -41,20 +93,152 @@ public class KafkaConfig {
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
+    @Primary
     @Bean
     public KafkaTemplate<Object, Object> kafkaTemplate(ProducerFactory<Object, Object> producerFactory) {
         return new KafkaTemplate<>(producerFactory);
     }
 
+    /**
+     * 이미 직렬화된 byte[] 를 그대로 재발행하는 템플릿 (재시도 토픽 / DLT / DLT 재발행 용)
+     */
+    @Bean
+    public ProducerFactory<Object, Object> byteArrayProducerFactory(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    @Bean(name = BYTE_ARRAY_TEMPLATE)
+    public KafkaTemplate<Object, Object> byteArrayKafkaTemplate(
+            @Qualifier("byteArrayProducerFactory") ProducerFactory<Object, Object> byteArrayProducerFactory
+    ) {
+        return new KafkaTemplate<>(byteArrayProducerFactory);
+    }
+
+    @Bean
+    public KafkaRetryTopics kafkaRetryTopics(KafkaRetryProperties kafkaRetryProperties) {
+        return new KafkaRetryTopics(kafkaRetryProperties);
+    }
+
+    /**
+     * 배치 중 실패한 레코드만 다음 재시도 토픽(마지막이면 DLT)으로 넘긴다.
+     * 리스너가 BatchListenerFailedException 으로 실패 위치를 알려주면, 그 앞의 레코드는 커밋되고 뒤의 레코드는 다시 전달된다.
+     * 파티션을 막지 않도록 제자리 재시도는 하지 않는다.
+     */
+    @Bean
+    public DefaultErrorHandler retryTopicErrorHandler(
+            @Qualifier(BYTE_ARRAY_TEMPLATE) KafkaTemplate<Object, Object> byteArrayKafkaTemplate,
+            KafkaRetryTopics kafkaRetryTopics
+    ) {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(
+                new KafkaRetryRecoverer(byteArrayKafkaTemplate, kafkaRetryTopics),
+                new FixedBackOff(0L, 0L)
+        );
+        errorHandler.setCommitRecovered(true);
+        return errorHandler;
+    }
+
+    @Bean
+    public KafkaDeadLetterReplayer kafkaDeadLetterReplayer(
+            ConsumerFactory<Object, Object> consumerFactory,
+            @Qualifier(BYTE_ARRAY_TEMPLATE) KafkaTemplate<Object, Object> byteArrayKafkaTemplate,
+            KafkaRetryTopics kafkaRetryTopics
+    ) {
+        return new KafkaDeadLetterReplayer(consumerFactory, byteArrayKafkaTemplate, kafkaRetryTopics);
+    }
+
+    @Bean
+    public ByteArrayJsonMessageConverter jsonMessageConverter(ObjectMapper objectMapper, EventCodecRegistry eventCodecRegistry) {
+        return new BinaryAwareJsonMessageConverter(objectMapper, eventCodecRegistry);
+    }
+
     @Bean
-    public ByteArrayJsonMessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
-        return new ByteArrayJsonMessageConverter(objectMapper);
+    public KafkaListenerMetrics kafkaListenerMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new KafkaListenerMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    public KafkaListenerBackpressureController kafkaListenerBackpressureController(
+            KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+            KafkaListenerMetrics kafkaListenerMetrics,
+            KafkaBackpressureProperties kafkaBackpressureProperties
+    ) {
+        return new KafkaListenerBackpressureController(kafkaListenerEndpointRegistry, kafkaListenerMetrics, kafkaBackpressureProperties);
     }
 
     @Bean(name = BATCH_LISTENER)
     public ConcurrentKafkaListenerContainerFactory<Object, Object> defaultBatchListenerContainerFactory(
             KafkaProperties kafkaProperties,
-            ByteArrayJsonMessageConverter converter
+            ByteArrayJsonMessageConverter converter,
+            DefaultErrorHandler retryTopicErrorHandler,
+            KafkaListenerMetrics kafkaListenerMetrics,
+            ObjectProvider<BatchInterceptor<Object, Object>> batchInterceptors,
+            Environment environment
+    ) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = batchListenerContainerFactory(kafkaProperties, converter, environment);
+        factory.setCommonErrorHandler(retryTopicErrorHandler);
+        factory.setContainerCustomizer(container -> {
+            container.setBatchInterceptor(compositeBatchInterceptor(
+                    batchInterceptors,
+                    kafkaListenerMetrics.interceptor(container.getListenerId())
+            ));
+            container.getContainerProperties().setConsumerRebalanceListener(kafkaListenerMetrics.rebalanceListener(container.getListenerId()));
+        });
+        return factory;
+    }
+
+    /**
+     * 재시도 토픽 전용 팩토리. due-at 헤더 시각까지 기다렸다가 배치를 전달한다.
+     */
+    @Bean(name = RETRY_BATCH_LISTENER)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> retryBatchListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            ByteArrayJsonMessageConverter converter,
+            DefaultErrorHandler retryTopicErrorHandler,
+            KafkaListenerMetrics kafkaListenerMetrics,
+            ObjectProvider<BatchInterceptor<Object, Object>> batchInterceptors,
+            Environment environment
+    ) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = batchListenerContainerFactory(kafkaProperties, converter, environment);
+        factory.setCommonErrorHandler(retryTopicErrorHandler);
+        // 지연 대기가 처리시간 메트릭에 섞이지 않도록 대기 후 측정을 시작한다.
+        // 재시도 토픽은 due-at 까지 대기하며 소비하므로 백프레셔 동시성 조정 대상에서 제외한다.
+        factory.setContainerCustomizer(container -> {
+            container.setBatchInterceptor(compositeBatchInterceptor(
+                    batchInterceptors,
+                    new RetryDelayBatchInterceptor(),
+                    kafkaListenerMetrics.interceptor(container.getListenerId(), false)
+            ));
+            container.getContainerProperties().setConsumerRebalanceListener(kafkaListenerMetrics.rebalanceListener(container.getListenerId()));
+        });
+        factory.setConcurrency(1);
+        return factory;
+    }
+
+    /**
+     * 기본 인터셉터 뒤에 애플리케이션이 빈으로 등록한 BatchInterceptor 를 순서대로 붙인다.
+     * (ex. 배치 단위 SQL 통계) 리스너와 같은 컨슈머 스레드에서 호출된다.
+     */
+    @SafeVarargs
+    private static BatchInterceptor<Object, Object> compositeBatchInterceptor(
+            ObjectProvider<BatchInterceptor<Object, Object>> applicationInterceptors,
+            BatchInterceptor<Object, Object>... interceptors
+    ) {
+        List<BatchInterceptor<Object, Object>> delegates = new ArrayList<>(List.of(interceptors));
+        applicationInterceptors.orderedStream().forEach(delegates::add);
+        if (delegates.size() == 1) {
+            return delegates.get(0);
+        }
+        @SuppressWarnings("unchecked")
+        BatchInterceptor<Object, Object>[] array = delegates.toArray(BatchInterceptor[]::new);
+        return new CompositeBatchInterceptor<>(array);
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<Object, Object> batchListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            ByteArrayJsonMessageConverter converter,
+            Environment environment
     ) {
         Map<String, Object> consumerConfig = new HashMap<>(kafkaProperties.buildConsumerProperties());
         consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, MAX_POLLING_SIZE);
@@ -70,6 +254,12 @@ public class KafkaConfig {
         factory.setBatchMessageConverter(new BatchMessagingMessageConverter(converter));
         factory.setConcurrency(3);
         factory.setBatchListener(true);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // 컨슈머(= 리스너) 스레드를 가상 스레드로 띄운다. 리스너의 DB / Redis 대기 동안 carrier 를 반납한다.
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
         return factory;
     }
 }
@@ -0,0 +1,137 @@
+package com.loopers.confg.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * DLT 에 쌓인 레코드를 원본 토픽으로 다시 발행한다.
+ * 전용 컨슈머 그룹({@value #REPLAY_GROUP_PREFIX}{dlt})의 커밋 오프셋부터 읽으므로, 같은 레코드를 두 번 재발행하지 않는다.
+ */
+@Slf4j
+public class KafkaDeadLetterReplayer {
+    public static final String REPLAY_GROUP_PREFIX = "loopers-dlt-replayer.";
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final int MAX_EMPTY_POLLS = 3;
+
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final KafkaTemplate<Object, Object> byteArrayKafkaTemplate;
+    private final KafkaRetryTopics retryTopics;
+
+    public KafkaDeadLetterReplayer(
+            ConsumerFactory<Object, Object> consumerFactory,
+            KafkaTemplate<Object, Object> byteArrayKafkaTemplate,
+            KafkaRetryTopics retryTopics
+    ) {
+        this.consumerFactory = consumerFactory;
+        this.byteArrayKafkaTemplate = byteArrayKafkaTemplate;
+        this.retryTopics = retryTopics;
+    }
+
+    public ReplayResult replay(String dltTopic, int maxRecords) {
+        if (!retryTopics.isDltTopic(dltTopic)) {
+            throw new IllegalArgumentException("DLT 토픽이 아닙니다. (" + dltTopic + ")");
+        }
+        String targetTopic = retryTopics.baseTopicOf(dltTopic);
+
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        overrides.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.min(maxRecords, 500));
+
+        try (Consumer<Object, Object> consumer = consumerFactory.createConsumer(REPLAY_GROUP_PREFIX + dltTopic, null, "-dlt-replayer", overrides)) {
+            List<TopicPartition> partitions = new ArrayList<>();
+            for (PartitionInfo info : consumer.partitionsFor(dltTopic)) {
+                partitions.add(new TopicPartition(info.topic(), info.partition()));
+            }
+            consumer.assign(partitions);
+
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+            for (TopicPartition partition : partitions) {
+                OffsetAndMetadata offset = committed.get(partition);
+                if (offset == null) {
+                    consumer.seekToBeginning(List.of(partition));
+                } else {
+                    consumer.seek(partition, offset.offset());
+                }
+            }
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+            int replayed = 0;
+            int emptyPolls = 0;
+            while (replayed < maxRecords && !reachedEnd(consumer, partitions, endOffsets) && emptyPolls < MAX_EMPTY_POLLS) {
+                List<CompletableFuture<SendResult<Object, Object>>> sends = new ArrayList<>();
+                Map<TopicPartition, OffsetAndMetadata> nextOffsets = new HashMap<>();
+
+                for (ConsumerRecord<Object, Object> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (replayed >= maxRecords) {
+                        break;
+                    }
+                    sends.add(byteArrayKafkaTemplate.send(toReplayRecord(targetTopic, record)));
+                    nextOffsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+
+                if (sends.isEmpty()) {
+                    emptyPolls++;
+                    continue;
+                }
+                emptyPolls = 0;
+
+                // 발행이 확인된 뒤에만 DLT 오프셋을 커밋한다.
+                CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+                consumer.commitSync(nextOffsets);
+            }
+
+            log.info("DLT 재발행 완료 - dlt: {}, target: {}, replayed: {}", dltTopic, targetTopic, replayed);
+            return new ReplayResult(dltTopic, targetTopic, replayed);
+        }
+    }
+
+    private boolean reachedEnd(Consumer<Object, Object> consumer, List<TopicPartition> partitions, Map<TopicPartition, Long> endOffsets) {
+        for (TopicPartition partition : partitions) {
+            if (consumer.position(partition) < endOffsets.getOrDefault(partition, 0L)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ProducerRecord<Object, Object> toReplayRecord(String targetTopic, ConsumerRecord<Object, Object> record) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            // 재시도 / DLT 관련 헤더는 제거해 새 레코드처럼 처음부터 재시도 단계를 밟게 한다.
+            if (header.key().startsWith(KafkaHeaders.PREFIX + "dlt-") || header.key().startsWith("loopers-retry-")) {
+                continue;
+            }
+            headers.add(header);
+        }
+        return new ProducerRecord<>(targetTopic, null, record.key(), record.value(), headers);
+    }
+
+    public record ReplayResult(String dltTopic, String targetTopic, int replayed) {
+    }
+}
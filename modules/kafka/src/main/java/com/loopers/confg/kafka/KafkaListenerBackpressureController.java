@@ -0,0 +1,171 @@
+package com.loopers.confg.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리스너 컨테이너의 처리시간/lag 을 주기적으로 평가해 pause/resume 과 동시성을 조정한다.
+ *
+ * - 레코드당 처리시간 EWMA 가 pauseLatency 를 넘으면 pause. (poll 은 계속되므로 리밸런스가 일어나지 않는다)
+ * - pauseDuration 이 지나면 추정치를 resumeLatency 로 낮추고 resume 해 다시 측정한다.
+ *   여전히 느리면 다음 평가에서 다시 pause 된다.
+ * - pause 상태가 아닐 때, 컨슈머당 lag 에 따라 [min, max] 범위에서 동시성을 1씩 조정한다.
+ *   동시성 변경은 컨테이너 재시작(리밸런스)이 필요하므로 scaleCooldown 간격으로만 수행한다.
+ *   재시도 토픽 컨테이너는 due-at 까지 대기하며 소비하므로 lag 이 처리량을 뜻하지 않아 동시성을 바꾸지 않는다.
+ */
+@Slf4j
+public class KafkaListenerBackpressureController implements SmartLifecycle {
+    private final KafkaListenerEndpointRegistry registry;
+    private final KafkaListenerMetrics metrics;
+    private final KafkaBackpressureProperties properties;
+
+    private final Map<String, Long> pausedAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastScaledAt = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public KafkaListenerBackpressureController(
+            KafkaListenerEndpointRegistry registry,
+            KafkaListenerMetrics metrics,
+            KafkaBackpressureProperties properties
+    ) {
+        this.registry = registry;
+        this.metrics = metrics;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!properties.enabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kafka-backpressure");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = properties.evaluationInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::evaluateSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // 리스너 컨테이너보다 늦게 시작하고 먼저 멈춘다.
+        return AbstractMessageListenerContainer.DEFAULT_PHASE + 1;
+    }
+
+    private void evaluateSafely() {
+        try {
+            evaluate(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("kafka 백프레셔 평가 실패", e);
+        }
+    }
+
+    void evaluate(long now) {
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            String listenerId = container.getListenerId();
+            KafkaListenerStats stats = listenerId == null ? null : metrics.find(listenerId);
+            if (stats == null || !container.isRunning()) {
+                continue;
+            }
+            adjustPause(container, stats, now);
+            if (stats.scalable() && container instanceof ConcurrentMessageListenerContainer<?, ?> concurrent) {
+                adjustConcurrency(concurrent, stats, now);
+            }
+        }
+    }
+
+    private void adjustPause(MessageListenerContainer container, KafkaListenerStats stats, long now) {
+        String listenerId = stats.listenerId();
+        Long pausedSince = pausedAt.get(listenerId);
+
+        if (pausedSince == null) {
+            // 운영자가 직접 pause 한 컨테이너는 건드리지 않는다.
+            if (!container.isPauseRequested() && stats.latencyEwmaNanos() > properties.pauseLatency().toNanos()) {
+                container.pause();
+                pausedAt.put(listenerId, now);
+                log.warn("kafka 리스너 pause - listener: {}, latency(ms/record): {}",
+                        listenerId, stats.latencyEwmaNanos() / 1_000_000d);
+            }
+            return;
+        }
+
+        if (now - pausedSince >= properties.pauseDuration().toMillis()) {
+            stats.resetLatency(properties.resumeLatency().toNanos());
+            container.resume();
+            pausedAt.remove(listenerId);
+            log.info("kafka 리스너 resume - listener: {}", listenerId);
+        }
+    }
+
+    private void adjustConcurrency(ConcurrentMessageListenerContainer<?, ?> container, KafkaListenerStats stats, long now) {
+        String listenerId = stats.listenerId();
+        if (pausedAt.containsKey(listenerId) || container.isPauseRequested()) {
+            return;
+        }
+        if (now - lastScaledAt.getOrDefault(listenerId, 0L) < properties.scaleCooldown().toMillis()) {
+            return;
+        }
+
+        int current = container.getConcurrency();
+        int target = targetConcurrency(stats, current);
+        if (target == current) {
+            return;
+        }
+
+        lastScaledAt.put(listenerId, now);
+        log.info("kafka 리스너 동시성 변경 - listener: {}, lag: {}, concurrency: {} -> {}", listenerId, stats.totalLag(), current, target);
+        container.stop(() -> {
+            container.setConcurrency(target);
+            container.start();
+        });
+    }
+
+    /**
+     * 현재 할당된 파티션의 lag 기준으로 다음 동시성을 계산한다. 변경이 필요 없으면 current 를 그대로 반환한다.
+     */
+    int targetConcurrency(KafkaListenerStats stats, int current) {
+        if (!stats.scalable()) {
+            return current;
+        }
+        int upper = stats.partitionCount() > 0
+                ? Math.min(properties.maxConcurrency(), stats.partitionCount())
+                : properties.maxConcurrency();
+        long lag = stats.totalLag();
+
+        if (lag > properties.scaleUpLagPerConsumer() * current && current < upper) {
+            return current + 1;
+        }
+        if (lag < properties.scaleDownLagPerConsumer() * current && current > properties.minConcurrency()) {
+            return current - 1;
+        }
+        return current;
+    }
+}
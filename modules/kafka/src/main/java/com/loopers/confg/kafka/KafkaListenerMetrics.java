@@ -0,0 +1,120 @@
+package com.loopers.confg.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리스너 컨테이너별 메트릭 등록/조회.
+ * - kafka.consumer.partition.lag      : 파티션별 lag (poll 시점)
+ * - kafka.listener.batch.duration     : 배치 처리시간 (result=success|failure)
+ * - kafka.listener.record.latency     : 레코드당 처리시간 EWMA (초)
+ * - kafka.listener.lag                : 리스너 전체 lag
+ *
+ * 파티션이 회수되면 해당 파티션의 lag 과 게이지를 제거한다. (rebalanceListener)
+ */
+public class KafkaListenerMetrics {
+    private final MeterRegistry meterRegistry;
+    private final Map<String, KafkaListenerStats> statsByListener = new ConcurrentHashMap<>();
+
+    public KafkaListenerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public KafkaListenerMetricsInterceptor interceptor(String listenerId) {
+        return interceptor(listenerId, true);
+    }
+
+    /**
+     * @param scalable false 면 백프레셔 컨트롤러가 이 컨테이너의 동시성을 바꾸지 않는다. (재시도 토픽 컨테이너)
+     */
+    public KafkaListenerMetricsInterceptor interceptor(String listenerId, boolean scalable) {
+        KafkaListenerStats stats = statsFor(listenerId, scalable);
+        return new KafkaListenerMetricsInterceptor(
+                this,
+                stats,
+                batchTimer(listenerId, "success"),
+                batchTimer(listenerId, "failure")
+        );
+    }
+
+    /**
+     * 컨테이너에 등록할 리밸런스 리스너. 회수/유실된 파티션을 lag 집계에서 뺀다.
+     */
+    public ConsumerRebalanceListener rebalanceListener(String listenerId) {
+        return new ConsumerRebalanceListener() {
+            @Override
+            public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                KafkaListenerStats stats = find(listenerId);
+                if (stats != null) {
+                    removeLag(stats, partitions);
+                }
+            }
+
+            @Override
+            public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            }
+        };
+    }
+
+    public KafkaListenerStats find(String listenerId) {
+        return statsByListener.get(listenerId);
+    }
+
+    public Collection<KafkaListenerStats> all() {
+        return statsByListener.values();
+    }
+
+    void updateLag(KafkaListenerStats stats, TopicPartition partition, long lag) {
+        AtomicLong created = stats.updateLag(partition, lag);
+        if (created != null) {
+            Gauge.builder("kafka.consumer.partition.lag", created, AtomicLong::get)
+                    .tag("listener", stats.listenerId())
+                    .tag("topic", partition.topic())
+                    .tag("partition", String.valueOf(partition.partition()))
+                    .register(meterRegistry);
+        }
+    }
+
+    void removeLag(KafkaListenerStats stats, Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : stats.removePartitions(partitions)) {
+            Meter gauge = meterRegistry.find("kafka.consumer.partition.lag")
+                    .tag("listener", stats.listenerId())
+                    .tag("topic", partition.topic())
+                    .tag("partition", String.valueOf(partition.partition()))
+                    .gauge();
+            if (gauge != null) {
+                meterRegistry.remove(gauge);
+            }
+        }
+    }
+
+    private KafkaListenerStats statsFor(String listenerId, boolean scalable) {
+        return statsByListener.computeIfAbsent(listenerId, id -> {
+            KafkaListenerStats stats = new KafkaListenerStats(id, scalable);
+            Gauge.builder("kafka.listener.record.latency", stats, s -> s.latencyEwmaNanos() / 1_000_000_000d)
+                    .tag("listener", id)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("kafka.listener.lag", stats, KafkaListenerStats::totalLag)
+                    .tag("listener", id)
+                    .register(meterRegistry);
+            return stats;
+        });
+    }
+
+    private Timer batchTimer(String listenerId, String result) {
+        return Timer.builder("kafka.listener.batch.duration")
+                .tag("listener", listenerId)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
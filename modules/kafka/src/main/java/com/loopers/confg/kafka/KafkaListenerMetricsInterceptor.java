@@ -0,0 +1,61 @@
+package com.loopers.confg.kafka;
+
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * poll 직후 파티션별 lag 을 기록하고, 리스너 호출 구간의 처리시간을 측정한다.
+ * 하나의 인스턴스를 자식 컨테이너(컨슈머 스레드)들이 공유하므로 시작 시각은 ThreadLocal 로 보관한다.
+ */
+public class KafkaListenerMetricsInterceptor implements BatchInterceptor<Object, Object> {
+    private final KafkaListenerMetrics metrics;
+    private final KafkaListenerStats stats;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+    KafkaListenerMetricsInterceptor(KafkaListenerMetrics metrics, KafkaListenerStats stats, Timer successTimer, Timer failureTimer) {
+        this.metrics = metrics;
+        this.stats = stats;
+        this.successTimer = successTimer;
+        this.failureTimer = failureTimer;
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        for (TopicPartition partition : records.partitions()) {
+            consumer.currentLag(partition).ifPresent(lag -> metrics.updateLag(stats, partition, lag));
+        }
+        startedAt.set(System.nanoTime());
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        record(records, successTimer);
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        record(records, failureTimer);
+    }
+
+    private void record(ConsumerRecords<Object, Object> records, Timer timer) {
+        Long start = startedAt.get();
+        if (start == null) {
+            return;
+        }
+        startedAt.remove();
+
+        long elapsed = System.nanoTime() - start;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        if (records.count() > 0) {
+            stats.recordLatency(elapsed / records.count());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.loopers.confg.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리스너 컨테이너 하나의 처리 상태. (파티션별 lag, 레코드당 처리시간 EWMA)
+ * 자식 컨슈머 스레드들이 동시에 갱신하므로 lock 없이 CAS 로만 갱신한다.
+ * lag 은 현재 이 컨테이너가 할당받은 파티션만 집계하도록, 파티션이 회수되면 제거한다.
+ */
+public class KafkaListenerStats {
+    private static final double EWMA_ALPHA = 0.3;
+    private static final long NO_SAMPLE = Double.doubleToLongBits(-1d);
+
+    private final String listenerId;
+    private final boolean scalable;
+    private final Map<TopicPartition, AtomicLong> partitionLags = new ConcurrentHashMap<>();
+    private final AtomicLong latencyEwmaBits = new AtomicLong(NO_SAMPLE);
+
+    public KafkaListenerStats(String listenerId, boolean scalable) {
+        this.listenerId = listenerId;
+        this.scalable = scalable;
+    }
+
+    public String listenerId() {
+        return listenerId;
+    }
+
+    /**
+     * @return 백프레셔 컨트롤러가 동시성을 조정해도 되는 컨테이너인지 (재시도 토픽 컨테이너는 false)
+     */
+    public boolean scalable() {
+        return scalable;
+    }
+
+    /**
+     * @return 새로 관측된 파티션이면 lag 보관용 AtomicLong, 아니면 null
+     */
+    AtomicLong updateLag(TopicPartition partition, long lag) {
+        AtomicLong existing = partitionLags.get(partition);
+        if (existing != null) {
+            existing.set(lag);
+            return null;
+        }
+        AtomicLong created = new AtomicLong(lag);
+        AtomicLong raced = partitionLags.putIfAbsent(partition, created);
+        if (raced != null) {
+            raced.set(lag);
+            return null;
+        }
+        return created;
+    }
+
+    /**
+     * @return 실제로 제거된 파티션 목록
+     */
+    List<TopicPartition> removePartitions(Collection<TopicPartition> partitions) {
+        return partitions.stream()
+                .filter(partition -> partitionLags.remove(partition) != null)
+                .toList();
+    }
+
+    void recordLatency(long nanosPerRecord) {
+        latencyEwmaBits.getAndUpdate(bits -> {
+            double current = Double.longBitsToDouble(bits);
+            double next = current < 0 ? nanosPerRecord : EWMA_ALPHA * nanosPerRecord + (1 - EWMA_ALPHA) * current;
+            return Double.doubleToLongBits(next);
+        });
+    }
+
+    void resetLatency(long nanosPerRecord) {
+        latencyEwmaBits.set(Double.doubleToLongBits(nanosPerRecord));
+    }
+
+    /**
+     * @return 레코드당 처리시간 EWMA (ns). 측정값이 없으면 0
+     */
+    public double latencyEwmaNanos() {
+        return Math.max(0d, Double.longBitsToDouble(latencyEwmaBits.get()));
+    }
+
+    public long totalLag() {
+        long total = 0;
+        for (AtomicLong lag : partitionLags.values()) {
+            total += lag.get();
+        }
+        return total;
+    }
+
+    public int partitionCount() {
+        return partitionLags.size();
+    }
+}
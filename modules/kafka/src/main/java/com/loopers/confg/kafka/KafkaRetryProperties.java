@@ -0,0 +1,44 @@
+package com.loopers.confg.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 재시도 토픽 설정.
+ * backoffs 의 개수만큼 재시도 토픽 단계(tier)가 생기며, 마지막 단계에서도 실패하면 DLT 로 보낸다.
+ *
+ * @param backoffs         단계별 재처리 지연 시간 (ex. 1s, 10s, 60s)
+ * @param retryTopicSuffix 재시도 토픽 접미사 ( {topic}{suffix}{tier} )
+ * @param dltSuffix        DLT 접미사 ( {topic}{suffix} )
+ */
+@ConfigurationProperties(value = "kafka.retry")
+public record KafkaRetryProperties(
+        List<Duration> backoffs,
+        String retryTopicSuffix,
+        String dltSuffix
+) {
+    // 재시도 토픽 컨슈머는 지연 시간만큼 대기하므로, max.poll.interval 의 절반을 넘지 않도록 제한한다.
+    static final Duration MAX_BACKOFF = Duration.ofMillis(KafkaConfig.MAX_POLL_INTERVAL_MS / 2);
+
+    public KafkaRetryProperties {
+        if (backoffs == null || backoffs.isEmpty()) {
+            backoffs = List.of(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofSeconds(30));
+        }
+        if (retryTopicSuffix == null || retryTopicSuffix.isBlank()) {
+            retryTopicSuffix = ".retry-";
+        }
+        if (dltSuffix == null || dltSuffix.isBlank()) {
+            dltSuffix = ".dlt";
+        }
+        for (Duration backoff : backoffs) {
+            if (backoff.isNegative() || backoff.compareTo(MAX_BACKOFF) > 0) {
+                throw new IllegalArgumentException(
+                        "kafka.retry.backoffs 는 0 이상 " + MAX_BACKOFF.toSeconds() + "초 이하여야 합니다. (" + backoff + ")"
+                );
+            }
+        }
+        backoffs = List.copyOf(backoffs);
+    }
+}
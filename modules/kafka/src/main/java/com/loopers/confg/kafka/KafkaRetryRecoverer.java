@@ -0,0 +1,67 @@
+package com.loopers.confg.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.converter.ConversionException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.messaging.converter.MessageConversionException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 실패한 레코드를 다음 재시도 토픽(또는 DLT)으로 보낸다.
+ * 역직렬화/변환 실패처럼 재시도해도 결과가 같은 예외는 바로 DLT 로 보낸다.
+ * 파티션은 지정하지 않아 key 기준 파티셔닝(= key 단위 순서)을 그대로 따른다.
+ */
+public class KafkaRetryRecoverer extends DeadLetterPublishingRecoverer {
+    private static final List<Class<? extends Throwable>> NON_RETRYABLE_EXCEPTIONS = List.of(
+            DeserializationException.class,
+            MessageConversionException.class,
+            ConversionException.class,
+            ClassCastException.class
+    );
+
+    public KafkaRetryRecoverer(KafkaOperations<?, ?> template, KafkaRetryTopics retryTopics) {
+        super(template, (record, ex) -> new TopicPartition(destinationOf(retryTopics, record, ex), -1));
+        // 최초 실패 시점의 원본 토픽/오프셋 헤더를 유지한다.
+        setAppendOriginalHeaders(false);
+        setHeadersFunction((record, ex) -> retryHeaders(retryTopics, record, ex));
+    }
+
+    private static String destinationOf(KafkaRetryTopics retryTopics, ConsumerRecord<?, ?> record, Exception ex) {
+        if (isNonRetryable(ex)) {
+            return retryTopics.dltTopic(retryTopics.baseTopicOf(record.topic()));
+        }
+        return retryTopics.nextTopic(record.topic());
+    }
+
+    private static Headers retryHeaders(KafkaRetryTopics retryTopics, ConsumerRecord<?, ?> record, Exception ex) {
+        String destination = destinationOf(retryTopics, record, ex);
+        long dueAt = retryTopics.isDltTopic(destination)
+                ? System.currentTimeMillis()
+                : System.currentTimeMillis() + retryTopics.nextDelay(record.topic()).toMillis();
+
+        Headers headers = new RecordHeaders();
+        headers.add(KafkaRetryTopics.HEADER_RETRY_DUE_AT, String.valueOf(dueAt).getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaRetryTopics.HEADER_RETRY_TIER, String.valueOf(retryTopics.tierOf(destination)).getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    private static boolean isNonRetryable(Throwable ex) {
+        Throwable cause = ex;
+        while (cause != null) {
+            for (Class<? extends Throwable> type : NON_RETRYABLE_EXCEPTIONS) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+            cause = cause.getCause() == cause ? null : cause.getCause();
+        }
+        return false;
+    }
+}
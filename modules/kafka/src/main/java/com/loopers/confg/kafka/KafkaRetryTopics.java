@@ -0,0 +1,111 @@
+package com.loopers.confg.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.kafka.config.TopicBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재시도 토픽 / DLT 이름 규칙.
+ * {topic} -> {topic}.retry-1 -> ... -> {topic}.retry-N -> {topic}.dlt 순서로 흘러간다.
+ */
+public class KafkaRetryTopics {
+    public static final String HEADER_RETRY_DUE_AT = "loopers-retry-due-at";
+    public static final String HEADER_RETRY_TIER = "loopers-retry-tier";
+
+    private final List<Duration> backoffs;
+    private final String retryTopicSuffix;
+    private final String dltSuffix;
+
+    public KafkaRetryTopics(KafkaRetryProperties properties) {
+        this.backoffs = properties.backoffs();
+        this.retryTopicSuffix = properties.retryTopicSuffix();
+        this.dltSuffix = properties.dltSuffix();
+    }
+
+    public int tierCount() {
+        return backoffs.size();
+    }
+
+    public String retryTopic(String baseTopic, int tier) {
+        if (tier < 1 || tier > backoffs.size()) {
+            throw new IllegalArgumentException("존재하지 않는 재시도 단계입니다. (" + tier + ")");
+        }
+        return baseTopic + retryTopicSuffix + tier;
+    }
+
+    public List<String> retryTopics(String baseTopic) {
+        List<String> topics = new ArrayList<>(backoffs.size());
+        for (int tier = 1; tier <= backoffs.size(); tier++) {
+            topics.add(retryTopic(baseTopic, tier));
+        }
+        return topics;
+    }
+
+    public String dltTopic(String baseTopic) {
+        return baseTopic + dltSuffix;
+    }
+
+    public boolean isDltTopic(String topic) {
+        return topic.endsWith(dltSuffix);
+    }
+
+    /**
+     * 재시도 단계를 반환한다. 원본 토픽은 0, DLT 는 tierCount() + 1.
+     */
+    public int tierOf(String topic) {
+        if (isDltTopic(topic)) {
+            return backoffs.size() + 1;
+        }
+        int index = topic.lastIndexOf(retryTopicSuffix);
+        if (index < 0) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(topic.substring(index + retryTopicSuffix.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    public String baseTopicOf(String topic) {
+        if (isDltTopic(topic)) {
+            return topic.substring(0, topic.length() - dltSuffix.length());
+        }
+        if (tierOf(topic) > 0) {
+            return topic.substring(0, topic.lastIndexOf(retryTopicSuffix));
+        }
+        return topic;
+    }
+
+    /**
+     * 실패한 레코드가 다음으로 이동할 토픽. 마지막 재시도 단계 다음은 DLT.
+     */
+    public String nextTopic(String failedTopic) {
+        int nextTier = tierOf(failedTopic) + 1;
+        String baseTopic = baseTopicOf(failedTopic);
+        return nextTier > backoffs.size() ? dltTopic(baseTopic) : retryTopic(baseTopic, nextTier);
+    }
+
+    /**
+     * 다음 재시도 단계에서 기다려야 하는 시간. DLT 로 가는 경우 0.
+     */
+    public Duration nextDelay(String failedTopic) {
+        int nextTier = tierOf(failedTopic) + 1;
+        return nextTier > backoffs.size() ? Duration.ZERO : backoffs.get(nextTier - 1);
+    }
+
+    /**
+     * 원본 토픽과 파티션 수를 맞춘 재시도 / DLT 토픽 정의. (auto.create.topics.enable=false 환경용)
+     */
+    public List<NewTopic> newTopics(String baseTopic, int partitions, int replicas) {
+        List<NewTopic> topics = new ArrayList<>();
+        for (String retryTopic : retryTopics(baseTopic)) {
+            topics.add(TopicBuilder.name(retryTopic).partitions(partitions).replicas(replicas).build());
+        }
+        topics.add(TopicBuilder.name(dltTopic(baseTopic)).partitions(partitions).replicas(replicas).build());
+        return topics;
+    }
+}
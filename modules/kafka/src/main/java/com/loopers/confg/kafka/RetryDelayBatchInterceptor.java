@@ -0,0 +1,56 @@
+package com.loopers.confg.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 재시도 토픽 배치를 due-at 헤더 시각까지 지연시킨다.
+ * 재시도 토픽은 적재 순서 = due-at 순서이므로, 배치의 가장 늦은 due-at 까지만 기다리면 된다.
+ * 대기 시간은 max.poll.interval 의 절반으로 제한되어 리밸런스를 유발하지 않는다.
+ */
+public class RetryDelayBatchInterceptor implements BatchInterceptor<Object, Object> {
+    private final long maxDelayMs;
+
+    public RetryDelayBatchInterceptor() {
+        this(KafkaRetryProperties.MAX_BACKOFF.toMillis());
+    }
+
+    RetryDelayBatchInterceptor(long maxDelayMs) {
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        long latestDueAt = 0L;
+        for (ConsumerRecord<Object, Object> record : records) {
+            latestDueAt = Math.max(latestDueAt, dueAtOf(record));
+        }
+
+        long waitMs = Math.min(latestDueAt - System.currentTimeMillis(), maxDelayMs);
+        if (waitMs > 0) {
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return records;
+    }
+
+    private long dueAtOf(ConsumerRecord<Object, Object> record) {
+        Header header = record.headers().lastHeader(KafkaRetryTopics.HEADER_RETRY_DUE_AT);
+        if (header == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(header.value(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.loopers.confg.kafka.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
+
+import java.lang.reflect.Type;
+
+/**
+ * 바이너리 이벤트(magic 바이트로 시작)는 코덱으로, 나머지는 기존처럼 JSON 으로 변환한다.
+ * 토픽 단위로 포맷을 바꿔도 컨슈머 설정을 함께 바꿀 필요가 없다.
+ */
+public class BinaryAwareJsonMessageConverter extends ByteArrayJsonMessageConverter {
+    private final EventCodecRegistry registry;
+
+    public BinaryAwareJsonMessageConverter(ObjectMapper objectMapper, EventCodecRegistry registry) {
+        super(objectMapper);
+        this.registry = registry;
+    }
+
+    @Override
+    protected Object extractAndConvertValue(ConsumerRecord<?, ?> record, Type type) {
+        if (record.value() instanceof byte[] bytes && EventCodecRegistry.isBinary(bytes)) {
+            return registry.decode(bytes);
+        }
+        return super.extractAndConvertValue(record, type);
+    }
+}
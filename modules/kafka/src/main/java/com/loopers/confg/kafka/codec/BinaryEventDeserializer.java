@@ -0,0 +1,19 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class BinaryEventDeserializer implements Deserializer<Object> {
+    private final EventCodecRegistry registry;
+
+    public BinaryEventDeserializer(EventCodecRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return registry.decode(data);
+    }
+}
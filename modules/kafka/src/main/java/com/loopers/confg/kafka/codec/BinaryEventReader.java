@@ -0,0 +1,85 @@
+package com.loopers.confg.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * {@link BinaryEventWriter} 로 기록한 바이트를 같은 순서로 읽는다.
+ */
+public class BinaryEventReader {
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryEventReader(byte[] buffer) {
+        this(buffer, 0);
+    }
+
+    public BinaryEventReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalStateException("이벤트 바이트를 끝까지 읽었습니다.");
+        }
+        return buffer[position++];
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public long readUnsignedVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("잘못된 varint 입니다.");
+    }
+
+    public int readUnsignedVarInt() {
+        return (int) readUnsignedVarLong();
+    }
+
+    public long readVarLong() {
+        long raw = readUnsignedVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    public String readString() {
+        int length = readUnsignedVarInt();
+        if (length < 0 || position + length > buffer.length) {
+            throw new IllegalStateException("잘못된 문자열 길이입니다. (" + length + ")");
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public String readNullableString() {
+        return readBoolean() ? readString() : null;
+    }
+
+    public Instant readInstant() {
+        return Instant.ofEpochMilli(readVarLong());
+    }
+
+    public ZonedDateTime readZonedDateTime(ZoneId zoneId) {
+        return readInstant().atZone(zoneId);
+    }
+
+    public int remaining() {
+        return buffer.length - position;
+    }
+}
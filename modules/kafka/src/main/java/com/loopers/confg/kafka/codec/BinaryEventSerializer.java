@@ -0,0 +1,23 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+public class BinaryEventSerializer implements Serializer<Object> {
+    private final EventCodecRegistry registry;
+
+    public BinaryEventSerializer(EventCodecRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        // 이미 직렬화된 바이트(재시도 / 재발행)는 그대로 보낸다.
+        if (data instanceof byte[] bytes) {
+            return bytes;
+        }
+        return registry.encode(data);
+    }
+}
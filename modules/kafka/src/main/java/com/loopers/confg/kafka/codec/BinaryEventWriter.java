@@ -0,0 +1,101 @@
+package com.loopers.confg.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+/**
+ * 가변 길이 정수(varint, zigzag) 기반 바이트 기록기.
+ * 작은 수는 1~2 바이트, 문자열은 길이(varint) + UTF-8 로 기록한다.
+ */
+public class BinaryEventWriter {
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter() {
+        this(64);
+    }
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public BinaryEventWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeBoolean(boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * 음수가 없는 값 (id, 수량, 길이 등) 용.
+     */
+    public BinaryEventWriter writeUnsignedVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeUnsignedVarInt(int value) {
+        return writeUnsignedVarLong(value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 음수가 올 수 있는 값 용. zigzag 로 부호를 하위 비트로 옮겨 작은 음수도 짧게 기록한다.
+     */
+    public BinaryEventWriter writeVarLong(long value) {
+        return writeUnsignedVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryEventWriter writeVarInt(int value) {
+        return writeVarLong(value);
+    }
+
+    public BinaryEventWriter writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarInt(bytes.length);
+        return writeBytes(bytes);
+    }
+
+    public BinaryEventWriter writeNullableString(String value) {
+        writeBoolean(value != null);
+        return value == null ? this : writeString(value);
+    }
+
+    public BinaryEventWriter writeInstant(Instant value) {
+        return writeVarLong(value.toEpochMilli());
+    }
+
+    public BinaryEventWriter writeZonedDateTime(ZonedDateTime value) {
+        return writeInstant(value.toInstant());
+    }
+
+    public BinaryEventWriter writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.loopers.confg.kafka.codec;
+
+/**
+ * 도메인 이벤트 하나에 대한 바이너리 코덱.
+ * 필드 이름 없이 정해진 순서로 값만 기록하므로, 필드를 추가/변경할 때는 schemaVersion 을 올리고
+ * decode 에서 이전 버전도 읽을 수 있도록 분기한다.
+ *
+ * @param <T> 이벤트 타입
+ */
+public interface EventCodec<T> {
+
+    /**
+     * 이벤트 타입 식별자. 토픽 간에도 중복되지 않아야 하며, 한번 정한 값은 바꾸지 않는다.
+     */
+    int typeId();
+
+    /**
+     * 현재 기록하는 스키마 버전.
+     */
+    int schemaVersion();
+
+    Class<T> type();
+
+    void encode(T event, BinaryEventWriter out);
+
+    /**
+     * @param schemaVersion 레코드에 기록된 스키마 버전 (현재 버전보다 낮을 수 있다)
+     */
+    T decode(BinaryEventReader in, int schemaVersion);
+}
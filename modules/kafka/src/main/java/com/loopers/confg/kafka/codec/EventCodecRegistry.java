@@ -0,0 +1,72 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 등록된 {@link EventCodec} 으로 이벤트를 인코딩/디코딩한다.
+ *
+ * 바이트 구성: [magic 1B][typeId varint][schemaVersion varint][body]
+ * magic(0xB1)은 UTF-8 의 첫 바이트가 될 수 없으므로 JSON 페이로드와 섞여 있어도 구분된다.
+ */
+public class EventCodecRegistry {
+    public static final byte MAGIC = (byte) 0xB1;
+
+    private final Map<Integer, EventCodec<?>> codecsByTypeId = new HashMap<>();
+    private final Map<Class<?>, EventCodec<?>> codecsByType = new HashMap<>();
+
+    public EventCodecRegistry(Collection<? extends EventCodec<?>> codecs) {
+        for (EventCodec<?> codec : codecs) {
+            EventCodec<?> duplicated = codecsByTypeId.putIfAbsent(codec.typeId(), codec);
+            if (duplicated != null) {
+                throw new IllegalStateException("이벤트 코덱 typeId 가 중복되었습니다. (" + codec.typeId() + ")");
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    public boolean supports(Class<?> type) {
+        return codecsByType.containsKey(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> byte[] encode(T event) {
+        EventCodec<T> codec = (EventCodec<T>) codecsByType.get(event.getClass());
+        if (codec == null) {
+            throw new SerializationException("등록되지 않은 이벤트 타입입니다. (" + event.getClass().getName() + ")");
+        }
+        BinaryEventWriter writer = new BinaryEventWriter();
+        writer.writeByte(MAGIC)
+                .writeUnsignedVarInt(codec.typeId())
+                .writeUnsignedVarInt(codec.schemaVersion());
+        codec.encode(event, writer);
+        return writer.toByteArray();
+    }
+
+    public Object decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new SerializationException("바이너리 이벤트 형식이 아닙니다.");
+        }
+        BinaryEventReader reader = new BinaryEventReader(data, 1);
+        int typeId = reader.readUnsignedVarInt();
+        int schemaVersion = reader.readUnsignedVarInt();
+
+        EventCodec<?> codec = codecsByTypeId.get(typeId);
+        if (codec == null) {
+            throw new SerializationException("등록되지 않은 이벤트 typeId 입니다. (" + typeId + ")");
+        }
+        if (schemaVersion > codec.schemaVersion()) {
+            throw new SerializationException(
+                    "지원하지 않는 스키마 버전입니다. (typeId: " + typeId + ", version: " + schemaVersion + ")"
+            );
+        }
+        return codec.decode(reader, schemaVersion);
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.confg.kafka.codec;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * @param binaryTopics 바이너리 코덱으로 발행할 토픽 패턴(정규식). 그 외 토픽은 JSON 으로 발행한다.
+ */
+@ConfigurationProperties(value = "kafka.codec")
+public record KafkaCodecProperties(
+        List<String> binaryTopics
+) {
+    public KafkaCodecProperties {
+        binaryTopics = binaryTopics == null ? List.of() : List.copyOf(binaryTopics);
+    }
+}
@@ -0,0 +1,132 @@
+package com.loopers.confg.kafka;
+
+import com.loopers.fake.FakeKafkaTemplate;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.mock.MockConsumerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KafkaDeadLetterReplayerTest {
+
+    private static final String DLT = "orders.dlt";
+    private static final TopicPartition PARTITION = new TopicPartition(DLT, 0);
+
+    private MockConsumer<Object, Object> consumer;
+    private FakeKafkaTemplate kafkaTemplate;
+    private KafkaDeadLetterReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        // 재발행 호출마다 같은 컨슈머(= 같은 커밋 오프셋)를 쓰도록 close 를 무시한다.
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void close() {
+            }
+
+            @Override
+            public synchronized void close(Duration timeout) {
+            }
+        };
+        Node node = new Node(0, "localhost", 9092);
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, node, new Node[]{node}, new Node[]{node})));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.updateEndOffsets(Map.of(PARTITION, 3L));
+
+        kafkaTemplate = new FakeKafkaTemplate();
+        KafkaRetryTopics retryTopics = new KafkaRetryTopics(new KafkaRetryProperties(null, null, null));
+        replayer = new KafkaDeadLetterReplayer(new MockConsumerFactory<>(() -> consumer), kafkaTemplate, retryTopics);
+    }
+
+    @DisplayName("DLT 를 재발행할 때,")
+    @Nested
+    class Replay {
+
+        @DisplayName("원본 토픽으로 같은 key / value 를 발행하고, 재시도 / DLT 헤더는 제거한다.")
+        @Test
+        void republishesToBaseTopic_withoutRetryHeaders() {
+            // arrange
+            scheduleDltRecords();
+
+            // act
+            KafkaDeadLetterReplayer.ReplayResult result = replayer.replay(DLT, 10);
+
+            // assert
+            assertThat(result).isEqualTo(new KafkaDeadLetterReplayer.ReplayResult(DLT, "orders", 3));
+            assertThat(kafkaTemplate.sent()).extracting(ProducerRecord::topic).containsOnly("orders");
+            assertThat(kafkaTemplate.sent()).extracting(ProducerRecord::key).containsExactly("k-0", "k-1", "k-2");
+
+            ProducerRecord<Object, Object> first = kafkaTemplate.sent().get(0);
+            assertThat(first.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC)).isNull();
+            assertThat(first.headers().lastHeader(KafkaRetryTopics.HEADER_RETRY_TIER)).isNull();
+            assertThat(first.headers().lastHeader("trace-id")).isNotNull();
+            assertThat(consumer.committed(Set.of(PARTITION)).get(PARTITION).offset()).isEqualTo(3L);
+        }
+
+        @DisplayName("maxRecords 만큼만 재발행하고, 다음 호출은 커밋된 오프셋부터 이어서 재발행한다.")
+        @Test
+        void resumesFromCommittedOffset_whenCalledAgain() {
+            // arrange
+            scheduleDltRecords();
+            KafkaDeadLetterReplayer.ReplayResult first = replayer.replay(DLT, 2);
+            scheduleDltRecords();
+
+            // act
+            KafkaDeadLetterReplayer.ReplayResult second = replayer.replay(DLT, 10);
+
+            // assert
+            assertThat(first.replayed()).isEqualTo(2);
+            assertThat(second.replayed()).isEqualTo(1);
+            assertThat(kafkaTemplate.sent()).extracting(ProducerRecord::key).containsExactly("k-0", "k-1", "k-2");
+        }
+
+        @DisplayName("발행에 실패하면, DLT 오프셋을 커밋하지 않는다.")
+        @Test
+        void doesNotCommit_whenSendFails() {
+            // arrange
+            scheduleDltRecords();
+            kafkaTemplate.failWhen(record -> "k-1".equals(record.key()));
+
+            // act & assert
+            assertThrows(RuntimeException.class, () -> replayer.replay(DLT, 10));
+            assertThat(consumer.committed(Set.of(PARTITION))).isEmpty();
+        }
+
+        @DisplayName("DLT 가 아닌 토픽이면, 예외가 발생한다.")
+        @Test
+        void throwsException_whenTopicIsNotDlt() {
+            // act & assert
+            assertThrows(IllegalArgumentException.class, () -> replayer.replay("orders", 10));
+        }
+    }
+
+    private void scheduleDltRecords() {
+        // MockConsumer 는 할당된 파티션에만 레코드를 넣을 수 있으므로, replay 내부의 assign 이후 poll 시점에 넣는다.
+        consumer.schedulePollTask(() -> {
+            for (int offset = 0; offset < 3; offset++) {
+                ConsumerRecord<Object, Object> record = new ConsumerRecord<>(DLT, 0, offset, "k-" + offset, ("v-" + offset).getBytes(StandardCharsets.UTF_8));
+                record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC, "orders".getBytes(StandardCharsets.UTF_8));
+                record.headers().add(KafkaRetryTopics.HEADER_RETRY_TIER, "4".getBytes(StandardCharsets.UTF_8));
+                record.headers().add("trace-id", ("trace-" + offset).getBytes(StandardCharsets.UTF_8));
+                consumer.addRecord(record);
+            }
+        });
+    }
+}
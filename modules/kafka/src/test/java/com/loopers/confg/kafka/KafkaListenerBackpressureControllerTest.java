@@ -0,0 +1,99 @@
+package com.loopers.confg.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaListenerBackpressureControllerTest {
+
+    private KafkaListenerMetrics metrics;
+    private KafkaListenerBackpressureController controller;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new KafkaListenerMetrics(new SimpleMeterRegistry());
+        KafkaBackpressureProperties properties = new KafkaBackpressureProperties(
+                true, null, null, null, null,
+                1, 4, 1_000, 100, Duration.ofMinutes(2)
+        );
+        controller = new KafkaListenerBackpressureController(new KafkaListenerEndpointRegistry(), metrics, properties);
+    }
+
+    private KafkaListenerStats statsWithLags(String listenerId, boolean scalable, long... lags) {
+        metrics.interceptor(listenerId, scalable);
+        KafkaListenerStats stats = metrics.find(listenerId);
+        for (int partition = 0; partition < lags.length; partition++) {
+            metrics.updateLag(stats, new TopicPartition("orders", partition), lags[partition]);
+        }
+        return stats;
+    }
+
+    @DisplayName("동시성을 결정할 때,")
+    @Nested
+    class TargetConcurrency {
+
+        @DisplayName("컨슈머당 lag 이 scale-up 기준을 넘으면, 1 늘린다.")
+        @Test
+        void scalesUp_whenLagPerConsumerIsHigh() {
+            // arrange
+            KafkaListenerStats stats = statsWithLags("main", true, 1_500, 1_500, 0, 0);
+
+            // act & assert
+            assertThat(controller.targetConcurrency(stats, 2)).isEqualTo(3);
+        }
+
+        @DisplayName("할당된 파티션 수보다 많이 늘리지 않는다.")
+        @Test
+        void doesNotExceedPartitionCount() {
+            // arrange
+            KafkaListenerStats stats = statsWithLags("main", true, 50_000, 50_000);
+
+            // act & assert
+            assertThat(controller.targetConcurrency(stats, 2)).isEqualTo(2);
+        }
+
+        @DisplayName("컨슈머당 lag 이 scale-down 기준보다 작으면, 최소 동시성까지 1 줄인다.")
+        @Test
+        void scalesDown_whenLagPerConsumerIsLow() {
+            // arrange
+            KafkaListenerStats stats = statsWithLags("main", true, 10, 10, 10);
+
+            // act & assert
+            assertThat(controller.targetConcurrency(stats, 3)).isEqualTo(2);
+            assertThat(controller.targetConcurrency(stats, 1)).isEqualTo(1);
+        }
+
+        @DisplayName("회수된 파티션의 lag 은 scale-up 판단에 포함하지 않는다.")
+        @Test
+        void ignoresRevokedPartitions() {
+            // arrange
+            KafkaListenerStats stats = statsWithLags("main", true, 5_000, 5_000, 100, 100);
+            metrics.rebalanceListener("main").onPartitionsRevoked(List.of(
+                    new TopicPartition("orders", 0),
+                    new TopicPartition("orders", 1)
+            ));
+
+            // act & assert
+            assertThat(controller.targetConcurrency(stats, 2)).isEqualTo(2);
+        }
+
+        @DisplayName("재시도 토픽 컨테이너는 lag 과 상관없이 동시성을 바꾸지 않는다.")
+        @Test
+        void keepsConcurrency_whenContainerIsNotScalable() {
+            // arrange
+            KafkaListenerStats stats = statsWithLags("main-retry", false, 50_000, 50_000, 50_000);
+
+            // act & assert
+            assertThat(controller.targetConcurrency(stats, 1)).isEqualTo(1);
+        }
+    }
+}
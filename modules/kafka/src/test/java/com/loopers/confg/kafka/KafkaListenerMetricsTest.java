@@ -0,0 +1,102 @@
+package com.loopers.confg.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaListenerMetricsTest {
+
+    private static final TopicPartition P0 = new TopicPartition("orders", 0);
+    private static final TopicPartition P1 = new TopicPartition("orders", 1);
+    private static final TopicPartition P2 = new TopicPartition("orders", 2);
+
+    private SimpleMeterRegistry meterRegistry;
+    private KafkaListenerMetrics metrics;
+    private KafkaListenerStats stats;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new KafkaListenerMetrics(meterRegistry);
+        metrics.interceptor("orders-listener");
+        stats = metrics.find("orders-listener");
+    }
+
+    @DisplayName("파티션 lag 을 기록할 때,")
+    @Nested
+    class UpdateLag {
+
+        @DisplayName("파티션별 최신 값만 합산한다.")
+        @Test
+        void sumsLatestLagPerPartition() {
+            // act
+            metrics.updateLag(stats, P0, 100);
+            metrics.updateLag(stats, P1, 50);
+            metrics.updateLag(stats, P0, 30);
+
+            // assert
+            assertThat(stats.totalLag()).isEqualTo(80);
+            assertThat(stats.partitionCount()).isEqualTo(2);
+            assertThat(meterRegistry.find("kafka.consumer.partition.lag").gauges()).hasSize(2);
+        }
+    }
+
+    @DisplayName("파티션이 회수될 때,")
+    @Nested
+    class Revoke {
+
+        @DisplayName("회수된 파티션의 lag 과 게이지를 제거하고, 남은 파티션만 집계한다.")
+        @Test
+        void removesRevokedPartitions() {
+            // arrange
+            metrics.updateLag(stats, P0, 100);
+            metrics.updateLag(stats, P1, 50);
+            metrics.updateLag(stats, P2, 10);
+
+            // act
+            metrics.rebalanceListener("orders-listener").onPartitionsRevoked(List.of(P0, P1));
+
+            // assert
+            assertThat(stats.totalLag()).isEqualTo(10);
+            assertThat(stats.partitionCount()).isEqualTo(1);
+            assertThat(meterRegistry.find("kafka.consumer.partition.lag").gauges()).hasSize(1);
+            assertThat(meterRegistry.find("kafka.consumer.partition.lag").tag("partition", "2").gauge()).isNotNull();
+        }
+
+        @DisplayName("유실(lost)된 파티션도 회수와 같이 제거한다.")
+        @Test
+        void removesLostPartitions() {
+            // arrange
+            metrics.updateLag(stats, P0, 100);
+
+            // act
+            metrics.rebalanceListener("orders-listener").onPartitionsLost(List.of(P0));
+
+            // assert
+            assertThat(stats.totalLag()).isZero();
+            assertThat(meterRegistry.find("kafka.consumer.partition.lag").gauges()).isEmpty();
+        }
+
+        @DisplayName("다시 할당되면, 새 게이지로 lag 을 이어서 기록한다.")
+        @Test
+        void recordsAgain_whenPartitionIsReassigned() {
+            // arrange
+            metrics.updateLag(stats, P0, 100);
+            metrics.rebalanceListener("orders-listener").onPartitionsRevoked(List.of(P0));
+
+            // act
+            metrics.updateLag(stats, P0, 7);
+
+            // assert
+            assertThat(stats.totalLag()).isEqualTo(7);
+            assertThat(meterRegistry.find("kafka.consumer.partition.lag").gauge().value()).isEqualTo(7d);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.loopers.confg.kafka;
+
+import com.loopers.fake.FakeKafkaTemplate;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.converter.MessageConversionException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaRetryRecovererTest {
+
+    private FakeKafkaTemplate kafkaTemplate;
+    private KafkaRetryRecoverer recoverer;
+
+    @BeforeEach
+    void setUp() {
+        kafkaTemplate = new FakeKafkaTemplate();
+        KafkaRetryTopics retryTopics = new KafkaRetryTopics(
+                new KafkaRetryProperties(List.of(Duration.ofSeconds(1), Duration.ofSeconds(10)), null, null)
+        );
+        recoverer = new KafkaRetryRecoverer(kafkaTemplate, retryTopics);
+    }
+
+    @DisplayName("처리에 실패한 레코드를 복구할 때,")
+    @Nested
+    class Recover {
+
+        @DisplayName("재시도 가능한 예외면, 다음 재시도 토픽으로 due-at / tier 헤더와 함께 발행한다.")
+        @Test
+        void publishesToNextRetryTopic_whenExceptionIsRetryable() {
+            // arrange
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>("orders", 0, 10L, "order-1", "payload");
+            long before = System.currentTimeMillis();
+
+            // act
+            recoverer.accept(record, new IllegalStateException("일시 장애"));
+
+            // assert
+            assertThat(kafkaTemplate.sent()).hasSize(1);
+            ProducerRecord<Object, Object> published = kafkaTemplate.sent().get(0);
+            assertThat(published.topic()).isEqualTo("orders.retry-1");
+            assertThat(published.key()).isEqualTo("order-1");
+            assertThat(published.partition()).isNull();
+            assertThat(headerValue(published, KafkaRetryTopics.HEADER_RETRY_TIER)).isEqualTo("1");
+            assertThat(Long.parseLong(headerValue(published, KafkaRetryTopics.HEADER_RETRY_DUE_AT))).isGreaterThanOrEqualTo(before + 1_000L);
+        }
+
+        @DisplayName("마지막 재시도 토픽에서 실패하면, DLT 로 발행한다.")
+        @Test
+        void publishesToDlt_whenLastRetryTopicFails() {
+            // arrange
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>("orders.retry-2", 0, 3L, "order-1", "payload");
+
+            // act
+            recoverer.accept(record, new IllegalStateException("일시 장애"));
+
+            // assert
+            ProducerRecord<Object, Object> published = kafkaTemplate.sent().get(0);
+            assertThat(published.topic()).isEqualTo("orders.dlt");
+            assertThat(headerValue(published, KafkaRetryTopics.HEADER_RETRY_TIER)).isEqualTo("3");
+        }
+
+        @DisplayName("변환 실패처럼 재시도해도 결과가 같은 예외면, 재시도 단계를 건너뛰고 DLT 로 발행한다.")
+        @Test
+        void publishesToDltImmediately_whenExceptionIsNonRetryable() {
+            // arrange
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>("orders", 0, 10L, "order-1", "payload");
+
+            // act
+            recoverer.accept(record, new RuntimeException(new MessageConversionException("잘못된 payload")));
+
+            // assert
+            assertThat(kafkaTemplate.sent()).extracting(ProducerRecord::topic).containsExactly("orders.dlt");
+        }
+    }
+
+    private String headerValue(ProducerRecord<Object, Object> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,77 @@
+package com.loopers.confg.kafka;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KafkaRetryTopicsTest {
+
+    private final KafkaRetryTopics retryTopics = new KafkaRetryTopics(
+            new KafkaRetryProperties(List.of(Duration.ofSeconds(1), Duration.ofSeconds(10)), null, null)
+    );
+
+    @DisplayName("실패한 레코드의 다음 토픽을 계산할 때,")
+    @Nested
+    class NextTopic {
+
+        @DisplayName("원본 토픽에서 실패하면, 첫 번째 재시도 토픽으로 이동한다.")
+        @Test
+        void routesToFirstRetryTopic_whenOriginalTopicFails() {
+            // act & assert
+            assertThat(retryTopics.nextTopic("orders")).isEqualTo("orders.retry-1");
+            assertThat(retryTopics.nextDelay("orders")).isEqualTo(Duration.ofSeconds(1));
+        }
+
+        @DisplayName("중간 재시도 토픽에서 실패하면, 다음 단계 재시도 토픽으로 이동한다.")
+        @Test
+        void routesToNextRetryTopic_whenRetryTopicFails() {
+            // act & assert
+            assertThat(retryTopics.nextTopic("orders.retry-1")).isEqualTo("orders.retry-2");
+            assertThat(retryTopics.nextDelay("orders.retry-1")).isEqualTo(Duration.ofSeconds(10));
+        }
+
+        @DisplayName("마지막 재시도 토픽에서 실패하면, 지연 없이 DLT 로 이동한다.")
+        @Test
+        void routesToDlt_whenLastRetryTopicFails() {
+            // act & assert
+            assertThat(retryTopics.nextTopic("orders.retry-2")).isEqualTo("orders.dlt");
+            assertThat(retryTopics.nextDelay("orders.retry-2")).isEqualTo(Duration.ZERO);
+        }
+
+        @DisplayName("토픽 이름에 점이 포함되어 있어도, 원본 토픽 이름을 유지한다.")
+        @Test
+        void keepsBaseTopic_whenTopicNameContainsDots() {
+            // act & assert
+            assertThat(retryTopics.nextTopic("demo.internal.topic-v1")).isEqualTo("demo.internal.topic-v1.retry-1");
+            assertThat(retryTopics.baseTopicOf("demo.internal.topic-v1.retry-2")).isEqualTo("demo.internal.topic-v1");
+            assertThat(retryTopics.baseTopicOf("demo.internal.topic-v1.dlt")).isEqualTo("demo.internal.topic-v1");
+        }
+    }
+
+    @DisplayName("재시도 단계를 계산할 때,")
+    @Nested
+    class TierOf {
+
+        @DisplayName("원본 토픽은 0, 재시도 토픽은 단계 번호, DLT 는 단계 수 + 1 이다.")
+        @Test
+        void returnsTier() {
+            // act & assert
+            assertThat(retryTopics.tierOf("orders")).isZero();
+            assertThat(retryTopics.tierOf("orders.retry-2")).isEqualTo(2);
+            assertThat(retryTopics.tierOf("orders.dlt")).isEqualTo(3);
+        }
+
+        @DisplayName("존재하지 않는 단계의 재시도 토픽을 요청하면, 예외가 발생한다.")
+        @Test
+        void throwsException_whenTierDoesNotExist() {
+            // act & assert
+            assertThrows(IllegalArgumentException.class, () -> retryTopics.retryTopic("orders", 3));
+        }
+    }
+}
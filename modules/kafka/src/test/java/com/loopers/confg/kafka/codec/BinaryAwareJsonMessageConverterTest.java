@@ -0,0 +1,51 @@
+package com.loopers.confg.kafka.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryAwareJsonMessageConverterTest {
+
+    private final EventCodecRegistry registry = new EventCodecRegistry(List.of(new EventCodecRegistryTest.SampleEventCodec(1, 2)));
+    private final BinaryAwareJsonMessageConverter converter = new BinaryAwareJsonMessageConverter(new ObjectMapper(), registry);
+
+    @DisplayName("레코드 값을 변환할 때,")
+    @Nested
+    class Convert {
+
+        @DisplayName("magic 바이트로 시작하면, 코덱으로 디코딩한다.")
+        @Test
+        void decodesWithCodec_whenValueIsBinary() {
+            // arrange
+            EventCodecRegistryTest.SampleEvent event = new EventCodecRegistryTest.SampleEvent(1L, 2L, "binary", true);
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>("topic", 0, 0L, null, registry.encode(event));
+
+            // act
+            Object converted = converter.extractAndConvertValue(record, EventCodecRegistryTest.SampleEvent.class);
+
+            // assert
+            assertThat(converted).isEqualTo(event);
+        }
+
+        @DisplayName("magic 바이트가 없으면, 기존처럼 JSON 으로 변환한다.")
+        @Test
+        void fallsBackToJson_whenMagicByteIsMissing() {
+            // arrange
+            byte[] json = "{\"id\":1,\"amount\":2,\"name\":\"json\",\"flag\":true}".getBytes(StandardCharsets.UTF_8);
+            ConsumerRecord<Object, Object> record = new ConsumerRecord<>("topic", 0, 0L, null, json);
+
+            // act
+            Object converted = converter.extractAndConvertValue(record, EventCodecRegistryTest.SampleEvent.class);
+
+            // assert
+            assertThat(converted).isEqualTo(new EventCodecRegistryTest.SampleEvent(1L, 2L, "json", true));
+        }
+    }
+}
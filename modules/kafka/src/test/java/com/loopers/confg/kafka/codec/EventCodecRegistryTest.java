@@ -0,0 +1,154 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventCodecRegistryTest {
+
+    private final EventCodecRegistry registry = new EventCodecRegistry(List.of(new SampleEventCodec(1, 2)));
+
+    @DisplayName("이벤트를 인코딩/디코딩할 때,")
+    @Nested
+    class RoundTrip {
+
+        @DisplayName("인코딩한 바이트를 디코딩하면, 같은 이벤트가 복원된다.")
+        @Test
+        void decodesSameEvent_whenEncoded() {
+            // arrange
+            SampleEvent event = new SampleEvent(9_876L, -1_500L, "상품명", true);
+
+            // act
+            byte[] bytes = registry.encode(event);
+            Object decoded = registry.decode(bytes);
+
+            // assert
+            assertThat(EventCodecRegistry.isBinary(bytes)).isTrue();
+            assertThat(decoded).isEqualTo(event);
+        }
+
+        @DisplayName("BinaryEventSerializer / Deserializer 를 거쳐도, 같은 이벤트가 복원된다.")
+        @Test
+        void decodesSameEvent_throughKafkaSerializers() {
+            // arrange
+            SampleEvent event = new SampleEvent(1L, 0L, "", false);
+
+            // act
+            byte[] bytes = new BinaryEventSerializer(registry).serialize("topic", event);
+            Object decoded = new BinaryEventDeserializer(registry).deserialize("topic", bytes);
+
+            // assert
+            assertThat(decoded).isEqualTo(event);
+        }
+
+        @DisplayName("이전 스키마 버전으로 기록된 레코드도, 디코딩할 수 있다.")
+        @Test
+        void decodesOlderSchemaVersion() {
+            // arrange
+            EventCodecRegistry v1Registry = new EventCodecRegistry(List.of(new SampleEventCodec(1, 1)));
+            byte[] v1Bytes = v1Registry.encode(new SampleEvent(7L, 3L, "v1", true));
+
+            // act
+            Object decoded = registry.decode(v1Bytes);
+
+            // assert
+            assertThat(decoded).isEqualTo(new SampleEvent(7L, 3L, "v1", false));
+        }
+    }
+
+    @DisplayName("지원하지 않는 입력이면,")
+    @Nested
+    class Unsupported {
+
+        @DisplayName("magic 바이트로 시작하지 않는 JSON 은 바이너리로 보지 않고, 디코딩하면 예외가 발생한다.")
+        @Test
+        void rejectsJson_whenMagicByteIsMissing() {
+            // arrange
+            byte[] json = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+            // act & assert
+            assertThat(EventCodecRegistry.isBinary(json)).isFalse();
+            assertThrows(SerializationException.class, () -> registry.decode(json));
+        }
+
+        @DisplayName("등록되지 않은 typeId 면, 예외가 발생한다.")
+        @Test
+        void throwsException_whenTypeIdIsUnknown() {
+            // arrange
+            byte[] bytes = new EventCodecRegistry(List.of(new SampleEventCodec(99, 1)))
+                    .encode(new SampleEvent(1L, 1L, "x", true));
+
+            // act
+            SerializationException exception = assertThrows(SerializationException.class, () -> registry.decode(bytes));
+
+            // assert
+            assertThat(exception.getMessage()).contains("99");
+        }
+
+        @DisplayName("현재보다 높은 스키마 버전이면, 예외가 발생한다.")
+        @Test
+        void throwsException_whenSchemaVersionIsNewer() {
+            // arrange
+            byte[] bytes = new EventCodecRegistry(List.of(new SampleEventCodec(1, 3)))
+                    .encode(new SampleEvent(1L, 1L, "x", true));
+
+            // act & assert
+            assertThrows(SerializationException.class, () -> registry.decode(bytes));
+        }
+
+        @DisplayName("코덱이 없는 타입을 인코딩하면, 예외가 발생한다.")
+        @Test
+        void throwsException_whenEncodingUnregisteredType() {
+            // act & assert
+            assertThat(registry.supports(String.class)).isFalse();
+            assertThrows(SerializationException.class, () -> registry.encode("not-an-event"));
+        }
+
+        @DisplayName("typeId 가 중복된 코덱을 등록하면, 예외가 발생한다.")
+        @Test
+        void throwsException_whenTypeIdIsDuplicated() {
+            // act & assert
+            assertThrows(IllegalStateException.class,
+                    () -> new EventCodecRegistry(List.of(new SampleEventCodec(1, 1), new SampleEventCodec(1, 2))));
+        }
+    }
+
+    record SampleEvent(long id, long amount, String name, boolean flag) {
+    }
+
+    /**
+     * v1: id, amount, name / v2: v1 + flag
+     */
+    record SampleEventCodec(int typeId, int schemaVersion) implements EventCodec<SampleEvent> {
+        @Override
+        public Class<SampleEvent> type() {
+            return SampleEvent.class;
+        }
+
+        @Override
+        public void encode(SampleEvent event, BinaryEventWriter out) {
+            out.writeUnsignedVarLong(event.id())
+                    .writeVarLong(event.amount())
+                    .writeString(event.name());
+            if (schemaVersion >= 2) {
+                out.writeBoolean(event.flag());
+            }
+        }
+
+        @Override
+        public SampleEvent decode(BinaryEventReader in, int schemaVersion) {
+            long id = in.readUnsignedVarLong();
+            long amount = in.readVarLong();
+            String name = in.readString();
+            boolean flag = schemaVersion >= 2 && in.readBoolean();
+            return new SampleEvent(id, amount, name, flag);
+        }
+    }
+}
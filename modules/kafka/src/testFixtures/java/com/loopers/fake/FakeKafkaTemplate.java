@@ -0,0 +1,59 @@
+package com.loopers.fake;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * 테스트용 Fake KafkaTemplate.
+ * 브로커 없이 send(ProducerRecord) 를 기록하고, 조건에 맞는 레코드는 실패시키거나 응답하지 않거나 바로 예외를 던지게 만든다.
+ */
+public class FakeKafkaTemplate extends KafkaTemplate<Object, Object> {
+
+    private final List<ProducerRecord<Object, Object>> sent = new CopyOnWriteArrayList<>();
+    private volatile Predicate<ProducerRecord<Object, Object>> failing = record -> false;
+    private volatile Predicate<ProducerRecord<Object, Object>> hanging = record -> false;
+    private volatile Predicate<ProducerRecord<Object, Object>> throwing = record -> false;
+
+    public FakeKafkaTemplate() {
+        super(new DefaultKafkaProducerFactory<>(Map.of()));
+    }
+
+    @Override
+    public CompletableFuture<SendResult<Object, Object>> send(ProducerRecord<Object, Object> record) {
+        if (throwing.test(record)) {
+            throw new IllegalStateException("fake send exception: " + record.topic());
+        }
+        if (hanging.test(record)) {
+            return new CompletableFuture<>();
+        }
+        if (failing.test(record)) {
+            return CompletableFuture.failedFuture(new IllegalStateException("fake send failure: " + record.topic()));
+        }
+        sent.add(record);
+        return CompletableFuture.completedFuture(new SendResult<>(record, null));
+    }
+
+    public void failWhen(Predicate<ProducerRecord<Object, Object>> condition) {
+        this.failing = condition;
+    }
+
+    public void hangWhen(Predicate<ProducerRecord<Object, Object>> condition) {
+        this.hanging = condition;
+    }
+
+    public void throwWhen(Predicate<ProducerRecord<Object, Object>> condition) {
+        this.throwing = condition;
+    }
+
+    public List<ProducerRecord<Object, Object>> sent() {
+        return List.copyOf(sent);
+    }
+}
@@ -10,12 +10,15 @@ include(
     ":supports:jackson",
     ":supports:logging",
     ":supports:monitoring",
+    ":tools:benchmark",
+    ":tools:load-generator",
 )
 
 // configurations
 pluginManagement {
     val springBootVersion: String by settings
     val springDependencyManagementVersion: String by settings
+    val jmhGradlePluginVersion: String by settings
 
     repositories {
         maven { url = uri("https://repo.spring.io/milestone") }
@@ -28,6 +31,7 @@ pluginManagement {
             when (requested.id.id) {
                 "org.springframework.boot" -> useVersion(springBootVersion)
                 "io.spring.dependency-management" -> useVersion(springDependencyManagementVersion)
+                "me.champeau.jmh" -> useVersion(jmhGradlePluginVersion)
             }
         }
     }
@@ -1,5 +1,6 @@
 plugins {
     `java-library`
+    id("me.champeau.jmh")
 }
 
 dependencies {
@@ -7,5 +8,16 @@ dependencies {
     implementation("org.springframework:spring-web")
     // jackson
     implementation("com.fasterxml.jackson.module:jackson-module-kotlin")
+    implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+
+    // benchmark 의 Page 응답 재현용
+    jmhImplementation("org.springframework.data:spring-data-commons")
+}
+
+// ./gradlew :supports:jackson:jmh
+jmh {
+    jmhVersion = project.properties["jmhVersion"] as String
+    resultFormat = "JSON"
+    profilers = listOf("gc")
 }
@@ -0,0 +1,137 @@
+package com.loopers.config.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 응답(ApiResponse<Page<ProductResponse>>) 직렬화 처리량과 op 당 할당량 비교.
+ *
+ * - defaultMapper: 현재 MVC 경로와 같은 objectMapper.writeValueAsBytes
+ * - prebuiltWriter: 선언 타입을 고정한 ObjectWriter 재사용 (JsonWriters.writerFor)
+ * - blackbirdWriter: jackson.performance.blackbird=true 설정의 ObjectMapper + 고정 writer
+ *
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 본다.
+ * 응답 바이트 수는 보조 카운터(serializedBytes, bytes/ms)로 함께 보고하며, 응답당 바이트 수는 serializedBytes / score 이다.
+ *
+ * ./gradlew :supports:jackson:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductPageSerializationBenchmark {
+    private static final TypeReference<SampleApiResponse<Page<SampleProductResponse>>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private SampleApiResponse<Page<SampleProductResponse>> response;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter prebuiltWriter;
+    private ObjectWriter blackbirdWriter;
+
+    @Setup
+    public void setUp() {
+        ZonedDateTime now = ZonedDateTime.of(2025, 1, 1, 12, 0, 0, 0, ZoneId.of("Asia/Seoul"));
+        List<SampleProductResponse> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new SampleProductResponse(
+                1_000L + i, 10L, "상품-" + i, "상품 설명 " + i, 15_900L + i, 100, "https://example.com/products/" + i + ".png", now, now
+            ));
+        }
+        response = SampleApiResponse.success(new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000L));
+
+        objectMapper = objectMapper(false);
+        prebuiltWriter = new JsonWriters(objectMapper).writerFor(RESPONSE_TYPE);
+        blackbirdWriter = new JsonWriters(objectMapper(true)).writerFor(RESPONSE_TYPE);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class SerializedBytes {
+        public long serializedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            serializedBytes = 0;
+        }
+
+        byte[] count(byte[] bytes) {
+            serializedBytes += bytes.length;
+            return bytes;
+        }
+    }
+
+    @Benchmark
+    public byte[] defaultMapper(SerializedBytes counter) throws IOException {
+        return counter.count(objectMapper.writeValueAsBytes(response));
+    }
+
+    @Benchmark
+    public byte[] prebuiltWriter(SerializedBytes counter) throws IOException {
+        return counter.count(prebuiltWriter.writeValueAsBytes(response));
+    }
+
+    @Benchmark
+    public byte[] blackbirdWriter(SerializedBytes counter) throws IOException {
+        return counter.count(blackbirdWriter.writeValueAsBytes(response));
+    }
+
+    private static ObjectMapper objectMapper(boolean blackbird) {
+        JacksonConfig config = new JacksonConfig();
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        config.jacksonCustomizer().customize(builder);
+        config.jacksonPerformanceCustomizer(new JacksonPerformanceProperties(blackbird)).customize(builder);
+        return builder.build();
+    }
+
+    public record SampleApiResponse<T>(Metadata meta, T data) {
+        public record Metadata(String result, String errorCode, String message) {
+        }
+
+        public static <T> SampleApiResponse<T> success(T data) {
+            return new SampleApiResponse<>(new Metadata("SUCCESS", null, null), data);
+        }
+    }
+
+    public record SampleProductResponse(
+        Long id,
+        Long brandId,
+        String name,
+        String description,
+        Long price,
+        Integer stock,
+        String imageUrl,
+        ZonedDateTime createdAt,
+        ZonedDateTime updatedAt
+    ) {
+    }
+}
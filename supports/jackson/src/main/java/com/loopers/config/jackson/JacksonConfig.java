@@ -3,14 +3,23 @@ package com.loopers.config.jackson;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
+@EnableConfigurationProperties(JacksonPerformanceProperties.class)
 class JacksonConfig {
 
     @Order(Ordered.HIGHEST_PRECEDENCE)
@@ -45,4 +54,27 @@ class JacksonConfig {
             );
         };
     }
+
+    /**
+     * Blackbird 는 설정이 켜져 있을 때만 등록한다.
+     *
+     * findModulesViaServiceLoader(true) 는 ServiceLoader 로 찾은 모듈을 modulesToInstall 목록을 거치지 않고 등록하므로,
+     * 목록에서 빼는 것만으로는 classpath 의 Blackbird 를 막을 수 없다.
+     * 그래서 ServiceLoader 탐색을 끄고, 같은 탐색 결과에서 Blackbird 만 뺀 모듈을 명시적으로 등록한다.
+     * (이미 등록된 목록은 Arrays.asList 일 수 있어 그대로 수정하지 않고 새 목록으로 바꾼다)
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jacksonPerformanceCustomizer(JacksonPerformanceProperties properties) {
+        return builder -> {
+            List<Module> modules = new ArrayList<>();
+            builder.modulesToInstall(modules::addAll);
+            ObjectMapper.findModules(Jackson2ObjectMapperBuilder.class.getClassLoader()).forEach(modules::add);
+            modules.removeIf(BlackbirdModule.class::isInstance);
+            if (properties.blackbird()) {
+                modules.add(new BlackbirdModule());
+            }
+            builder.findModulesViaServiceLoader(false);
+            builder.modulesToInstall(modules.toArray(Module[]::new));
+        };
+    }
 }
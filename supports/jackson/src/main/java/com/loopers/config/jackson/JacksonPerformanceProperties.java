@@ -0,0 +1,20 @@
+package com.loopers.config.jackson;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Jackson 성능 설정. 기본값은 모두 꺼져 있다.
+ *
+ * @param blackbird true 면 Blackbird 모듈로 getter/setter/생성자 호출을 리플렉션 대신 생성된 람다로 한다.
+ *                  API 응답과 Kafka 페이로드 모두 같은 ObjectMapper 를 쓰므로 함께 적용된다.
+ */
+@ConfigurationProperties(value = "jackson.performance")
+public record JacksonPerformanceProperties(
+    Boolean blackbird
+) {
+    public JacksonPerformanceProperties {
+        if (blackbird == null) {
+            blackbird = false;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.loopers.config.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자주 직렬화하는 타입의 ObjectWriter 를 타입별로 한 번만 만들어 재사용한다.
+ *
+ * writeValueAsBytes(Object) 는 호출마다 런타임 타입으로 serializer 를 찾는다.
+ * 제네릭 응답(ApiResponse<...>) 은 선언 타입을 고정한 writer 를 쓰면 조회와 타입 해석이 빠진다.
+ * 모두 애플리케이션 ObjectMapper 에서 만들므로 MVC 메시지 컨버터와 출력이 같다.
+ */
+@Component
+public class JsonWriters {
+
+    private final ObjectMapper objectMapper;
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JsonWriters(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ObjectWriter writerFor(Class<?> type) {
+        return writerFor(objectMapper.constructType(type));
+    }
+
+    public ObjectWriter writerFor(TypeReference<?> type) {
+        return writerFor(objectMapper.constructType(type));
+    }
+
+    public ObjectWriter writerFor(JavaType type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+}
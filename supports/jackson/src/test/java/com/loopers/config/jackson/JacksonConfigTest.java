@@ -0,0 +1,52 @@
+package com.loopers.config.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class JacksonConfigTest {
+    private static final Object BLACKBIRD_ID = new BlackbirdModule().getTypeId();
+    private static final Object JAVA_TIME_ID = new JavaTimeModule().getTypeId();
+
+    private ObjectMapper objectMapper(boolean blackbird) {
+        JacksonConfig config = new JacksonConfig();
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        config.jacksonCustomizer().customize(builder);
+        // Spring Boot 기본 customizer 처럼 배열로 모듈을 넘겨 고정 크기 목록을 만든다.
+        builder.modulesToInstall(new JavaTimeModule());
+        config.jacksonPerformanceCustomizer(new JacksonPerformanceProperties(blackbird)).customize(builder);
+        return builder.build();
+    }
+
+    @DisplayName("blackbird 설정이 꺼져 있으면, classpath 에 있어도 Blackbird 가 등록되지 않는다.")
+    @Test
+    void doesNotRegisterBlackbird_whenDisabled() {
+        // act
+        ObjectMapper objectMapper = objectMapper(false);
+
+        // assert
+        assertAll(
+            () -> assertThat(objectMapper.getRegisteredModuleIds()).doesNotContain(BLACKBIRD_ID),
+            () -> assertThat(objectMapper.getRegisteredModuleIds()).contains(JAVA_TIME_ID)
+        );
+    }
+
+    @DisplayName("blackbird 설정이 켜져 있으면, Blackbird 가 등록된다.")
+    @Test
+    void registersBlackbird_whenEnabled() {
+        // act
+        ObjectMapper objectMapper = objectMapper(true);
+
+        // assert
+        assertAll(
+            () -> assertThat(objectMapper.getRegisteredModuleIds()).contains(BLACKBIRD_ID),
+            () -> assertThat(objectMapper.getRegisteredModuleIds()).contains(JAVA_TIME_ID)
+        );
+    }
+}
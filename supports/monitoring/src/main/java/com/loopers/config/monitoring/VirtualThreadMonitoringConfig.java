@@ -0,0 +1,23 @@
+package com.loopers.config.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드(spring.threads.virtual.enabled=true)에서만 pinning 진단을 켠다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "monitoring.virtual-thread-pinning", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(VirtualThreadPinningProperties.class)
+class VirtualThreadMonitoringConfig {
+    @Bean
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadPinningProperties properties, MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties, meterRegistry);
+    }
+}
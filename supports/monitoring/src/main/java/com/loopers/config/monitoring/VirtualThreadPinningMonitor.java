@@ -0,0 +1,126 @@
+package com.loopers.config.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * JFR jdk.VirtualThreadPinned 이벤트를 스트리밍해 pinning 위치를 메트릭/로그로 남긴다.
+ *
+ * 가상 스레드가 synchronized 블록 안이나 native 프레임에서 블로킹되면 carrier(플랫폼) 스레드를 놓지 못한다. (JDK 21 기준)
+ * carrier 수는 CPU 코어 수 정도라서, 이런 구간이 요청 경로에 있으면 처리량이 플랫폼 스레드보다 오히려 떨어진다.
+ *
+ * - jvm.threads.virtual.pinned{frame}: pinning 횟수. frame 은 JDK 내부를 제외한 첫 번째 프레임 (우리 코드 또는 라이브러리)
+ * - jvm.threads.virtual.pinned.duration: pinning 시간
+ * - 같은 frame 의 스택은 logInterval 마다 한 번만 WARN 로그로 남긴다.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final String UNKNOWN_FRAME = "unknown";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final VirtualThreadPinningProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer pinnedDuration;
+    private final Map<String, Long> lastLoggedAt = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadPinningProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.pinnedDuration = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("가상 스레드가 carrier 스레드에 고정된 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT_NAME).withThreshold(properties.threshold()).withStackTrace();
+        recording.onEvent(EVENT_NAME, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("가상 스레드 pinning 진단 시작 - threshold: {}", properties.threshold());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String frame = firstNonJdkFrame(frames);
+
+        Counter.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드 pinning 횟수")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .increment();
+        pinnedDuration.record(event.getDuration());
+
+        long now = System.currentTimeMillis();
+        Long last = lastLoggedAt.get(frame);
+        if (last == null || now - last >= properties.logInterval().toMillis()) {
+            lastLoggedAt.put(frame, now);
+            log.warn("가상 스레드 pinning - frame: {}, duration(ms): {}\n{}",
+                    frame, event.getDuration().toMillis(), format(event.getStackTrace(), properties.stackDepth()));
+        }
+    }
+
+    private static String firstNonJdkFrame(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String name = methodName(frame);
+            if (name != null && JDK_PACKAGES.stream().noneMatch(name::startsWith)) {
+                return name;
+            }
+        }
+        return UNKNOWN_FRAME;
+    }
+
+    private static String format(RecordedStackTrace stackTrace, int depth) {
+        if (stackTrace == null) {
+            return "\t(스택 없음)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(depth)
+                .map(frame -> "\tat " + Objects.requireNonNullElse(methodName(frame), UNKNOWN_FRAME)
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * 타입.메서드 이름. 메서드 정보가 없는 프레임(일부 native / hidden 프레임)은 null 을 반환한다.
+     */
+    private static String methodName(RecordedFrame frame) {
+        RecordedMethod method = frame.getMethod();
+        if (method == null || method.getType() == null) {
+            return null;
+        }
+        return method.getType().getName() + "." + method.getName();
+    }
+}
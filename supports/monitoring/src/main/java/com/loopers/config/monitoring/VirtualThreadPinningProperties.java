@@ -0,0 +1,28 @@
+package com.loopers.config.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 pinning 진단 설정. spring.threads.virtual.enabled=true 일 때만 동작한다.
+ *
+ * @param enabled      JFR 이벤트 스트리밍 활성화 여부
+ * @param threshold    이 시간 이상 carrier 스레드에 고정된 경우만 기록한다
+ * @param stackDepth   로그에 남길 스택 프레임 수
+ * @param logInterval  같은 위치(프레임)의 pinning 로그를 다시 남기기까지의 최소 간격. 메트릭은 매번 기록한다
+ */
+@ConfigurationProperties(value = "monitoring.virtual-thread-pinning")
+public record VirtualThreadPinningProperties(
+    Boolean enabled,
+    Duration threshold,
+    int stackDepth,
+    Duration logInterval
+) {
+    public VirtualThreadPinningProperties {
+        if (enabled == null) enabled = true;
+        if (threshold == null) threshold = Duration.ofMillis(20);
+        if (stackDepth <= 0) stackDepth = 12;
+        if (logInterval == null) logInterval = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,87 @@
+package com.loopers.config.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class VirtualThreadPinningMonitorTest {
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+        new VirtualThreadPinningProperties(true, Duration.ZERO, 5, Duration.ofMinutes(1)),
+        meterRegistry
+    );
+    private final Object lock = new Object();
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    private void pinCarrier() throws InterruptedException {
+        Thread thread = Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        thread.join();
+    }
+
+    private Collection<Counter> awaitPinnedCounters() throws InterruptedException {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            Collection<Counter> counters = meterRegistry.find("jvm.threads.virtual.pinned").counters();
+            if (!counters.isEmpty()) {
+                return counters;
+            }
+            Thread.sleep(100);
+        }
+        return meterRegistry.find("jvm.threads.virtual.pinned").counters();
+    }
+
+    @DisplayName("synchronized 블록 안에서 블로킹된 가상 스레드를 JDK 밖의 첫 프레임으로 집계한다.")
+    @Test
+    void recordsPinnedFrameAndDuration_whenVirtualThreadBlocksInsideSynchronized() throws InterruptedException {
+        // arrange
+        monitor.start();
+
+        // act
+        pinCarrier();
+        Collection<Counter> counters = awaitPinnedCounters();
+
+        // assert
+        assertAll(
+            () -> assertThat(monitor.isRunning()).isTrue(),
+            () -> assertThat(counters)
+                .extracting(counter -> counter.getId().getTag("frame"))
+                .anySatisfy(frame -> assertThat(frame).startsWith(VirtualThreadPinningMonitorTest.class.getName() + ".")),
+            () -> assertThat(meterRegistry.get("jvm.threads.virtual.pinned.duration").timer().count()).isPositive()
+        );
+    }
+
+    @DisplayName("stop 하면 JFR 스트림을 닫는다.")
+    @Test
+    void closesStream_whenStopped() {
+        // arrange
+        monitor.start();
+
+        // act
+        monitor.stop();
+
+        // assert
+        assertThat(monitor.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,111 @@
+import groovy.json.JsonSlurper
+
+plugins {
+    `java-library`
+    id("me.champeau.jmh")
+}
+
+// tools 는 apps 를 측정하는 도구라 apps 보다 위 계층에 둔다. (supports / modules 는 apps 에 의존하지 않는다)
+// apps 는 bootJar 만 만들고 plain jar 를 끄므로, 프로젝트 의존 대신 main 소스셋의 클래스패스를 직접 쓴다.
+evaluationDependsOn(":apps:commerce-api")
+val commerceApiMain = project(":apps:commerce-api").the<SourceSetContainer>()["main"]
+
+dependencies {
+    jmhImplementation(files(commerceApiMain.runtimeClasspath))
+}
+
+// ./gradlew :tools:benchmark:jmh
+// ./gradlew :tools:benchmark:jmhCompareBaseline
+// ./gradlew :tools:benchmark:jmhUpdateBaseline -Pmachine="MacBook Pro M2 Pro 12C 32GB"
+jmh {
+    jmhVersion = project.properties["jmhVersion"] as String
+    resultFormat = "JSON"
+    profilers = listOf("gc")
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("baseline/results.json")
+val jmhBaselineMachine = layout.projectDirectory.file("baseline/machine.properties")
+
+/**
+ * 직전 jmh 실행 결과를 baseline 으로 저장한다. 갱신된 baseline 은 리뷰에서 diff 로 확인한다.
+ *
+ * 처리량은 기록한 장비에서만 비교할 수 있으므로 -Pmachine 으로 장비 이름(CPU / 메모리)을 반드시 받아 함께 남긴다.
+ */
+tasks.register("jmhUpdateBaseline") {
+    val resultsFile = jmhResults.get().asFile
+    val baselineFile = jmhBaseline.asFile
+    val machineFile = jmhBaselineMachine.asFile
+    val machine = providers.gradleProperty("machine")
+    doLast {
+        require(resultsFile.exists()) { "jmh 결과가 없습니다. 먼저 jmh 를 실행하세요." }
+        require(machine.isPresent && machine.get().isNotBlank()) { "-Pmachine=<장비 이름> 으로 기록한 장비를 지정하세요." }
+        resultsFile.copyTo(baselineFile, overwrite = true)
+        machineFile.writeText(machineDescription(machine.get()).entries.joinToString("\n", postfix = "\n") { "${it.key}=${it.value}" })
+    }
+}
+
+/**
+ * 직전 jmh 실행 결과를 baseline 과 비교해 처리량(score)과 op 당 할당량(gc.alloc.rate.norm) 변화율을 출력한다.
+ */
+tasks.register("jmhCompareBaseline") {
+    val resultsFile = jmhResults.get().asFile
+    val baselineFile = jmhBaseline.asFile
+    val machineFile = jmhBaselineMachine.asFile
+    doLast {
+        val baseline = readJmhResults(baselineFile)
+        val results = readJmhResults(resultsFile)
+        if (baseline.isEmpty()) {
+            println("baseline 이 없습니다. jmh 실행 후 jmhUpdateBaseline 으로 기록하세요.")
+        } else {
+            println("baseline 장비: ${machineFile.takeIf { it.exists() }?.readText()?.trim() ?: "(기록 없음)"}")
+            println("현재 장비 : ${machineDescription("-")}")
+            println("장비가 다르면 score 변화율은 참고만 하고 alloc(B/op) 변화율 위주로 본다.")
+        }
+        results.forEach { (name, current) ->
+            val before = baseline[name]
+            if (before == null) {
+                println("%-90s score %12.3f  alloc %10.1f B/op  (new)".format(name, current.first, current.second))
+                return@forEach
+            }
+            println(
+                "%-90s score %+7.1f%%  alloc %+7.1f%%".format(
+                    name,
+                    changeRate(before.first, current.first),
+                    changeRate(before.second, current.second),
+                ),
+            )
+        }
+    }
+}
+
+fun machineDescription(name: String): Map<String, String> = linkedMapOf(
+    "machine" to name,
+    "os" to "${System.getProperty("os.name")} ${System.getProperty("os.version")} (${System.getProperty("os.arch")})",
+    "cpus" to Runtime.getRuntime().availableProcessors().toString(),
+    "java" to "${System.getProperty("java.vm.name")} ${System.getProperty("java.version")}",
+)
+
+fun changeRate(before: Double, after: Double): Double = if (before == 0.0) 0.0 else (after - before) / before * 100
+
+/** benchmark[params] -> (score, gc.alloc.rate.norm) */
+@Suppress("UNCHECKED_CAST")
+fun readJmhResults(file: File): Map<String, Pair<Double, Double>> {
+    if (!file.exists()) {
+        return emptyMap()
+    }
+    val runs = JsonSlurper().parse(file) as List<Map<String, Any?>>
+    return runs.associate { run ->
+        val params = (run["params"] as Map<String, Any?>?)
+            ?.entries
+            ?.joinToString(",", "[", "]") { "${it.key}=${it.value}" }
+            ?: ""
+        val score = ((run["primaryMetric"] as Map<String, Any?>)["score"] as Number).toDouble()
+        val alloc = (run["secondaryMetrics"] as Map<String, Map<String, Any?>>?)
+            ?.entries
+            ?.firstOrNull { it.key.endsWith("gc.alloc.rate.norm") }
+            ?.let { (it.value["score"] as Number).toDouble() }
+            ?: 0.0
+        "${run["benchmark"]}$params" to (score to alloc)
+    }
+}
@@ -0,0 +1,114 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.product.ProductResult;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.Stock;
+import com.loopers.domain.user.PasswordHasher;
+import com.loopers.domain.user.User;
+import com.loopers.support.error.CoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문/재고/회원/상품 조회 경로의 도메인 연산 처리량과 op 당 할당량.
+ *
+ * - orderCreate: 항목 소계(Money.multiply) 와 합계(Money.add reduce) 로 생기는 Money 할당 포함
+ * - userValidation: 해시를 빼고 회원 생성 시 정규식/날짜 검증만 측정 (rejected 는 예외 생성 비용 포함)
+ *
+ * ./gradlew :tools:benchmark:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainBenchmark {
+
+    // 검증만 측정하도록 해시는 그대로 돌려준다.
+    private static final PasswordHasher IDENTITY_HASHER = new PasswordHasher() {
+        @Override
+        public String encode(String rawPassword) {
+            return rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            return rawPassword.equals(encodedPassword);
+        }
+    };
+
+    private Stock stock;
+    private Product product;
+
+    /**
+     * 주문 항목 수는 orderCreate 에만 의미가 있으므로 별도 State 로 둔다.
+     * 클래스 필드에 두면 다른 벤치마크도 항목 수마다 같은 측정을 반복한다.
+     */
+    @State(Scope.Benchmark)
+    public static class OrderItems {
+        @Param({"1", "5", "20"})
+        private int itemCount;
+
+        private List<OrderItem> items;
+
+        @Setup
+        public void setUp() {
+            items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(OrderItem.create(1_000L + i, "상품-" + i, 1 + i % 3, new Money(15_900L + i)));
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        stock = new Stock(1_000_000);
+        product = Product.create(10L, "Air Max", "러닝화", new Money(150_000L), new Stock(100), "https://example.com/air-max.png");
+    }
+
+    @Benchmark
+    public Order orderCreate(OrderItems orderItems) {
+        return Order.create(1L, orderItems.items);
+    }
+
+    @Benchmark
+    public Stock stockDecrease() {
+        return stock.decrease(1);
+    }
+
+    @Benchmark
+    public User userValidation() {
+        return new User("loopers123", "Abcd!1234", "홍길동", "19900101", "user@loopers.com", IDENTITY_HASHER);
+    }
+
+    @Benchmark
+    public Object userValidationRejected() {
+        try {
+            return new User("loopers123", "Abcd!1234", "홍길동", "19900101", "invalid-email", IDENTITY_HASHER);
+        } catch (CoreException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ProductResult productResultFrom() {
+        return ProductResult.from(product);
+    }
+}
@@ -0,0 +1,75 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.common.Money;
+import com.loopers.domain.like.Like;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.Stock;
+import com.loopers.infrastructure.persistence.jpa.like.LikeMapper;
+import com.loopers.infrastructure.persistence.jpa.order.OrderMapper;
+import com.loopers.infrastructure.persistence.jpa.product.ProductMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 객체 -> JPA 엔티티 -> 도메인 객체 왕복 변환 처리량과 op 당 할당량.
+ *
+ * ./gradlew :tools:benchmark:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int orderItemCount;
+
+    private Product product;
+    private Order order;
+    private Like like;
+
+    @Setup
+    public void setUp() {
+        product = Product.create(10L, "Air Max", "러닝화", new Money(150_000L), new Stock(100), "https://example.com/air-max.png");
+
+        List<OrderItem> items = new ArrayList<>(orderItemCount);
+        for (int i = 0; i < orderItemCount; i++) {
+            items.add(OrderItem.create(1_000L + i, "상품-" + i, 1 + i % 3, new Money(15_900L + i)));
+        }
+        order = Order.create(1L, items);
+
+        like = Like.create(1L, 1_000L);
+    }
+
+    @Benchmark
+    public Product productRoundTrip() {
+        return ProductMapper.toDomain(ProductMapper.toJpaEntity(product));
+    }
+
+    @Benchmark
+    public Order orderRoundTrip() {
+        return OrderMapper.toDomain(OrderMapper.toJpaEntity(order));
+    }
+
+    @Benchmark
+    public Like likeRoundTrip() {
+        return LikeMapper.toDomain(LikeMapper.toJpaEntity(like));
+    }
+}
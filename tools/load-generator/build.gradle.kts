@@ -0,0 +1,20 @@
+plugins {
+    application
+}
+
+// tools 는 apps 에 부하를 주는 도구라 apps 보다 위 계층에 둔다.
+// apps 는 bootJar 만 만들고 plain jar 를 끄므로, 프로젝트 의존 대신 main 소스셋의 클래스패스를 직접 쓴다.
+evaluationDependsOn(":apps:commerce-api")
+val commerceApiMain = project(":apps:commerce-api").the<SourceSetContainer>()["main"]
+
+dependencies {
+    implementation(files(commerceApiMain.runtimeClasspath))
+    implementation(testFixtures(project(":modules:jpa")))
+    implementation(testFixtures(project(":modules:redis")))
+    implementation("org.hdrhistogram:HdrHistogram:${project.properties["hdrHistogramVersion"]}")
+}
+
+// ./gradlew :tools:load-generator:run --args="--workload=flash-sale --rate=300 --duration=60s"
+application {
+    mainClass = "com.loopers.loadgen.LoadGenerator"
+}
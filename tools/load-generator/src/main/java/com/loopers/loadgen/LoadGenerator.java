@@ -0,0 +1,52 @@
+package com.loopers.loadgen;
+
+import com.loopers.CommerceApiApplication;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Testcontainers MySQL/Redis 위에 commerce-api 를 띄우고, 워크로드를 open model 로 실행해 결과를 JSON 으로 남긴다.
+ *
+ * ./gradlew :tools:load-generator:run --args="--workload=browse-heavy --rate=200 --duration=60s"
+ * ./gradlew :tools:load-generator:run --args="--workload=browse-heavy --rate=200 --duration=60s --profiles=virtual-threads"
+ */
+@Slf4j
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        LoadGeneratorOptions options = LoadGeneratorOptions.parse(args);
+        Workload workload = Workloads.byName(options.workload());
+
+        // 컨테이너를 먼저 띄워 접속 정보를 System property 로 채운 뒤 애플리케이션을 시작한다. (테스트와 같은 방식)
+        new MySqlTestContainersConfig();
+        new RedisTestContainersConfig();
+        System.setProperty("spring.profiles.active", options.activeProfiles());
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CommerceApiApplication.class)
+            .properties("server.port=0")
+            .run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            SeedData seed = SeedData.create(context, options);
+            LoadTarget target = new LoadTarget(baseUrl, context, seed);
+            OpenModelRunner runner = new OpenModelRunner(options.rate(), options.maxInFlight());
+
+            if (!options.warmup().isZero()) {
+                log.info("워밍업 - workload: {}, rate: {}/s, duration: {}", workload.name(), options.rate(), options.warmup());
+                runner.run(workload, target, options.warmup());
+            }
+
+            log.info("측정 - workload: {}, rate: {}/s, duration: {}", workload.name(), options.rate(), options.duration());
+            LoadResult result = runner.run(workload, target, options.duration())
+                .with(LoadResult.RunEnvironment.capture(context));
+            result.write(options.output());
+
+            LoadResult.Counts counts = result.counts();
+            log.info("throughput: {}/s, ok: {}, rejected: {}, errors: {}, dropped: {}, p50: {}ms, p99: {}ms, max: {}ms -> {}",
+                String.format("%.1f", result.throughput()), counts.ok(), counts.rejected(), counts.errors(), counts.dropped(),
+                result.latency().p50(), result.latency().p99(), result.latency().max(), options.output().toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.loopers.loadgen;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 생성 옵션. --key=value 형식의 인자로 받는다.
+ *
+ * @param workload 워크로드 이름 (browse-heavy, flash-sale, like-storm)
+ * @param rate 초당 도착 요청 수 (open model)
+ * @param duration 측정 시간
+ * @param warmup 측정 전 같은 부하로 돌리고 버리는 시간
+ * @param maxInFlight 동시에 처리 중인 요청 상한. 넘으면 보내지 않고 dropped 로 센다
+ * @param products 시드 상품 수
+ * @param users 시드 회원 수
+ * @param hotProductStock 인기 상품(flash-sale/like-storm 대상) 재고
+ * @param profiles test 에 더해 활성화할 프로필 (ex. virtual-threads). 없으면 빈 문자열
+ * @param output 결과 JSON 경로. 기본값은 워크로드와 추가 프로필 이름을 붙여 모드별 결과가 덮어쓰이지 않게 한다
+ */
+public record LoadGeneratorOptions(
+    String workload,
+    double rate,
+    Duration duration,
+    Duration warmup,
+    int maxInFlight,
+    int products,
+    int users,
+    int hotProductStock,
+    String profiles,
+    Path output
+) {
+    public static LoadGeneratorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String workload = values.getOrDefault("workload", "browse-heavy");
+        String profiles = values.getOrDefault("profiles", "");
+        String defaultOutput = "build/load-results/" + workload + (profiles.isBlank() ? "" : "-" + profiles.replace(',', '-')) + ".json";
+        return new LoadGeneratorOptions(
+            workload,
+            Double.parseDouble(values.getOrDefault("rate", "100")),
+            DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+            DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+            Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+            Integer.parseInt(values.getOrDefault("products", "200")),
+            Integer.parseInt(values.getOrDefault("users", "100")),
+            Integer.parseInt(values.getOrDefault("hot-product-stock", "1000")),
+            profiles,
+            Path.of(values.getOrDefault("output", defaultOutput))
+        );
+    }
+
+    public String activeProfiles() {
+        return profiles.isBlank() ? "test" : "test," + profiles;
+    }
+}
@@ -0,0 +1,138 @@
+package com.loopers.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 실행 결과. JSON 으로 저장해 실행 간 비교에 쓴다.
+ *
+ * 지연 시간은 요청이 도착했어야 하는 시각부터 잰다. (밀린 요청의 대기 시간까지 포함)
+ * histogram 은 HdrHistogram 압축 인코딩의 Base64 로, 여러 실행의 분포를 다시 합칠 때 쓴다.
+ * environment 는 실행한 장비와 모드로, 같은 환경에서 측정한 결과끼리만 비교하는 데 쓴다.
+ */
+record LoadResult(
+    String workload,
+    double targetRate,
+    double durationSeconds,
+    double throughput,
+    Counts counts,
+    Latency latency,
+    List<StepResult> steps,
+    RunEnvironment environment
+) {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static LoadResult of(Workload workload, double targetRate, Duration elapsed, Collection<StepStats> stats) {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        Histogram total = new Histogram(3);
+        stats.forEach(step -> total.add(step.latency()));
+
+        List<StepResult> steps = stats.stream()
+            .map(step -> new StepResult(
+                step.name(),
+                Counts.of(step.ok(), step.rejected(), step.errors(), step.dropped()),
+                Latency.of(step.latency()),
+                step.failuresByType(),
+                encode(step.latency())
+            ))
+            .toList();
+        Counts counts = Counts.of(
+            stats.stream().mapToLong(StepStats::ok).sum(),
+            stats.stream().mapToLong(StepStats::rejected).sum(),
+            stats.stream().mapToLong(StepStats::errors).sum(),
+            stats.stream().mapToLong(StepStats::dropped).sum()
+        );
+        return new LoadResult(workload.name(), targetRate, seconds, counts.completed() / seconds, counts, Latency.of(total), steps, null);
+    }
+
+    LoadResult with(RunEnvironment environment) {
+        return new LoadResult(workload, targetRate, durationSeconds, throughput, counts, latency, steps, environment);
+    }
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        OBJECT_MAPPER.writeValue(path.toFile(), this);
+    }
+
+    /**
+     * @param completed 응답을 받은 요청 수 (ok + rejected + errors)
+     * @param errorRate errors / completed
+     */
+    record Counts(long completed, long ok, long rejected, long errors, long dropped, double errorRate) {
+        static Counts of(long ok, long rejected, long errors, long dropped) {
+            long completed = ok + rejected + errors;
+            return new Counts(completed, ok, rejected, errors, dropped, completed == 0 ? 0.0 : (double) errors / completed);
+        }
+    }
+
+    /**
+     * 밀리초 단위 지연 시간 분포.
+     */
+    record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+        static Latency of(Histogram histogram) {
+            return new Latency(
+                histogram.getMean() / 1_000.0,
+                histogram.getValueAtPercentile(50) / 1_000.0,
+                histogram.getValueAtPercentile(90) / 1_000.0,
+                histogram.getValueAtPercentile(99) / 1_000.0,
+                histogram.getValueAtPercentile(99.9) / 1_000.0,
+                histogram.getMaxValue() / 1_000.0
+            );
+        }
+    }
+
+    record StepResult(String name, Counts counts, Latency latency, Map<String, Long> failures, String histogram) {
+    }
+
+    /**
+     * @param profiles 활성 프로필
+     * @param virtualThreads spring.threads.virtual.enabled
+     * @param maxPoolSize Hikari maximum-pool-size. 두 모드는 같은 풀 크기로 비교한다
+     * @param cpus JVM 이 보는 CPU 수
+     * @param maxHeapMb 최대 힙 (MB)
+     */
+    record RunEnvironment(
+        String profiles,
+        boolean virtualThreads,
+        String maxPoolSize,
+        int cpus,
+        long maxHeapMb,
+        String java,
+        String os
+    ) {
+        static RunEnvironment capture(ConfigurableApplicationContext context) {
+            ConfigurableEnvironment environment = context.getEnvironment();
+            return new RunEnvironment(
+                String.join(",", environment.getActiveProfiles()),
+                environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false),
+                environment.getProperty("datasource.mysql-jpa.main.maximum-pool-size", "-"),
+                Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().maxMemory() / (1024 * 1024),
+                System.getProperty("java.vm.name") + " " + System.getProperty("java.version"),
+                System.getProperty("os.name") + " " + System.getProperty("os.version") + " (" + System.getProperty("os.arch") + ")"
+            );
+        }
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+}
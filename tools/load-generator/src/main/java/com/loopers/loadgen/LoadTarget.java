@@ -0,0 +1,114 @@
+package com.loopers.loadgen;
+
+import com.loopers.support.error.CoreException;
+import org.springframework.context.ApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 워크로드 단계가 요청을 보내는 대상.
+ *
+ * HTTP 요청은 로컬에 띄운 commerce-api 로 보내고, 상태 코드를 그대로 돌려준다.
+ * HTTP API 가 없는 동작(주문, 좋아요)은 같은 JVM 의 애플리케이션 서비스를 직접 호출하고,
+ * 실패는 CoreException 의 ErrorType 상태 코드로 바꿔 HTTP 와 같은 기준으로 집계한다.
+ */
+class LoadTarget {
+
+    static final int OK = 200;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String baseUrl;
+    private final ApplicationContext context;
+    private final SeedData seed;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(REQUEST_TIMEOUT)
+        .build();
+    private final Map<Long, String> productEtags = new ConcurrentHashMap<>();
+
+    LoadTarget(String baseUrl, ApplicationContext context, SeedData seed) {
+        this.baseUrl = baseUrl;
+        this.context = context;
+        this.seed = seed;
+    }
+
+    int get(String path) throws IOException, InterruptedException {
+        return send(request(path).GET().build()).statusCode();
+    }
+
+    int get(String path, SeedData.SeedUser user) throws IOException, InterruptedException {
+        return send(request(path).header("Authorization", "Bearer " + user.accessToken()).GET().build()).statusCode();
+    }
+
+    /**
+     * 상품 상세를 마지막으로 받은 ETag 로 조건부 조회한다. ETag 가 없으면 일반 조회로 받아 둔다.
+     */
+    int getProductRevalidating(Long productId) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = request("/api/v1/products/" + productId).GET();
+        String etag = productEtags.get(productId);
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        HttpResponse<Void> response = send(builder.build());
+        response.headers().firstValue("ETag").ifPresent(value -> productEtags.put(productId, value));
+        return response.statusCode();
+    }
+
+    /**
+     * 애플리케이션 서비스를 직접 호출한다. 성공은 200, CoreException 은 ErrorType 의 상태 코드.
+     */
+    <T> int invoke(Class<T> beanType, ServiceCall<T> call) {
+        try {
+            call.execute(context.getBean(beanType));
+            return OK;
+        } catch (CoreException e) {
+            return e.getErrorType().getStatus().value();
+        }
+    }
+
+    SeedData seed() {
+        return seed;
+    }
+
+    Long randomProductId() {
+        return pick(seed.productIds());
+    }
+
+    Long randomBrandId() {
+        return pick(seed.brandIds());
+    }
+
+    SeedData.SeedUser randomUser() {
+        return pick(seed.users());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json");
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    @FunctionalInterface
+    interface ServiceCall<T> {
+        void execute(T service);
+    }
+}
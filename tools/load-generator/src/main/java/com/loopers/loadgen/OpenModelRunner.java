@@ -0,0 +1,90 @@
+package com.loopers.loadgen;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * open model 부하 실행기.
+ *
+ * 요청은 응답을 기다리지 않고 포아송 도착(지수 분포 간격)으로 보낸다. 서버가 느려져도 도착률이 줄지 않으므로
+ * 응답 대기가 다음 요청을 늦추는 closed model 과 달리 과부하 시 지연 증가가 그대로 드러난다.
+ * 각 요청은 가상 스레드에서 실행하고, 지연 시간은 실제 전송 시각이 아니라 도착 예정 시각부터 잰다.
+ */
+@Slf4j
+class OpenModelRunner {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final double rate;
+    private final int maxInFlight;
+
+    OpenModelRunner(double rate, int maxInFlight) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate 는 0보다 커야 합니다.");
+        }
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+    }
+
+    LoadResult run(Workload workload, LoadTarget target, Duration duration) throws InterruptedException {
+        Map<Workload.Step, StepStats> stats = new LinkedHashMap<>();
+        workload.steps().forEach(step -> stats.put(step, new StepStats(step.name())));
+
+        SplittableRandom random = new SplittableRandom();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long arrival = start;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (arrival < end) {
+                parkUntil(arrival);
+                Workload.Step step = workload.pick(random);
+                StepStats stepStats = stats.get(step);
+                long intendedStart = arrival;
+                arrival += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+
+                if (!inFlight.tryAcquire()) {
+                    stepStats.recordDropped();
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        int status = step.action().execute(target);
+                        stepStats.record(status, System.nanoTime() - intendedStart);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        stepStats.recordError(e, System.nanoTime() - intendedStart);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+
+            executor.shutdown();
+            if (!executor.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("{} 초 안에 끝나지 않은 요청을 중단합니다.", DRAIN_TIMEOUT.toSeconds());
+                executor.shutdownNow();
+            }
+        }
+        return LoadResult.of(workload, rate, Duration.ofNanos(System.nanoTime() - start), stats.values());
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.loopers.loadgen;
+
+import com.loopers.application.brand.BrandResult;
+import com.loopers.application.brand.BrandService;
+import com.loopers.application.product.ProductService;
+import com.loopers.application.user.LoginInfo;
+import com.loopers.application.user.UserFacade;
+import com.loopers.domain.brand.BrandInfo;
+import com.loopers.domain.product.ProductInfo;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 전에 적재한 브랜드/상품/회원.
+ * 회원은 로그인까지 해 두고 세션 토큰으로 요청한다. (요청마다 비밀번호 해시 검증을 하지 않도록)
+ *
+ * @param hotProductId flash-sale/like-storm 이 몰리는 상품
+ */
+record SeedData(
+    List<Long> brandIds,
+    List<Long> productIds,
+    Long hotProductId,
+    List<SeedUser> users
+) {
+    private static final int BRAND_COUNT = 10;
+    private static final int DEFAULT_STOCK = 1_000_000;
+    private static final String PASSWORD = "Test1234!";
+
+    record SeedUser(Long userId, String accessToken) {
+    }
+
+    static SeedData create(ApplicationContext context, LoadGeneratorOptions options) {
+        BrandService brandService = context.getBean(BrandService.class);
+        ProductService productService = context.getBean(ProductService.class);
+        UserFacade userFacade = context.getBean(UserFacade.class);
+
+        List<Long> brandIds = new ArrayList<>(BRAND_COUNT);
+        for (int i = 0; i < BRAND_COUNT; i++) {
+            BrandResult brand = brandService.create(new BrandInfo("Brand " + i, "부하 테스트 브랜드", "https://example.com/brands/" + i + ".png"));
+            brandIds.add(brand.id());
+        }
+
+        List<Long> productIds = new ArrayList<>(options.products());
+        for (int i = 0; i < options.products(); i++) {
+            Long brandId = brandIds.get(i % BRAND_COUNT);
+            productIds.add(productService.create(new ProductInfo(
+                brandId, "상품 " + i, "부하 테스트 상품", 10_000L + i * 100L, DEFAULT_STOCK, "https://example.com/products/" + i + ".png"
+            )).id());
+        }
+        Long hotProductId = productService.create(new ProductInfo(
+            brandIds.get(0), "한정 상품", "부하 테스트 인기 상품", 99_000L, options.hotProductStock(), "https://example.com/products/hot.png"
+        )).id();
+
+        List<SeedUser> users = new ArrayList<>(options.users());
+        for (int i = 0; i < options.users(); i++) {
+            String loginId = "loaduser" + i;
+            userFacade.register(loginId, PASSWORD, "부하테스터", "19900101", loginId + "@example.com");
+            LoginInfo login = userFacade.login(loginId, PASSWORD);
+            users.add(new SeedUser(login.userId(), login.accessToken()));
+        }
+
+        return new SeedData(List.copyOf(brandIds), List.copyOf(productIds), hotProductId, List.copyOf(users));
+    }
+}
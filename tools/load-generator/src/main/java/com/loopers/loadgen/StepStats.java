@@ -0,0 +1,91 @@
+package com.loopers.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 결과 집계. 지연 시간은 마이크로초 단위 HdrHistogram 에 담는다.
+ *
+ * 결과는 상태 코드로 나눈다. 2xx/3xx 는 ok, 4xx 는 rejected(재고 부족 같은 업무 거절 포함),
+ * 5xx 와 예외(타임아웃 포함)는 error 이다. 상한을 넘어 보내지 못한 요청은 dropped 로 따로 센다.
+ */
+class StepStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> failuresByType = new ConcurrentHashMap<>();
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    void record(int status, long latencyNanos) {
+        recordLatency(latencyNanos);
+        if (status < 400) {
+            ok.increment();
+            return;
+        }
+        (status < 500 ? rejected : errors).increment();
+        countFailure("http_" + status);
+    }
+
+    void recordError(Throwable error, long latencyNanos) {
+        recordLatency(latencyNanos);
+        errors.increment();
+        countFailure(error.getClass().getSimpleName());
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    String name() {
+        return name;
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    long ok() {
+        return ok.sum();
+    }
+
+    long rejected() {
+        return rejected.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    Map<String, Long> failuresByType() {
+        Map<String, Long> counts = new TreeMap<>();
+        failuresByType.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    private void countFailure(String type) {
+        failuresByType.computeIfAbsent(type, key -> new LongAdder()).increment();
+    }
+}
@@ -0,0 +1,42 @@
+package com.loopers.loadgen;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 가중치가 붙은 단계 목록. 요청이 도착할 때마다 가중치 비율로 단계 하나를 고른다.
+ */
+record Workload(String name, List<Step> steps) {
+
+    Workload {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("워크로드 단계가 비어있습니다: " + name);
+        }
+        steps = List.copyOf(steps);
+    }
+
+    Step pick(RandomGenerator random) {
+        int totalWeight = steps.stream().mapToInt(Step::weight).sum();
+        int point = random.nextInt(totalWeight);
+        for (Step step : steps) {
+            point -= step.weight();
+            if (point < 0) {
+                return step;
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    /**
+     * @param name 결과에 쓰는 단계 이름. HTTP 단계는 http/*.http 의 요청 제목을 따른다
+     * @param weight 선택 가중치
+     * @param action 요청을 보내고 상태 코드를 돌려준다
+     */
+    record Step(String name, int weight, Action action) {
+    }
+
+    @FunctionalInterface
+    interface Action {
+        int execute(LoadTarget target) throws Exception;
+    }
+}
@@ -0,0 +1,79 @@
+package com.loopers.loadgen;
+
+import com.loopers.application.like.LikeApplicationService;
+import com.loopers.application.order.OrderApplicationService;
+import com.loopers.application.order.OrderItemRequest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * http/*.http 시나리오를 조합한 워크로드.
+ *
+ * - browse-heavy: 목록/상세/브랜드 조회 위주의 평시 트래픽
+ * - flash-sale: 재고가 한정된 인기 상품 하나에 상세 조회와 주문이 몰리는 트래픽
+ * - like-storm: 인기 상품 하나에 좋아요/취소가 몰리는 트래픽
+ */
+final class Workloads {
+
+    private Workloads() {}
+
+    static Workload byName(String name) {
+        return switch (name) {
+            case "browse-heavy" -> browseHeavy();
+            case "flash-sale" -> flashSale();
+            case "like-storm" -> likeStorm();
+            default -> throw new IllegalArgumentException("알 수 없는 워크로드입니다: " + name);
+        };
+    }
+
+    static Workload browseHeavy() {
+        return new Workload("browse-heavy", List.of(
+            new Workload.Step("상품 목록 조회", 35, target ->
+                target.get("/api/v1/products?page=" + ThreadLocalRandom.current().nextInt(5) + "&size=20")),
+            new Workload.Step("상품 목록 조회 (브랜드 필터)", 15, target ->
+                target.get("/api/v1/products?brandId=" + target.randomBrandId() + "&page=0&size=20")),
+            new Workload.Step("상품 상세 조회", 20, target ->
+                target.get("/api/v1/products/" + target.randomProductId())),
+            new Workload.Step("상품 상세 조회 (변경 없으면 304)", 10, target ->
+                target.getProductRevalidating(target.randomProductId())),
+            new Workload.Step("상품 상세 집계 조회", 15, target ->
+                target.get("/api/v1/products/" + target.randomProductId() + "/detail", target.randomUser())),
+            new Workload.Step("브랜드 상세 조회", 5, target ->
+                target.get("/api/v1/brands/" + target.randomBrandId()))
+        ));
+    }
+
+    static Workload flashSale() {
+        return new Workload("flash-sale", List.of(
+            new Workload.Step("상품 상세 조회 (변경 없으면 304)", 35, target ->
+                target.getProductRevalidating(target.seed().hotProductId())),
+            new Workload.Step("상품 상세 집계 조회", 25, target ->
+                target.get("/api/v1/products/" + target.seed().hotProductId() + "/detail", target.randomUser())),
+            new Workload.Step("주문", 30, target -> {
+                Long userId = target.randomUser().userId();
+                List<OrderItemRequest> items = List.of(new OrderItemRequest(target.seed().hotProductId(), 1));
+                return target.invoke(OrderApplicationService.class, service -> service.placeOrder(userId, items));
+            }),
+            new Workload.Step("주문 목록 조회 (첫 페이지)", 10, target ->
+                target.get("/api/v1/orders?size=20", target.randomUser()))
+        ));
+    }
+
+    static Workload likeStorm() {
+        return new Workload("like-storm", List.of(
+            new Workload.Step("좋아요", 45, target -> {
+                Long userId = target.randomUser().userId();
+                return target.invoke(LikeApplicationService.class, service -> service.like(userId, target.seed().hotProductId()));
+            }),
+            new Workload.Step("좋아요 취소", 25, target -> {
+                Long userId = target.randomUser().userId();
+                return target.invoke(LikeApplicationService.class, service -> service.unlike(userId, target.seed().hotProductId()));
+            }),
+            new Workload.Step("상품 상세 집계 조회", 20, target ->
+                target.get("/api/v1/products/" + target.seed().hotProductId() + "/detail", target.randomUser())),
+            new Workload.Step("상품 목록 조회", 10, target ->
+                target.get("/api/v1/products?page=0&size=20", target.randomUser()))
+        ));
+    }
+}